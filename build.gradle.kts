@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.3.12"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 val querydslVersion = "5.0.0"
@@ -12,7 +13,7 @@ version = "0.0.1-SNAPSHOT"
 
 java {
 	toolchain {
-		languageVersion.set(JavaLanguageVersion.of(17))
+		languageVersion.set(JavaLanguageVersion.of(21))
 	}
 }
 
@@ -48,6 +49,12 @@ dependencies {
 	// AOP
 	implementation("org.springframework.boot:spring-boot-starter-aop")
 
+	// Actuator (Micrometer 메트릭)
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+
+	// 로컬 캐시
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
 	// Security
 	implementation("org.springframework.boot:spring-boot-starter-security")
 
@@ -84,6 +91,10 @@ dependencies {
 	testImplementation("org.springframework.boot:spring-boot-starter-data-redis")
 
 	testImplementation("org.springframework.security:spring-security-test")
+
+	// 로컬 SMTP 서버 (메일 발송 테스트, 벤치마크)
+	testImplementation("com.icegreen:greenmail-junit5:2.1.0")
+	jmh("com.icegreen:greenmail:2.1.0")
 	compileOnly("org.projectlombok:lombok")
 	developmentOnly("org.springframework.boot:spring-boot-devtools")
 	runtimeOnly("com.mysql:mysql-connector-j")
@@ -111,3 +122,17 @@ tasks.named<Delete>("clean") {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 벤치마크 : gradle jmh -Pjmh.includes=JwtVerifyBenchmark
+jmh {
+	jmhVersion.set("1.37")
+	fork.set(1)
+	warmupIterations.set(3)
+	iterations.set(5)
+	benchmarkMode.set(listOf("avgt"))
+	timeUnit.set("ns")
+	profilers.set(listOf("gc"))
+	includeTests.set(false)
+	zip64.set(true)
+	(project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
@@ -0,0 +1,93 @@
+package com.outsta.sns.common.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 요청 처리 스레드 모드 비교 벤치마크 (합성 부하)
+ * - platform : Tomcat 기본 최대 스레드 수(200) 크기의 플랫폼 스레드 풀
+ * - virtual  : 요청마다 가상 스레드 생성 (spring.threads.virtual.enabled=true)
+ * - 요청 하나 = 블로킹 I/O 대기(Thread.sleep) 1회, 1 op = 동시 요청 REQUESTS개 처리 완료까지 시간
+ * - dbPool > 0 이면 I/O 구간을 커넥션 풀 크기의 Semaphore로 제한 (HikariCP 기본 10개 가정)
+ */
+@State(Scope.Benchmark)
+public class ExecutionModeBenchmark {
+
+    /** 동시 요청 수 */
+    private static final int REQUESTS = 1000;
+
+    /** Tomcat 기본 최대 스레드 수 */
+    private static final int PLATFORM_THREADS = 200;
+
+    /** 요청당 블로킹 I/O 시간 */
+    private static final long IO_MILLIS = 5;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"0", "10"})
+    public int dbPool;
+
+    private ExecutorService executor;
+    private Semaphore connections;
+
+    @Setup
+    public void setUp() {
+        executor = mode.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+        connections = dbPool > 0 ? new Semaphore(dbPool) : null;
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int handleRequests() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(REQUESTS);
+
+        for (int i = 0; i < REQUESTS; i++) {
+            int requestId = i;
+            futures.add(executor.submit(() -> handle(requestId)));
+        }
+
+        int sum = 0;
+
+        for (Future<Integer> future : futures) {
+            sum += future.get();
+        }
+
+        return sum;
+    }
+
+    private int handle(int requestId) throws InterruptedException {
+        if (connections == null) {
+            Thread.sleep(IO_MILLIS);
+
+            return requestId;
+        }
+
+        connections.acquire();
+
+        try {
+            Thread.sleep(IO_MILLIS);
+        } finally {
+            connections.release();
+        }
+
+        return requestId;
+    }
+}
@@ -0,0 +1,90 @@
+package com.outsta.sns.common.config.cache;
+
+import com.outsta.sns.domain.follow.dto.FollowerCountDto;
+import com.outsta.sns.domain.profile.dto.response.RepresentImageDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 캐시 값 직렬화 벤치마크
+ * - json   : 변경 전 GenericJackson2JsonRedisSerializer (@class 포함 JSON)
+ * - binary : BinaryCacheSerializer (캐시별 코덱)
+ * - 직렬화된 값 크기(바이트)는 준비 단계에서 출력
+ */
+@State(Scope.Benchmark)
+@Warmup(time = 2)
+@Measurement(time = 2)
+public class CacheCodecBenchmark {
+
+    /** 팔로워 수 코덱 (count 캐시는 FollowCountStore로 대체되어 벤치마크에만 남김) */
+    private static final CacheValueCodec<FollowerCountDto> COUNT_CODEC = new CacheValueCodec<>() {
+        @Override
+        public Class<FollowerCountDto> type() {
+            return FollowerCountDto.class;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public void encode(FollowerCountDto value, BinaryCacheSerializer.Writer writer) {
+            writer.writeVarLong(value.count());
+        }
+
+        @Override
+        public FollowerCountDto decode(BinaryCacheSerializer.Reader reader, int version) {
+            return new FollowerCountDto(reader.readVarLong());
+        }
+    };
+
+    @Param({"json", "binary"})
+    public String format;
+
+    @Param({"count", "representImage"})
+    public String cache;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        if (cache.equals("count")) {
+            value = new FollowerCountDto(1_234);
+        } else {
+            value = new RepresentImageDto(1_234L, "https://cdn.outsta.com/profile/2025/06/3f2a9c1e-7b5d-4e8f-9a0b-1c2d3e4f5a6b.png",
+                    "내 프로필 사진.png", "3f2a9c1e-7b5d-4e8f-9a0b-1c2d3e4f5a6b.png");
+        }
+
+        if (format.equals("json")) {
+            serializer = new GenericJackson2JsonRedisSerializer();
+        } else if (cache.equals("count")) {
+            serializer = new BinaryCacheSerializer<>(COUNT_CODEC, 512);
+        } else {
+            serializer = new BinaryCacheSerializer<>(CacheValueCodecs.REPRESENT_IMAGE, 512);
+        }
+
+        serialized = serializer.serialize(value);
+
+        System.out.printf("%n[entry bytes] %s / %s = %d%n", cache, format, serialized.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object decode() {
+        return serializer.deserialize(serialized);
+    }
+}
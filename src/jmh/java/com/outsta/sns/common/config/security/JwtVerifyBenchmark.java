@@ -0,0 +1,74 @@
+package com.outsta.sns.common.config.security;
+
+import com.outsta.sns.domain.enums.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.security.MessageDigest;
+
+/**
+ * Access Token 검증/해시 벤치마크
+ * - legacy : 변경 전 JwtFilter 경로 (validateToken + parseAccessToken 두 번의 jjwt 파싱, String.format 해시)
+ * - fast   : JwtProvider.verifyAccessToken 한 번, 룩업 테이블 해시
+ */
+@State(Scope.Benchmark)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET_KEY = "sdapifjpi324jpifqhidpashf803h280i1fhidshaf80h340281q";
+
+    private JwtProvider jwtProvider;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(SECRET_KEY, 1000 * 60 * 60L, 1000 * 60 * 60L);
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET_KEY));
+        accessToken = jwtProvider.generateAccessToken(new JwtPayload(1L, "test@test.com", Role.GUEST.getCode()));
+    }
+
+    @Benchmark
+    public JwtPayload legacyVerify() {
+        Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(accessToken);
+
+        Claims body = Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(accessToken).getBody();
+
+        return new JwtPayload(Long.parseLong(body.getSubject()), (String) body.get("email"), (String) body.get("role"));
+    }
+
+    @Benchmark
+    public VerifiedToken fastVerify() {
+        return jwtProvider.verifyAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public String legacyHash() throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+        byte[] hashBytes = digest.digest(accessToken.getBytes());
+        StringBuilder hexString = new StringBuilder();
+
+        for (byte b : hashBytes) {
+            hexString.append(String.format("%02x", b));
+        }
+
+        return hexString.toString();
+    }
+
+    @Benchmark
+    public String fastHash() {
+        return jwtProvider.tokenToHash(accessToken);
+    }
+
+    @Benchmark
+    public byte[] fastHashBytes() {
+        return jwtProvider.tokenHashBytes(accessToken);
+    }
+}
@@ -0,0 +1,85 @@
+package com.outsta.sns.common.config.security;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로 인증 정책 조회 벤치마크 (등록 경로 수에 따른 비용)
+ * - legacy : 변경 전 JwtFilter 방식 (정책 목록을 stream + AntPathMatcher로 순회)
+ * - trie   : RoutePolicyRegistry 트라이 탐색
+ * - 요청 경로는 리터럴 일치, 변수 일치, 미등록(전체 순회) 경로를 섞어서 사용
+ */
+@State(Scope.Benchmark)
+public class RouteMatchBenchmark {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private static final String[][] REQUESTS = {
+            {"POST", "/api/auth/login"},
+            {"GET", "/api/members/check-email"},
+            {"GET", "/api/members/42"},
+            {"GET", "/api/members/42/following"},
+            {"POST", "/api/members/42/follow"},
+            {"GET", "/api/block"},
+            {"GET", "/swagger-ui/index.html"},
+            {"PATCH", "/api/members/me/nickname"}
+    };
+
+    @Param({"16", "128", "1024"})
+    public int routeCount;
+
+    private List<RoutePolicy> routes;
+    private RoutePolicyRegistry registry;
+
+    @Setup
+    public void setUp() {
+        routes = new ArrayList<>(RoutePolicyRegistry.ROUTES);
+
+        for (int i = routes.size(); i < routeCount; i++) {
+            routes.add(RoutePolicy.publicRoute(HttpMethod.GET, "/api/resource" + i + "/{id}/items" + (i % 7)));
+        }
+
+        registry = new RoutePolicyRegistry(routes);
+    }
+
+    @Benchmark
+    public int legacy() {
+        int permitted = 0;
+
+        for (String[] request : REQUESTS) {
+            String method = request[0];
+            String path = request[1];
+
+            boolean matched = routes.stream()
+                    .anyMatch(route -> (route.method() == null || route.method().name().equalsIgnoreCase(method))
+                            && PATH_MATCHER.match(route.pattern(), path));
+
+            if (matched) {
+                permitted++;
+            }
+        }
+
+        return permitted;
+    }
+
+    @Benchmark
+    public int trie() {
+        int permitted = 0;
+
+        for (String[] request : REQUESTS) {
+            if (registry.resolve(request[0], request[1]) != RouteAccess.AUTHENTICATED) {
+                permitted++;
+            }
+        }
+
+        return permitted;
+    }
+}
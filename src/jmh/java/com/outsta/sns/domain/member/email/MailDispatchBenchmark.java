@@ -0,0 +1,98 @@
+package com.outsta.sns.domain.member.email;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 메일 발송 처리량 벤치마크 (로컬 GreenMail SMTP 서버)
+ * - legacy     : 변경 전 방식 (메일마다 JavaMailSender.send, 매번 SMTP 연결/인사/종료)
+ * - dispatcher : MailDispatcher (발송 스레드별 SMTP 연결 재사용 + 대기열 일괄 처리)
+ * - 1 op = 메일 MESSAGES 건 발송 완료까지 시간
+ */
+@State(Scope.Benchmark)
+public class MailDispatchBenchmark {
+
+    private static final int MESSAGES = 100;
+
+    @Param({"1", "2"})
+    public int workers;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl mailSender;
+    private MailDispatcher mailDispatcher;
+    private Counter sentCounter;
+    private SimpleMailMessage message;
+
+    @Setup
+    public void setUp() {
+        greenMail = new GreenMail(new ServerSetup(0, "127.0.0.1", ServerSetup.PROTOCOL_SMTP));
+        greenMail.start();
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        // EHLO 호스트명 조회 비용 제외
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtp.localhost", "localhost");
+        mailSender.setJavaMailProperties(properties);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        mailDispatcher = new MailDispatcher(mailSender, meterRegistry, workers, MESSAGES * 10, 20, 3,
+                Duration.ofMillis(10), Duration.ofSeconds(30), Integer.MAX_VALUE);
+        mailDispatcher.start();
+        sentCounter = meterRegistry.get("mail.dispatcher.sent").counter();
+
+        message = new SimpleMailMessage();
+        message.setFrom("noreply@outsta.com");
+        message.setTo("user@test.com");
+        message.setSubject("OUTSTA 회원가입 인증 코드");
+        message.setText("인증 코드 : 1234123412");
+    }
+
+    @Setup(Level.Iteration)
+    public void purge() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        mailDispatcher.stop();
+        greenMail.stop();
+    }
+
+    @Benchmark
+    public void legacy() {
+        for (int i = 0; i < MESSAGES; i++) {
+            mailSender.send(message);
+        }
+    }
+
+    @Benchmark
+    public void dispatcher() {
+        double target = sentCounter.count() + MESSAGES;
+
+        for (int i = 0; i < MESSAGES; i++) {
+            mailDispatcher.dispatch(message);
+        }
+
+        while (sentCounter.count() < target) {
+            LockSupport.parkNanos(10_000);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.outsta.sns.domain.member.email;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QMailOutbox is a Querydsl query type for MailOutbox
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QMailOutbox extends EntityPathBase<MailOutbox> {
+
+    private static final long serialVersionUID = -1372058091L;
+
+    public static final QMailOutbox mailOutbox = new QMailOutbox("mailOutbox");
+
+    public final com.outsta.sns.domain.QBaseTimeEntity _super = new com.outsta.sns.domain.QBaseTimeEntity(this);
+
+    public final NumberPath<Integer> attempts = createNumber("attempts", Integer.class);
+
+    public final DateTimePath<java.time.LocalDateTime> availableAt = createDateTime("availableAt", java.time.LocalDateTime.class);
+
+    public final StringPath content = createString("content");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    //inherited
+    public final DatePath<java.time.LocalDate> deletedAt = _super.deletedAt;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath recipient = createString("recipient");
+
+    public final EnumPath<com.outsta.sns.domain.enums.MailStatus> status = createEnum("status", com.outsta.sns.domain.enums.MailStatus.class);
+
+    public final StringPath subject = createString("subject");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public QMailOutbox(String variable) {
+        super(MailOutbox.class, forVariable(variable));
+    }
+
+    public QMailOutbox(Path<? extends MailOutbox> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QMailOutbox(PathMetadata metadata) {
+        super(MailOutbox.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,55 @@
+package com.outsta.sns.domain.member.entity;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QMemberStats is a Querydsl query type for MemberStats
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QMemberStats extends EntityPathBase<MemberStats> {
+
+    private static final long serialVersionUID = -1810849591L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QMemberStats memberStats = new QMemberStats("memberStats");
+
+    public final NumberPath<Long> followerCount = createNumber("followerCount", Long.class);
+
+    public final NumberPath<Long> followingCount = createNumber("followingCount", Long.class);
+
+    public final QMember member;
+
+    public final NumberPath<Long> memberId = createNumber("memberId", Long.class);
+
+    public QMemberStats(String variable) {
+        this(MemberStats.class, forVariable(variable), INITS);
+    }
+
+    public QMemberStats(Path<? extends MemberStats> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QMemberStats(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QMemberStats(PathMetadata metadata, PathInits inits) {
+        this(MemberStats.class, metadata, inits);
+    }
+
+    public QMemberStats(Class<? extends MemberStats> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.member = inits.isInitialized("member") ? new QMember(forProperty("member")) : null;
+    }
+
+}
+
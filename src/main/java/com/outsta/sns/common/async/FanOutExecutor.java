@@ -0,0 +1,186 @@
+package com.outsta.sns.common.async;
+
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 서로 독립적인 조회 동시 실행기 (fan-out)
+ * - 요청 스레드에서 여러 조회를 제출한 뒤 결과를 모으므로 전체 시간은 조회 시간의 합이 아닌 최댓값
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true)면 조회마다 가상 스레드, 아니면 전용 플랫폼 스레드 풀에서 실행
+ * - 풀과 대기열이 가득 차면 요청 스레드에서 바로 실행 (순차 실행으로 후퇴, 요청은 실패하지 않음)
+ * - 조회마다 제출 시점부터의 제한 시간, 초과 시 더 기다리지 않고 필수 조회는 503, 선택 조회는 대체 값 반환
+ *   (아직 시작하지 않은 조회는 취소, 실행 중인 조회는 인터럽트하지 않고 끝까지 실행 :
+ *   캐시 단일 적재처럼 다른 요청과 함께 기다리는 작업을 중단시키지 않도록)
+ * - 조회 스레드에는 요청의 트랜잭션 / 보안 컨텍스트가 전달되지 않으므로 각자 트랜잭션을 여는 조회만 제출,
+ *   호출한 스레드에 트랜잭션이 열려 있으면 커밋 전 변경이 보이도록 호출한 스레드에서 바로 실행
+ */
+@Slf4j
+@Component
+public class FanOutExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final MeterRegistry meterRegistry;
+
+    public FanOutExecutor(MeterRegistry meterRegistry,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                          @Value("${fan-out.pool-size:16}") int poolSize,
+                          @Value("${fan-out.queue-capacity:200}") int queueCapacity) {
+        this.meterRegistry = meterRegistry;
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fan-out-", 1).factory())
+                : newPlatformPool(poolSize, queueCapacity);
+    }
+
+    /**
+     * 조회 제출
+     *
+     * @param name    조회 이름 (메트릭 태그)
+     * @param lookup  조회
+     * @param timeout 제출 시점부터의 제한 시간
+     * @return 결과 대기용 핸들
+     */
+    public <T> Call<T> submit(String name, Supplier<T> lookup, Duration timeout) {
+        long startedAt = System.nanoTime();
+        Future<T> future;
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            future = runInline(lookup);
+        } else {
+            try {
+                future = executor.submit(lookup::get);
+            } catch (RejectedExecutionException e) {
+                future = runInline(lookup);
+            }
+        }
+
+        return new Call<>(name, future, startedAt, startedAt + timeout.toNanos());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static <T> CompletableFuture<T> runInline(Supplier<T> lookup) {
+        try {
+            return CompletableFuture.completedFuture(lookup.get());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static ExecutorService newPlatformPool(int poolSize, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        return new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fan-out-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    /**
+     * 제출한 조회의 결과 대기용 핸들
+     */
+    public final class Call<T> {
+
+        private final String name;
+        private final Future<T> future;
+        private final long startedAt;
+        private final long deadline;
+
+        private Call(String name, Future<T> future, long startedAt, long deadline) {
+            this.name = name;
+            this.future = future;
+            this.startedAt = startedAt;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 필수 조회 결과
+         *
+         * @throws CustomException 조회에서 발생한 CustomException 그대로, 제한 시간 초과면 LOOKUP_TIMEOUT
+         */
+        public T join() {
+            try {
+                return await();
+            } catch (TimeoutException e) {
+                throw new CustomException(ErrorCode.LOOKUP_TIMEOUT);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        /**
+         * 선택 조회 결과 (실패하거나 제한 시간을 넘으면 대체 값)
+         */
+        public T joinOrElse(T fallback) {
+            try {
+                return await();
+            } catch (TimeoutException | ExecutionException e) {
+                log.warn("조회 결과 생략 : {} - {}", name, e instanceof TimeoutException ? "timeout" : e.getCause().getMessage());
+
+                return fallback;
+            }
+        }
+
+        private T await() throws TimeoutException, ExecutionException {
+            String outcome = "error";
+
+            try {
+                T value = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                outcome = "success";
+
+                return value;
+            } catch (TimeoutException e) {
+                outcome = "timeout";
+                future.cancel(false);
+
+                throw e;
+            } catch (InterruptedException e) {
+                future.cancel(false);
+                Thread.currentThread().interrupt();
+
+                throw new ExecutionException(e);
+            } finally {
+                Timer.builder("fan-out.calls")
+                        .description("동시 실행한 조회의 제출부터 결과 대기까지의 시간")
+                        .tags("name", name, "outcome", outcome)
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
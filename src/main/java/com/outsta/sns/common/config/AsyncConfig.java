@@ -1,9 +1,29 @@
 package com.outsta.sns.common.config;
 
-import com.querydsl.core.annotations.Config;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 
-@Config
+/**
+ * 비동기(@Async) 실행 설정
+ * - 실행기는 Spring Boot 기본 applicationTaskExecutor 사용
+ * - spring.threads.virtual.enabled=true 이면 요청 처리(Tomcat)와 @Async 모두 가상 스레드에서 실행
+ * - false 이면 spring.task.execution.pool 설정의 플랫폼 스레드 풀에서 실행
+ */
+@Slf4j
+@Configuration
 @EnableAsync
-public class AsyncConfig {
+public class AsyncConfig implements AsyncConfigurer {
+
+    /**
+     * 반환값이 없는 @Async 메서드의 예외 로깅
+     */
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) ->
+                log.error("비동기 작업 실패 : {}.{} - {}",
+                        method.getDeclaringClass().getSimpleName(), method.getName(), ex.getMessage(), ex);
+    }
 }
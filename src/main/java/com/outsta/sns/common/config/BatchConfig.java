@@ -0,0 +1,30 @@
+package com.outsta.sns.common.config;
+
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+/**
+ * 배치 Job 실행 설정
+ * - 스케줄러에서 실행하는 Job 은 asyncJobLauncher 로 별도 스레드에서 실행
+ *   (기본 JobLauncher 는 Job 이 끝날 때까지 호출 스레드를 막아 다른 @Scheduled 작업이 밀림)
+ */
+@Configuration
+public class BatchConfig {
+
+    /** 비동기 JobLauncher 빈 이름 */
+    public static final String ASYNC_JOB_LAUNCHER = "asyncJobLauncher";
+
+    @Bean(ASYNC_JOB_LAUNCHER)
+    public JobLauncher asyncJobLauncher(JobRepository jobRepository) throws Exception {
+        TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("batch-job-"));
+        jobLauncher.afterPropertiesSet();
+
+        return jobLauncher;
+    }
+}
@@ -1,29 +1,54 @@
 package com.outsta.sns.common.config;
 
+import com.outsta.sns.common.config.cache.BinaryCacheSerializer;
+import com.outsta.sns.common.config.cache.CacheLoadProperties;
+import com.outsta.sns.common.config.cache.CacheValueCodecs;
+import com.outsta.sns.common.config.cache.LocalCacheProperties;
+import com.outsta.sns.common.config.cache.TwoLevelCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * Redis 캐시 설정 클래스
+ * - Redis 캐시(L2) 앞에 로컬 캐시(L1)를 두는 2단계 캐시 사용
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({LocalCacheProperties.class, CacheLoadProperties.class})
 public class RedisCacheConfig {
 
     /**
-     * RedisCacheManager Bean 등록
+     * 2단계 CacheManager Bean 등록
+     * - RedisCacheManager는 L2로만 사용하므로 Bean으로 등록하지 않음
+     * - 코덱이 등록된 캐시는 바이너리 직렬화, 나머지는 JSON 직렬화
+     * - 조기 갱신은 애플리케이션 기본 실행기(applicationTaskExecutor)에서 실행
      */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                             RedisTemplate<String, String> redisTemplate,
+                                             RedisMessageListenerContainer redisMessageListenerContainer,
+                                             LocalCacheProperties localCacheProperties,
+                                             CacheLoadProperties cacheLoadProperties,
+                                             MeterRegistry meterRegistry,
+                                             @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor refreshExecutor,
+                                             @Value("${cache.redis.compress-threshold:512}") int compressThreshold) {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
 
                 // 캐시 기본 만료 시간 30분
@@ -42,8 +67,21 @@ public class RedisCacheConfig {
                         )
                 );
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(redisCacheConfiguration)
-                .build();
+                .enableStatistics();
+
+        // Value 직렬화 방식 : 캐시별 바이너리 코덱
+        CacheValueCodecs.BY_CACHE.forEach((cacheName, codec) ->
+                builder.withCacheConfiguration(cacheName, redisCacheConfiguration.serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(
+                                new BinaryCacheSerializer<>(codec, compressThreshold))
+                )));
+
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(redisCacheManager, redisTemplate, redisMessageListenerContainer,
+                localCacheProperties, cacheLoadProperties, meterRegistry, refreshExecutor);
     }
 }
@@ -0,0 +1,26 @@
+package com.outsta.sns.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Redis Pub/Sub 설정 클래스
+ * - 노드 간 로컬 상태 동기화 메시지 수신에 사용
+ */
+@Configuration
+public class RedisPubSubConfig {
+
+    /**
+     * RedisMessageListenerContainer Bean 등록
+     * - 각 컴포넌트가 필요한 채널의 리스너를 직접 등록
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+
+        return container;
+    }
+}
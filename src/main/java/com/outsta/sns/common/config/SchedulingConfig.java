@@ -0,0 +1,15 @@
+package com.outsta.sns.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링(@Scheduled) 설정
+ * - 메일 Outbox 전달 등 주기 작업 실행
+ * - 스케줄러 스레드 풀 크기는 spring.task.scheduling.pool.size (한 작업이 길어져도 다른 작업이 밀리지 않도록)
+ * - 배치 Job 은 스케줄러 스레드에서 실행하지 않고 BatchConfig.ASYNC_JOB_LAUNCHER 로 시작만 함
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,308 @@
+package com.outsta.sns.common.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 캐시 값 바이너리 직렬화
+ * - 형식 : [헤더 1바이트][적재 시간, 만료 시각 (CachedValue 인 경우)][본문]
+ * - 헤더 : 하위 6비트 = 스키마 버전 (0이면 null 값), 0x40 = CachedValue 여부, 0x80 = 압축(Deflate) 여부
+ * - 본문이 압축 기준 크기 이상이면 압축 (압축 결과가 더 작을 때만)
+ * - 알 수 없는 버전(이전 JSON 형식 포함)은 캐시 미스로 처리
+ *
+ * @param <T> 캐시 값 타입
+ */
+@Slf4j
+public class BinaryCacheSerializer<T> implements RedisSerializer<Object> {
+
+    private static final int COMPRESSED = 0x80;
+    private static final int CACHED_VALUE = 0x40;
+    private static final int VERSION_MASK = 0x3F;
+    private static final byte NULL_VALUE = 0;
+
+    private final CacheValueCodec<T> codec;
+
+    /** 압축 기준 크기 (바이트) */
+    private final int compressThreshold;
+
+    public BinaryCacheSerializer(CacheValueCodec<T> codec, int compressThreshold) {
+        if (codec.version() < 1 || codec.version() > VERSION_MASK) {
+            throw new IllegalArgumentException("코덱 버전은 1 ~ 63 : " + codec.version());
+        }
+
+        this.codec = codec;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        CachedValue cachedValue = value instanceof CachedValue cached ? cached : null;
+
+        if (cachedValue != null) {
+            value = cachedValue.value();
+        }
+
+        boolean isNull = value == null || value instanceof NullValue;
+
+        if (isNull && cachedValue == null) {
+            return new byte[]{NULL_VALUE};
+        }
+
+        if (!isNull && !codec.type().isInstance(value)) {
+            throw new SerializationException("캐시 값 타입 불일치 : " + codec.type().getName() + " <- " + value.getClass().getName());
+        }
+
+        Writer writer = new Writer();
+        writer.writeByte((isNull ? NULL_VALUE : codec.version()) | (cachedValue != null ? CACHED_VALUE : 0));
+
+        if (cachedValue != null) {
+            writer.writeVarLong(cachedValue.computeMillis());
+            writer.writeVarLong(cachedValue.expiresAt());
+        }
+
+        if (!isNull) {
+            codec.encode(codec.type().cast(value), writer);
+        }
+
+        byte[] bytes = writer.toByteArray();
+
+        if (bytes.length - 1 < compressThreshold) {
+            return bytes;
+        }
+
+        byte[] compressed = deflate(bytes);
+
+        return compressed.length < bytes.length ? compressed : bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        int header = bytes[0] & 0xFF;
+
+        if (header == NULL_VALUE) {
+            return NullValue.INSTANCE;
+        }
+
+        int version = header & VERSION_MASK;
+
+        if (version > codec.version()) {
+            log.debug("알 수 없는 캐시 값 버전 : type={}, version={}", codec.type().getSimpleName(), version);
+
+            return null;
+        }
+
+        byte[] body = (header & COMPRESSED) != 0 ? inflate(bytes) : bytes;
+
+        try {
+            Reader reader = new Reader(body, 1);
+
+            if ((header & CACHED_VALUE) == 0) {
+                return codec.decode(reader, version);
+            }
+
+            long computeMillis = reader.readVarLong();
+            long expiresAt = reader.readVarLong();
+            Object value = version == NULL_VALUE ? null : codec.decode(reader, version);
+
+            return new CachedValue(value, computeMillis, expiresAt);
+        } catch (IndexOutOfBoundsException e) {
+            log.debug("캐시 값 복원 실패 : type={}, version={}", codec.type().getSimpleName(), version);
+
+            return null;
+        }
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+        try {
+            deflater.setInput(bytes, 1, bytes.length - 1);
+            deflater.finish();
+
+            byte[] buffer = new byte[bytes.length + 16];
+            buffer[0] = (byte) (bytes[0] | COMPRESSED);
+            int length = 1;
+
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) {
+        Inflater inflater = new Inflater();
+
+        try {
+            inflater.setInput(bytes, 1, bytes.length - 1);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+            out.write(bytes[0] & ~COMPRESSED);
+
+            byte[] buffer = new byte[256];
+
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new SerializationException("압축된 캐시 값이 손상됨");
+                }
+
+                out.write(buffer, 0, length);
+            }
+
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new SerializationException("압축된 캐시 값이 손상됨", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 바이너리 기록
+     * - 정수는 가변 길이(varint), 문자열은 UTF-8 (길이 + 1, null 이면 0)
+     */
+    public static class Writer {
+
+        private byte[] buffer = new byte[32];
+        private int position;
+
+        public void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        public void writeBoolean(boolean value) {
+            writeByte(value ? 1 : 0);
+        }
+
+        public void writeVarLong(long value) {
+            ensure(10);
+
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+
+            buffer[position++] = (byte) value;
+        }
+
+        /**
+         * null 가능한 Long 기록 (null 이면 0, 아니면 값 + 1)
+         */
+        public void writeNullableLong(Long value) {
+            writeVarLong(value == null ? 0 : value + 1);
+        }
+
+        public void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+            writeVarLong(bytes.length + 1L);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensure(int length) {
+            if (position + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+            }
+        }
+    }
+
+    /**
+     * 바이너리 읽기 (Writer 역순)
+     */
+    public static class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        public int readByte() {
+            if (position >= buffer.length) {
+                throw new IndexOutOfBoundsException("캐시 값 길이 부족");
+            }
+
+            return buffer[position++] & 0xFF;
+        }
+
+        public boolean readBoolean() {
+            return readByte() != 0;
+        }
+
+        public long readVarLong() {
+            long value = 0;
+
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+
+            throw new IndexOutOfBoundsException("varint 형식 오류");
+        }
+
+        public Long readNullableLong() {
+            long value = readVarLong();
+
+            return value == 0 ? null : value - 1;
+        }
+
+        public String readString() {
+            long length = readVarLong();
+
+            if (length == 0) {
+                return null;
+            }
+
+            int size = (int) (length - 1);
+
+            if (size < 0 || position + size > buffer.length) {
+                throw new IndexOutOfBoundsException("캐시 값 길이 부족");
+            }
+
+            String value = new String(buffer, position, size, StandardCharsets.UTF_8);
+            position += size;
+
+            return value;
+        }
+    }
+}
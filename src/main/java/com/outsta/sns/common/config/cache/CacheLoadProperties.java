@@ -0,0 +1,30 @@
+package com.outsta.sns.common.config.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 캐시 적재 설정
+ * - 캐시 미스 시 노드 안에서는 키별로 한 번만 적재하고, 노드 간에는 Redis 리스를 가진 노드만 적재
+ *
+ * @param leaseTime        적재 리스 유지 시간 (적재 중 서버가 중단되면 이 시간 뒤 다른 노드가 적재)
+ * @param leaseWait        리스를 얻지 못한 노드가 L2 적재를 기다리는 최대 시간 (초과 시 직접 적재)
+ * @param pollInterval     기다리는 동안 L2 재조회 주기
+ * @param earlyRefreshBeta 조기 갱신 계수 (클수록 일찍 갱신, 0 이면 조기 갱신 안 함)
+ */
+@ConfigurationProperties(prefix = "cache.load")
+public record CacheLoadProperties(
+        Duration leaseTime,
+        Duration leaseWait,
+        Duration pollInterval,
+        Double earlyRefreshBeta
+) {
+
+    public CacheLoadProperties {
+        leaseTime = leaseTime == null ? Duration.ofSeconds(5) : leaseTime;
+        leaseWait = leaseWait == null ? Duration.ofSeconds(1) : leaseWait;
+        pollInterval = pollInterval == null ? Duration.ofMillis(50) : pollInterval;
+        earlyRefreshBeta = earlyRefreshBeta == null ? 1.0 : earlyRefreshBeta;
+    }
+}
@@ -0,0 +1,34 @@
+package com.outsta.sns.common.config.cache;
+
+/**
+ * 캐시 값 바이너리 코덱
+ * - 캐시 DTO 하나의 필드를 순서대로 기록/복원
+ * - 필드 구성이 바뀌면 version을 올리고, 이전 version은 decode에서 읽거나 null(캐시 미스) 반환
+ *
+ * @param <T> 캐시 값 타입
+ */
+public interface CacheValueCodec<T> {
+
+    /**
+     * 캐시 값 타입
+     */
+    Class<T> type();
+
+    /**
+     * 스키마 버전 (1 ~ 127)
+     */
+    int version();
+
+    /**
+     * 값 기록
+     */
+    void encode(T value, BinaryCacheSerializer.Writer writer);
+
+    /**
+     * 값 복원
+     *
+     * @param version 저장 당시 스키마 버전
+     * @return 복원한 값, 읽을 수 없는 버전이면 null (캐시 미스)
+     */
+    T decode(BinaryCacheSerializer.Reader reader, int version);
+}
@@ -0,0 +1,151 @@
+package com.outsta.sns.common.config.cache;
+
+import com.outsta.sns.domain.block.dto.BlockSetDto;
+import com.outsta.sns.domain.enums.Gender;
+import com.outsta.sns.domain.enums.Visibility;
+import com.outsta.sns.domain.member.dto.response.util.MemberProfileDto;
+import com.outsta.sns.domain.profile.dto.response.RepresentImageDto;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 캐시 이름별 값 코덱
+ * - 등록되지 않은 캐시는 기본 JSON 직렬화 사용
+ */
+public final class CacheValueCodecs {
+
+    /** 대표 이미지 (v1 : profileImageId, imageUrl, originName, fileName) */
+    public static final CacheValueCodec<RepresentImageDto> REPRESENT_IMAGE = new CacheValueCodec<>() {
+        @Override
+        public Class<RepresentImageDto> type() {
+            return RepresentImageDto.class;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public void encode(RepresentImageDto value, BinaryCacheSerializer.Writer writer) {
+            writer.writeNullableLong(value.profileImageId());
+            writer.writeString(value.imageUrl());
+            writer.writeString(value.originName());
+            writer.writeString(value.fileName());
+        }
+
+        @Override
+        public RepresentImageDto decode(BinaryCacheSerializer.Reader reader, int version) {
+            return new RepresentImageDto(
+                    reader.readNullableLong(),
+                    reader.readString(),
+                    reader.readString(),
+                    reader.readString()
+            );
+        }
+    };
+
+    /** 차단 관계 회원 집합 (v1 : 개수, 오름차순 회원 ID 의 이전 값과의 차이) */
+    public static final CacheValueCodec<BlockSetDto> BLOCK_SET = new CacheValueCodec<>() {
+        @Override
+        public Class<BlockSetDto> type() {
+            return BlockSetDto.class;
+        }
+
+        @Override
+        public int version() {
+            return 1;
+        }
+
+        @Override
+        public void encode(BlockSetDto value, BinaryCacheSerializer.Writer writer) {
+            long previous = 0;
+
+            writer.writeVarLong(value.size());
+
+            for (long memberId : value.memberIds()) {
+                writer.writeVarLong(memberId - previous);
+                previous = memberId;
+            }
+        }
+
+        @Override
+        public BlockSetDto decode(BinaryCacheSerializer.Reader reader, int version) {
+            int size = (int) reader.readVarLong();
+
+            if (size == 0) {
+                return BlockSetDto.EMPTY;
+            }
+
+            long[] memberIds = new long[size];
+            long previous = 0;
+
+            for (int i = 0; i < size; i++) {
+                previous += reader.readVarLong();
+                memberIds[i] = previous;
+            }
+
+            return new BlockSetDto(memberIds);
+        }
+    };
+
+    /**
+     * 회원 상세 정보 (v2 : id, name, nickname, birth(epoch day), gender, visibility)
+     * - v1 은 뒤에 대표 이미지(profileImageId, imageUrl, originName, fileName)가 붙어 있으며 읽지 않고 무시
+     * - 생년월일은 필수 값, 1970년 이전(음수)도 짧게 저장하도록 zigzag 변환
+     * - 열거형은 이름으로 저장 (순서가 바뀌어도 안전)
+     */
+    public static final CacheValueCodec<MemberProfileDto> MEMBER_PROFILE = new CacheValueCodec<>() {
+        @Override
+        public Class<MemberProfileDto> type() {
+            return MemberProfileDto.class;
+        }
+
+        @Override
+        public int version() {
+            return 2;
+        }
+
+        @Override
+        public void encode(MemberProfileDto value, BinaryCacheSerializer.Writer writer) {
+            writer.writeNullableLong(value.id());
+            writer.writeString(value.name());
+            writer.writeString(value.nickname());
+            long epochDay = value.birth().toEpochDay();
+
+            writer.writeVarLong((epochDay << 1) ^ (epochDay >> 63));
+            writer.writeString(value.gender() == null ? null : value.gender().name());
+            writer.writeString(value.visibility() == null ? null : value.visibility().name());
+        }
+
+        @Override
+        public MemberProfileDto decode(BinaryCacheSerializer.Reader reader, int version) {
+            Long id = reader.readNullableLong();
+            String name = reader.readString();
+            String nickname = reader.readString();
+            long zigzag = reader.readVarLong();
+            String gender = reader.readString();
+            String visibility = reader.readString();
+
+            return new MemberProfileDto(
+                    id,
+                    name,
+                    nickname,
+                    LocalDate.ofEpochDay((zigzag >>> 1) ^ -(zigzag & 1)),
+                    gender == null ? null : Gender.valueOf(gender),
+                    visibility == null ? null : Visibility.valueOf(visibility)
+            );
+        }
+    };
+
+    /** 캐시 이름 -> 코덱 */
+    public static final Map<String, CacheValueCodec<?>> BY_CACHE = Map.of(
+            "representImage", REPRESENT_IMAGE,
+            "blockSet", BLOCK_SET,
+            "memberProfile", MEMBER_PROFILE
+    );
+
+    private CacheValueCodecs() {
+    }
+}
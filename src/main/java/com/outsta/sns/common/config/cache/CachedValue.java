@@ -0,0 +1,13 @@
+package com.outsta.sns.common.config.cache;
+
+/**
+ * 조기 갱신 정보가 포함된 캐시 값
+ * - TwoLevelCache가 L1, L2에 저장하는 형식 (조회 시 value만 반환)
+ * - 적재 시간과 L2 만료 시각으로 만료 전 확률적으로 미리 갱신 (XFetch)
+ *
+ * @param value         캐시 값 (null 가능)
+ * @param computeMillis 원본에서 값을 적재하는 데 걸린 시간 (ms)
+ * @param expiresAt     L2 만료 시각 (epoch ms, 0 이면 만료 없음)
+ */
+public record CachedValue(Object value, long computeMillis, long expiresAt) {
+}
@@ -0,0 +1,51 @@
+package com.outsta.sns.common.config.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 로컬(L1) 캐시 설정
+ * - defaults : 모든 캐시 공통 설정
+ * - caches   : 캐시 이름별 설정 (지정하지 않은 항목은 defaults 사용)
+ *
+ * @param defaults 공통 설정
+ * @param caches   캐시 이름 -> 설정
+ */
+@ConfigurationProperties(prefix = "cache.local")
+public record LocalCacheProperties(
+        Spec defaults,
+        Map<String, Spec> caches
+) {
+
+    private static final Spec FALLBACK = new Spec(10_000L, Duration.ofSeconds(60));
+
+    public LocalCacheProperties {
+        defaults = defaults == null ? FALLBACK : defaults.orElse(FALLBACK);
+        caches = caches == null ? Map.of() : Map.copyOf(caches);
+    }
+
+    /**
+     * 캐시 이름의 설정 조회
+     */
+    public Spec specOf(String cacheName) {
+        Spec spec = caches.get(cacheName);
+
+        return spec == null ? defaults : spec.orElse(defaults);
+    }
+
+    /**
+     * @param maximumSize      최대 엔트리 수
+     * @param expireAfterWrite 저장 후 만료 시간 (Pub/Sub 유실 시 최대 불일치 시간)
+     */
+    public record Spec(Long maximumSize, Duration expireAfterWrite) {
+
+        private Spec orElse(Spec other) {
+            return new Spec(
+                    maximumSize != null ? maximumSize : other.maximumSize(),
+                    expireAfterWrite != null ? expireAfterWrite : other.expireAfterWrite()
+            );
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package com.outsta.sns.common.config.cache;
+
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬(L1) + Redis(L2) 2단계 캐시
+ * - 조회 : L1 -> L2 -> 원본 순으로 조회하고, L2에서 찾은 값은 L1에 저장
+ * - 삭제 : L2, L1 삭제 후 다른 노드의 L1 삭제 요청 전파
+ * - 저장 : 다른 노드의 L1에 남은 값은 이전 삭제 전파로 이미 제거되었으므로 전파하지 않음
+ * - L1 키는 key.toString() 사용 (노드 간 삭제 메시지로 같은 키를 찾기 위함)
+ * - L1은 저장한 객체를 그대로 반환하므로 캐시 값은 불변 객체(record 등)여야 함
+ * - 원본 적재(@Cacheable(sync = true)) : 노드 안에서는 키별로 한 번만 적재하고 나머지 요청은 결과를 기다림,
+ *   노드 간에는 리스를 가진 노드만 적재하고 나머지는 L2에 저장될 때까지 기다림 (최대 lease-wait, 초과 시 직접 적재)
+ * - 조기 갱신 : 만료 시각 - 적재 시간 * beta * -ln(random) 을 지난 조회는 값을 그대로 반환하고
+ *   백그라운드에서 다시 적재 (XFetch, 자주 조회되는 키일수록 만료 전에 갱신될 확률이 높음)
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final Cache local;
+    private final Cache remote;
+    private final TwoLevelCacheManager cacheManager;
+
+    /** 적재 중인 키 -> 적재 결과 (노드 안 단일 적재) */
+    private final ConcurrentMap<String, CompletableFuture<Object>> loading = new ConcurrentHashMap<>();
+
+    /** 조기 갱신 중인 키 */
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter missLoadCounter;
+    private final Counter earlyRefreshCounter;
+    private final Counter leaseTimeoutCounter;
+
+    TwoLevelCache(String name, Cache local, Cache remote, TwoLevelCacheManager cacheManager) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.cacheManager = cacheManager;
+
+        this.missLoadCounter = Counter.builder("cache.loads")
+                .description("원본에서 값을 적재한 횟수")
+                .tags("cache", name, "trigger", "miss")
+                .register(cacheManager.meterRegistry());
+        this.earlyRefreshCounter = Counter.builder("cache.loads")
+                .description("원본에서 값을 적재한 횟수")
+                .tags("cache", name, "trigger", "early-refresh")
+                .register(cacheManager.meterRegistry());
+        this.leaseTimeoutCounter = Counter.builder("cache.lease.timeouts")
+                .description("다른 노드의 적재를 기다리다 직접 적재한 횟수")
+                .tags("cache", name)
+                .register(cacheManager.meterRegistry());
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper stored = lookup(key);
+
+        return stored == null ? null : new SimpleValueWrapper(valueOf(stored.get()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+
+        if (value == null) {
+            return null;
+        }
+
+        Object stored = value.get();
+
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("캐시 값 타입 불일치 : " + type.getName() + " <- " + stored);
+        }
+
+        return (T) stored;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper stored = lookup(key);
+
+        if (stored != null) {
+            if (stored.get() instanceof CachedValue cached && shouldRefreshEarly(cached)) {
+                refreshEarly(key, cached, valueLoader);
+            }
+
+            return (T) valueOf(stored.get());
+        }
+
+        return (T) load(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        put(key, value, 0);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.evict(localKey(key));
+        cacheManager.publishEvict(name, localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = remote.evictIfPresent(key);
+
+        local.evict(localKey(key));
+        cacheManager.publishEvict(name, localKey(key));
+
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+        cacheManager.publishClear(name);
+    }
+
+    /**
+     * 다른 노드의 삭제 요청 반영 (L1만 삭제)
+     */
+    void evictLocal(String localKey) {
+        local.evict(localKey);
+    }
+
+    /**
+     * 다른 노드의 전체 삭제 요청 반영 (L1만 삭제)
+     */
+    void clearLocal() {
+        local.clear();
+    }
+
+    /**
+     * 저장된 값 조회 (CachedValue 또는 이전 형식의 값 그대로)
+     */
+    private ValueWrapper lookup(Object key) {
+        String localKey = localKey(key);
+
+        if (cacheManager.isLocalEnabled()) {
+            ValueWrapper cached = local.get(localKey);
+
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        ValueWrapper value = remote.get(key);
+
+        if (value != null && cacheManager.isLocalEnabled()) {
+            local.put(localKey, value.get());
+        }
+
+        return value;
+    }
+
+    /**
+     * 캐시 미스 적재 (노드 안 단일 적재)
+     * - 같은 키를 적재 중이면 그 결과를 기다림
+     */
+    private Object load(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = loading.putIfAbsent(localKey, flight);
+
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            Object value = loadWithLease(key, localKey, valueLoader);
+            flight.complete(value);
+
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+
+            throw e;
+        } finally {
+            loading.remove(localKey, flight);
+        }
+    }
+
+    /**
+     * 리스를 얻으면 원본 적재, 못 얻으면 다른 노드가 L2에 저장할 때까지 대기
+     */
+    private Object loadWithLease(Object key, String localKey, Callable<?> valueLoader) {
+        String leaseToken = cacheManager.tryLease(name, localKey);
+
+        if (leaseToken != null) {
+            try {
+                missLoadCounter.increment();
+
+                return loadAndPut(key, valueLoader);
+            } finally {
+                cacheManager.releaseLease(name, localKey, leaseToken);
+            }
+        }
+
+        ValueWrapper stored = awaitRemote(key);
+
+        if (stored != null) {
+            if (cacheManager.isLocalEnabled()) {
+                local.put(localKey, stored.get());
+            }
+
+            return valueOf(stored.get());
+        }
+
+        // 리스를 가진 노드가 늦거나 중단된 경우
+        leaseTimeoutCounter.increment();
+        missLoadCounter.increment();
+
+        return loadAndPut(key, valueLoader);
+    }
+
+    /**
+     * 다른 노드가 L2에 저장할 때까지 poll-interval 주기로 재조회 (최대 lease-wait)
+     */
+    private ValueWrapper awaitRemote(Object key) {
+        CacheLoadProperties properties = cacheManager.loadProperties();
+        long deadline = System.nanoTime() + properties.leaseWait().toNanos();
+
+        try {
+            while (System.nanoTime() < deadline) {
+                TimeUnit.NANOSECONDS.sleep(properties.pollInterval().toNanos());
+
+                ValueWrapper stored = remote.get(key);
+
+                if (stored != null) {
+                    return stored;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return null;
+    }
+
+    /**
+     * 조기 갱신 대상 여부 (XFetch)
+     */
+    private boolean shouldRefreshEarly(CachedValue cached) {
+        double beta = cacheManager.loadProperties().earlyRefreshBeta();
+
+        if (cached.expiresAt() <= 0 || beta <= 0) {
+            return false;
+        }
+
+        double gap = Math.max(1, cached.computeMillis()) * beta * -Math.log(ThreadLocalRandom.current().nextDouble());
+
+        return System.currentTimeMillis() + gap >= cached.expiresAt();
+    }
+
+    /**
+     * 백그라운드 조기 갱신
+     * - 노드 안에서는 키별로 하나만, 노드 간에는 리스를 가진 노드만 갱신
+     * - 다른 노드가 이미 갱신했으면 L2 값을 L1에만 반영
+     */
+    private void refreshEarly(Object key, CachedValue seen, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+
+        if (!refreshing.add(localKey)) {
+            return;
+        }
+
+        try {
+            cacheManager.refreshExecutor().execute(() -> {
+                try {
+                    String leaseToken = cacheManager.tryLease(name, localKey);
+
+                    if (leaseToken == null) {
+                        return;
+                    }
+
+                    try {
+                        ValueWrapper current = remote.get(key);
+
+                        if (current != null && current.get() instanceof CachedValue cached
+                                && cached.expiresAt() > seen.expiresAt()) {
+                            if (cacheManager.isLocalEnabled()) {
+                                local.put(localKey, cached);
+                            }
+
+                            return;
+                        }
+
+                        earlyRefreshCounter.increment();
+                        loadAndPut(key, valueLoader);
+                    } finally {
+                        cacheManager.releaseLease(name, localKey, leaseToken);
+                    }
+                } catch (RuntimeException e) {
+                    // 만료 후 다음 조회에서 다시 적재
+                    log.warn("캐시 조기 갱신 실패 : cache={}, key={}, error={}", name, localKey, e.getMessage());
+                } finally {
+                    refreshing.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(localKey);
+        }
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        long startedAt = System.nanoTime();
+        Object value;
+
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        put(key, value, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+
+        return value;
+    }
+
+    private void put(Object key, Object value, long computeMillis) {
+        CachedValue cached = new CachedValue(value, computeMillis, expiresAt(key, value));
+
+        remote.put(key, cached);
+        local.put(localKey(key), cached);
+    }
+
+    /**
+     * L2 만료 시각 (RedisCache 가 아니거나 만료 시간이 없으면 0)
+     */
+    private long expiresAt(Object key, Object value) {
+        if (!(remote instanceof RedisCache redisCache)) {
+            return 0;
+        }
+
+        Duration ttl = redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+
+        return ttl.isZero() || ttl.isNegative() ? 0 : System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            throw e;
+        }
+    }
+
+    private static Object valueOf(Object stored) {
+        return stored instanceof CachedValue cached ? cached.value() : stored;
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
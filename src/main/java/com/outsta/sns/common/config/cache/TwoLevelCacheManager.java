@@ -0,0 +1,264 @@
+package com.outsta.sns.common.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 로컬(L1) + Redis(L2) 2단계 CacheManager
+ * - L2는 RedisCacheManager의 캐시, L1은 캐시 이름별 크기/만료 시간이 제한된 Caffeine 캐시
+ * - 캐시 삭제는 Redis Pub/Sub으로 전파하여 다른 노드의 L1도 삭제
+ * - 구독 전(cold)에는 L1을 사용하지 않고 L2만 사용
+ * - 캐시별 L1(tier=l1), L2(tier=l2) 조회/적중 메트릭 등록
+ * - 캐시 적재는 노드 간 Redis 리스(cache-lease:{캐시 이름}:{키})를 가진 노드만 수행
+ *   (리스 값은 획득마다 새로 만든 토큰, 해제는 자신의 토큰일 때만)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener, SubscriptionListener {
+
+    /** L1 삭제 전파 채널 */
+    public static final String CHANNEL = "cache-evict";
+
+    /** 메시지 구분자 (노드 ID, 캐시 이름, 키) */
+    private static final char SEPARATOR = '\n';
+
+    /** 캐시 적재 리스 키 접두사 */
+    private static final String LEASE_PREFIX = "cache-lease:";
+
+    /** 자신이 획득한 리스(토큰 일치)만 해제 */
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('DEL', KEYS[1]) " +
+                    "end " +
+                    "return 0",
+            Long.class);
+
+    private final CacheManager remoteCacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LocalCacheProperties properties;
+    private final CacheLoadProperties loadProperties;
+    private final MeterRegistry meterRegistry;
+
+    /** 조기 갱신 실행기 */
+    private final Executor refreshExecutor;
+
+    /** 자신이 보낸 메시지 구분용 노드 ID */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    /** 구독 완료 여부 */
+    private volatile boolean warm = false;
+
+    /**
+     * @param remoteCacheManager L2 CacheManager (RedisCacheManager)
+     * @param refreshExecutor    조기 갱신 실행기
+     */
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                RedisTemplate<String, String> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                LocalCacheProperties properties,
+                                CacheLoadProperties loadProperties,
+                                MeterRegistry meterRegistry,
+                                Executor refreshExecutor) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.loadProperties = loadProperties;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = refreshExecutor;
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache remote = remoteCacheManager.getCache(name);
+
+        if (remote == null) {
+            return null;
+        }
+
+        return caches.computeIfAbsent(name, key -> createCache(key, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * L1 사용 가능 여부 (삭제 전파 채널 구독 중)
+     */
+    boolean isLocalEnabled() {
+        return warm;
+    }
+
+    CacheLoadProperties loadProperties() {
+        return loadProperties;
+    }
+
+    Executor refreshExecutor() {
+        return refreshExecutor;
+    }
+
+    MeterRegistry meterRegistry() {
+        return meterRegistry;
+    }
+
+    /**
+     * 캐시 적재 리스 획득 (SET NX PX)
+     * - 획득마다 새 토큰을 값으로 저장하여 같은 노드의 다른 적재가 이 리스를 해제하지 못하게 함
+     * - Redis 장애 시 적재를 막지 않도록 획득한 것으로 처리
+     *
+     * @return 획득했으면 해제에 사용할 토큰, 다른 적재가 리스를 가지고 있으면 null
+     */
+    String tryLease(String cacheName, String localKey) {
+        String token = UUID.randomUUID().toString();
+
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_PREFIX + cacheName + ":" + localKey, token, loadProperties.leaseTime());
+
+            return Boolean.FALSE.equals(acquired) ? null : token;
+        } catch (RuntimeException e) {
+            log.warn("캐시 적재 리스 획득 실패 : {}", e.getMessage());
+
+            return token;
+        }
+    }
+
+    /**
+     * 캐시 적재 리스 해제 (값이 획득 시 받은 토큰과 같을 때만 삭제)
+     *
+     * @param token tryLease 가 반환한 토큰
+     */
+    void releaseLease(String cacheName, String localKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE, List.of(LEASE_PREFIX + cacheName + ":" + localKey), token);
+        } catch (RuntimeException e) {
+            // 리스 유지 시간이 지나면 만료
+            log.warn("캐시 적재 리스 해제 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에 L1 키 삭제 전파
+     */
+    void publishEvict(String cacheName, String localKey) {
+        publish(cacheName + SEPARATOR + localKey);
+    }
+
+    /**
+     * 다른 노드에 L1 전체 삭제 전파
+     */
+    void publishClear(String cacheName) {
+        publish(cacheName);
+    }
+
+    /**
+     * 다른 노드에서 전파된 삭제 반영
+     * - 메시지 형식 : 노드 ID \n 캐시 이름 [\n 키] (키가 없으면 전체 삭제)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int nodeEnd = body.indexOf(SEPARATOR);
+
+        if (nodeEnd < 0) {
+            log.error("캐시 삭제 메시지 형식 오류");
+            return;
+        }
+
+        if (body.regionMatches(0, nodeId, 0, nodeEnd) && nodeEnd == nodeId.length()) {
+            return;
+        }
+
+        int nameEnd = body.indexOf(SEPARATOR, nodeEnd + 1);
+        String cacheName = nameEnd < 0 ? body.substring(nodeEnd + 1) : body.substring(nodeEnd + 1, nameEnd);
+        TwoLevelCache cache = caches.get(cacheName);
+
+        if (cache == null) {
+            return;
+        }
+
+        if (nameEnd < 0) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(body.substring(nameEnd + 1));
+        }
+    }
+
+    /**
+     * 채널 구독(재구독 포함) 완료 시 구독 전에 적재된 L1을 비우고 L1 사용
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        caches.values().forEach(TwoLevelCache::clearLocal);
+        warm = true;
+    }
+
+    /**
+     * 채널 구독 해제 시 다시 구독될 때까지 L2만 사용
+     */
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        warm = false;
+    }
+
+    private TwoLevelCache createCache(String name, Cache remote) {
+        LocalCacheProperties.Spec spec = properties.specOf(name);
+
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeLocal = Caffeine.newBuilder()
+                .maximumSize(spec.maximumSize())
+                .expireAfterWrite(spec.expireAfterWrite())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, nativeLocal, name, Tags.of("tier", "l1"));
+
+        if (remote instanceof RedisCache redisCache) {
+            new RedisCacheMetrics(redisCache, Tags.of("tier", "l2")).bindTo(meterRegistry);
+        }
+
+        return new TwoLevelCache(name, new CaffeineCache(name, nativeLocal), remote, this);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + message);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 노드의 L1은 만료 시간까지 이전 값 유지
+            log.error("캐시 삭제 전파 실패 : {}", e.getMessage());
+        }
+    }
+}
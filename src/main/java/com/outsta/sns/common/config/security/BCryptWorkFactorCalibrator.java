@@ -0,0 +1,82 @@
+package com.outsta.sns.common.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 작업 계수(strength) 보정
+ * - 배포 장비에서 직접 해싱 시간을 측정하여 목표 해싱 시간을 넘지 않는 가장 큰 strength 선택
+ * - strength가 1 증가할 때마다 해싱 시간이 2배가 되는 점을 이용하여 기준 strength 한 번만 측정
+ */
+@Slf4j
+public final class BCryptWorkFactorCalibrator {
+
+    /** 보정 최소 strength (BCryptPasswordEncoder 기본값) */
+    public static final int MIN_STRENGTH = 10;
+
+    /** 보정 최대 strength */
+    public static final int MAX_STRENGTH = 16;
+
+    /** 측정 횟수 */
+    private static final int SAMPLES = 5;
+
+    private BCryptWorkFactorCalibrator() {
+    }
+
+    /**
+     * 목표 해싱 시간에 맞는 strength 계산
+     *
+     * @param targetLatency 해싱 1회 목표 시간
+     * @param maxStrength   허용 최대 strength
+     * @return MIN_STRENGTH ~ maxStrength 범위의 strength
+     */
+    public static int calibrate(Duration targetLatency, int maxStrength) {
+        long baseNanos = measure(MIN_STRENGTH);
+        int strength = strengthFor(targetLatency.toNanos(), baseNanos, maxStrength);
+
+        log.info("BCrypt strength 보정 완료 : strength={}, 기준 해싱 시간(strength {})={}ms, 목표={}ms",
+                strength, MIN_STRENGTH, TimeUnit.NANOSECONDS.toMillis(baseNanos), targetLatency.toMillis());
+
+        return strength;
+    }
+
+    /**
+     * 기준 strength 해싱 시간으로 목표 시간을 넘지 않는 strength 계산
+     *
+     * @param targetNanos 목표 해싱 시간
+     * @param baseNanos   MIN_STRENGTH 해싱 시간
+     * @param maxStrength 허용 최대 strength
+     */
+    static int strengthFor(long targetNanos, long baseNanos, int maxStrength) {
+        int strength = MIN_STRENGTH;
+        long expected = Math.max(baseNanos, 1L);
+
+        while (strength < Math.min(maxStrength, MAX_STRENGTH) && expected * 2 <= targetNanos) {
+            expected *= 2;
+            strength++;
+        }
+
+        return strength;
+    }
+
+    /**
+     * 해당 strength의 해싱 시간 측정 (워밍업 1회 후 최소값)
+     */
+    private static long measure(int strength) {
+        String salt = BCrypt.gensalt(strength);
+        BCrypt.hashpw("calibration-password", salt);
+
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            BCrypt.hashpw("calibration-password", salt);
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+
+        return best;
+    }
+}
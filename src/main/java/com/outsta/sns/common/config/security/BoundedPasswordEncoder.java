@@ -0,0 +1,155 @@
+package com.outsta.sns.common.config.security;
+
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전용 스레드 풀에서 해싱하는 PasswordEncoder
+ * - BCrypt 같은 CPU 비용이 큰 해싱을 코어 수 크기의 풀에서만 실행하여 동시 해싱 수 제한
+ * - 대기열이 가득 차거나 대기 시간을 넘기면 429(TOO_MANY_REQUESTS) 반환
+ * - 요청 스레드는 결과를 기다리기만 하므로 다른 API 처리에 필요한 CPU를 차지하지 않음
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+
+    /** 대기 시간을 포함한 최대 해싱 시간 (nanos) */
+    private final long timeoutNanos;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+    private final Counter timeoutCounter;
+
+    /**
+     * @param delegate      실제 해싱을 수행할 PasswordEncoder
+     * @param poolSize      해싱 스레드 수
+     * @param queueCapacity 대기열 크기
+     * @param timeout       대기 시간을 포함한 최대 해싱 시간
+     * @param meterRegistry 메트릭 등록
+     */
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, Duration timeout,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutNanos = timeout.toNanos();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = Timer.builder("password.encoder")
+                .tag("operation", "encode")
+                .description("대기 시간을 포함한 비밀번호 해싱 시간")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.encoder")
+                .tag("operation", "matches")
+                .description("대기 시간을 포함한 비밀번호 비교 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.encoder.rejected")
+                .description("대기열이 가득 차 거절된 해싱 요청 수")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("password.encoder.timeout")
+                .description("최대 해싱 시간을 넘겨 취소된 해싱 요청 수")
+                .register(meterRegistry);
+
+        Gauge.builder("password.encoder.queue.size", executor, pool -> pool.getQueue().size())
+                .description("해싱 대기열 크기")
+                .register(meterRegistry);
+        Gauge.builder("password.encoder.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해싱 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(encodeTimer, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 해싱 작업을 전용 풀에 제출하고 결과 대기
+     *
+     * @throws CustomException 대기열이 가득 찼거나 최대 해싱 시간을 넘겼으면 TOO_MANY_REQUESTS
+     */
+    private <T> T submit(Timer timer, Callable<T> task) {
+        long startedAt = System.nanoTime();
+        Future<T> future;
+
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기열 초과로 요청 거절");
+
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeoutCounter.increment();
+            log.warn("비밀번호 해싱 시간 초과로 요청 취소");
+
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("비밀번호 해싱 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+
+            throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+        } finally {
+            timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,466 @@
+package com.outsta.sns.common.config.security;
+
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * jjwt가 발급한 HS256 Access Token 전용 검증기
+ * - Mac 인스턴스와 버퍼를 크기 제한 풀에서 빌려 쓰고 반납하여 요청마다 파서/클레임 Map을 만들지 않음
+ *   (가상 스레드는 요청마다 새 스레드이므로 ThreadLocal 대신 스레드와 무관한 풀 사용)
+ * - 풀이 비어 있으면 초기화된 원본 Mac 을 복제하여 사용 (키 초기화 비용 없음), 풀이 가득 차면 반납하지 않고 버림
+ * - 토큰 문자열에서 바로 Base64URL 디코딩하고 sub, role, email, exp, epoch, sid만 추출
+ * - 지원하지 않는 형식(다른 헤더, 이스케이프 문자, 중첩 값, nbf 클레임 등)이면 null을 반환하여 jjwt 파서로 위임
+ */
+@Slf4j
+class Hs256TokenVerifier {
+
+    /** jjwt가 HS256 서명 시 생성하는 헤더 {"alg":"HS256"} 의 Base64URL 값 */
+    static final String STANDARD_HEADER = "eyJhbGciOiJIUzI1NiJ9";
+
+    /** HMAC-SHA256 서명 길이 */
+    private static final int SIGNATURE_LENGTH = 32;
+
+    /** 32바이트 서명의 Base64URL(패딩 없음) 길이 */
+    private static final int ENCODED_SIGNATURE_LENGTH = 43;
+
+    /** Base64URL 문자 -> 6비트 값 (-1 : 허용하지 않는 문자) */
+    private static final byte[] BASE64URL = new byte[128];
+
+    private static final byte[] SUB = "sub".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ROLE = "role".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EMAIL = "email".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EXP = "exp".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EPOCH = "epoch".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] SID = "sid".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NBF = "nbf".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        Arrays.fill(BASE64URL, (byte) -1);
+
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    /** 키로 초기화한 원본 Mac (복제용, 직접 사용하지 않음) */
+    private final Mac prototype;
+
+    /** 반납된 작업 공간 (Mac + 버퍼) */
+    private final ArrayBlockingQueue<Workspace> pool;
+
+    Hs256TokenVerifier(SecretKey secretKey) {
+        this(secretKey, Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+    }
+
+    /**
+     * @param poolSize 보관할 작업 공간 최대 수 (동시에 검증하는 요청 수가 더 많으면 초과분은 사용 후 버림)
+     */
+    Hs256TokenVerifier(SecretKey secretKey, int poolSize) {
+        try {
+            this.prototype = Mac.getInstance("HmacSHA256");
+            this.prototype.init(secretKey);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 초기화 실패", e);
+        }
+
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+    }
+
+    /**
+     * 서명 검증 및 클레임 추출
+     *
+     * @param token JWT Access Token
+     * @param now   현재 시각 (epoch millis)
+     * @return 검증된 토큰 정보, 지원하지 않는 형식이면 null
+     * @throws CustomException 서명이 다르면 INVALID_TOKEN, 만료됐으면 EXPIRED_TOKEN
+     */
+    VerifiedToken verify(String token, long now) {
+        if (token == null || !token.startsWith(STANDARD_HEADER)
+                || token.length() <= STANDARD_HEADER.length() || token.charAt(STANDARD_HEADER.length()) != '.') {
+            return null;
+        }
+
+        int firstDot = STANDARD_HEADER.length();
+        int secondDot = token.indexOf('.', firstDot + 1);
+
+        if (secondDot < 0 || token.length() - secondDot - 1 != ENCODED_SIGNATURE_LENGTH) {
+            return null;
+        }
+
+        Workspace workspace = acquire();
+
+        try {
+            return verify(token, now, firstDot, secondDot, workspace);
+        } finally {
+            release(workspace);
+        }
+    }
+
+    private VerifiedToken verify(String token, long now, int firstDot, int secondDot, Workspace workspace) {
+        byte[] buffer = workspace.buffer(secondDot);
+
+        // 서명 대상(header.payload)을 ASCII 바이트로 복사
+        for (int i = 0; i < secondDot; i++) {
+            char c = token.charAt(i);
+
+            if (c >= 0x80) {
+                return null;
+            }
+
+            buffer[i] = (byte) c;
+        }
+
+        if (decodeBase64Url(token, secondDot + 1, token.length(), workspace.actual) != SIGNATURE_LENGTH) {
+            return null;
+        }
+
+        Mac mac = workspace.mac;
+
+        try {
+            mac.update(buffer, 0, secondDot);
+            mac.doFinal(workspace.expected, 0);
+        } catch (ShortBufferException e) {
+            mac.reset();
+
+            return null;
+        }
+
+        if (!MessageDigest.isEqual(workspace.expected, workspace.actual)) {
+            log.error("토큰 파싱 중 유효하지 않은 토큰");
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        int payloadLength = decodeBase64Url(token, firstDot + 1, secondDot, buffer);
+
+        if (payloadLength < 0) {
+            return null;
+        }
+
+        return parseClaims(buffer, payloadLength, now);
+    }
+
+    /**
+     * 풀에서 작업 공간을 빌림 (없으면 원본 Mac 을 복제하여 생성)
+     */
+    private Workspace acquire() {
+        Workspace workspace = pool.poll();
+
+        if (workspace != null) {
+            return workspace;
+        }
+
+        try {
+            return new Workspace((Mac) prototype.clone());
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("HmacSHA256 복제 실패", e);
+        }
+    }
+
+    /**
+     * 작업 공간 반납 (풀이 가득 차면 버림)
+     */
+    private void release(Workspace workspace) {
+        pool.offer(workspace);
+    }
+
+    /**
+     * 평평한(중첩 없는) JSON 객체에서 sub, role, email, exp, epoch, sid 추출
+     * - epoch 클레임이 없는 토큰은 0 세대로 취급
+     */
+    private VerifiedToken parseClaims(byte[] json, int length, long now) {
+        long memberId = -1;
+        boolean hasSub = false;
+        String role = null;
+        String email = null;
+        long exp = -1;
+        long epoch = 0;
+        String sessionId = null;
+
+        int pos = skipWhitespace(json, 0, length);
+
+        if (pos >= length || json[pos] != '{') {
+            return null;
+        }
+
+        pos = skipWhitespace(json, pos + 1, length);
+
+        if (pos < length && json[pos] == '}') {
+            return null;
+        }
+
+        while (pos < length) {
+            // key
+            if (json[pos] != '"') {
+                return null;
+            }
+
+            int keyStart = pos + 1;
+            int keyEnd = findStringEnd(json, keyStart, length);
+
+            if (keyEnd < 0) {
+                return null;
+            }
+
+            pos = skipWhitespace(json, keyEnd + 1, length);
+
+            if (pos >= length || json[pos] != ':') {
+                return null;
+            }
+
+            pos = skipWhitespace(json, pos + 1, length);
+
+            if (pos >= length) {
+                return null;
+            }
+
+            // nbf 검사는 jjwt로 위임
+            if (keyEquals(json, keyStart, keyEnd, NBF)) {
+                return null;
+            }
+
+            // value
+            byte first = json[pos];
+
+            if (first == '"') {
+                int valueStart = pos + 1;
+                int valueEnd = findStringEnd(json, valueStart, length);
+
+                if (valueEnd < 0) {
+                    return null;
+                }
+
+                if (keyEquals(json, keyStart, keyEnd, SUB)) {
+                    memberId = parseLong(json, valueStart, valueEnd);
+                    hasSub = memberId >= 0;
+                } else if (keyEquals(json, keyStart, keyEnd, ROLE)) {
+                    role = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                } else if (keyEquals(json, keyStart, keyEnd, EMAIL)) {
+                    email = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                } else if (keyEquals(json, keyStart, keyEnd, SID)) {
+                    sessionId = new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+                } else if (keyEquals(json, keyStart, keyEnd, EXP) || keyEquals(json, keyStart, keyEnd, EPOCH)) {
+                    return null;
+                }
+
+                pos = valueEnd + 1;
+            } else if (first == '-' || (first >= '0' && first <= '9')) {
+                int valueStart = pos;
+
+                if (first == '-') {
+                    pos++;
+                }
+
+                while (pos < length && json[pos] >= '0' && json[pos] <= '9') {
+                    pos++;
+                }
+
+                if (pos < length && (json[pos] == '.' || json[pos] == 'e' || json[pos] == 'E')) {
+                    return null;
+                }
+
+                if (keyEquals(json, keyStart, keyEnd, EXP)) {
+                    exp = parseLong(json, valueStart, pos);
+
+                    if (exp < 0) {
+                        return null;
+                    }
+                } else if (keyEquals(json, keyStart, keyEnd, EPOCH)) {
+                    epoch = parseLong(json, valueStart, pos);
+
+                    if (epoch < 0) {
+                        return null;
+                    }
+                } else if (keyEquals(json, keyStart, keyEnd, SUB)
+                        || keyEquals(json, keyStart, keyEnd, ROLE)
+                        || keyEquals(json, keyStart, keyEnd, EMAIL)
+                        || keyEquals(json, keyStart, keyEnd, SID)) {
+                    return null;
+                }
+            } else if (first == 't' || first == 'f' || first == 'n') {
+                // 사용하지 않는 클레임의 true/false/null 값은 건너뜀
+                if (keyEquals(json, keyStart, keyEnd, SUB) || keyEquals(json, keyStart, keyEnd, ROLE)
+                        || keyEquals(json, keyStart, keyEnd, EMAIL) || keyEquals(json, keyStart, keyEnd, EXP)
+                        || keyEquals(json, keyStart, keyEnd, EPOCH) || keyEquals(json, keyStart, keyEnd, SID)) {
+                    return null;
+                }
+
+                while (pos < length && json[pos] >= 'a' && json[pos] <= 'z') {
+                    pos++;
+                }
+            } else {
+                // 중첩 객체/배열은 jjwt로 위임
+                return null;
+            }
+
+            pos = skipWhitespace(json, pos, length);
+
+            if (pos >= length) {
+                return null;
+            }
+
+            if (json[pos] == '}') {
+                break;
+            }
+
+            if (json[pos] != ',') {
+                return null;
+            }
+
+            pos = skipWhitespace(json, pos + 1, length);
+        }
+
+        if (!hasSub || exp < 0) {
+            return null;
+        }
+
+        long expiresAt = exp * 1000L;
+
+        if (now > expiresAt) {
+            log.error("토큰 파싱 중 이미 만료된 토큰");
+            throw new CustomException(ErrorCode.EXPIRED_TOKEN);
+        }
+
+        JwtPayload jwtPayload = new JwtPayload(memberId, email, role, epoch);
+        jwtPayload.setSessionId(sessionId);
+
+        return new VerifiedToken(jwtPayload, expiresAt);
+    }
+
+    /**
+     * Base64URL(패딩 없음) 문자열 구간을 바이트 배열로 디코딩
+     *
+     * @return 디코딩된 바이트 수, 형식 오류 시 -1
+     */
+    static int decodeBase64Url(String source, int start, int end, byte[] target) {
+        int length = end - start;
+
+        if (length % 4 == 1) {
+            return -1;
+        }
+
+        int decodedLength = length / 4 * 3 + (length % 4 == 0 ? 0 : length % 4 - 1);
+
+        if (decodedLength > target.length) {
+            return -1;
+        }
+
+        int out = 0;
+        int bits = 0;
+        int bitCount = 0;
+
+        for (int i = start; i < end; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+
+            if (value < 0) {
+                return -1;
+            }
+
+            bits = (bits << 6) | value;
+            bitCount += 6;
+
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                target[out++] = (byte) (bits >> bitCount);
+            }
+        }
+
+        return out;
+    }
+
+    private static int findStringEnd(byte[] json, int start, int length) {
+        for (int i = start; i < length; i++) {
+            if (json[i] == '"') {
+                return i;
+            }
+
+            // 이스케이프 문자는 jjwt로 위임
+            if (json[i] == '\\') {
+                return -1;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int pos, int length) {
+        while (pos < length && (json[pos] == ' ' || json[pos] == '\t' || json[pos] == '\n' || json[pos] == '\r')) {
+            pos++;
+        }
+
+        return pos;
+    }
+
+    private static boolean keyEquals(byte[] json, int start, int end, byte[] key) {
+        if (end - start != key.length) {
+            return false;
+        }
+
+        for (int i = 0; i < key.length; i++) {
+            if (json[start + i] != key[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 숫자로만 이루어진 구간을 long으로 변환
+     *
+     * @return 변환 값, 숫자가 아니거나 범위를 넘으면 -1
+     */
+    private static long parseLong(byte[] json, int start, int end) {
+        if (start >= end || end - start > 18) {
+            return -1;
+        }
+
+        long value = 0;
+
+        for (int i = start; i < end; i++) {
+            byte b = json[i];
+
+            if (b < '0' || b > '9') {
+                return -1;
+            }
+
+            value = value * 10 + (b - '0');
+        }
+
+        return value;
+    }
+
+    /**
+     * 검증 한 번에 쓰는 작업 공간 (Mac + 버퍼, 한 번에 한 스레드만 사용)
+     */
+    private static class Workspace {
+        private final Mac mac;
+        private byte[] buffer = new byte[512];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private final byte[] actual = new byte[SIGNATURE_LENGTH];
+
+        private Workspace(Mac mac) {
+            this.mac = mac;
+        }
+
+        private byte[] buffer(int size) {
+            if (buffer.length < size) {
+                buffer = new byte[Math.max(size, buffer.length * 2)];
+            }
+
+            return buffer;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.outsta.sns.common.config.security;
 
+import com.outsta.sns.common.error.CustomException;
 import com.outsta.sns.domain.enums.Role;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -9,7 +10,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -28,43 +28,30 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtProvider jwtProvider;
-
-    /**
-     * 인증 필터에서 예외로 처리할 요청 리스트
-     * - 로그인, 토큰 재발급, 회원가입, 닉네임 중복 체크, 이메일 중복 체크, swagger API 등 인증이 필요 없는 경로
-     */
-    private final List<PermitPass> PASS_PATHS = List.of(
-            new PermitPass(HttpMethod.POST, "/api/auth/login"),
-            new PermitPass(HttpMethod.POST, "/api/auth/reIssue"),
-            new PermitPass(HttpMethod.POST, "/api/members"),
-            new PermitPass(HttpMethod.GET, "/api/members/{memberId}"),
-            new PermitPass(HttpMethod.GET, "/api/members/{memberId}/follower"),
-            new PermitPass(HttpMethod.GET, "/api/members/{memberId}/following"),
-            new PermitPass(HttpMethod.GET, "/api/members/check-nickname"),
-            new PermitPass(HttpMethod.GET, "/api/members/check-email"),
-            new PermitPass(null, "/v3/api-docs"),
-            new PermitPass(null, "/swagger-ui")
-    );
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final LogoutTokenFilter logoutTokenFilter;
+    private final TokenEpochStore tokenEpochStore;
+    private final RoutePolicyRegistry routePolicyRegistry;
 
     /**
      * HTTP 요청마다 실행하는 JWT 인증 필터
-     * - 인증 제외 경로는 필터 통과
-     * - Authorization 헤더에서 JWT Access Token 추출 및 유효성 검사
-     * - Redis에서 로그아웃 여부 확인
+     * - 인증 정책이 PUBLIC인 경로는 토큰 검증 없이 필터 통과
+     * - Authorization 헤더에서 JWT Access Token 추출 및 유효성 검사 (검증 결과는 로컬 캐시 사용)
+     * - 토큰 세대가 회원의 현재 세대보다 낮으면 폐기된 토큰으로 판단 (로컬 캐시 조회)
+     * - 로컬 로그아웃 필터에서 로그아웃 가능성이 있을 때만 Redis에서 로그아웃 여부 확인
      * - 인증 성공 시 SecurityContext에 인증 정보 저장
      */
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
-        String requestURI = request.getRequestURI();
-        String method = request.getMethod();
+        // 인증 예외 경로 검사
+        if (routePolicyRegistry.resolve(request) == RouteAccess.PUBLIC) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
         // Authorization 헤더 값
         String requestHeader = request.getHeader("Authorization");
 
-        // 인증 예외 경로 검사
-        boolean isPermitPass = PASS_PATHS.stream()
-                .anyMatch(p -> p.matches(method, requestURI));
-
         // 토큰 여부
         boolean hasToken = StringUtils.hasText(requestHeader) && requestHeader.startsWith("Bearer ");
 
@@ -72,14 +59,30 @@ public class JwtFilter extends OncePerRequestFilter {
             // Bearer 토큰에서 JWT AccessToken 문자열 추출
             String accessToken = requestHeader.substring(7);
 
-            // 토큰 유효성 검사 실패 시 OR 로그아웃 시 401 반환
-            if (!jwtProvider.validateToken(accessToken) || isLogout(accessToken)) {
+            // 캐시 키 및 로그아웃 여부 확인에 같이 사용하는 토큰 해시
+            String hashToken = jwtProvider.tokenToHash(accessToken);
+
+            // 토큰 검증(캐시 미스 시 한 번만 파싱)하여 사용자 정보 추출
+            JwtPayload jwtPayload;
+
+            try {
+                jwtPayload = verifiedTokenCache.get(hashToken, accessToken).payload();
+            } catch (CustomException e) {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
                 return;
             }
 
-            // 토큰 파싱하여 사용자 정보 추출
-            JwtPayload jwtPayload = jwtProvider.parseAccessToken(accessToken);
+            // 모든 기기 로그아웃, 비밀번호 변경 등으로 폐기된 토큰이면 401 반환
+            if (tokenEpochStore.isRevoked(jwtPayload.getId(), jwtPayload.getEpoch())) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+
+            // 로그아웃 시 401 반환
+            if (isLogout(hashToken)) {
+                response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
 
             Long memberId = jwtPayload.getId();
             String email = jwtPayload.getEmail();
@@ -97,11 +100,6 @@ public class JwtFilter extends OncePerRequestFilter {
             // 기존 SecurityContext 초기화 후 인증 정보 저장
             SecurityContextHolder.clearContext();
             SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-        } else {
-            if (!isPermitPass) {
-                filterChain.doFilter(request, response);
-                return;
-            }
         }
 
         filterChain.doFilter(request, response);
@@ -109,11 +107,15 @@ public class JwtFilter extends OncePerRequestFilter {
 
     /**
      * 해시처리 된 토큰으로 로그아웃 여부 확인
-     * @param accessToken JWT 액세스 토큰
+     * - 로컬 필터에서 확실히 로그아웃이 아니면 Redis 조회 생략
+     *
+     * @param hashToken SHA-256 해시 처리된 JWT 액세스 토큰
      * @return 블랙리스트에 있으면 true, 없으면 false
      */
-    private boolean isLogout(String accessToken) {
-        String hashToken = jwtProvider.tokenToHash(accessToken);
+    private boolean isLogout(String hashToken) {
+        if (!logoutTokenFilter.mightBeLoggedOut(hashToken)) {
+            return false;
+        }
 
         return redisTemplate.opsForValue().get(hashToken) != null;
     }
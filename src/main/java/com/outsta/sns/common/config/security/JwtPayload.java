@@ -1,17 +1,15 @@
 package com.outsta.sns.common.config.security;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 /**
  * JWT 토큰에 담을 사용자 정보
- * - 회원 ID, 이메일, Role
+ * - 회원 ID, 이메일, Role, 토큰 세대, 세션 ID
  */
 @Getter
 @Setter
-@AllArgsConstructor
 @NoArgsConstructor
 public class JwtPayload {
     /** 회원 식별자 ID */
@@ -22,4 +20,21 @@ public class JwtPayload {
 
     /** 회원 권한 역할 (GUEST, MEMBER, ADMIN) */
     private String role;
+
+    /** 토큰 세대 (회원의 현재 세대보다 낮으면 폐기된 토큰) */
+    private long epoch;
+
+    /** 로그인 세션(기기) 식별자 */
+    private String sessionId;
+
+    public JwtPayload(Long id, String email, String role) {
+        this(id, email, role, 0L);
+    }
+
+    public JwtPayload(Long id, String email, String role, long epoch) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.epoch = epoch;
+    }
 }
\ No newline at end of file
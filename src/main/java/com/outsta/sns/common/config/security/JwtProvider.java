@@ -4,6 +4,7 @@ import com.outsta.sns.common.error.CustomException;
 import com.outsta.sns.common.error.ErrorCode;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Date;
@@ -31,6 +33,21 @@ public class JwtProvider {
     /** Refresh Token 만료 시간 */
     private final Long refreshTokenExpiration;
 
+    /** Access Token 검증 Fast Path */
+    private final Hs256TokenVerifier hs256TokenVerifier;
+
+    /** 스레드별 SHA-256 MessageDigest */
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 초기화 실패", e);
+        }
+    });
+
+    /** 16진수 문자 */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
     /**
      * 생성자에서 비밀키와 토큰 만료시간 초기화
      *
@@ -44,6 +61,7 @@ public class JwtProvider {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey));
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.hs256TokenVerifier = new Hs256TokenVerifier(this.secretKey);
     }
 
     /**
@@ -78,10 +96,17 @@ public class JwtProvider {
             throw new CustomException(ErrorCode.MISSING_JWT_PAYLOAD);
         }
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setSubject(String.valueOf(jwtPayload.getId()))
                 .claim("role", jwtPayload.getRole())
                 .claim("email", jwtPayload.getEmail())
+                .claim("epoch", jwtPayload.getEpoch());
+
+        if (StringUtils.hasText(jwtPayload.getSessionId())) {
+            builder.claim("sid", jwtPayload.getSessionId());
+        }
+
+        return builder
                 .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
                 .setIssuedAt(new Date())
                 .signWith(secretKey, SignatureAlgorithm.HS256)
@@ -92,7 +117,7 @@ public class JwtProvider {
      * Refresh Token 생성
      * - 필수 정보인 식별자 ID 누락 시 CustomException 발생
      *
-     * @param jwtPayload 사용자 정보 (식별자 ID만 포함)
+     * @param jwtPayload 사용자 정보 (식별자 ID, 세션 ID만 포함)
      * @return JWT Refresh Token
      */
     public String generateRefreshToken(JwtPayload jwtPayload) {
@@ -102,8 +127,14 @@ public class JwtProvider {
             throw new CustomException(ErrorCode.MISSING_JWT_PAYLOAD);
         }
 
-        return Jwts.builder()
-                .setSubject(String.valueOf(jwtPayload.getId()))
+        JwtBuilder builder = Jwts.builder()
+                .setSubject(String.valueOf(jwtPayload.getId()));
+
+        if (StringUtils.hasText(jwtPayload.getSessionId())) {
+            builder.claim("sid", jwtPayload.getSessionId());
+        }
+
+        return builder
                 .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
                 .setIssuedAt(new Date())
                 .signWith(secretKey, SignatureAlgorithm.HS256)
@@ -160,22 +191,43 @@ public class JwtProvider {
      * Access Token 파싱하여 JwtPayload 객체로 변환
      *
      * @param accessToken JWT Access Token
-     * @return JwtPayload 객체 (id, email, role)
+     * @return JwtPayload 객체 (id, email, role, epoch, sessionId)
      */
     public JwtPayload parseAccessToken(String accessToken) {
+        return verifyAccessToken(accessToken).payload();
+    }
+
+    /**
+     * Access Token 서명 검증 후 사용자 정보와 만료 시각 반환
+     * - 한 번의 파싱으로 검증과 클레임 추출을 함께 처리
+     * - jjwt가 발급한 표준 HS256 토큰은 Fast Path로 검증, 그 외 형식은 jjwt 파서로 검증
+     *
+     * @param accessToken JWT Access Token
+     * @return 검증된 토큰 정보 (JwtPayload, 만료 시각)
+     */
+    public VerifiedToken verifyAccessToken(String accessToken) {
+        VerifiedToken verifiedToken = hs256TokenVerifier.verify(accessToken, System.currentTimeMillis());
+
+        if (verifiedToken != null) {
+            return verifiedToken;
+        }
+
         Claims body = parseToken(accessToken);
 
         try {
             Long memberId = Long.parseLong(body.getSubject());
             String role = (String) body.get("role");
             String email = (String) body.get("email");
+            Number epoch = (Number) body.get("epoch");
 
             JwtPayload jwtPayload = new JwtPayload();
             jwtPayload.setId(memberId);
             jwtPayload.setRole(role);
             jwtPayload.setEmail(email);
+            jwtPayload.setEpoch(epoch != null ? epoch.longValue() : 0L);
+            jwtPayload.setSessionId((String) body.get("sid"));
 
-            return jwtPayload;
+            return new VerifiedToken(jwtPayload, body.getExpiration().getTime());
         } catch (Exception e) {
             log.error("Access 토큰 파싱 중 데이터 변환 실패");
 
@@ -190,10 +242,20 @@ public class JwtProvider {
      * @return 회원 식별자 ID
      */
     public Long parseRefreshToken(String refreshToken) {
+        return parseRefreshTokenClaims(refreshToken).memberId();
+    }
+
+    /**
+     * Refresh Token 파싱하여 회원 식별자 ID와 세션 ID 반환
+     *
+     * @param refreshToken JWT Refresh Token
+     * @return Refresh Token 클레임 (회원 식별자 ID, 세션 ID)
+     */
+    public RefreshTokenClaims parseRefreshTokenClaims(String refreshToken) {
         Claims body = parseToken(refreshToken);
 
         try {
-            return Long.parseLong(body.getSubject());
+            return new RefreshTokenClaims(Long.parseLong(body.getSubject()), (String) body.get("sid"));
         } catch (Exception e) {
             log.error("Refresh 토큰 파싱 중 Subject 변환 실패");
 
@@ -205,25 +267,30 @@ public class JwtProvider {
      * JWT 토큰 문자열을 SHA-256 해시로 변환
      *
      * @param accessToken JWT Access Token
-     * @return SHA-256 해시값, 실패 시 null
+     * @return SHA-256 해시값 (16진수 소문자 64자)
      */
     public String tokenToHash(String accessToken) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        byte[] hashBytes = tokenHashBytes(accessToken);
+        char[] hex = new char[hashBytes.length * 2];
 
-            byte[] hashBytes = digest.digest(accessToken.getBytes());
-            StringBuilder hexString = new StringBuilder();
+        for (int i = 0; i < hashBytes.length; i++) {
+            hex[i * 2] = HEX[(hashBytes[i] >> 4) & 0x0f];
+            hex[i * 2 + 1] = HEX[hashBytes[i] & 0x0f];
+        }
 
-            for (byte b : hashBytes) {
-                hexString.append(String.format("%02x", b));
-            }
+        return new String(hex);
+    }
 
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            log.error("Access 토큰 해시 처리 중 오류 발생");
+    /**
+     * JWT 토큰 문자열을 SHA-256 해시 바이트로 변환
+     *
+     * @param accessToken JWT Access Token
+     * @return SHA-256 해시 바이트 (32바이트)
+     */
+    public byte[] tokenHashBytes(String accessToken) {
+        MessageDigest digest = SHA_256.get();
 
-            return null;
-        }
+        return digest.digest(accessToken.getBytes(StandardCharsets.UTF_8));
     }
 
     /**
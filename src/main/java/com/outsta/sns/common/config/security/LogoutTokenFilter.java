@@ -0,0 +1,195 @@
+package com.outsta.sns.common.config.security;
+
+import com.outsta.sns.common.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로그아웃된 Access Token 로컬 Bloom Filter
+ * - "확실히 로그아웃 안 됨"이면 Redis 조회 생략, "로그아웃일 수도 있음"일 때만 Redis 조회
+ * - 로그아웃 발생 시 Redis Pub/Sub으로 모든 노드의 필터에 반영
+ * - Access Token 만료 시간 단위로 필터 세대를 교체하여 크기가 계속 커지지 않음
+ * - 구독 전이거나 초기 적재 전(cold)에는 항상 Redis 조회
+ */
+@Slf4j
+@Component
+public class LogoutTokenFilter implements MessageListener, SubscriptionListener {
+
+    /** 로그아웃 토큰 해시 전파 채널 */
+    public static final String CHANNEL = "logout:token";
+
+    /** 최근 로그아웃 토큰 해시 (score : 토큰 만료 시각) - 노드 시작 시 필터 적재용 */
+    private static final String RECENT_KEY = "logout:recent";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /** 필터 세대 교체 주기 (Access Token 만료 시간) */
+    private final long windowMillis;
+
+    /** 세대별 예상 로그아웃 수 */
+    private final long expectedInsertions;
+
+    /** 허용 오탐률 */
+    private final double falsePositiveRate;
+
+    /** 현재 세대 필터 */
+    private volatile BloomFilter current;
+
+    /** 이전 세대 필터 */
+    private volatile BloomFilter previous;
+
+    /** 현재 세대 시작 시각 */
+    private volatile long windowStartedAt;
+
+    /** 구독 및 초기 적재 완료 여부 */
+    private volatile boolean warm = false;
+
+    private final Counter negativeCounter;
+    private final Counter maybeCounter;
+
+    public LogoutTokenFilter(RedisTemplate<String, String> redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             MeterRegistry meterRegistry,
+                             @Value("${jwt.access.expiration}") long windowMillis,
+                             @Value("${jwt.logout-filter.expected-insertions:100000}") long expectedInsertions,
+                             @Value("${jwt.logout-filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.windowMillis = windowMillis;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+
+        this.current = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.previous = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.windowStartedAt = System.currentTimeMillis();
+
+        this.negativeCounter = Counter.builder("jwt.logout.filter")
+                .tag("result", "negative")
+                .description("로컬 필터에서 로그아웃 아님이 확정된 요청 수")
+                .register(meterRegistry);
+        this.maybeCounter = Counter.builder("jwt.logout.filter")
+                .tag("result", "maybe")
+                .description("Redis 조회가 필요했던 요청 수")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 로그아웃 토큰 등록
+     * - 노드 재시작 대비 최근 목록에 저장 후 모든 노드에 전파
+     *
+     * @param hashToken SHA-256 해시 처리된 토큰
+     * @param expiresAt 토큰 만료 시각 (epoch millis)
+     */
+    public void register(String hashToken, long expiresAt) {
+        current().put(hashToken);
+
+        redisTemplate.opsForZSet().add(RECENT_KEY, hashToken, expiresAt);
+        redisTemplate.opsForZSet().removeRangeByScore(RECENT_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+        redisTemplate.convertAndSend(CHANNEL, hashToken);
+    }
+
+    /**
+     * 로그아웃 가능성 조회
+     *
+     * @param hashToken SHA-256 해시 처리된 토큰
+     * @return 로그아웃일 수도 있으면 true (Redis 확인 필요), 확실히 아니면 false
+     */
+    public boolean mightBeLoggedOut(String hashToken) {
+        BloomFilter now = current();
+
+        if (warm && !now.mightContain(hashToken) && !previous.mightContain(hashToken)) {
+            negativeCounter.increment();
+
+            return false;
+        }
+
+        maybeCounter.increment();
+
+        return true;
+    }
+
+    /**
+     * 다른 노드에서 전파된 로그아웃 토큰 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        current().put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 채널 구독(재구독 포함) 완료 시 최근 로그아웃 목록 적재
+     * - 구독 이후에 적재해야 그 사이의 로그아웃을 놓치지 않음
+     * - 구독 스레드를 막지 않도록 별도 스레드에서 처리
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        CompletableFuture.runAsync(this::loadRecent);
+    }
+
+    /**
+     * 채널 구독 해제 시 다시 적재될 때까지 항상 Redis 조회
+     */
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        warm = false;
+    }
+
+    /**
+     * 아직 만료되지 않은 로그아웃 토큰을 필터에 적재
+     */
+    private void loadRecent() {
+        try {
+            Set<String> recent = redisTemplate.opsForZSet()
+                    .rangeByScore(RECENT_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+
+            BloomFilter filter = current();
+
+            if (recent != null) {
+                recent.forEach(filter::put);
+            }
+
+            warm = true;
+            log.info("로그아웃 토큰 필터 적재 완료 : {}건", recent != null ? recent.size() : 0);
+        } catch (Exception e) {
+            log.error("로그아웃 토큰 필터 적재 실패, Redis 조회로 대체 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 세대 필터 조회
+     * - 세대 교체 주기가 지났으면 현재 세대를 이전 세대로 넘기고 새 필터 생성
+     */
+    private BloomFilter current() {
+        if (System.currentTimeMillis() - windowStartedAt >= windowMillis) {
+            rotate();
+        }
+
+        return current;
+    }
+
+    private synchronized void rotate() {
+        long now = System.currentTimeMillis();
+
+        if (now - windowStartedAt < windowMillis) {
+            return;
+        }
+
+        previous = current;
+        current = new BloomFilter(expectedInsertions, falsePositiveRate);
+        windowStartedAt = now;
+    }
+}
@@ -0,0 +1,10 @@
+package com.outsta.sns.common.config.security;
+
+/**
+ * Refresh Token 클레임
+ *
+ * @param memberId  회원 식별자 ID
+ * @param sessionId 로그인 세션(기기) 식별자, 세션 도입 전에 발급된 토큰이면 null
+ */
+public record RefreshTokenClaims(Long memberId, String sessionId) {
+}
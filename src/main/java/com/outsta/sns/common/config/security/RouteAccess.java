@@ -0,0 +1,16 @@
+package com.outsta.sns.common.config.security;
+
+/**
+ * 경로별 인증 요구 수준
+ */
+public enum RouteAccess {
+
+    /** 인증 불필요, 토큰 검증도 하지 않음 (로그인, 회원가입, Swagger 등) */
+    PUBLIC,
+
+    /** 인증 불필요, 토큰이 있으면 검증하여 로그인 회원으로 처리 (회원 조회 등) */
+    OPTIONAL,
+
+    /** 인증 필수 */
+    AUTHENTICATED
+}
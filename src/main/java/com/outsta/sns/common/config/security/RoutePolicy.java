@@ -0,0 +1,22 @@
+package com.outsta.sns.common.config.security;
+
+import org.springframework.http.HttpMethod;
+
+/**
+ * 경로별 인증 정책
+ * - HTTP 메서드 + 경로 패턴(PathPattern 문법)에 인증 요구 수준을 지정
+ *
+ * @param method  HTTP 메서드 (null이면 모든 메서드)
+ * @param pattern 경로 패턴 (리터럴, {변수}, *, 마지막 세그먼트의 ** 지원)
+ * @param access  인증 요구 수준
+ */
+public record RoutePolicy(HttpMethod method, String pattern, RouteAccess access) {
+
+    public static RoutePolicy publicRoute(HttpMethod method, String pattern) {
+        return new RoutePolicy(method, pattern, RouteAccess.PUBLIC);
+    }
+
+    public static RoutePolicy optionalRoute(HttpMethod method, String pattern) {
+        return new RoutePolicy(method, pattern, RouteAccess.OPTIONAL);
+    }
+}
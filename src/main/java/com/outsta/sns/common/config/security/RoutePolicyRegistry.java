@@ -0,0 +1,224 @@
+package com.outsta.sns.common.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로별 인증 정책 레지스트리
+ * - 인증 정책을 한 곳에서 선언하고 SecurityConfig, JwtFilter가 같이 사용
+ * - 시작 시 경로 세그먼트 단위 트라이로 컴파일하여 요청마다 한 번의 트라이 탐색으로 인증 요구 수준 조회
+ * - 등록되지 않은 경로는 인증 필수(AUTHENTICATED)
+ */
+@Component
+public class RoutePolicyRegistry {
+
+    /**
+     * 인증 정책 목록
+     * - PUBLIC : 로그인, 토큰 재발급, 회원가입, 중복 체크, 인증 코드, 비밀번호 초기화, 탈퇴 취소, Swagger, 헬스 체크
+     * - OPTIONAL : 회원 조회, 회원 검색, 팔로워/팔로잉 목록, 프로필 이미지 조회 (로그인 여부에 따라 응답이 달라짐)
+     */
+    static final List<RoutePolicy> ROUTES = List.of(
+            RoutePolicy.publicRoute(HttpMethod.POST, "/api/auth/login"),
+            RoutePolicy.publicRoute(HttpMethod.POST, "/api/auth/reissue"),
+
+            RoutePolicy.publicRoute(HttpMethod.POST, "/api/members"),
+            RoutePolicy.publicRoute(HttpMethod.GET, "/api/members/check-nickname"),
+            RoutePolicy.publicRoute(HttpMethod.GET, "/api/members/check-email"),
+            RoutePolicy.publicRoute(HttpMethod.POST, "/api/members/code-verification"),
+            RoutePolicy.publicRoute(HttpMethod.POST, "/api/members/code-resend"),
+            RoutePolicy.publicRoute(HttpMethod.POST, "/api/members/reset-password"),
+            RoutePolicy.publicRoute(HttpMethod.PATCH, "/api/members/me"),
+
+            RoutePolicy.optionalRoute(HttpMethod.GET, "/api/members/{memberId}"),
+            RoutePolicy.optionalRoute(HttpMethod.GET, "/api/members/search"),
+            RoutePolicy.optionalRoute(HttpMethod.GET, "/api/members/{memberId}/follower"),
+            RoutePolicy.optionalRoute(HttpMethod.GET, "/api/members/{memberId}/following"),
+            RoutePolicy.optionalRoute(HttpMethod.GET, "/api/members/{memberId}/profile-images"),
+
+            RoutePolicy.publicRoute(null, "/v3/api-docs/**"),
+            RoutePolicy.publicRoute(null, "/swagger-ui/**"),
+            RoutePolicy.publicRoute(null, "/swagger-ui.html"),
+            RoutePolicy.publicRoute(HttpMethod.GET, "/actuator/health"),
+            RoutePolicy.publicRoute(null, "/error")
+    );
+
+    private final Node root = new Node();
+
+    public RoutePolicyRegistry() {
+        this(ROUTES);
+    }
+
+    RoutePolicyRegistry(List<RoutePolicy> routes) {
+        PathPatternParser parser = new PathPatternParser();
+
+        for (RoutePolicy route : routes) {
+            PathPattern pathPattern = parser.parse(route.pattern());
+
+            register(pathPattern.getPatternString(), route);
+        }
+    }
+
+    /**
+     * 요청의 인증 요구 수준 조회
+     *
+     * @param request HTTP 요청
+     * @return 인증 요구 수준
+     */
+    public RouteAccess resolve(HttpServletRequest request) {
+        return resolve(request.getMethod(), request.getRequestURI());
+    }
+
+    /**
+     * 메서드 + 경로의 인증 요구 수준 조회
+     *
+     * @param method HTTP 메서드
+     * @param path   요청 경로
+     * @return 인증 요구 수준, 일치하는 정책이 없으면 AUTHENTICATED
+     */
+    public RouteAccess resolve(String method, String path) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return RouteAccess.AUTHENTICATED;
+        }
+
+        RouteAccess access = match(root, path, 1, method);
+
+        return access != null ? access : RouteAccess.AUTHENTICATED;
+    }
+
+    /**
+     * 트라이 탐색
+     * - 리터럴 세그먼트 > 변수 세그먼트 > ** 순으로 우선 (PathPattern 구체성 순서와 동일)
+     *
+     * @param start 현재 세그먼트 시작 위치
+     */
+    private RouteAccess match(Node node, String path, int start, String method) {
+        if (start > path.length()) {
+            RouteAccess access = node.terminal.get(method);
+
+            // /** 는 0개 세그먼트도 일치
+            return access != null ? access : node.catchAll.get(method);
+        }
+
+        int end = path.indexOf('/', start);
+
+        if (end < 0) {
+            end = path.length();
+        }
+
+        RouteAccess access = null;
+
+        if (!node.literals.isEmpty()) {
+            Node literal = node.literals.get(path.substring(start, end));
+
+            if (literal != null) {
+                access = match(literal, path, end + 1, method);
+            }
+        }
+
+        if (access == null && node.variable != null && end > start) {
+            access = match(node.variable, path, end + 1, method);
+        }
+
+        if (access == null) {
+            access = node.catchAll.get(method);
+        }
+
+        return access;
+    }
+
+    /**
+     * 정책을 트라이에 등록
+     */
+    private void register(String pattern, RoutePolicy route) {
+        String[] segments = pattern.substring(1).split("/", -1);
+        Node node = root;
+
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("** 는 마지막 세그먼트에만 사용 가능 : " + pattern);
+                }
+
+                node.catchAll.put(route);
+
+                return;
+            }
+
+            if (segment.equals("*") || isVariable(segment)) {
+                if (node.variable == null) {
+                    node.variable = new Node();
+                }
+
+                node = node.variable;
+            } else if (segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0) {
+                throw new IllegalArgumentException("지원하지 않는 경로 패턴 : " + pattern);
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+
+        node.terminal.put(route);
+    }
+
+    private static boolean isVariable(String segment) {
+        return segment.length() > 2 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}'
+                && segment.indexOf('{', 1) < 0 && segment.charAt(1) != '*';
+    }
+
+    /**
+     * 트라이 노드
+     */
+    private static class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node variable;
+        private final MethodPolicies terminal = new MethodPolicies();
+        private final MethodPolicies catchAll = new MethodPolicies();
+    }
+
+    /**
+     * HTTP 메서드별 인증 요구 수준
+     */
+    private static class MethodPolicies {
+        private final Map<String, RouteAccess> byMethod = new HashMap<>();
+        private RouteAccess anyMethod;
+
+        private void put(RoutePolicy route) {
+            if (route.method() == null) {
+                if (anyMethod != null && anyMethod != route.access()) {
+                    throw new IllegalStateException("중복된 경로 정책 : " + route);
+                }
+
+                anyMethod = route.access();
+
+                return;
+            }
+
+            RouteAccess previous = byMethod.putIfAbsent(route.method().name(), route.access());
+
+            if (previous != null && previous != route.access()) {
+                throw new IllegalStateException("중복된 경로 정책 : " + route);
+            }
+        }
+
+        private RouteAccess get(String method) {
+            if (!byMethod.isEmpty() && method != null) {
+                RouteAccess access = byMethod.get(method);
+
+                if (access != null) {
+                    return access;
+                }
+            }
+
+            return anyMethod;
+        }
+    }
+}
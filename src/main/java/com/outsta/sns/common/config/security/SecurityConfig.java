@@ -1,11 +1,16 @@
 package com.outsta.sns.common.config.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthenticatedAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.CsrfConfigurer;
@@ -15,9 +20,12 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.time.Duration;
+
 /**
  * Spring Security 설정 (개발 환경)
  */
@@ -33,12 +41,45 @@ public class SecurityConfig {
     /** CORS 설정 */
     private final CorsConfigurationSource corsConfigurationSource;
 
+    /** 경로별 인증 정책 */
+    private final RoutePolicyRegistry routePolicyRegistry;
+
     /**
      * 비밀번호 암호화에 사용할 BCrypt 인코더
+     * - strength 미설정 시 목표 해싱 시간에 맞게 시작 시 보정
+     * - 전용 스레드 풀(코어 수 크기, 제한된 대기열)에서 해싱, 최대 해싱 시간을 넘기면 취소
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${security.password.bcrypt.strength:0}") int strength,
+            @Value("${security.password.bcrypt.target-latency:100ms}") Duration targetLatency,
+            @Value("${security.password.bcrypt.max-strength:14}") int maxStrength,
+            @Value("${security.password.pool-size:0}") int poolSize,
+            @Value("${security.password.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password.timeout:5s}") Duration timeout) {
+        int bcryptStrength = strength > 0
+                ? strength
+                : BCryptWorkFactorCalibrator.calibrate(targetLatency, maxStrength);
+
+        int hashPoolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength), hashPoolSize, queueCapacity,
+                timeout, meterRegistry);
+    }
+
+    /**
+     * 경로별 인증 정책 기반 인가 처리
+     * - AUTHENTICATED 경로는 인증된 사용자만 허용, PUBLIC/OPTIONAL 경로는 모두 허용
+     */
+    private AuthorizationManager<RequestAuthorizationContext> routeAuthorizationManager() {
+        AuthenticatedAuthorizationManager<RequestAuthorizationContext> authenticated =
+                AuthenticatedAuthorizationManager.authenticated();
+
+        return (authentication, context) ->
+                routePolicyRegistry.resolve(context.getRequest()) == RouteAccess.AUTHENTICATED
+                        ? authenticated.check(authentication, context)
+                        : new AuthorizationDecision(true);
     }
 
     /**
@@ -48,20 +89,11 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
         return httpSecurity
                 .authorizeHttpRequests((auth) -> auth
-                        // Swagger 문서 경로 전체 허용
-                        .requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
-
-                        // 로그인 및 토큰 재발급 경로 전체 허용
-                        .requestMatchers(HttpMethod.POST, "/api/auth/login").permitAll()
-                        .requestMatchers(HttpMethod.POST, "/api/auth/reissue").permitAll()
-
-                        // 회원가입 및 중복체크(이메일, 닉네임) 경로 전체 허용
-                        .requestMatchers(HttpMethod.POST, "/api/members").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/members/check-email").permitAll()
-                        .requestMatchers(HttpMethod.GET, "/api/members/check-nickname").permitAll()
+                        // 에러 페이지 포워딩 허용
+                        .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
 
-                        // TODO: 추후 변경 예정
-                        .anyRequest().permitAll()
+                        // RoutePolicyRegistry 정책에 따라 인증 필수 경로만 인증 확인
+                        .anyRequest().access(routeAuthorizationManager())
                 )
                 // CORS 설정
                 .cors(cors -> cors
@@ -0,0 +1,139 @@
+package com.outsta.sns.common.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 회원별 토큰 세대(epoch) 저장소
+ * - Access Token 발급 시 현재 세대를 토큰에 기록하고, 토큰의 세대가 현재 세대보다 낮으면 폐기된 토큰으로 판단
+ * - 회원의 모든 토큰 폐기는 Redis INCR 한 번으로 처리 (토큰 수와 무관)
+ * - 현재 세대는 로컬 캐시에서 조회, 변경 시 Redis Pub/Sub으로 모든 노드의 캐시 무효화
+ * - 구독 전(cold)에는 로컬 캐시를 사용하지 않고 Redis 조회
+ */
+@Slf4j
+@Component
+public class TokenEpochStore implements MessageListener, SubscriptionListener {
+
+    /** 토큰 세대 변경 전파 채널 */
+    public static final String CHANNEL = "token-epoch";
+
+    /** 회원별 토큰 세대 키 접두사 */
+    private static final String KEY_PREFIX = "token-epoch:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /** 회원 식별자 ID -> 현재 토큰 세대 */
+    private final Cache<Long, Long> cache;
+
+    /** 구독 완료 여부 */
+    private volatile boolean warm = false;
+
+    public TokenEpochStore(RedisTemplate<String, String> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           MeterRegistry meterRegistry,
+                           @Value("${jwt.epoch-cache.maximum-size:100000}") long maximumSize,
+                           @Value("${jwt.epoch-cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.redisTemplate = redisTemplate;
+
+        // Pub/Sub 메시지 유실 대비 일정 시간 후 Redis에서 다시 조회
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtTokenEpoch");
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 회원의 현재 토큰 세대 조회
+     *
+     * @param memberId 회원 식별자 ID
+     * @return 현재 토큰 세대 (폐기 이력이 없으면 0)
+     */
+    public long currentEpoch(Long memberId) {
+        if (!warm) {
+            return loadEpoch(memberId);
+        }
+
+        return cache.get(memberId, this::loadEpoch);
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     *
+     * @param memberId   회원 식별자 ID
+     * @param tokenEpoch 토큰에 기록된 세대
+     * @return 토큰 세대가 현재 세대보다 낮으면 true
+     */
+    public boolean isRevoked(Long memberId, long tokenEpoch) {
+        return tokenEpoch < currentEpoch(memberId);
+    }
+
+    /**
+     * 회원의 모든 토큰 폐기
+     * - 세대를 올리고 모든 노드의 로컬 캐시 무효화
+     *
+     * @param memberId 회원 식별자 ID
+     * @return 변경된 토큰 세대
+     */
+    public long revokeAll(Long memberId) {
+        Long epoch = redisTemplate.opsForValue().increment(KEY_PREFIX + memberId);
+
+        cache.invalidate(memberId);
+        redisTemplate.convertAndSend(CHANNEL, String.valueOf(memberId));
+
+        return epoch != null ? epoch : 0L;
+    }
+
+    /**
+     * 다른 노드에서 전파된 세대 변경 반영
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            cache.invalidate(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (NumberFormatException e) {
+            log.error("토큰 세대 변경 메시지 형식 오류");
+        }
+    }
+
+    /**
+     * 채널 구독(재구독 포함) 완료 시 구독 전에 적재된 캐시를 비우고 로컬 캐시 사용
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        cache.invalidateAll();
+        warm = true;
+    }
+
+    /**
+     * 채널 구독 해제 시 다시 구독될 때까지 Redis 조회
+     */
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        warm = false;
+    }
+
+    private long loadEpoch(Long memberId) {
+        String epoch = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+
+        return epoch != null ? Long.parseLong(epoch) : 0L;
+    }
+}
@@ -0,0 +1,21 @@
+package com.outsta.sns.common.config.security;
+
+/**
+ * 서명 검증이 끝난 Access Token 정보
+ * - 검증된 토큰 캐시에 저장되는 값
+ *
+ * @param payload   토큰에 담긴 사용자 정보
+ * @param expiresAt 토큰 만료 시각 (epoch millis)
+ */
+public record VerifiedToken(JwtPayload payload, long expiresAt) {
+
+    /**
+     * 현재 시각 기준 만료 여부
+     *
+     * @param now 현재 시각 (epoch millis)
+     * @return 만료됐으면 true, 아니면 false
+     */
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -0,0 +1,99 @@
+package com.outsta.sns.common.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 Access Token 로컬 캐시
+ * - 토큰 해시를 키로 검증 결과(JwtPayload, 만료 시각)를 보관
+ * - 각 엔트리는 토큰의 exp 시각에 만료
+ * - 최대 엔트리 수를 넘으면 오래 쓰이지 않은 토큰부터 제거
+ */
+@Component
+public class VerifiedTokenCache {
+
+    /** 메트릭에 노출되는 캐시 이름 */
+    private static final String CACHE_NAME = "jwtVerifiedToken";
+
+    private final JwtProvider jwtProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    /**
+     * @param jwtProvider   캐시 미스 시 토큰을 검증할 JwtProvider
+     * @param maximumSize   최대 캐시 엔트리 수
+     * @param meterRegistry 히트/미스 메트릭을 등록할 MeterRegistry
+     */
+    public VerifiedTokenCache(JwtProvider jwtProvider,
+                              @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                              MeterRegistry meterRegistry) {
+        this.jwtProvider = jwtProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 검증된 토큰 조회
+     * - 캐시에 없으면 서명 검증 후 저장
+     * - 유효하지 않거나 만료된 토큰은 저장하지 않고 CustomException 발생
+     *
+     * @param tokenHash   SHA-256 해시 처리된 토큰
+     * @param accessToken JWT Access Token
+     * @return 검증된 토큰 정보
+     */
+    public VerifiedToken get(String tokenHash, String accessToken) {
+        VerifiedToken verifiedToken = cache.get(tokenHash, key -> jwtProvider.verifyAccessToken(accessToken));
+
+        // 만료 처리 직전에 조회된 경우 다시 검증하여 만료 예외 발생
+        if (verifiedToken.isExpired(System.currentTimeMillis())) {
+            cache.invalidate(tokenHash);
+
+            return jwtProvider.verifyAccessToken(accessToken);
+        }
+
+        return verifiedToken;
+    }
+
+    /**
+     * 토큰 캐시 제거
+     *
+     * @param tokenHash SHA-256 해시 처리된 토큰
+     */
+    public void invalidate(String tokenHash) {
+        cache.invalidate(tokenHash);
+    }
+
+    /**
+     * 토큰의 exp 시각에 맞춰 엔트리를 만료시키는 정책
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainMillis = value.expiresAt() - System.currentTimeMillis();
+
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -14,6 +14,9 @@ public enum ErrorCode {
     /** 잘못된 요청 : 400 반환 */
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
 
+    /** 유효하지 않은 페이지 커서 : 400 반환 */
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+
     /** 잘못된 인증번호 : 401 반환 */
     INVALID_CODE(HttpStatus.UNAUTHORIZED, "이메일 혹은 인증번호가 틀렸습니다."),
 
@@ -65,6 +68,12 @@ public enum ErrorCode {
     /** 이미 인증된 회원 : 409 반환 */
     ALREADY_AUTHENTICATED_MEMBER(HttpStatus.CONFLICT, "이미 인증된 회원입니다."),
 
+    /** 요청 처리량 초과 : 429 반환 */
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    /** 필수 조회 제한 시간 초과 : 503 반환 */
+    LOOKUP_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+
     /** 토큰 생성 중 내부 오류 : 500 반환 */
     MISSING_JWT_PAYLOAD(HttpStatus.INTERNAL_SERVER_ERROR, "토큰 생성 중 오류가 발생하였습니다."),
 
@@ -0,0 +1,123 @@
+package com.outsta.sns.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom Filter
+ * - "확실히 없음" 또는 "있을 수도 있음"만 판단 (False Negative 없음)
+ * - 여러 스레드에서 동시에 추가/조회 가능
+ */
+public class BloomFilter {
+
+    /** 비트 배열 */
+    private final AtomicLongArray bits;
+
+    /** 전체 비트 수 */
+    private final long bitSize;
+
+    /** 해시 함수 개수 */
+    private final int hashCount;
+
+    /**
+     * 예상 원소 수와 허용 오탐률로 Bloom Filter 생성
+     *
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate  허용 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            expectedInsertions = 1;
+        }
+
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다.");
+        }
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) >>> 6);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words << 6;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 원소 추가
+     *
+     * @param value 추가할 문자열
+     */
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+
+            long current;
+            do {
+                current = bits.get(word);
+
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 원소 포함 가능성 조회
+     *
+     * @param value 조회할 문자열
+     * @return 있을 수도 있으면 true, 확실히 없으면 false
+     */
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * 전체 비트 수
+     */
+    public long bitSize() {
+        return bitSize;
+    }
+
+    /**
+     * 문자열 64비트 해시 (FNV-1a + 비트 믹싱)
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        return mix(hash);
+    }
+
+    /**
+     * MurmurHash3 fmix64 비트 믹싱
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
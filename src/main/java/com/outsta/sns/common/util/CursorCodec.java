@@ -0,0 +1,52 @@
+package com.outsta.sns.common.util;
+
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지 커서 변환
+ * - 마지막으로 조회한 행의 식별자 ID를 Base64(URL-safe) 문자열로 변환 (클라이언트는 내용을 해석하지 않고 그대로 전달)
+ */
+public final class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 식별자 ID -> 커서
+     */
+    public static String encode(long id) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(id).array());
+    }
+
+    /**
+     * 커서 -> 식별자 ID
+     *
+     * @param cursor 커서 (없으면 첫 페이지)
+     * @return 식별자 ID, 커서가 없으면 null
+     * @throws CustomException 형식이 잘못된 커서면 INVALID_CURSOR
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+
+            if (bytes.length != Long.BYTES) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.outsta.sns.common.util;
+
+/**
+ * long 전용 해시 집합 (개방 주소법, 선형 탐사)
+ * - 원소를 long[] 에 그대로 저장하여 박싱(Long)과 노드 객체가 없음 (원소당 8 ~ 16바이트)
+ * - 0 은 빈 칸 표시로 사용하므로 저장할 수 없음
+ * - 원소 수가 용량의 절반을 넘으면 2배로 확장, 삭제 시 뒤따르는 원소를 당겨 채움 (삭제 표시 없음)
+ * - 스레드 안전하지 않음 (호출하는 쪽에서 동기화)
+ */
+public class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] table;
+    private int size;
+
+    public LongHashSet() {
+        this(MIN_CAPACITY / 2);
+    }
+
+    /**
+     * @param expectedSize 예상 원소 수 (확장 없이 저장할 수 있는 크기로 생성)
+     */
+    public LongHashSet(int expectedSize) {
+        this.table = new long[capacityFor(expectedSize)];
+    }
+
+    /**
+     * 원소 추가
+     *
+     * @param value 추가할 값 (0 제외)
+     * @return 새로 추가했으면 true, 이미 있으면 false
+     */
+    public boolean add(long value) {
+        checkValue(value);
+
+        int mask = table.length - 1;
+
+        for (int slot = index(value, mask); ; slot = (slot + 1) & mask) {
+            long current = table[slot];
+
+            if (current == value) {
+                return false;
+            }
+
+            if (current == 0) {
+                table[slot] = value;
+
+                if (++size > table.length >>> 1) {
+                    resize(table.length << 1);
+                }
+
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 원소 포함 여부
+     */
+    public boolean contains(long value) {
+        if (value == 0) {
+            return false;
+        }
+
+        int mask = table.length - 1;
+
+        for (int slot = index(value, mask); ; slot = (slot + 1) & mask) {
+            long current = table[slot];
+
+            if (current == value) {
+                return true;
+            }
+
+            if (current == 0) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 원소 삭제
+     *
+     * @return 삭제했으면 true, 없었으면 false
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            return false;
+        }
+
+        int mask = table.length - 1;
+        int slot = index(value, mask);
+
+        while (table[slot] != value) {
+            if (table[slot] == 0) {
+                return false;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        // 삭제한 칸 뒤의 원소 중 원래 자리가 빈 칸보다 앞(순환 기준)인 원소를 당겨 채움
+        int gap = slot;
+
+        for (int next = (gap + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+            int home = index(table[next], mask);
+
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                table[gap] = table[next];
+                gap = next;
+            }
+        }
+
+        table[gap] = 0;
+        size--;
+
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 테이블이 차지하는 메모리 (바이트)
+     */
+    public long memoryBytes() {
+        return (long) table.length * Long.BYTES;
+    }
+
+    /**
+     * 원소 수에 필요한 테이블 메모리 (바이트)
+     */
+    public static long memoryBytesFor(long expectedSize) {
+        return (long) capacityFor((int) Math.min(expectedSize, 1 << 29)) * Long.BYTES;
+    }
+
+    private void resize(int capacity) {
+        long[] previous = table;
+        int mask = capacity - 1;
+
+        table = new long[capacity];
+
+        for (long value : previous) {
+            if (value != 0) {
+                int slot = index(value, mask);
+
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+
+                table[slot] = value;
+            }
+        }
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+
+        while (capacity >>> 1 < expectedSize) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+
+    /**
+     * 비트를 고르게 섞은 뒤 테이블 크기로 자름 (연속된 ID 가 한 구간에 몰리지 않도록)
+     */
+    private static int index(long value, int mask) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static void checkValue(long value) {
+        if (value == 0) {
+            throw new IllegalArgumentException("0은 저장할 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.outsta.sns.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크기가 늘어나는 문자열용 Bloom Filter (Scalable Bloom Filter)
+ * - 원소 수를 미리 알 수 없을 때 사용 : 마지막 단계가 가득 차면 2배 크기, 절반 오탐률의 단계를 새로 추가
+ * - 조회는 모든 단계 중 하나라도 "있을 수도 있음"이면 true (False Negative 없음)
+ * - 전체 오탐률은 첫 단계 오탐률의 2배 이하이므로 첫 단계는 허용 오탐률의 절반으로 생성
+ * - 여러 스레드에서 동시에 추가/조회 가능 (단계 추가만 동기화)
+ */
+public class ScalableBloomFilter {
+
+    /** 단계마다 늘리는 크기 배수 */
+    private static final int GROWTH = 2;
+
+    /** 단계마다 줄이는 오탐률 비율 */
+    private static final double TIGHTENING = 0.5;
+
+    /** 단계별 필터 (추가 시 배열 교체) */
+    private volatile Stage[] stages;
+
+    /**
+     * @param initialCapacity   첫 단계의 예상 원소 수
+     * @param falsePositiveRate 전체 허용 오탐률 (0 ~ 1)
+     */
+    public ScalableBloomFilter(long initialCapacity, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate는 0과 1 사이여야 합니다.");
+        }
+
+        this.stages = new Stage[]{new Stage(Math.max(1, initialCapacity), falsePositiveRate * (1 - TIGHTENING))};
+    }
+
+    /**
+     * 원소 추가
+     * - 이미 있을 수도 있는 원소는 다시 추가하지 않음 (중복으로 단계가 늘어나지 않도록)
+     *
+     * @param value 추가할 문자열
+     */
+    public void put(String value) {
+        if (mightContain(value)) {
+            return;
+        }
+
+        Stage last = last();
+
+        last.filter.put(value);
+
+        if (last.count.incrementAndGet() >= last.capacity) {
+            grow(last);
+        }
+    }
+
+    /**
+     * 원소 포함 가능성 조회
+     *
+     * @param value 조회할 문자열
+     * @return 있을 수도 있으면 true, 확실히 없으면 false
+     */
+    public boolean mightContain(String value) {
+        Stage[] current = stages;
+
+        for (int i = current.length - 1; i >= 0; i--) {
+            if (current[i].filter.mightContain(value)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * 단계 수
+     */
+    public int stageCount() {
+        return stages.length;
+    }
+
+    /**
+     * 추가된 원소 수 (근사값, 동시에 추가된 같은 원소는 중복 집계될 수 있음)
+     */
+    public long size() {
+        long size = 0;
+
+        for (Stage stage : stages) {
+            size += stage.count.get();
+        }
+
+        return size;
+    }
+
+    /**
+     * 전체 비트 수
+     */
+    public long bitSize() {
+        long bitSize = 0;
+
+        for (Stage stage : stages) {
+            bitSize += stage.filter.bitSize();
+        }
+
+        return bitSize;
+    }
+
+    private Stage last() {
+        Stage[] current = stages;
+
+        return current[current.length - 1];
+    }
+
+    /**
+     * 마지막 단계가 가득 찼으면 다음 단계 추가 (다른 스레드가 먼저 추가했으면 무시)
+     */
+    private synchronized void grow(Stage full) {
+        Stage[] current = stages;
+
+        if (current[current.length - 1] != full) {
+            return;
+        }
+
+        Stage[] next = new Stage[current.length + 1];
+
+        System.arraycopy(current, 0, next, 0, current.length);
+        next[current.length] = new Stage(full.capacity * GROWTH, full.falsePositiveRate * TIGHTENING);
+        stages = next;
+    }
+
+    private static final class Stage {
+
+        private final BloomFilter filter;
+        private final long capacity;
+        private final double falsePositiveRate;
+        private final AtomicLong count = new AtomicLong();
+
+        private Stage(long capacity, double falsePositiveRate) {
+            this.filter = new BloomFilter(capacity, falsePositiveRate);
+            this.capacity = capacity;
+            this.falsePositiveRate = falsePositiveRate;
+        }
+    }
+}
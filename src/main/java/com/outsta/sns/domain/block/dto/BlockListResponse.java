@@ -6,14 +6,37 @@ import java.util.List;
 
 /**
  * 차단 목록 Response DTO
- * - 회원 식별자 ID, 회원 닉네임
+ * - 회원 식별자 ID, 회원 닉네임, 로그인한 회원과의 관계 (내가 팔로우 / 나를 팔로우 / 내가 차단)
  */
 @Schema(description = "차단 목록 Response DTO")
 public record BlockListResponse(
         @Schema(description = "차단 목록") List<BlockMemberDto> blockedList
 ) {
+    /**
+     * @param followedByMe 로그인한 회원이 팔로우하는지 여부
+     * @param followsMe    로그인한 회원을 팔로우하는지 여부
+     * @param blockedByMe  로그인한 회원이 차단했는지 여부
+     */
     public record BlockMemberDto(
             @Schema(description = "회원 ID") Long memberId,
-            @Schema(description = "닉네임") String nickname) {
+            @Schema(description = "닉네임") String nickname,
+            @Schema(description = "내가 팔로우하는지 여부") boolean followedByMe,
+            @Schema(description = "나를 팔로우하는지 여부") boolean followsMe,
+            @Schema(description = "내가 차단했는지 여부") boolean blockedByMe) {
+
+        /**
+         * 관계 조회 전 (관계 여부는 모두 false)
+         */
+        public BlockMemberDto(Long memberId, String nickname) {
+            this(memberId, nickname, false, false, false);
+        }
+
+        /**
+         * 로그인한 회원과의 관계 반영
+         */
+        public BlockMemberDto withRelation(ViewerRelationDto relation) {
+            return new BlockMemberDto(memberId, nickname,
+                    relation.isFollowedByMe(memberId), relation.isFollowsMe(memberId), relation.isBlockedByMe(memberId));
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.outsta.sns.domain.block.dto;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 회원과 어느 쪽이든 차단 관계인 회원 집합 (내가 차단한 회원 ∪ 나를 차단한 회원)
+ * - 캐시 값, 회원 식별자 ID 를 중복 없이 오름차순 정렬한 long[] 로 저장하여 이진 탐색으로 조회
+ * - 배열은 생성 후 변경하지 않음 (캐시에서 여러 요청이 공유)
+ *
+ * @param memberIds 차단 관계인 회원 식별자 ID (오름차순, 중복 없음)
+ */
+public record BlockSetDto(long[] memberIds) {
+
+    public static final BlockSetDto EMPTY = new BlockSetDto(new long[0]);
+
+    /**
+     * 회원 식별자 ID 목록으로 생성 (정렬, 중복 제거)
+     */
+    public static BlockSetDto of(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] sorted = memberIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+
+        return new BlockSetDto(sorted);
+    }
+
+    /**
+     * 차단 관계 여부 (이진 탐색)
+     */
+    public boolean contains(long memberId) {
+        return Arrays.binarySearch(memberIds, memberId) >= 0;
+    }
+
+    public int size() {
+        return memberIds.length;
+    }
+}
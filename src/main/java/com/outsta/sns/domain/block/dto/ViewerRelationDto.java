@@ -0,0 +1,28 @@
+package com.outsta.sns.domain.block.dto;
+
+import java.util.Set;
+
+/**
+ * 로그인한 회원과 목록에 나온 회원들의 관계
+ * - 목록 한 페이지의 회원 식별자 ID 로 관계마다 IN 쿼리 한 번씩 조회한 결과
+ *
+ * @param followingIds 로그인한 회원이 팔로우하는 회원 식별자 ID
+ * @param followerIds  로그인한 회원을 팔로우하는 회원 식별자 ID
+ * @param blockedIds   로그인한 회원이 차단한 회원 식별자 ID
+ */
+public record ViewerRelationDto(Set<Long> followingIds, Set<Long> followerIds, Set<Long> blockedIds) {
+
+    public static final ViewerRelationDto EMPTY = new ViewerRelationDto(Set.of(), Set.of(), Set.of());
+
+    public boolean isFollowedByMe(Long memberId) {
+        return followingIds.contains(memberId);
+    }
+
+    public boolean isFollowsMe(Long memberId) {
+        return followerIds.contains(memberId);
+    }
+
+    public boolean isBlockedByMe(Long memberId) {
+        return blockedIds.contains(memberId);
+    }
+}
@@ -2,12 +2,16 @@ package com.outsta.sns.domain.block.repository;
 
 import com.outsta.sns.domain.block.dto.BlockListResponse;
 import com.outsta.sns.domain.block.entity.QBlock;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * 차단 엔티티 조회용 커스텀 쿼리
@@ -55,20 +59,67 @@ public class BlockQueryRepository {
     }
 
     /**
-     * 자신과 회원이 차단했는지 여부 체크
-     * - 자신이 회원을 차단했던지 회원이 자신을 차단했던지 체크
-     * @param loginId  로그인한 회원의 식별자 ID
-     * @param memberId 차단 여부를 판단할 회원의 식별자 ID
-     * @return 한쪽이라도 차단했으면 true, 아니면 false 반환
+     * 회원 목록 중 로그인한 회원이 차단한 회원 조회 (IN 쿼리 한 번)
+     *
+     * @param loginId   로그인한 회원의 식별자 ID
+     * @param memberIds 확인할 회원 식별자 ID 목록
+     * @return 로그인한 회원이 차단한 회원 식별자 ID
      */
-    public boolean existsBlockWhoever(Long loginId, Long memberId) {
-        return queryFactory
-                .selectOne()
+    public Set<Long> findBlockedIdsIn(Long loginId, Collection<Long> memberIds) {
+        return new HashSet<>(queryFactory
+                .select(block.blocked.id)
                 .from(block)
                 .where(
-                        block.blocker.id.eq(loginId).and(block.blocked.id.eq(memberId))
-                                .or(block.blocker.id.eq(memberId).and(block.blocked.id.eq(loginId)))
+                        block.blocker.id.eq(loginId),
+                        block.blocked.id.in(memberIds)
                 )
-                .fetchFirst() != null;
+                .fetch());
+    }
+
+    /**
+     * 회원 목록 중 로그인한 회원과 어느 쪽이든 차단 관계인 회원 조회 (IN 쿼리 한 번)
+     *
+     * @param loginId   로그인한 회원의 식별자 ID
+     * @param memberIds 확인할 회원 식별자 ID 목록
+     * @return 로그인한 회원이 차단했거나 로그인한 회원을 차단한 회원 식별자 ID
+     */
+    public Set<Long> findBlockedWhoeverIdsIn(Long loginId, Collection<Long> memberIds) {
+        Set<Long> blockedIds = new HashSet<>();
+
+        for (Tuple row : queryFactory
+                .select(block.blocker.id, block.blocked.id)
+                .from(block)
+                .where(
+                        block.blocker.id.eq(loginId).and(block.blocked.id.in(memberIds))
+                                .or(block.blocked.id.eq(loginId).and(block.blocker.id.in(memberIds)))
+                )
+                .fetch()) {
+            Long blockerId = row.get(block.blocker.id);
+
+            blockedIds.add(loginId.equals(blockerId) ? row.get(block.blocked.id) : blockerId);
+        }
+
+        return blockedIds;
+    }
+
+    /**
+     * 회원과 어느 쪽이든 차단 관계인 회원 전체 조회
+     *
+     * @param memberId 회원 식별자 ID
+     * @return 회원이 차단했거나 회원을 차단한 회원 식별자 ID (중복 가능)
+     */
+    public List<Long> findBlockedWhoeverIds(Long memberId) {
+        return queryFactory
+                .select(block.blocker.id, block.blocked.id)
+                .from(block)
+                .where(block.blocker.id.eq(memberId).or(block.blocked.id.eq(memberId)))
+                .fetch()
+                .stream()
+                .map(row -> {
+                    Long blockerId = row.get(block.blocker.id);
+
+                    return memberId.equals(blockerId) ? row.get(block.blocked.id) : blockerId;
+                })
+                .toList();
     }
 }
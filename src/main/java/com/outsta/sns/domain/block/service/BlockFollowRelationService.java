@@ -1,10 +1,17 @@
 package com.outsta.sns.domain.block.service;
 
+import com.outsta.sns.domain.block.dto.ViewerRelationDto;
 import com.outsta.sns.domain.block.repository.BlockQueryRepository;
+import com.outsta.sns.domain.follow.repository.FollowQueryRepository;
 import com.outsta.sns.domain.follow.repository.FollowRepository;
+import com.outsta.sns.domain.follow.service.FollowCountStore;
+import com.outsta.sns.domain.member.access.SocialGraphIndex;
+import com.outsta.sns.domain.member.service.MemberStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+
 /**
  * 차단과 팔로우의 연관된 공통 로직 서비스
  */
@@ -13,27 +20,65 @@ import org.springframework.stereotype.Service;
 public class BlockFollowRelationService {
 
     private final FollowRepository followRepository;
+    private final FollowQueryRepository followQueryRepository;
     private final BlockQueryRepository blockQueryRepository;
+    private final FollowCountStore followCountStore;
+    private final MemberStatsService memberStatsService;
+    private final SocialGraphIndex socialGraphIndex;
+    private final BlockSetCache blockSetCache;
 
     /**
      * 어느 한쪽이 차단했는지 여부
+     * - 관계 인덱스(SocialGraphIndex)에서 조회, 준비되지 않았으면 로그인한 회원의 차단 관계 집합(BlockSetCache)에서 조회
      *
      * @param loginId  로그인한 사용자의 식별자 ID
      * @param memberId 확인하려는 대상의 식별자 ID
      * @return 어느 한쪽이라도 차단했으면 true, 아니면 false
      */
     public boolean isBlockedWhoever(Long loginId, Long memberId) {
-        return blockQueryRepository.existsBlockWhoever(loginId, memberId);
+        return socialGraphIndex.isBlockedWhoever(loginId, memberId,
+                () -> blockSetCache.isBlockedWhoever(loginId, memberId));
+    }
+
+    /**
+     * 로그인한 회원과 목록 회원들의 관계 조회
+     * - 관계(내가 팔로우 / 나를 팔로우 / 내가 차단)마다 IN 쿼리 한 번씩, 목록 크기와 관계없이 쿼리 3번
+     *
+     * @param loginId   로그인한 사용자의 식별자 ID
+     * @param memberIds 목록 한 페이지의 회원 식별자 ID
+     * @return 관계별 회원 식별자 ID (목록이 비어 있으면 조회하지 않음)
+     */
+    public ViewerRelationDto getViewerRelation(Long loginId, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return ViewerRelationDto.EMPTY;
+        }
+
+        return new ViewerRelationDto(
+                followQueryRepository.findFollowingIdsIn(loginId, memberIds),
+                followQueryRepository.findFollowerIdsIn(loginId, memberIds),
+                blockQueryRepository.findBlockedIdsIn(loginId, memberIds)
+        );
     }
 
     /**
      * 팔로우나 팔로잉되어있으면 삭제
+     * - 삭제된 방향만 회원 통계와 Redis의 팔로워 / 팔로잉 수 감소, 관계 인덱스에서 삭제
      *
      * @param loginId  로그인한 사용자의 식별자 ID
      * @param memberId 팔로우나 팔로잉에서 삭제하려는 대상의 식별자 ID
      */
     public void deleteFollowRelation(Long loginId, Long memberId) {
-        followRepository.deleteFollow(loginId, memberId);
+        if (followRepository.deleteFollow(loginId, memberId) > 0) {
+            memberStatsService.followRemoved(loginId, memberId);
+            followCountStore.followRemoved(loginId, memberId);
+            socialGraphIndex.followRemoved(loginId, memberId);
+        }
+
+        if (followRepository.deleteFollow(memberId, loginId) > 0) {
+            memberStatsService.followRemoved(memberId, loginId);
+            followCountStore.followRemoved(memberId, loginId);
+            socialGraphIndex.followRemoved(memberId, loginId);
+        }
     }
 
 }
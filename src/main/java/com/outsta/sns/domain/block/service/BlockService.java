@@ -3,9 +3,11 @@ package com.outsta.sns.domain.block.service;
 import com.outsta.sns.common.error.CustomException;
 import com.outsta.sns.common.error.ErrorCode;
 import com.outsta.sns.domain.block.dto.BlockListResponse;
+import com.outsta.sns.domain.block.dto.ViewerRelationDto;
 import com.outsta.sns.domain.block.entity.Block;
 import com.outsta.sns.domain.block.repository.BlockQueryRepository;
 import com.outsta.sns.domain.block.repository.BlockRepository;
+import com.outsta.sns.domain.member.access.SocialGraphIndex;
 import com.outsta.sns.domain.member.entity.Member;
 import com.outsta.sns.domain.member.service.MemberUtilService;
 import lombok.RequiredArgsConstructor;
@@ -27,10 +29,13 @@ public class BlockService {
     private final BlockQueryRepository blockQueryRepository;
     private final MemberUtilService memberUtilService;
     private final BlockFollowRelationService blockFollowRelationService;
+    private final SocialGraphIndex socialGraphIndex;
+    private final BlockSetCache blockSetCache;
 
     /**
      * 회원 차단
      * - 팔로우 되어있으면 팔로우 삭제
+     * - 양쪽 회원의 차단 관계 집합 캐시 삭제
      *
      * @param loginId  현재 로그인한 회원의 식별자 ID
      * @param memberId 차단하려는 회원의 식별자 ID
@@ -57,10 +62,13 @@ public class BlockService {
                 .build();
 
         blockRepository.save(block);
+        socialGraphIndex.blockAdded(loginId, memberId);
+        blockSetCache.blockChanged(loginId, memberId);
     }
 
     /**
      * 회원 차단 취소
+     * - 양쪽 회원의 차단 관계 집합 캐시 삭제
      * @param loginId  현재 로그인한 회원의 식별자 ID
      * @param memberId 차단 취소 하려는 회원의 식별자 ID
      * @throws CustomException 회원이 없거나, 자기 자신을 차단 취소하려고 하는 경우, 차단하지 않은 경우에 발생
@@ -75,18 +83,23 @@ public class BlockService {
                 .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
 
         blockRepository.delete(block);
+        socialGraphIndex.blockRemoved(loginId, memberId);
+        blockSetCache.blockChanged(loginId, memberId);
     }
 
     /**
      * 차단 목록 조회
+     * - 나와의 관계는 목록 전체를 관계별 IN 쿼리 한 번씩으로 조회
      * @param loginId 현재 로그인한 회원의 식별자 ID
-     * @return BlockListResponse 차단 목록 (회원 식별자 ID, 닉네임)
+     * @return BlockListResponse 차단 목록 (회원 식별자 ID, 닉네임, 나와의 관계)
      */
     @Transactional(readOnly = true)
     public BlockListResponse getBlockList(Long loginId) {
         List<BlockListResponse.BlockMemberDto> blockedMemberList =
                 blockQueryRepository.getBlockedMemberList(loginId);
+        ViewerRelationDto relation = blockFollowRelationService.getViewerRelation(loginId,
+                blockedMemberList.stream().map(BlockListResponse.BlockMemberDto::memberId).toList());
 
-        return new BlockListResponse(blockedMemberList);
+        return new BlockListResponse(blockedMemberList.stream().map(member -> member.withRelation(relation)).toList());
     }
 }
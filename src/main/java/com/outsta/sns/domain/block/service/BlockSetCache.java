@@ -0,0 +1,105 @@
+package com.outsta.sns.domain.block.service;
+
+import com.outsta.sns.domain.block.dto.BlockSetDto;
+import com.outsta.sns.domain.block.repository.BlockQueryRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원별 차단 관계 집합 캐시 (blockSet)
+ * - 회원과 어느 쪽이든 차단 관계인 회원 식별자 ID 를 정렬된 long[] 로 L1 + Redis(L2) 에 저장 (바이너리 코덱)
+ * - 차단 여부는 한쪽 회원의 집합에서 이진 탐색 (OR 조건 쿼리 없음)
+ * - 차단 / 차단 해제 시 양쪽 회원의 집합 삭제 : 즉시 한 번, 커밋 후 한 번
+ *   (커밋 전에 다른 요청이 이전 상태로 다시 적재한 값 제거)
+ * - 적중률은 캐시 공통 지표(cache.gets{cache=blockSet, tier=l1|l2}), 집합 크기 분포는 block.set.size
+ */
+@Component
+public class BlockSetCache {
+
+    /** 캐시 이름 */
+    public static final String CACHE_NAME = "blockSet";
+
+    private final BlockQueryRepository blockQueryRepository;
+    private final CacheManager cacheManager;
+    private final DistributionSummary sizeSummary;
+
+    public BlockSetCache(BlockQueryRepository blockQueryRepository,
+                         CacheManager cacheManager,
+                         MeterRegistry meterRegistry) {
+        this.blockQueryRepository = blockQueryRepository;
+        this.cacheManager = cacheManager;
+        this.sizeSummary = DistributionSummary.builder("block.set.size")
+                .description("DB 에서 적재한 회원별 차단 관계 회원 수")
+                .publishPercentiles(0.5, 0.9, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 차단 관계 집합 조회 (캐시 미스 시 키별로 한 번만 적재)
+     *
+     * @param memberId 회원 식별자 ID
+     * @return 회원이 차단했거나 회원을 차단한 회원 집합
+     */
+    public BlockSetDto get(Long memberId) {
+        return cache().get(memberId, () -> load(memberId));
+    }
+
+    /**
+     * 어느 한쪽이라도 차단했는지 여부
+     *
+     * @param loginId  로그인한 회원 식별자 ID
+     * @param memberId 확인하려는 회원 식별자 ID
+     */
+    public boolean isBlockedWhoever(Long loginId, Long memberId) {
+        return get(loginId).contains(memberId);
+    }
+
+    /**
+     * 차단 / 차단 해제 반영 (양쪽 회원의 집합 삭제)
+     *
+     * @param blockerId 차단한 회원 식별자 ID
+     * @param blockedId 차단 당한 회원 식별자 ID
+     */
+    public void blockChanged(Long blockerId, Long blockedId) {
+        evict(blockerId, blockedId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(blockerId, blockedId);
+                }
+            });
+        }
+    }
+
+    private BlockSetDto load(Long memberId) {
+        BlockSetDto blockSet = BlockSetDto.of(blockQueryRepository.findBlockedWhoeverIds(memberId));
+
+        sizeSummary.record(blockSet.size());
+
+        return blockSet;
+    }
+
+    private void evict(Long blockerId, Long blockedId) {
+        Cache cache = cache();
+
+        cache.evict(blockerId);
+        cache.evict(blockedId);
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+
+        if (cache == null) {
+            throw new IllegalStateException("캐시 없음 : " + CACHE_NAME);
+        }
+
+        return cache;
+    }
+}
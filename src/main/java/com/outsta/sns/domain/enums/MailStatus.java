@@ -0,0 +1,23 @@
+package com.outsta.sns.domain.enums;
+
+public enum MailStatus implements EnumUtil {
+    PENDING("발송 대기"),
+    FAILED("발송 실패"),
+    ;
+
+    private final String value;
+
+    MailStatus(String value) {
+        this.value = value;
+    }
+
+    @Override
+    public String getCode() {
+        return name();
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+}
@@ -87,15 +87,18 @@ public class FollowController {
      * 팔로워 목록 조회
      * - 자신의 팔로워 목록
      * - 회원의 팔로워 목록
+     * - 최근 팔로우 순 커서 페이징
      *
      * @param memberId    팔로워 목록을 조회하려고 하는 회원의 식별자 ID
+     * @param cursor      이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size        페이지 크기
      * @param userDetails 현재 로그인한(인증된) 회원 객체 (사용자 식별자 ID, 이메일, Role)
      * @return 자신 혹은 다른 사람의 팔로워 목록
      */
     @Operation(summary = "팔로워 목록 조회", description = "팔로워 목록을 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "팔로워 목록 조회 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청(유효하지 않은 경로 변수)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청(유효하지 않은 경로 변수, 커서)"),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음(차단, 팔로워 전용, 비공개 등)"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 회원"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
@@ -105,14 +108,20 @@ public class FollowController {
             @Parameter(description = "회원 식별자 ID", example = "1")
             @PathVariable("memberId") Long memberId,
 
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지면 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (생략 시 기본 20, 최대 100)", example = "20")
+            @RequestParam(value = "size", required = false) Integer size,
+
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long loginId = (userDetails != null) ? userDetails.id() : null;
         boolean isMe = loginId != null && loginId.equals(memberId);
 
         FollowerListResponse followerListResponse = isMe
-                ? followService.getMyFollowerList(loginId)
-                : followService.getFollowerList(loginId, memberId);
+                ? followService.getMyFollowerList(loginId, cursor, size)
+                : followService.getFollowerList(loginId, memberId, cursor, size);
 
         return ResponseEntity.ok(SuccessResponse.of(followerListResponse));
     }
@@ -121,15 +130,18 @@ public class FollowController {
      * 팔로잉 목록 조회
      * - 자신의 팔로잉 목록
      * - 회원의 팔로잉 목록
+     * - 최근 팔로우 순 커서 페이징
      *
      * @param memberId    팔로잉 목록을 조회하려고 하는 회원의 식별자 ID
+     * @param cursor      이전 페이지 응답의 nextCursor (첫 페이지면 null)
+     * @param size        페이지 크기
      * @param userDetails 현재 로그인한(인증된) 회원 객체 (사용자 식별자 ID, 이메일, Role)
      * @return 자신 혹은 다른 사람의 팔로워 목록
      */
     @Operation(summary = "팔로잉 목록 조회", description = "팔로잉 목록을 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "팔로잉 목록 조회 성공"),
-            @ApiResponse(responseCode = "400", description = "잘못된 요청(유효하지 않은 경로 변수)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청(유효하지 않은 경로 변수, 커서)"),
             @ApiResponse(responseCode = "403", description = "접근 권한 없음(차단, 팔로워 전용, 비공개 등)"),
             @ApiResponse(responseCode = "404", description = "존재하지 않는 회원"),
             @ApiResponse(responseCode = "500", description = "서버 내부 오류")
@@ -139,14 +151,20 @@ public class FollowController {
             @Parameter(description = "회원 식별자 ID", example = "1")
             @PathVariable("memberId") Long memberId,
 
+            @Parameter(description = "이전 페이지 응답의 nextCursor (첫 페이지면 생략)")
+            @RequestParam(value = "cursor", required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (생략 시 기본 20, 최대 100)", example = "20")
+            @RequestParam(value = "size", required = false) Integer size,
+
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
         Long loginId = (userDetails != null) ? userDetails.id() : null;
         boolean isMe = loginId != null && loginId.equals(memberId);
 
         FollowingListResponse followingListResponse = isMe
-                ? followService.getMyFollowingList(loginId)
-                : followService.getFollowingList(loginId, memberId);
+                ? followService.getMyFollowingList(loginId, cursor, size)
+                : followService.getFollowingList(loginId, memberId, cursor, size);
 
         return ResponseEntity.ok(SuccessResponse.of(followingListResponse));
     }
@@ -0,0 +1,14 @@
+package com.outsta.sns.domain.follow.dto;
+
+/**
+ * 팔로워 / 팔로잉 수 DTO
+ * - 내부 로직용 DTO
+ */
+public record FollowCountDto(
+        /** 팔로워 수 */
+        long followerCount,
+
+        /** 팔로잉 수 */
+        long followingCount
+) {
+}
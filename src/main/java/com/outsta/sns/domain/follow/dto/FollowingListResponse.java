@@ -1,19 +1,45 @@
 package com.outsta.sns.domain.follow.dto;
 
+import com.outsta.sns.domain.block.dto.ViewerRelationDto;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
 
 /**
  * 팔로잉 목록 Response DTO
- * - 회원 식별자 ID, 회원 닉네임
+ * - 회원 식별자 ID, 회원 닉네임, 로그인한 회원과의 관계 (내가 팔로우 / 나를 팔로우 / 내가 차단)
+ * - 최근 팔로우 순, nextCursor 로 다음 페이지 조회 (마지막 페이지면 null)
  */
 @Schema(description = "팔로잉 목록 Response DTO")
 public record FollowingListResponse(
-        @Schema(description = "팔로잉 목록") List<FollowingMemberDto> followingList
+        @Schema(description = "팔로잉 목록") List<FollowingMemberDto> followingList,
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)") String nextCursor
 ) {
+    /**
+     * @param followedByMe 로그인한 회원이 팔로우하는지 여부
+     * @param followsMe    로그인한 회원을 팔로우하는지 여부
+     * @param blockedByMe  로그인한 회원이 차단했는지 여부
+     */
     public record FollowingMemberDto(
             @Schema(description = "회원 ID") Long memberId,
-            @Schema(description = "닉네임") String nickname) {
+            @Schema(description = "닉네임") String nickname,
+            @Schema(description = "내가 팔로우하는지 여부") boolean followedByMe,
+            @Schema(description = "나를 팔로우하는지 여부") boolean followsMe,
+            @Schema(description = "내가 차단했는지 여부") boolean blockedByMe) {
+
+        /**
+         * 관계 조회 전 (관계 여부는 모두 false)
+         */
+        public FollowingMemberDto(Long memberId, String nickname) {
+            this(memberId, nickname, false, false, false);
+        }
+
+        /**
+         * 로그인한 회원과의 관계 반영
+         */
+        public FollowingMemberDto withRelation(ViewerRelationDto relation) {
+            return new FollowingMemberDto(memberId, nickname,
+                    relation.isFollowedByMe(memberId), relation.isFollowsMe(memberId), relation.isBlockedByMe(memberId));
+        }
     }
 }
\ No newline at end of file
@@ -8,10 +8,15 @@ import lombok.*;
 /**
  * 팔로우 엔티티
  * - 팔로워, 팔로잉 관리
+ * - (following_id, id), (follower_id, id) 인덱스 : 팔로워 / 팔로잉 목록 키셋 페이징
  */
 @Entity
 @Table(
-        uniqueConstraints = @UniqueConstraint(name = "unique_follow", columnNames = {"follower_id", "following_id"})
+        uniqueConstraints = @UniqueConstraint(name = "unique_follow", columnNames = {"follower_id", "following_id"}),
+        indexes = {
+                @Index(name = "idx_follow_following_id_id", columnList = "following_id, id"),
+                @Index(name = "idx_follow_follower_id_id", columnList = "follower_id, id")
+        }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
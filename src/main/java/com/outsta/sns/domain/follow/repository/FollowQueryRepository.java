@@ -1,16 +1,23 @@
 package com.outsta.sns.domain.follow.repository;
 
+import com.outsta.sns.common.util.CursorCodec;
 import com.outsta.sns.domain.follow.dto.FollowerCountDto;
 import com.outsta.sns.domain.follow.dto.FollowerListResponse;
 import com.outsta.sns.domain.follow.dto.FollowingCountDto;
 import com.outsta.sns.domain.follow.dto.FollowingListResponse;
 import com.outsta.sns.domain.follow.entity.QFollow;
-import com.querydsl.core.types.Projections;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberPath;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 팔로우 엔티티 조회용 커스텀 쿼리
@@ -41,39 +48,100 @@ public class FollowQueryRepository {
     }
 
     /**
-     * 팔로워 목록 조회
-     * @param memberId 회원 식별자 ID
-     * @return 회원의 팔로워 목록
+     * 회원 목록 중 로그인한 회원이 팔로우하는 회원 조회 (IN 쿼리 한 번)
+     *
+     * @param loginId   로그인한 회원의 식별자 ID
+     * @param memberIds 확인할 회원 식별자 ID 목록
+     * @return 로그인한 회원이 팔로우하는 회원 식별자 ID
      */
-    public List<FollowerListResponse.FollowerMemberDto> getFollowerList(Long memberId) {
-        return jpaQueryFactory
-                .select(Projections.constructor(
-                        FollowerListResponse.FollowerMemberDto.class,
-                        follow.follower.id,
-                        follow.follower.nickname
+    public Set<Long> findFollowingIdsIn(Long loginId, Collection<Long> memberIds) {
+        return new HashSet<>(jpaQueryFactory
+                .select(follow.following.id)
+                .from(follow)
+                .where(
+                        follow.follower.id.eq(loginId),
+                        follow.following.id.in(memberIds)
+                )
+                .fetch());
+    }
 
-                ))
+    /**
+     * 회원 목록 중 로그인한 회원을 팔로우하는 회원 조회 (IN 쿼리 한 번)
+     *
+     * @param loginId   로그인한 회원의 식별자 ID
+     * @param memberIds 확인할 회원 식별자 ID 목록
+     * @return 로그인한 회원을 팔로우하는 회원 식별자 ID
+     */
+    public Set<Long> findFollowerIdsIn(Long loginId, Collection<Long> memberIds) {
+        return new HashSet<>(jpaQueryFactory
+                .select(follow.follower.id)
                 .from(follow)
-                .where(follow.following.id.eq(memberId))
-                .fetch();
+                .where(
+                        follow.following.id.eq(loginId),
+                        follow.follower.id.in(memberIds)
+                )
+                .fetch());
     }
 
     /**
-     * 팔로잉 목록 조회
+     * 팔로워 목록 조회 (최근 팔로우 순, 키셋 페이징)
+     * - follow.id 가 커서보다 작은 행을 (following_id, id) 인덱스 순서대로 size + 1 개 조회 (OFFSET 없음)
+     * - follow.id 는 저장 순서대로 증가하므로 팔로우 시각(created_at) 순서와 같음
+     *
      * @param memberId 회원 식별자 ID
-     * @return 회원의 팔로잉 목록
+     * @param cursorId 이전 페이지 마지막 팔로우 식별자 ID (첫 페이지면 null)
+     * @param size     페이지 크기
+     * @return 회원의 팔로워 목록 + 다음 페이지 커서
      */
-    public List<FollowingListResponse.FollowingMemberDto> getFollowingList(Long memberId) {
-        return jpaQueryFactory
-                .select(Projections.constructor(
-                        FollowingListResponse.FollowingMemberDto.class,
-                        follow.following.id,
-                        follow.following.nickname
+    public FollowerListResponse getFollowerList(Long memberId, Long cursorId, int size) {
+        List<Tuple> rows = jpaQueryFactory
+                .select(follow.id, follow.follower.id, follow.follower.nickname)
+                .from(follow)
+                .where(
+                        follow.following.id.eq(memberId),
+                        cursorId != null ? follow.id.lt(cursorId) : null
+                )
+                .orderBy(follow.id.desc())
+                .limit(size + 1L)
+                .fetch();
+
+        List<FollowerListResponse.FollowerMemberDto> followerList = rows.stream()
+                .limit(size)
+                .map(row -> new FollowerListResponse.FollowerMemberDto(
+                        row.get(follow.follower.id), row.get(follow.follower.nickname)))
+                .toList();
+
+        return new FollowerListResponse(followerList, nextCursor(rows, size));
+    }
 
-                ))
+    /**
+     * 팔로잉 목록 조회 (최근 팔로우 순, 키셋 페이징)
+     * - follow.id 가 커서보다 작은 행을 (follower_id, id) 인덱스 순서대로 size + 1 개 조회 (OFFSET 없음)
+     *
+     * @param memberId 회원 식별자 ID
+     * @param cursorId 이전 페이지 마지막 팔로우 식별자 ID (첫 페이지면 null)
+     * @param size     페이지 크기
+     * @return 회원의 팔로잉 목록 + 다음 페이지 커서
+     */
+    public FollowingListResponse getFollowingList(Long memberId, Long cursorId, int size) {
+        List<Tuple> rows = jpaQueryFactory
+                .select(follow.id, follow.following.id, follow.following.nickname)
                 .from(follow)
-                .where(follow.follower.id.eq(memberId))
+                .where(
+                        follow.follower.id.eq(memberId),
+                        cursorId != null ? follow.id.lt(cursorId) : null
+                )
+                .orderBy(follow.id.desc())
+                .limit(size + 1L)
                 .fetch();
+
+        List<FollowingListResponse.FollowingMemberDto> followingList = rows.stream()
+                .limit(size)
+                .map(row -> new FollowingListResponse.FollowingMemberDto(
+                        row.get(follow.following.id), row.get(follow.following.nickname)))
+                .toList();
+
+        return new FollowingListResponse(followingList, nextCursor(rows, size));
     }
 
     /**
@@ -104,4 +172,53 @@ public class FollowQueryRepository {
                 .fetchOne();
         return new FollowingCountDto(count != null ? count : 0L);
     }
+
+    /**
+     * 회원별 팔로워 수 일괄 조회
+     * @param memberIds 회원 식별자 ID 목록
+     * @return 회원 식별자 ID -> 팔로워 수 (팔로워가 없는 회원은 포함되지 않음)
+     */
+    public Map<Long, Long> getFollowerCounts(Collection<Long> memberIds) {
+        return toCountMap(jpaQueryFactory
+                .select(follow.following.id, follow.count())
+                .from(follow)
+                .where(follow.following.id.in(memberIds))
+                .groupBy(follow.following.id)
+                .fetch(), follow.following.id);
+    }
+
+    /**
+     * 회원별 팔로잉 수 일괄 조회
+     * @param memberIds 회원 식별자 ID 목록
+     * @return 회원 식별자 ID -> 팔로잉 수 (팔로잉이 없는 회원은 포함되지 않음)
+     */
+    public Map<Long, Long> getFollowingCounts(Collection<Long> memberIds) {
+        return toCountMap(jpaQueryFactory
+                .select(follow.follower.id, follow.count())
+                .from(follow)
+                .where(follow.follower.id.in(memberIds))
+                .groupBy(follow.follower.id)
+                .fetch(), follow.follower.id);
+    }
+
+    private Map<Long, Long> toCountMap(List<Tuple> tuples, NumberPath<Long> idPath) {
+        Map<Long, Long> counts = new HashMap<>();
+
+        for (Tuple tuple : tuples) {
+            counts.put(tuple.get(idPath), tuple.get(follow.count()));
+        }
+
+        return counts;
+    }
+
+    /**
+     * size + 1 번째 행이 있으면 size 번째 행의 팔로우 식별자 ID 를 다음 페이지 커서로 사용
+     */
+    private String nextCursor(List<Tuple> rows, int size) {
+        if (rows.size() <= size) {
+            return null;
+        }
+
+        return CursorCodec.encode(rows.get(size - 1).get(follow.id));
+    }
 }
@@ -14,9 +14,10 @@ import java.util.Optional;
  */
 public interface FollowRepository extends JpaRepository<Follow, Long> {
 
+    /** 팔로우 삭제 (followerId 가 followingId 를 팔로우한 관계) */
     @Modifying
-    @Query("DELETE FROM Follow f WHERE (f.follower.id = :loginId AND f.following.id = :memberId) OR (f.follower.id = :memberId AND f.following.id = :loginId)")
-    void deleteFollow(@Param("loginId") Long loginId, @Param("memberId") Long memberId);
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    int deleteFollow(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
 
     /** 차단 엔티티 조회 */
     @Query("SELECT f FROM Follow f WHERE f.follower.id = :loginId AND f.following.id = :memberId")
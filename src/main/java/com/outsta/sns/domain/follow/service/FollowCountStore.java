@@ -0,0 +1,173 @@
+package com.outsta.sns.domain.follow.service;
+
+import com.outsta.sns.domain.follow.dto.FollowCountDto;
+import com.outsta.sns.domain.member.service.MemberStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회원별 팔로워 / 팔로잉 수 캐시
+ * - 기준 값은 회원 통계(member_stats), Redis Hash(follow-count:{memberId})는 그 캐시
+ * - follower, following 필드에 저장하여 HMGET 한 번으로 두 값 조회
+ * - 팔로우, 팔로우 취소, 차단 시 커밋 후 HINCRBY로 증감 (COUNT(*) 재계산 없음)
+ * - 없는 회원은 조회 시 회원 통계에서 읽어 저장, 키가 없을 때 도착한 증감은 무시
+ * - 조회가 DB 값을 읽은 뒤 저장하기 전에 다른 팔로우가 커밋되면 그 증감은 저장 값에서 빠질 수 있음
+ *   (저장 값은 항상 유지 시간이 있으므로 만료 후 회원 통계에서 다시 읽을 때 맞춰짐)
+ * - 회원 통계 보정 배치가 고친 회원은 커밋 후 삭제하여 다음 조회 시 보정된 값으로 다시 저장
+ */
+@Slf4j
+@Component
+public class FollowCountStore {
+
+    /** 회원별 팔로우 수 키 접두사 */
+    public static final String KEY_PREFIX = "follow-count:";
+
+    static final String FOLLOWER = "follower";
+    static final String FOLLOWING = "following";
+
+    /** 키가 있을 때만 증감 (없으면 다음 조회 시 DB 기준으로 저장) */
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+                    "return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "end " +
+                    "return nil",
+            Long.class);
+
+    /** 키가 없을 때만 저장 (동시에 저장된 값과 이후 증감 보존) */
+    private static final RedisScript<Long> SEED_IF_ABSENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+                    "redis.call('HSET', KEYS[1], 'follower', ARGV[1], 'following', ARGV[2]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+                    "return 1 " +
+                    "end " +
+                    "return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MemberStatsService memberStatsService;
+
+    /** 저장 유지 시간 (조회되지 않는 회원 정리, 저장 값이 회원 통계와 어긋날 수 있는 최대 시간) */
+    private final Duration ttl;
+
+    public FollowCountStore(RedisTemplate<String, String> redisTemplate,
+                            MemberStatsService memberStatsService,
+                            @Value("${follow.count.ttl:1h}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.memberStatsService = memberStatsService;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 팔로워 / 팔로잉 수 조회
+     * - 저장되어 있지 않으면 회원 통계에서 읽어 저장
+     *
+     * @param memberId 회원 식별자 ID
+     * @return 팔로워 / 팔로잉 수
+     */
+    public FollowCountDto getCounts(Long memberId) {
+        FollowCountDto counts = find(memberId);
+
+        if (counts != null) {
+            return counts;
+        }
+
+        counts = memberStatsService.getCounts(memberId);
+
+        redisTemplate.execute(SEED_IF_ABSENT, List.of(KEY_PREFIX + memberId), String.valueOf(counts.followerCount()),
+                String.valueOf(counts.followingCount()), String.valueOf(ttl.toMillis()));
+
+        return counts;
+    }
+
+    /**
+     * 저장된 팔로워 / 팔로잉 수 조회
+     *
+     * @return 저장되어 있지 않으면 null
+     */
+    public FollowCountDto find(Long memberId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(KEY_PREFIX + memberId, List.of(FOLLOWER, FOLLOWING));
+
+        if (values.get(0) == null || values.get(1) == null) {
+            return null;
+        }
+
+        return new FollowCountDto(Long.parseLong((String) values.get(0)), Long.parseLong((String) values.get(1)));
+    }
+
+    /**
+     * 팔로우 추가 반영 (트랜잭션 안이면 커밋 후)
+     *
+     * @param followerId  팔로우한 회원 식별자 ID
+     * @param followingId 팔로우 대상 회원 식별자 ID
+     */
+    public void followAdded(Long followerId, Long followingId) {
+        afterCommit(() -> {
+            increment(followerId, FOLLOWING, 1);
+            increment(followingId, FOLLOWER, 1);
+        });
+    }
+
+    /**
+     * 팔로우 삭제 반영 (트랜잭션 안이면 커밋 후)
+     *
+     * @param followerId  팔로우했던 회원 식별자 ID
+     * @param followingId 팔로우 대상이었던 회원 식별자 ID
+     */
+    public void followRemoved(Long followerId, Long followingId) {
+        afterCommit(() -> {
+            increment(followerId, FOLLOWING, -1);
+            increment(followingId, FOLLOWER, -1);
+        });
+    }
+
+    /**
+     * 저장 값 삭제 (트랜잭션 안이면 커밋 후)
+     * - 회원 통계가 보정된 회원은 다음 조회 시 회원 통계에서 다시 읽음
+     *
+     * @param memberIds 회원 식별자 ID 목록
+     */
+    public void evict(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = memberIds.stream()
+                .map(memberId -> KEY_PREFIX + memberId)
+                .toList();
+
+        afterCommit(() -> redisTemplate.delete(keys));
+    }
+
+    private void increment(Long memberId, String field, long delta) {
+        try {
+            redisTemplate.execute(INCREMENT_IF_EXISTS, List.of(KEY_PREFIX + memberId), field, String.valueOf(delta));
+        } catch (RuntimeException e) {
+            // 유지 시간이 지나면 회원 통계에서 다시 읽음
+            log.error("팔로우 수 증감 실패 : memberId={}, field={}, delta={}, error={}", memberId, field, delta, e.getMessage());
+        }
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
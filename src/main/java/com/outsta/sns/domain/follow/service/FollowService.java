@@ -2,25 +2,24 @@ package com.outsta.sns.domain.follow.service;
 
 import com.outsta.sns.common.error.CustomException;
 import com.outsta.sns.common.error.ErrorCode;
+import com.outsta.sns.common.util.CursorCodec;
+import com.outsta.sns.domain.block.dto.ViewerRelationDto;
 import com.outsta.sns.domain.block.service.BlockFollowRelationService;
-import com.outsta.sns.domain.follow.dto.FollowerCountDto;
 import com.outsta.sns.domain.follow.dto.FollowerListResponse;
-import com.outsta.sns.domain.follow.dto.FollowingCountDto;
 import com.outsta.sns.domain.follow.dto.FollowingListResponse;
 import com.outsta.sns.domain.follow.entity.Follow;
 import com.outsta.sns.domain.follow.repository.FollowQueryRepository;
 import com.outsta.sns.domain.follow.repository.FollowRepository;
 import com.outsta.sns.domain.member.access.AccessPolicy;
+import com.outsta.sns.domain.member.access.SocialGraphIndex;
 import com.outsta.sns.domain.member.dto.response.util.MemberAccessCheckDto;
 import com.outsta.sns.domain.member.entity.Member;
+import com.outsta.sns.domain.member.service.MemberStatsService;
 import com.outsta.sns.domain.member.service.MemberUtilService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-
-import java.util.List;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 팔로우 관련 서비스
@@ -36,6 +35,17 @@ public class FollowService {
     private final BlockFollowRelationService blockFollowRelationService;
     private final MemberUtilService memberUtilService;
     private final AccessPolicy accessPolicy;
+    private final FollowCountStore followCountStore;
+    private final MemberStatsService memberStatsService;
+    private final SocialGraphIndex socialGraphIndex;
+
+    /** 팔로워 / 팔로잉 목록 기본 페이지 크기 */
+    @Value("${follow.list.page-size:20}")
+    private int defaultPageSize;
+
+    /** 팔로워 / 팔로잉 목록 최대 페이지 크기 */
+    @Value("${follow.list.max-page-size:100}")
+    private int maxPageSize;
 
     /**
      * 팔로우
@@ -45,10 +55,7 @@ public class FollowService {
      * @param memberId 팔로우하려는 회원의 식별자 ID
      * @throws CustomException 회원이 없거나, 자기 자신을 팔로우하려고 하는 경우, 차단한 경우, 이미 팔로우한 경우에 발생
      */
-    @Caching(evict = {
-            @CacheEvict(value = "followingCount", key = "#loginId"),
-            @CacheEvict(value = "followerCount", key = "#memberId")
-    })
+    @Transactional
     public void follow(Long loginId, Long memberId) {
         if (loginId.equals(memberId)) {
             throw new CustomException(ErrorCode.INVALID_REQUEST);
@@ -71,6 +78,9 @@ public class FollowService {
                 .build();
 
         followRepository.save(follow);
+        memberStatsService.followAdded(loginId, memberId);
+        followCountStore.followAdded(loginId, memberId);
+        socialGraphIndex.followAdded(loginId, memberId);
     }
 
     /**
@@ -80,10 +90,7 @@ public class FollowService {
      * @param memberId 팔로우 취소 하려는 회원의 식별자 ID
      * @throws CustomException 회원이 없거나, 자기 자신을 팔로우 취소하려고 하는 경우, 팔로우하지 않은 경우에 발생
      */
-    @Caching(evict = {
-            @CacheEvict(value = "followingCount", key = "#loginId"),
-            @CacheEvict(value = "followerCount", key = "#memberId")
-    })
+    @Transactional
     public void cancelFollow(Long loginId, Long memberId) {
         if (loginId.equals(memberId)) {
             throw new CustomException(ErrorCode.INVALID_REQUEST);
@@ -93,19 +100,22 @@ public class FollowService {
                 .orElseThrow(() -> new CustomException(ErrorCode.INVALID_REQUEST));
 
         followRepository.delete(follow);
+        memberStatsService.followRemoved(loginId, memberId);
+        followCountStore.followRemoved(loginId, memberId);
+        socialGraphIndex.followRemoved(loginId, memberId);
     }
 
     /**
      * 내 팔로워 목록 조회
      *
      * @param loginId 현재 로그인한 회원의 식별자 ID
-     * @return 내 팔로워 목록 (회원 식별자 ID, 닉네임)
+     * @param cursor  이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size    페이지 크기 (없으면 기본 크기, 최대 크기 초과 시 최대 크기)
+     * @return 내 팔로워 목록 (회원 식별자 ID, 닉네임, 나와의 관계) + 다음 페이지 커서
+     * @throws CustomException 커서 형식이 잘못된 경우 발생
      */
-    public FollowerListResponse getMyFollowerList(Long loginId) {
-        List<FollowerListResponse.FollowerMemberDto> followerList
-                = followQueryRepository.getFollowerList(loginId);
-
-        return new FollowerListResponse(followerList);
+    public FollowerListResponse getMyFollowerList(Long loginId, String cursor, Integer size) {
+        return withRelation(loginId, followQueryRepository.getFollowerList(loginId, CursorCodec.decode(cursor), pageSize(size)));
     }
 
     /**
@@ -113,29 +123,29 @@ public class FollowService {
      *
      * @param loginId  현재 로그인한 회원의 식별자 ID
      * @param memberId 조회 하려는 회원의 식별자 ID
-     * @return 팔로워 목록 (회원 식별자 ID, 닉네임)
+     * @param cursor   이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 크기 (없으면 기본 크기, 최대 크기 초과 시 최대 크기)
+     * @return 팔로워 목록 (회원 식별자 ID, 닉네임, 나와의 관계) + 다음 페이지 커서
+     * @throws CustomException 회원이 없거나, 접근 권한이 없거나, 커서 형식이 잘못된 경우 발생
      */
-    public FollowerListResponse getFollowerList(Long loginId, Long memberId) {
+    public FollowerListResponse getFollowerList(Long loginId, Long memberId, String cursor, Integer size) {
         MemberAccessCheckDto member = memberUtilService.getActiveMemberFollow(memberId);
         accessPolicy.checkVisibilityAndBlock(loginId, member.id(), member.visibility());
 
-        List<FollowerListResponse.FollowerMemberDto> followerList
-                = followQueryRepository.getFollowerList(memberId);
-
-        return new FollowerListResponse(followerList);
+        return withRelation(loginId, followQueryRepository.getFollowerList(memberId, CursorCodec.decode(cursor), pageSize(size)));
     }
 
     /**
      * 내 팔로잉 목록 조회
      *
      * @param loginId 현재 로그인한 회원의 식별자 ID
-     * @return 내 팔로잉 목록 (회원 식별자 ID, 닉네임)
+     * @param cursor  이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size    페이지 크기 (없으면 기본 크기, 최대 크기 초과 시 최대 크기)
+     * @return 내 팔로잉 목록 (회원 식별자 ID, 닉네임, 나와의 관계) + 다음 페이지 커서
+     * @throws CustomException 커서 형식이 잘못된 경우 발생
      */
-    public FollowingListResponse getMyFollowingList(Long loginId) {
-        List<FollowingListResponse.FollowingMemberDto> followingList
-                = followQueryRepository.getFollowingList(loginId);
-
-        return new FollowingListResponse(followingList);
+    public FollowingListResponse getMyFollowingList(Long loginId, String cursor, Integer size) {
+        return withRelation(loginId, followQueryRepository.getFollowingList(loginId, CursorCodec.decode(cursor), pageSize(size)));
     }
 
     /**
@@ -143,37 +153,50 @@ public class FollowService {
      *
      * @param loginId  현재 로그인한 회원의 식별자 ID
      * @param memberId 조회 하려는 회원의 식별자 ID
-     * @return 팔로잉 목록 (회원 식별자 ID, 닉네임)
+     * @param cursor   이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param size     페이지 크기 (없으면 기본 크기, 최대 크기 초과 시 최대 크기)
+     * @return 팔로잉 목록 (회원 식별자 ID, 닉네임, 나와의 관계) + 다음 페이지 커서
+     * @throws CustomException 회원이 없거나, 접근 권한이 없거나, 커서 형식이 잘못된 경우 발생
      */
-    public FollowingListResponse getFollowingList(Long loginId, Long memberId) {
+    public FollowingListResponse getFollowingList(Long loginId, Long memberId, String cursor, Integer size) {
         MemberAccessCheckDto member = memberUtilService.getActiveMemberFollow(memberId);
         accessPolicy.checkVisibilityAndBlock(loginId, member.id(), member.visibility());
 
-        List<FollowingListResponse.FollowingMemberDto> followingList
-                = followQueryRepository.getFollowingList(memberId);
+        return withRelation(loginId, followQueryRepository.getFollowingList(memberId, CursorCodec.decode(cursor), pageSize(size)));
+    }
 
-        return new FollowingListResponse(followingList);
+    /**
+     * 팔로워 목록 한 페이지에 로그인한 회원과의 관계 반영 (관계별 IN 쿼리 한 번씩)
+     */
+    private FollowerListResponse withRelation(Long loginId, FollowerListResponse page) {
+        ViewerRelationDto relation = blockFollowRelationService.getViewerRelation(loginId,
+                page.followerList().stream().map(FollowerListResponse.FollowerMemberDto::memberId).toList());
+
+        return new FollowerListResponse(
+                page.followerList().stream().map(member -> member.withRelation(relation)).toList(),
+                page.nextCursor());
     }
 
     /**
-     * 회원의 팔로워 수 조회
-     *
-     * @param memberId 조회 하려는 회원의 식별자 ID
-     * @return 회원의 팔로워 수
+     * 팔로잉 목록 한 페이지에 로그인한 회원과의 관계 반영 (관계별 IN 쿼리 한 번씩)
      */
-    @Cacheable(value = "followerCount", key = "#memberId")
-    public FollowerCountDto getFollowerCount(Long memberId) {
-        return followQueryRepository.getFollowerCount(memberId);
+    private FollowingListResponse withRelation(Long loginId, FollowingListResponse page) {
+        ViewerRelationDto relation = blockFollowRelationService.getViewerRelation(loginId,
+                page.followingList().stream().map(FollowingListResponse.FollowingMemberDto::memberId).toList());
+
+        return new FollowingListResponse(
+                page.followingList().stream().map(member -> member.withRelation(relation)).toList(),
+                page.nextCursor());
     }
 
     /**
-     * 회원의 팔로잉 수 조회
-     *
-     * @param memberId 조회 하려는 회원의 식별자 ID
-     * @return 회원의 팔로잉 수
+     * 요청 페이지 크기 보정 (없거나 1 미만이면 기본 크기, 최대 크기 초과 시 최대 크기)
      */
-    @Cacheable(value = "followingCount", key = "#memberId")
-    public FollowingCountDto getFollowingCount(Long memberId) {
-        return followQueryRepository.getFollowingCount(memberId);
+    private int pageSize(Integer size) {
+        if (size == null || size < 1) {
+            return defaultPageSize;
+        }
+
+        return Math.min(size, maxPageSize);
     }
-}
\ No newline at end of file
+}
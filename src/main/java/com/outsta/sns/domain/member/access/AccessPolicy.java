@@ -9,23 +9,44 @@ import com.outsta.sns.domain.member.entity.Member;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.function.BooleanSupplier;
+
 @RequiredArgsConstructor
 @Component
 public class AccessPolicy {
 
     private final FollowQueryRepository followQueryRepository;
     private final BlockFollowRelationService blockFollowRelationService;
+    private final SocialGraphIndex socialGraphIndex;
 
     /**
      * 회원의 정보 공개 범위에 따른 권한 체크
      * 차단 여부로 인해 조회 권한 체크
      * 공통 로직
+     * - 차단 / 팔로우 여부는 관계 인덱스(SocialGraphIndex)에서 조회, 준비되지 않았으면 SQL 조회
      *
      * @param loginId 현재 로그인한 회원의 식별자 ID
      */
     public void checkVisibilityAndBlock(Long loginId, Long memberId, Visibility visibility) {
+        check(loginId != null && blockFollowRelationService.isBlockedWhoever(loginId, memberId), visibility,
+                () -> loginId != null && socialGraphIndex.isFollowing(loginId, memberId,
+                        () -> followQueryRepository.existsByLoginIdAndMemberId(loginId, memberId)));
+    }
+
+    /**
+     * 회원의 정보 공개 범위에 따른 권한 체크 (차단 / 팔로우 여부를 이미 조회한 경우)
+     * - 회원 상세 조회 캐시 미스 시 회원 정보와 함께 쿼리 한 번으로 조회한 값 사용
+     *
+     * @param blockedWhoever   어느 쪽이든 차단 관계인지 여부 (비로그인이면 false)
+     * @param followedByViewer 현재 로그인한 회원이 팔로우하는지 여부 (비로그인이면 false)
+     */
+    public void checkVisibilityAndBlock(Visibility visibility, boolean blockedWhoever, boolean followedByViewer) {
+        check(blockedWhoever, visibility, () -> followedByViewer);
+    }
+
+    private void check(boolean blockedWhoever, Visibility visibility, BooleanSupplier followedByViewer) {
         // 차단 여부 확인
-        if (loginId != null && blockFollowRelationService.isBlockedWhoever(loginId, memberId)) {
+        if (blockedWhoever) {
             throw new CustomException(ErrorCode.BLOCK_MEMBER);
         }
 
@@ -35,10 +56,8 @@ public class AccessPolicy {
         }
 
         // 팔로워 전용
-        if (visibility == Visibility.FOLLOWER_ONLY) {
-            if (loginId == null || !followQueryRepository.existsByLoginIdAndMemberId(loginId, memberId)) {
-                throw new CustomException(ErrorCode.VISIBILITY_FOLLOWER_ONLY);
-            }
+        if (visibility == Visibility.FOLLOWER_ONLY && !followedByViewer.getAsBoolean()) {
+            throw new CustomException(ErrorCode.VISIBILITY_FOLLOWER_ONLY);
         }
     }
 }
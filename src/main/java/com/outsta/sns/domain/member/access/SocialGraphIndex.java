@@ -0,0 +1,557 @@
+package com.outsta.sns.domain.member.access;
+
+import com.outsta.sns.common.util.LongHashSet;
+import com.outsta.sns.domain.block.repository.BlockRepository;
+import com.outsta.sns.domain.follow.repository.FollowRepository;
+import com.outsta.sns.domain.recommend.repository.FollowGraphQueryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 노드 로컬 팔로우 / 차단 관계 인덱스
+ * - 관계 (from, to) 를 (from << 32 | to) long 하나로 묶어 LongHashSet 에 저장, 조회는 해시 탐색 한 번
+ * - 채널(social-graph) 구독 후 DB 에서 전체 적재, 이후 팔로우 / 팔로우 취소 / 차단 / 차단 해제를
+ *   커밋 후 반영하고 Redis Pub/Sub 으로 다른 노드에 전파
+ * - 적재 중 도착한 변경은 모아 두었다가 적재가 끝나면 순서대로 반영 (적재가 읽은 시점과 관계없이 최종 상태 일치)
+ * - 준비되지 않은 상태(적재 전/중, 구독 해제, 메모리 한도 초과, 32비트를 넘는 회원 ID)에서는 SQL 로 조회
+ * - 주기적으로 DB 의 팔로우 / 차단 행 수와 비교하여 두 번 연속 다르면 다시 적재
+ * - social-graph.enabled=false 이면 적재하지 않고 항상 SQL 로 조회
+ */
+@Slf4j
+@Component
+public class SocialGraphIndex implements MessageListener, SubscriptionListener {
+
+    /** 관계 변경 전파 채널 */
+    public static final String CHANNEL = "social-graph";
+
+    /** 메시지 구분자 (노드 ID, 변경 종류, from, to) */
+    private static final char SEPARATOR = '\n';
+
+    /** long 하나에 두 개를 묶을 수 있는 최대 회원 ID */
+    private static final long MAX_PACKABLE_ID = 0xFFFFFFFFL;
+
+    private final FollowGraphQueryRepository followGraphQueryRepository;
+    private final FollowRepository followRepository;
+    private final BlockRepository blockRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /** 사용 여부 (false 면 항상 SQL 조회) */
+    private final boolean enabled;
+
+    /** 적재 실행기 (요청 스레드와 스케줄러를 막지 않도록) */
+    private final Executor loadExecutor;
+
+    /** 두 집합 테이블의 최대 메모리 (바이트) */
+    private final long memoryBudgetBytes;
+
+    /** 적재 시 한 번에 읽을 행 수 */
+    private final int loadBatchSize;
+
+    /** 자신이 보낸 메시지 구분용 노드 ID */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    /** 팔로우 관계 (follower << 32 | following), lock 으로 보호 */
+    private LongHashSet follows = new LongHashSet();
+
+    /** 차단 관계 (blocker << 32 | blocked), lock 으로 보호 */
+    private LongHashSet blocks = new LongHashSet();
+
+    /** 적재 중 도착한 변경 (적재 중이 아니면 null), lock 으로 보호 */
+    private List<EdgeEvent> pending;
+
+    /** 메모리에서 조회 가능 여부 */
+    private volatile boolean ready = false;
+
+    /** 변경 전파 채널 구독 여부 */
+    private volatile boolean subscribed = false;
+
+    /** DB 와 행 수가 연속으로 다른 횟수 (스케줄러 스레드에서만 사용) */
+    private int mismatches = 0;
+
+    private final Counter memoryLookupCounter;
+    private final Counter databaseLookupCounter;
+    private final Counter mismatchCounter;
+
+    public SocialGraphIndex(FollowGraphQueryRepository followGraphQueryRepository,
+                            FollowRepository followRepository,
+                            BlockRepository blockRepository,
+                            RedisTemplate<String, String> redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor loadExecutor,
+                            @Value("${social-graph.enabled:true}") boolean enabled,
+                            @Value("${social-graph.memory-budget:64MB}") DataSize memoryBudget,
+                            @Value("${social-graph.load-batch-size:10000}") int loadBatchSize) {
+        this.followGraphQueryRepository = followGraphQueryRepository;
+        this.followRepository = followRepository;
+        this.blockRepository = blockRepository;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.loadExecutor = loadExecutor;
+        this.memoryBudgetBytes = memoryBudget.toBytes();
+        this.loadBatchSize = loadBatchSize;
+
+        this.memoryLookupCounter = Counter.builder("social.graph.index.lookups")
+                .description("팔로우 / 차단 관계 조회 수")
+                .tags("source", "memory")
+                .register(meterRegistry);
+        this.databaseLookupCounter = Counter.builder("social.graph.index.lookups")
+                .description("팔로우 / 차단 관계 조회 수")
+                .tags("source", "db")
+                .register(meterRegistry);
+        this.mismatchCounter = Counter.builder("social.graph.index.mismatches")
+                .description("DB 와 관계 수가 다르게 확인된 횟수")
+                .register(meterRegistry);
+
+        Gauge.builder("social.graph.index.ready", this, index -> index.ready ? 1 : 0)
+                .description("메모리에서 관계 조회 가능 여부")
+                .register(meterRegistry);
+        Gauge.builder("social.graph.index.edges", this, index -> index.follows.size())
+                .description("메모리에 적재된 관계 수")
+                .tags("type", "follow")
+                .register(meterRegistry);
+        Gauge.builder("social.graph.index.edges", this, index -> index.blocks.size())
+                .description("메모리에 적재된 관계 수")
+                .tags("type", "block")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 팔로우 여부
+     *
+     * @param followerId  팔로우한 회원 식별자 ID
+     * @param followingId 팔로우 대상 회원 식별자 ID
+     * @param fallback    메모리에서 조회할 수 없을 때 사용할 SQL 조회
+     */
+    public boolean isFollowing(Long followerId, Long followingId, BooleanSupplier fallback) {
+        if (ready && packable(followerId, followingId)) {
+            lock.readLock().lock();
+
+            try {
+                if (ready) {
+                    memoryLookupCounter.increment();
+
+                    return follows.contains(pack(followerId, followingId));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        databaseLookupCounter.increment();
+
+        return fallback.getAsBoolean();
+    }
+
+    /**
+     * 어느 한쪽이라도 차단했는지 여부
+     *
+     * @param loginId  로그인한 회원 식별자 ID
+     * @param memberId 확인하려는 회원 식별자 ID
+     * @param fallback 메모리에서 조회할 수 없을 때 사용할 SQL 조회
+     */
+    public boolean isBlockedWhoever(Long loginId, Long memberId, BooleanSupplier fallback) {
+        if (ready && packable(loginId, memberId)) {
+            lock.readLock().lock();
+
+            try {
+                if (ready) {
+                    memoryLookupCounter.increment();
+
+                    return blocks.contains(pack(loginId, memberId)) || blocks.contains(pack(memberId, loginId));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        databaseLookupCounter.increment();
+
+        return fallback.getAsBoolean();
+    }
+
+    /**
+     * 팔로우 추가 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void followAdded(Long followerId, Long followingId) {
+        afterCommit(new EdgeEvent(EdgeType.FOLLOW, true, followerId, followingId));
+    }
+
+    /**
+     * 팔로우 삭제 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void followRemoved(Long followerId, Long followingId) {
+        afterCommit(new EdgeEvent(EdgeType.FOLLOW, false, followerId, followingId));
+    }
+
+    /**
+     * 차단 추가 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void blockAdded(Long blockerId, Long blockedId) {
+        afterCommit(new EdgeEvent(EdgeType.BLOCK, true, blockerId, blockedId));
+    }
+
+    /**
+     * 차단 삭제 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void blockRemoved(Long blockerId, Long blockedId) {
+        afterCommit(new EdgeEvent(EdgeType.BLOCK, false, blockerId, blockedId));
+    }
+
+    /**
+     * 메모리에서 조회 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * DB 와 관계 수 비교
+     * - 준비되지 않은 상태면 메모리 한도 안에 들어올 때 다시 적재
+     * - 팔로우 / 차단 행 수가 두 번 연속 다르면 다시 적재 (전파 중인 변경으로 인한 일시적인 차이 제외)
+     */
+    @Scheduled(cron = "${social-graph.check-cron:0 */10 * * * *}")
+    public void checkConsistency() {
+        if (!enabled || !subscribed || loading.get()) {
+            return;
+        }
+
+        long followCount = followRepository.count();
+        long blockCount = blockRepository.count();
+
+        if (!ready) {
+            mismatches = 0;
+
+            if (LongHashSet.memoryBytesFor(followCount) + LongHashSet.memoryBytesFor(blockCount) <= memoryBudgetBytes) {
+                reloadAsync();
+            }
+
+            return;
+        }
+
+        int indexedFollows;
+        int indexedBlocks;
+
+        lock.readLock().lock();
+
+        try {
+            indexedFollows = follows.size();
+            indexedBlocks = blocks.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (indexedFollows == followCount && indexedBlocks == blockCount) {
+            mismatches = 0;
+            return;
+        }
+
+        mismatchCounter.increment();
+
+        if (++mismatches >= 2) {
+            log.warn("관계 인덱스 불일치로 다시 적재 : follow {} / {}, block {} / {}",
+                    indexedFollows, followCount, indexedBlocks, blockCount);
+            mismatches = 0;
+            reloadAsync();
+        }
+    }
+
+    /**
+     * DB 에서 전체 적재
+     * - 적재하는 동안 조회는 SQL, 변경은 모아 두었다가 적재가 끝나면 순서대로 반영
+     */
+    void reload() {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            lock.writeLock().lock();
+
+            try {
+                ready = false;
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long startedAt = System.nanoTime();
+            LongHashSet loadedFollows = new LongHashSet();
+            LongHashSet loadedBlocks = new LongHashSet();
+            boolean loaded = load(loadedFollows, loadedBlocks);
+
+            lock.writeLock().lock();
+
+            try {
+                List<EdgeEvent> events = pending;
+                pending = null;
+                follows = loaded ? loadedFollows : new LongHashSet();
+                blocks = loaded ? loadedBlocks : new LongHashSet();
+                ready = loaded;
+
+                for (EdgeEvent event : events) {
+                    if (!ready) {
+                        break;
+                    }
+
+                    applyNow(event);
+                }
+
+                ready = ready && subscribed;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            if (loaded) {
+                log.info("관계 인덱스 적재 완료 : follow {}건, block {}건, {}ms", loadedFollows.size(), loadedBlocks.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+
+            try {
+                pending = null;
+                ready = false;
+                follows = new LongHashSet();
+                blocks = new LongHashSet();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.error("관계 인덱스 적재 실패, SQL 조회 사용 : {}", e.getMessage());
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    /**
+     * 다른 노드에서 전파된 변경 반영
+     * - 메시지 형식 : 노드 ID \n 변경 종류(F+, F-, B+, B-) \n from \n to
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR));
+
+        if (parts.length != 4 || parts[1].length() != 2) {
+            log.error("관계 변경 메시지 형식 오류");
+            return;
+        }
+
+        if (parts[0].equals(nodeId)) {
+            return;
+        }
+
+        EdgeType type = parts[1].charAt(0) == 'F' ? EdgeType.FOLLOW : EdgeType.BLOCK;
+
+        apply(new EdgeEvent(type, parts[1].charAt(1) == '+', Long.parseLong(parts[2]), Long.parseLong(parts[3])));
+    }
+
+    /**
+     * 채널 구독(재구독 포함) 완료 시 전체 적재 (구독 전 변경은 전파받지 못했으므로)
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        subscribed = true;
+        reloadAsync();
+    }
+
+    /**
+     * 채널 구독 해제 시 다시 구독될 때까지 SQL 조회
+     */
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        subscribed = false;
+        ready = false;
+    }
+
+    private void reloadAsync() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            loadExecutor.execute(this::reload);
+        } catch (RejectedExecutionException e) {
+            log.warn("관계 인덱스 적재 요청 거절 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 팔로우 / 차단 관계 전체 적재
+     *
+     * @return 메모리 한도를 넘거나 묶을 수 없는 회원 ID 가 있으면 false
+     */
+    private boolean load(LongHashSet loadedFollows, LongHashSet loadedBlocks) {
+        try {
+            followGraphQueryRepository.forEachFollow(loadBatchSize, (from, to) -> {
+                loadedFollows.add(packOrThrow(from, to));
+                checkBudget(loadedFollows, loadedBlocks);
+            });
+            followGraphQueryRepository.forEachBlock(loadBatchSize, (from, to) -> {
+                loadedBlocks.add(packOrThrow(from, to));
+                checkBudget(loadedFollows, loadedBlocks);
+            });
+
+            return true;
+        } catch (IndexUnavailableException e) {
+            log.warn("관계 인덱스 사용 불가, SQL 조회 사용 : {}", e.getMessage());
+
+            return false;
+        }
+    }
+
+    /**
+     * 변경 반영 (적재 중이면 적재 후 반영하도록 보관, 준비되지 않은 상태면 무시)
+     */
+    private void apply(EdgeEvent event) {
+        lock.writeLock().lock();
+
+        try {
+            if (pending != null) {
+                pending.add(event);
+            } else if (ready) {
+                applyNow(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 변경 즉시 반영 (쓰기 잠금 안에서 호출)
+     * - 메모리 한도를 넘거나 묶을 수 없는 회원 ID 면 인덱스를 비우고 SQL 조회로 전환
+     */
+    private void applyNow(EdgeEvent event) {
+        LongHashSet target = event.type() == EdgeType.FOLLOW ? follows : blocks;
+
+        try {
+            long edge = packOrThrow(event.fromId(), event.toId());
+
+            if (event.added()) {
+                target.add(edge);
+                checkBudget(follows, blocks);
+            } else {
+                target.remove(edge);
+            }
+        } catch (IndexUnavailableException e) {
+            log.warn("관계 인덱스 사용 중지, SQL 조회 사용 : {}", e.getMessage());
+            ready = false;
+            follows = new LongHashSet();
+            blocks = new LongHashSet();
+        }
+    }
+
+    private void checkBudget(LongHashSet followSet, LongHashSet blockSet) {
+        if (followSet.memoryBytes() + blockSet.memoryBytes() > memoryBudgetBytes) {
+            throw new IndexUnavailableException("메모리 한도 초과 (" + memoryBudgetBytes + " bytes)");
+        }
+    }
+
+    private void afterCommit(EdgeEvent event) {
+        Runnable task = () -> {
+            apply(event);
+            publish(event);
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private void publish(EdgeEvent event) {
+        String message = nodeId + SEPARATOR
+                + (event.type() == EdgeType.FOLLOW ? 'F' : 'B') + (event.added() ? '+' : '-') + SEPARATOR
+                + event.fromId() + SEPARATOR + event.toId();
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 다른 노드는 불일치 확인 후 다시 적재할 때 반영
+            log.error("관계 변경 전파 실패 : {}", e.getMessage());
+        }
+    }
+
+    private static boolean packable(Long fromId, Long toId) {
+        return fromId != null && toId != null && packable(fromId.longValue()) && packable(toId.longValue());
+    }
+
+    private static boolean packable(long memberId) {
+        return memberId > 0 && memberId <= MAX_PACKABLE_ID;
+    }
+
+    private static long pack(long fromId, long toId) {
+        return fromId << 32 | toId;
+    }
+
+    private static long packOrThrow(long fromId, long toId) {
+        if (!packable(fromId) || !packable(toId)) {
+            throw new IndexUnavailableException("32비트를 넘는 회원 ID : " + fromId + ", " + toId);
+        }
+
+        return pack(fromId, toId);
+    }
+
+    private enum EdgeType {
+        FOLLOW, BLOCK
+    }
+
+    /**
+     * 관계 변경
+     *
+     * @param added  추가면 true, 삭제면 false
+     * @param fromId 팔로우한 / 차단한 회원 식별자 ID
+     * @param toId   팔로우 / 차단 대상 회원 식별자 ID
+     */
+    private record EdgeEvent(EdgeType type, boolean added, long fromId, long toId) {
+    }
+
+    /**
+     * 메모리 인덱스로 표현할 수 없는 상태 (SQL 조회로 전환)
+     */
+    private static class IndexUnavailableException extends RuntimeException {
+
+        IndexUnavailableException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
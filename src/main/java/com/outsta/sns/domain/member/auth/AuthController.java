@@ -1,5 +1,6 @@
 package com.outsta.sns.domain.member.auth;
 
+import com.outsta.sns.common.config.security.CustomUserDetails;
 import com.outsta.sns.common.response.SuccessResponse;
 import com.outsta.sns.domain.member.auth.dto.LoginRequest;
 import com.outsta.sns.domain.member.auth.dto.TokenDto;
@@ -12,12 +13,13 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 /**
  * 인증 관련 API 컨트롤러
  *
- * <p>로그인, 로그아웃, 토큰 재발급 기능 제공</p>
+ * <p>로그인, 로그아웃, 모든 기기 로그아웃, 토큰 재발급 기능 제공</p>
  */
 @RestController
 @RequiredArgsConstructor
@@ -93,6 +95,39 @@ public class AuthController {
         return ResponseEntity.ok(SuccessResponse.of());
     }
 
+    /**
+     * 모든 기기 로그아웃 처리
+     * - 회원에게 발급된 모든 Access Token과 Refresh Token 폐기
+     *
+     * @param userDetails 로그인한 회원 정보
+     * @param response HTTP 응답 객체 (쿠키 설정)
+     * @return 로그아웃 성공 응답
+     */
+    @Operation(summary = "모든 기기 로그아웃", description = "모든 기기에서 로그아웃을 진행합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "로그아웃 성공"),
+            @ApiResponse(responseCode = "401", description = "이미 로그아웃된 상태"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @PostMapping("/logout-all")
+    public ResponseEntity<SuccessResponse<Void>> logoutAll(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            HttpServletResponse response
+    ) {
+        authService.logoutAll(userDetails.id());
+
+        String cookieValue = "refreshToken=deleted"
+                + "; Max-Age=0"
+                + "; Path=/api/auth/reissue"
+                + "; HttpOnly"
+                + "; Secure"
+                + "; SameSite=None";
+
+        response.addHeader("Set-Cookie", cookieValue);
+
+        return ResponseEntity.ok(SuccessResponse.of());
+    }
+
     /**
      * 액세스 토큰 재발급
      *
@@ -2,6 +2,10 @@ package com.outsta.sns.domain.member.auth;
 
 import com.outsta.sns.common.config.security.JwtPayload;
 import com.outsta.sns.common.config.security.JwtProvider;
+import com.outsta.sns.common.config.security.LogoutTokenFilter;
+import com.outsta.sns.common.config.security.RefreshTokenClaims;
+import com.outsta.sns.common.config.security.TokenEpochStore;
+import com.outsta.sns.common.config.security.VerifiedToken;
 import com.outsta.sns.common.error.CustomException;
 import com.outsta.sns.common.error.ErrorCode;
 import com.outsta.sns.domain.enums.Activation;
@@ -14,14 +18,17 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.util.Date;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 인증 관련 서비스
  *
- * <p>로그인, 로그아웃, 토큰 재발급 기능 제공</p>
+ * <p>로그인, 로그아웃, 모든 기기 로그아웃, 토큰 재발급 기능 제공</p>
  */
 @RequiredArgsConstructor
 @Service
@@ -31,9 +38,16 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final RedisTemplate<String, String> redisTemplate;
+    private final LogoutTokenFilter logoutTokenFilter;
+    private final TokenEpochStore tokenEpochStore;
+    private final SessionStore sessionStore;
+
+    /** 세션 도입 전 Refresh Token 키 접두사 */
+    private static final String LEGACY_REFRESH_PREFIX = "refresh:";
 
     /**
      * 로그인 처리
+     * - 로그인 세션(기기)마다 세션 스냅샷 저장
      *
      * @param request 로그인 요청 DTO (이메일, 비밀번호)
      * @return 액세스 토큰 및 리프레시 토큰 DTO 반환
@@ -56,14 +70,19 @@ public class AuthService {
             throw new CustomException(ErrorCode.INVALID_CREDENTIALS);
         }
 
-        JwtPayload jwtPayload = new JwtPayload(member.getId(), member.getEmail(), member.getRole().getCode());
+        String sessionId = sessionStore.newSessionId();
+
+        JwtPayload jwtPayload = new JwtPayload(member.getId(), member.getEmail(), member.getRole().getCode(),
+                tokenEpochStore.currentEpoch(member.getId()));
+        jwtPayload.setSessionId(sessionId);
 
         String accessToken = jwtProvider.generateAccessToken(jwtPayload);
         String refreshToken = jwtProvider.generateRefreshToken(jwtPayload);
 
-        String redisKey = "refresh:" + member.getId();
+        long now = System.currentTimeMillis();
 
-        redisTemplate.opsForValue().set(redisKey, refreshToken, jwtProvider.getRefreshTokenExpiration(), TimeUnit.MILLISECONDS);
+        sessionStore.save(member.getId(), sessionId, SessionSnapshot.of(member, jwtProvider.tokenToHash(refreshToken),
+                now, now + jwtProvider.getRefreshTokenExpiration()));
 
         return new TokenDto(accessToken, refreshToken);
     }
@@ -71,43 +90,114 @@ public class AuthService {
     /**
      * 로그아웃 처리
      * - 로그아웃 성공 시 Redis에 블랙리스트(logout) 추가
+     * - 모든 노드의 로컬 로그아웃 필터에 전파
+     * - 해당 기기의 로그인 세션 제거
      *
      * @param accessToken JWT Access Token
      */
     public void logout(String accessToken) {
-        Date tokenExpiration = jwtProvider.getTokenExpiration(accessToken);
+        VerifiedToken verifiedToken = jwtProvider.verifyAccessToken(accessToken);
 
-        long expiration = tokenExpiration.getTime() - System.currentTimeMillis();
+        long expiration = verifiedToken.expiresAt() - System.currentTimeMillis();
         String hashToken = jwtProvider.tokenToHash(accessToken);
 
         redisTemplate.opsForValue().set(hashToken, "logout", expiration, TimeUnit.MILLISECONDS);
+        logoutTokenFilter.register(hashToken, verifiedToken.expiresAt());
+
+        JwtPayload jwtPayload = verifiedToken.payload();
+
+        if (jwtPayload.getSessionId() != null) {
+            sessionStore.remove(jwtPayload.getId(), jwtPayload.getSessionId());
+        }
+    }
+
+    /**
+     * 모든 기기 로그아웃 처리
+     * - 회원의 토큰 세대를 올려 이전에 발급된 모든 Access Token 폐기
+     * - 모든 로그인 세션 삭제하여 재발급 차단
+     *
+     * @param memberId 회원 식별자 ID
+     */
+    public void logoutAll(Long memberId) {
+        tokenEpochStore.revokeAll(memberId);
+        sessionStore.removeAll(memberId);
+        redisTemplate.delete(LEGACY_REFRESH_PREFIX + memberId);
+    }
+
+    /**
+     * 모든 기기 로그아웃 이벤트 처리
+     * - 이벤트를 발행한 트랜잭션이 커밋된 후에만 실행 (롤백 시 기존 토큰 유지)
+     * - 트랜잭션 밖에서 발행되면 즉시 실행
+     *
+     * @param event 모든 기기 로그아웃 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLogoutAll(LogoutAllEvent event) {
+        logoutAll(event.memberId());
     }
 
     /**
      * 토큰 재발급 처리
+     * - 세션 스냅샷으로 DB 조회 없이 Access Token 발급
      *
      * @param refreshToken 쿠키에서 제공된 리프레시 토큰
      * @return 새로 발급된 액세스 토큰
      * @throws CustomException 유효하지 않은 토큰 또는 사용자가 없는 경우 예외 발생
      */
-    @Transactional(readOnly = true)
     public TokenDto reIssueToken(String refreshToken) {
         if (refreshToken == null) {
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
 
-        Long memberId = jwtProvider.parseRefreshToken(refreshToken);
+        RefreshTokenClaims claims = jwtProvider.parseRefreshTokenClaims(refreshToken);
+
+        if (claims.sessionId() == null) {
+            return reIssueLegacyToken(claims.memberId(), refreshToken);
+        }
+
+        SessionSnapshot session = sessionStore.find(claims.memberId(), claims.sessionId());
+
+        if (session == null || session.isExpired(System.currentTimeMillis())) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        byte[] storedHash = session.refreshTokenHash().getBytes(StandardCharsets.US_ASCII);
+        byte[] requestHash = jwtProvider.tokenToHash(refreshToken).getBytes(StandardCharsets.US_ASCII);
+
+        if (!MessageDigest.isEqual(storedHash, requestHash)) {
+            throw new CustomException(ErrorCode.INVALID_TOKEN);
+        }
+
+        if (session.activation() != Activation.ACTIVE) {
+            throw new CustomException(ErrorCode.NOT_FOUND_MEMBER);
+        }
+
+        JwtPayload jwtPayload = new JwtPayload(claims.memberId(), session.email(), session.role(),
+                tokenEpochStore.currentEpoch(claims.memberId()));
+        jwtPayload.setSessionId(claims.sessionId());
 
+        String accessToken = jwtProvider.generateAccessToken(jwtPayload);
+
+        return new TokenDto(accessToken, null);
+    }
+
+    /**
+     * 세션 도입 전에 발급된 Refresh Token 재발급 처리
+     * - refresh:{memberId} 단일 키와 DB 조회로 확인
+     * - 기존 Refresh Token이 모두 만료되면 제거
+     */
+    private TokenDto reIssueLegacyToken(Long memberId, String refreshToken) {
         Member member = memberRepository.findActiveMemberById(memberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
 
-        String storedRefreshToken = redisTemplate.opsForValue().get("refresh:" + member.getId());
+        String storedRefreshToken = redisTemplate.opsForValue().get(LEGACY_REFRESH_PREFIX + member.getId());
 
         if (storedRefreshToken == null || !storedRefreshToken.equals(refreshToken)) {
             throw new CustomException(ErrorCode.INVALID_TOKEN);
         }
 
-        JwtPayload jwtPayload = new JwtPayload(member.getId(), member.getEmail(), member.getRole().getCode());
+        JwtPayload jwtPayload = new JwtPayload(member.getId(), member.getEmail(), member.getRole().getCode(),
+                tokenEpochStore.currentEpoch(member.getId()));
 
         String accessToken = jwtProvider.generateAccessToken(jwtPayload);
 
@@ -0,0 +1,10 @@
+package com.outsta.sns.domain.member.auth;
+
+/**
+ * 모든 기기 로그아웃 요청 이벤트
+ * - 비밀번호 변경, 회원 탈퇴 등 회원 정보 변경이 커밋된 후 AuthService 에서 처리
+ *
+ * @param memberId 회원 식별자 ID
+ */
+public record LogoutAllEvent(Long memberId) {
+}
@@ -0,0 +1,42 @@
+package com.outsta.sns.domain.member.auth;
+
+import com.outsta.sns.domain.enums.Activation;
+import com.outsta.sns.domain.member.entity.Member;
+
+/**
+ * 로그인 세션 스냅샷
+ * - 토큰 재발급 시 DB 조회 없이 사용할 회원 정보
+ *
+ * @param refreshTokenHash SHA-256 해시 처리된 Refresh Token
+ * @param role             회원 Role 코드
+ * @param email            회원 이메일
+ * @param activation       회원 활성화 상태
+ * @param issuedAt         세션 생성 시각 (epoch millis)
+ * @param expiresAt        세션 만료 시각 (epoch millis)
+ */
+public record SessionSnapshot(
+        String refreshTokenHash,
+        String role,
+        String email,
+        Activation activation,
+        long issuedAt,
+        long expiresAt
+) {
+
+    public static SessionSnapshot of(Member member, String refreshTokenHash, long issuedAt, long expiresAt) {
+        return new SessionSnapshot(refreshTokenHash, member.getRole().getCode(), member.getEmail(),
+                member.getActivation(), issuedAt, expiresAt);
+    }
+
+    /**
+     * 회원 정보가 변경된 스냅샷 생성
+     */
+    public SessionSnapshot withMember(Member member) {
+        return new SessionSnapshot(refreshTokenHash, member.getRole().getCode(), member.getEmail(),
+                member.getActivation(), issuedAt, expiresAt);
+    }
+
+    public boolean isExpired(long now) {
+        return expiresAt <= now;
+    }
+}
@@ -0,0 +1,224 @@
+package com.outsta.sns.domain.member.auth;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import com.outsta.sns.domain.member.entity.Member;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 회원별 로그인 세션 저장소
+ * - Redis Hash(session:{memberId})에 세션(기기)마다 필드 하나로 스냅샷 저장
+ * - 토큰 재발급 시 DB 조회 없이 스냅샷으로 Access Token 발급
+ * - 회원당 최대 세션 수를 넘으면 가장 오래된 세션부터 제거
+ * - 세션 Hash 를 읽고 고치는 작업은 Lua 스크립트로 원자적으로 처리 (동시 로그인 / 로그아웃 시 세션 유실, 부활 방지)
+ */
+@Slf4j
+@Component
+public class SessionStore {
+
+    /** 회원별 세션 키 접두사 */
+    private static final String KEY_PREFIX = "session:";
+
+    /**
+     * 만료된 세션과 최대 세션 수를 넘는 오래된 세션 제거 후 새 세션 저장
+     * - KEYS[1] : 세션 키, ARGV : 세션 ID, 스냅샷, 현재 시각, 최대 세션 수, 유지 시간(ms)
+     * - 읽을 수 없는 스냅샷은 만료된 세션으로 취급
+     */
+    private static final RedisScript<Long> SAVE = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[3]) " +
+                    "local entries = redis.call('HGETALL', KEYS[1]) " +
+                    "local live = {} " +
+                    "for i = 1, #entries, 2 do " +
+                    "if entries[i] ~= ARGV[1] then " +
+                    "local ok, session = pcall(cjson.decode, entries[i + 1]) " +
+                    "if ok and type(session) == 'table' and tonumber(session.expiresAt) " +
+                    "and tonumber(session.expiresAt) > now then " +
+                    "live[#live + 1] = {entries[i], tonumber(session.issuedAt) or 0} " +
+                    "else " +
+                    "redis.call('HDEL', KEYS[1], entries[i]) " +
+                    "end " +
+                    "end " +
+                    "end " +
+                    "local overflow = #live + 1 - tonumber(ARGV[4]) " +
+                    "if overflow > 0 then " +
+                    "table.sort(live, function(a, b) return a[2] < b[2] end) " +
+                    "for i = 1, overflow do redis.call('HDEL', KEYS[1], live[i][1]) end " +
+                    "end " +
+                    "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+                    "return 1",
+            Long.class);
+
+    /**
+     * 아직 남아 있는 세션만 덮어씀 (그 사이 로그아웃된 세션은 되살리지 않음)
+     * - KEYS[1] : 세션 키, ARGV : 세션 ID, 스냅샷 쌍
+     */
+    private static final RedisScript<Long> UPDATE_IF_PRESENT = new DefaultRedisScript<>(
+            "local updated = 0 " +
+                    "for i = 1, #ARGV, 2 do " +
+                    "if redis.call('HEXISTS', KEYS[1], ARGV[i]) == 1 then " +
+                    "redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+                    "updated = updated + 1 " +
+                    "end " +
+                    "end " +
+                    "return updated",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /** 회원당 최대 세션 수 */
+    private final int maxSessions;
+
+    /** 세션 유지 시간 (Refresh Token 만료 시간) */
+    private final long sessionTtl;
+
+    public SessionStore(RedisTemplate<String, String> redisTemplate,
+                        ObjectMapper objectMapper,
+                        @Value("${jwt.session.max-per-member:10}") int maxSessions,
+                        @Value("${jwt.refresh.expiration}") long sessionTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxSessions = maxSessions;
+        this.sessionTtl = sessionTtl;
+    }
+
+    /**
+     * 새 세션 ID 생성
+     */
+    public String newSessionId() {
+        return UUID.randomUUID().toString();
+    }
+
+    /**
+     * 세션 저장
+     * - 만료된 세션과 최대 세션 수를 넘는 오래된 세션 제거
+     *
+     * @param memberId  회원 식별자 ID
+     * @param sessionId 세션 ID
+     * @param snapshot  세션 스냅샷
+     */
+    public void save(Long memberId, String sessionId, SessionSnapshot snapshot) {
+        redisTemplate.execute(SAVE, List.of(KEY_PREFIX + memberId), sessionId, serialize(snapshot),
+                String.valueOf(System.currentTimeMillis()), String.valueOf(maxSessions), String.valueOf(sessionTtl));
+    }
+
+    /**
+     * 세션 조회
+     *
+     * @param memberId  회원 식별자 ID
+     * @param sessionId 세션 ID
+     * @return 세션 스냅샷, 없으면 null
+     */
+    public SessionSnapshot find(Long memberId, String sessionId) {
+        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+
+        return deserialize(hashOperations.get(KEY_PREFIX + memberId, sessionId));
+    }
+
+    /**
+     * 세션 하나 제거 (해당 기기 로그아웃)
+     */
+    public void remove(Long memberId, String sessionId) {
+        redisTemplate.opsForHash().delete(KEY_PREFIX + memberId, sessionId);
+    }
+
+    /**
+     * 회원의 모든 세션 제거
+     */
+    public void removeAll(Long memberId) {
+        redisTemplate.delete(KEY_PREFIX + memberId);
+    }
+
+    /**
+     * 회원 정보(Role, 이메일, 활성화 상태) 변경을 모든 세션 스냅샷에 반영
+     * - 트랜잭션 안이면 커밋 후 반영 (롤백되면 반영하지 않음)
+     *
+     * @param member 변경된 회원
+     */
+    public void updateMember(Member member) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyMember(member);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyMember(member);
+            }
+        });
+    }
+
+    private void applyMember(Member member) {
+        String key = KEY_PREFIX + member.getId();
+        Map<String, SessionSnapshot> sessions = findAll(member.getId());
+
+        if (sessions.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+
+        sessions.forEach((id, session) -> {
+            if (session != null) {
+                args.add(id);
+                args.add(serialize(session.withMember(member)));
+            }
+        });
+
+        if (!args.isEmpty()) {
+            redisTemplate.execute(UPDATE_IF_PRESENT, List.of(key), args.toArray());
+        }
+    }
+
+    private Map<String, SessionSnapshot> findAll(Long memberId) {
+        HashOperations<String, String, String> hashOperations = redisTemplate.opsForHash();
+        Map<String, String> entries = hashOperations.entries(KEY_PREFIX + memberId);
+
+        Map<String, SessionSnapshot> sessions = new HashMap<>();
+        entries.forEach((id, value) -> sessions.put(id, deserialize(value)));
+
+        return sessions;
+    }
+
+    private String serialize(SessionSnapshot snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            log.error("세션 스냅샷 직렬화 실패 : {}", e.getMessage());
+
+            throw new CustomException(ErrorCode.REDIS_INTERNAL_ERROR);
+        }
+    }
+
+    private SessionSnapshot deserialize(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(value, SessionSnapshot.class);
+        } catch (JsonProcessingException e) {
+            log.error("세션 스냅샷 역직렬화 실패 : {}", e.getMessage());
+
+            return null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.outsta.sns.domain.member.batch;
+
+import com.outsta.sns.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 회원 식별자 ID 범위 분할기
+ * - 가장 작은 ID ~ 가장 큰 ID 를 gridSize 개의 연속 구간(minId ~ maxId)으로 나눔
+ * - 회원이 없으면 파티션 없음
+ */
+@RequiredArgsConstructor
+public class MemberIdRangePartitioner implements Partitioner {
+
+    static final String MIN_ID = "minId";
+    static final String MAX_ID = "maxId";
+
+    private final MemberRepository memberRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Long min = memberRepository.findMinId();
+        Long max = memberRepository.findMaxId();
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        if (min == null || max == null) {
+            return partitions;
+        }
+
+        long rangeSize = (max - min) / gridSize + 1;
+        int index = 0;
+
+        for (long from = min; from <= max; from += rangeSize) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, from);
+            context.putLong(MAX_ID, Math.min(from + rangeSize - 1, max));
+
+            partitions.put("partition" + index++, context);
+        }
+
+        return partitions;
+    }
+}
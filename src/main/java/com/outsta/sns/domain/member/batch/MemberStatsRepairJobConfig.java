@@ -0,0 +1,99 @@
+package com.outsta.sns.domain.member.batch;
+
+import com.outsta.sns.domain.member.repository.MemberRepository;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 회원 통계 보정 배치 설정
+ * - memberStatsRepairJob : 회원 식별자 ID 범위를 grid-size 개로 나눠 파티션별로 동시에 실행
+ * - 파티션마다 회원 ID를 chunk-size 만큼씩 읽어 MemberStatsRepairWriter로 보정
+ */
+@Configuration
+public class MemberStatsRepairJobConfig {
+
+    public static final String JOB_NAME = "memberStatsRepairJob";
+    private static final String STEP_NAME = "memberStatsRepairStep";
+
+    @Value("${member.stats.repair.grid-size:4}")
+    private int gridSize;
+
+    @Value("${member.stats.repair.chunk-size:500}")
+    private int chunkSize;
+
+    @Bean
+    public Job memberStatsRepairJob(JobRepository jobRepository, Step memberStatsRepairManagerStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(memberStatsRepairManagerStep)
+                .build();
+    }
+
+    @Bean
+    public Step memberStatsRepairManagerStep(JobRepository jobRepository,
+                                             MemberRepository memberRepository,
+                                             Step memberStatsRepairStep) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("member-stats-repair-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
+        return new StepBuilder(STEP_NAME + ".manager", jobRepository)
+                .partitioner(STEP_NAME, new MemberIdRangePartitioner(memberRepository))
+                .step(memberStatsRepairStep)
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step memberStatsRepairStep(JobRepository jobRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      JdbcPagingItemReader<Long> memberIdReader,
+                                      MemberStatsRepairWriter memberStatsRepairWriter) {
+        DefaultTransactionAttribute transactionAttribute = new DefaultTransactionAttribute();
+        transactionAttribute.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        return new StepBuilder(STEP_NAME, jobRepository)
+                .<Long, Long>chunk(chunkSize, transactionManager)
+                .reader(memberIdReader)
+                .writer(memberStatsRepairWriter)
+                .transactionAttribute(transactionAttribute)
+                .build();
+    }
+
+    /**
+     * 파티션 범위의 회원 식별자 ID 를 오름차순으로 읽는 Reader (키셋 페이징)
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<Long> memberIdReader(DataSource dataSource,
+                                                     @Value("#{stepExecutionContext['minId']}") Long minId,
+                                                     @Value("#{stepExecutionContext['maxId']}") Long maxId) {
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("memberIdReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT id")
+                .fromClause("FROM member")
+                .whereClause("WHERE id BETWEEN :minId AND :maxId")
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .parameterValues(Map.of(MemberIdRangePartitioner.MIN_ID, minId, MemberIdRangePartitioner.MAX_ID, maxId))
+                .pageSize(chunkSize)
+                .rowMapper((rs, rowNum) -> rs.getLong(1))
+                .build();
+    }
+}
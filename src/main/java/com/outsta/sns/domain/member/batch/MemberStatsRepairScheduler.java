@@ -0,0 +1,50 @@
+package com.outsta.sns.domain.member.batch;
+
+import com.outsta.sns.common.config.BatchConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 통계 보정 배치 실행
+ * - 하루 한 번 실행 날짜를 Job 파라미터로 실행
+ * - 여러 서버에서 동시에 실행해도 같은 날짜의 Job 은 JobRepository 에서 한 번만 실행됨
+ * - 스케줄러 스레드를 막지 않도록 비동기 JobLauncher 로 시작만 하고 반환
+ */
+@Slf4j
+@Component
+public class MemberStatsRepairScheduler {
+
+    private final JobLauncher jobLauncher;
+    private final Job memberStatsRepairJob;
+
+    public MemberStatsRepairScheduler(@Qualifier(BatchConfig.ASYNC_JOB_LAUNCHER) JobLauncher jobLauncher,
+                                      Job memberStatsRepairJob) {
+        this.jobLauncher = jobLauncher;
+        this.memberStatsRepairJob = memberStatsRepairJob;
+    }
+
+    @Scheduled(cron = "${member.stats.repair.cron:0 0 4 * * *}")
+    public void run() {
+        JobParameters parameters = new JobParametersBuilder()
+                .addLocalDate("date", LocalDate.now())
+                .toJobParameters();
+
+        try {
+            JobExecution execution = jobLauncher.run(memberStatsRepairJob, parameters);
+            log.info("회원 통계 보정 배치 시작 : executionId={}", execution.getId());
+        } catch (JobExecutionException e) {
+            // 다른 서버에서 이미 실행 중이거나 완료
+            log.info("회원 통계 보정 배치 실행 건너뜀 : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.outsta.sns.domain.member.batch;
+
+import com.outsta.sns.domain.follow.repository.FollowQueryRepository;
+import com.outsta.sns.domain.follow.service.FollowCountStore;
+import com.outsta.sns.domain.member.entity.MemberStats;
+import com.outsta.sns.domain.member.repository.MemberStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 통계 보정 Writer
+ * - 청크의 회원 통계 행을 잠근 뒤 follow 테이블 집계(GROUP BY)와 비교하여 다르거나 없으면 덮어씀
+ * - 행을 먼저 잠그므로 보정 중 커밋되는 팔로우 증감은 보정 이후에 반영되어 유실되지 않음
+ *   (청크 트랜잭션은 READ COMMITTED, 잠금 이후 집계가 최신 커밋을 읽음)
+ * - 보정한 회원의 팔로우 수 캐시는 청크 커밋 후 삭제 (보정 작업은 이 배치 하나)
+ */
+@Component
+public class MemberStatsRepairWriter implements ItemWriter<Long> {
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final FollowQueryRepository followQueryRepository;
+    private final FollowCountStore followCountStore;
+    private final Counter repairedCounter;
+
+    public MemberStatsRepairWriter(MemberStatsRepository memberStatsRepository,
+                                   FollowQueryRepository followQueryRepository,
+                                   FollowCountStore followCountStore,
+                                   MeterRegistry meterRegistry) {
+        this.memberStatsRepository = memberStatsRepository;
+        this.followQueryRepository = followQueryRepository;
+        this.followCountStore = followCountStore;
+        this.repairedCounter = Counter.builder("member.stats.repaired")
+                .description("follow 테이블 기준으로 보정(생성 포함)된 회원 통계 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void write(Chunk<? extends Long> chunk) {
+        List<Long> memberIds = new ArrayList<>(chunk.getItems());
+
+        Map<Long, MemberStats> stored = memberStatsRepository.findAllForUpdate(memberIds).stream()
+                .collect(Collectors.toMap(MemberStats::getMemberId, Function.identity()));
+        Map<Long, Long> followerCounts = followQueryRepository.getFollowerCounts(memberIds);
+        Map<Long, Long> followingCounts = followQueryRepository.getFollowingCounts(memberIds);
+        List<Long> repairedIds = new ArrayList<>();
+
+        for (Long memberId : memberIds) {
+            long followerCount = followerCounts.getOrDefault(memberId, 0L);
+            long followingCount = followingCounts.getOrDefault(memberId, 0L);
+            MemberStats stats = stored.get(memberId);
+
+            if (stats == null || stats.getFollowerCount() != followerCount || stats.getFollowingCount() != followingCount) {
+                memberStatsRepository.upsert(memberId, followerCount, followingCount);
+                repairedCounter.increment();
+                repairedIds.add(memberId);
+            }
+        }
+
+        followCountStore.evict(repairedIds);
+    }
+}
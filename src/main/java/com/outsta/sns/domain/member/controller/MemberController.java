@@ -7,9 +7,12 @@ import com.outsta.sns.domain.member.dto.response.CheckEmailResponse;
 import com.outsta.sns.domain.member.dto.response.CheckNicknameResponse;
 import com.outsta.sns.domain.member.dto.response.MemberIdResponse;
 import com.outsta.sns.domain.member.dto.response.MemberInfoResponse;
+import com.outsta.sns.domain.member.dto.response.MemberSearchResponse;
 import com.outsta.sns.domain.member.service.MemberQueryService;
 import com.outsta.sns.domain.member.service.MemberService;
 import com.outsta.sns.domain.profile.dto.response.ProfileImageResponse;
+import com.outsta.sns.domain.recommend.dto.RecommendationListResponse;
+import com.outsta.sns.domain.recommend.service.RecommendationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -35,6 +38,7 @@ public class MemberController {
 
     private final MemberService memberService;
     private final MemberQueryService memberQueryService;
+    private final RecommendationService recommendationService;
 
     /**
      * 회원 가입 처리
@@ -278,6 +282,57 @@ public class MemberController {
         return ResponseEntity.ok(SuccessResponse.of());
     }
 
+    /**
+     * 알 수도 있는 회원 목록 조회
+     * - 내가 팔로우하는 회원들이 팔로우하는 회원을 함께 아는 회원 수 순으로 추천 (하루 한 번 배치로 계산)
+     * - 이미 팔로우했거나 차단 관계인 회원, 활동 중이 아닌 회원 제외
+     *
+     * @param userDetails 현재 로그인한(인증된) 회원 객체 (사용자 식별자 ID, 이메일, Role)
+     * @return 추천 회원 목록 (회원 식별자 ID, 닉네임, 함께 아는 회원 수)
+     */
+    @Operation(summary = "알 수도 있는 회원 목록 조회", description = "팔로우 추천 회원 목록을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "추천 회원 목록 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "로그인 필요"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/me/recommendations")
+    public ResponseEntity<SuccessResponse<RecommendationListResponse>> getMyRecommendations(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        RecommendationListResponse response = recommendationService.getMyRecommendations(userDetails.id());
+
+        return ResponseEntity.ok(SuccessResponse.of(response));
+    }
+
+    /**
+     * 닉네임으로 회원 검색
+     * - 닉네임이 접두사로 시작하는 활동 중인 회원을 팔로워 수 순으로 조회 (대소문자 구분 없음)
+     * - 로그인한 경우 차단 관계인 회원 제외
+     *
+     * @param request     회원 검색 DTO (닉네임 접두사)
+     * @param userDetails 현재 로그인한(인증된) 회원 객체 (비로그인 시 null)
+     * @return 검색된 회원 목록 (회원 식별자 ID, 닉네임)
+     */
+    @Operation(summary = "회원 검색", description = "닉네임 접두사로 회원을 검색합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "회원 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 검색어/파라미터 누락"),
+            @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<SuccessResponse<MemberSearchResponse>> searchMembers(
+            @Valid @ModelAttribute MemberSearchRequest request,
+
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Long loginId = (userDetails != null) ? userDetails.id() : null;
+
+        MemberSearchResponse response = memberQueryService.searchMembers(loginId, request.prefix());
+
+        return ResponseEntity.ok(SuccessResponse.of(response));
+    }
+
     /**
      * 회원 정보 조회
      * - 자신 혹은 상대방
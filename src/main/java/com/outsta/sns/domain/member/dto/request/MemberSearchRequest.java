@@ -0,0 +1,20 @@
+package com.outsta.sns.domain.member.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import org.hibernate.validator.constraints.Length;
+
+/**
+ * 회원 검색 Request DTO
+ * - 닉네임 접두사
+ */
+@Schema(description = "회원 검색 Request DTO")
+public record MemberSearchRequest(
+
+        /** 닉네임 접두사 */
+        @Schema(description = "닉네임 접두사 (대소문자 구분 없음)", example = "아브라", minLength = 1, maxLength = 30)
+        @NotBlank(message = "검색어는 필수입니다.")
+        @Length(max = 30, message = "검색어는 30자 이하입니다.")
+        String prefix
+) {
+}
@@ -0,0 +1,20 @@
+package com.outsta.sns.domain.member.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 회원 검색 Response DTO
+ * - 회원 식별자 ID, 회원 닉네임
+ * - 팔로워 수 내림차순, 같으면 닉네임 오름차순
+ */
+@Schema(description = "회원 검색 Response DTO")
+public record MemberSearchResponse(
+        @Schema(description = "검색된 회원 목록") List<SearchedMemberDto> memberList
+) {
+    public record SearchedMemberDto(
+            @Schema(description = "회원 ID") Long memberId,
+            @Schema(description = "닉네임") String nickname) {
+    }
+}
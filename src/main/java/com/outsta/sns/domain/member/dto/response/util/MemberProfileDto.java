@@ -0,0 +1,43 @@
+package com.outsta.sns.domain.member.dto.response.util;
+
+import com.outsta.sns.domain.enums.Gender;
+import com.outsta.sns.domain.enums.Visibility;
+import com.outsta.sns.domain.member.entity.Member;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 상세 조회 DTO
+ * - 공통 내부 로직용 Util DTO, 회원 정보만 포함 (대표 이미지는 대표 이미지 캐시 representImage 에서 조회)
+ * - 조회하는 회원과 관계없는 값만 포함 (회원별 캐시 memberProfile 의 값)
+ */
+public record MemberProfileDto(
+        /** 회원 식별자 ID */
+        Long id,
+
+        /** 이름 */
+        String name,
+
+        /** 닉네임 */
+        String nickname,
+
+        /** 생년월일 */
+        LocalDate birth,
+
+        /** 성별 */
+        Gender gender,
+
+        /** 프로필 공개 범위 */
+        Visibility visibility
+) {
+    public static MemberProfileDto from(Member member) {
+        return new MemberProfileDto(
+                member.getId(),
+                member.getName(),
+                member.getNickname(),
+                member.getBirth(),
+                member.getGender(),
+                member.getVisibility()
+        );
+    }
+}
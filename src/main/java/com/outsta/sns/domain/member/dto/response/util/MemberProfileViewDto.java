@@ -0,0 +1,80 @@
+package com.outsta.sns.domain.member.dto.response.util;
+
+import com.outsta.sns.domain.enums.Gender;
+import com.outsta.sns.domain.enums.Visibility;
+import com.outsta.sns.domain.follow.dto.FollowCountDto;
+import com.outsta.sns.domain.profile.dto.response.RepresentImageDto;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 상세 조회 화면 DTO
+ * - 공통 내부 로직용 Util DTO, 회원 정보 + 조회하는 회원과의 관계 + 팔로워 / 팔로잉 수 + 대표(없으면 최신) 이미지를
+ *   쿼리 한 번으로 조회한 결과 (회원 상세 정보 캐시 미스 시 사용)
+ * - 조회하는 회원과 관계없는 부분(profile)만 회원별 캐시 memberProfile 에 저장
+ */
+public record MemberProfileViewDto(
+        /** 회원 식별자 ID */
+        Long id,
+
+        /** 이름 */
+        String name,
+
+        /** 닉네임 */
+        String nickname,
+
+        /** 생년월일 */
+        LocalDate birth,
+
+        /** 성별 */
+        Gender gender,
+
+        /** 프로필 공개 범위 */
+        Visibility visibility,
+
+        /** 조회하는 회원과 어느 쪽이든 차단 관계인지 여부 (비로그인이면 false) */
+        Boolean blockedWhoever,
+
+        /** 조회하는 회원이 팔로우하는지 여부 (비로그인이면 false) */
+        Boolean followedByViewer,
+
+        /** 팔로워 수 (회원 통계가 없으면 null) */
+        Long followerCount,
+
+        /** 팔로잉 수 (회원 통계가 없으면 null) */
+        Long followingCount,
+
+        /** 대표(없으면 최신) 프로필 이미지 식별자 ID (이미지가 없으면 null) */
+        Long profileImageId,
+
+        /** 프로필 이미지 저장 경로 URL */
+        String imageUrl,
+
+        /** 원본 파일명 */
+        String originName,
+
+        /** 저장된 파일명 */
+        String fileName
+) {
+
+    /**
+     * 조회하는 회원과 관계없는 회원 정보
+     */
+    public MemberProfileDto profile() {
+        return new MemberProfileDto(id, name, nickname, birth, gender, visibility);
+    }
+
+    /**
+     * 팔로워 / 팔로잉 수 (회원 통계가 없으면 null)
+     */
+    public FollowCountDto followCount() {
+        return followerCount != null && followingCount != null ? new FollowCountDto(followerCount, followingCount) : null;
+    }
+
+    /**
+     * 대표(없으면 최신) 이미지 (이미지가 없으면 null)
+     */
+    public RepresentImageDto representImage() {
+        return profileImageId != null ? new RepresentImageDto(profileImageId, imageUrl, originName, fileName) : null;
+    }
+}
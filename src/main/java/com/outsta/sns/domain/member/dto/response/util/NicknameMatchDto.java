@@ -0,0 +1,12 @@
+package com.outsta.sns.domain.member.dto.response.util;
+
+/**
+ * 닉네임 접두사 검색 결과
+ * - 공통 내부 로직용 Util DTO (검색 인덱스 / DB 조회 공통)
+ *
+ * @param memberId      회원 식별자 ID
+ * @param nickname      닉네임
+ * @param followerCount 팔로워 수 (정렬 기준, 인덱스는 적재 시점 기준)
+ */
+public record NicknameMatchDto(long memberId, String nickname, long followerCount) {
+}
@@ -0,0 +1,390 @@
+package com.outsta.sns.domain.member.email;
+
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMailMessage;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 발송 디스패처
+ * - 발송 요청은 크기가 제한된 대기열에 넣고 바로 반환, 대기열이 가득 차면 429(TOO_MANY_REQUESTS)
+ * - 고정 개수의 발송 스레드가 각자 SMTP 연결(Transport)을 유지하며 여러 메일을 같은 연결로 발송
+ * - 대기열에서 한 번에 최대 batch-size 개씩 꺼내 발송
+ * - 일정 시간 발송이 없거나 연결당 최대 발송 수에 도달하면 연결 종료 후 다음 발송 시 재연결
+ */
+@Slf4j
+@Component
+public class MailDispatcher implements SmartLifecycle {
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<MailTask> queue;
+
+    private final int workers;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long idleTimeoutNanos;
+    private final int maxMessagesPerConnection;
+
+    private final Timer queueLagTimer;
+    private final Timer sendTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+    private final Counter connectionCounter;
+    private final DistributionSummary batchSummary;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running = false;
+
+    public MailDispatcher(JavaMailSenderImpl mailSender,
+                          MeterRegistry meterRegistry,
+                          @Value("${mail.dispatcher.workers:2}") int workers,
+                          @Value("${mail.dispatcher.queue-capacity:1000}") int queueCapacity,
+                          @Value("${mail.dispatcher.batch-size:20}") int batchSize,
+                          @Value("${mail.dispatcher.max-attempts:3}") int maxAttempts,
+                          @Value("${mail.dispatcher.retry-backoff:2s}") Duration retryBackoff,
+                          @Value("${mail.dispatcher.idle-timeout:30s}") Duration idleTimeout,
+                          @Value("${mail.dispatcher.max-messages-per-connection:100}") int maxMessagesPerConnection) {
+        this.mailSender = mailSender;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoff.toMillis();
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+
+        this.queueLagTimer = Timer.builder("mail.dispatcher.queue.lag")
+                .description("대기열에 들어간 뒤 발송을 시작하기까지 걸린 시간")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("mail.dispatcher.send")
+                .description("메일 1건 SMTP 발송 시간")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.dispatcher.sent")
+                .description("발송 완료된 메일 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.dispatcher.failed")
+                .description("재시도 후에도 발송 실패한 메일 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("mail.dispatcher.rejected")
+                .description("대기열이 가득 차 거절된 메일 수")
+                .register(meterRegistry);
+        this.connectionCounter = Counter.builder("mail.dispatcher.connections")
+                .description("새로 연결한 SMTP 연결 수")
+                .register(meterRegistry);
+        this.batchSummary = DistributionSummary.builder("mail.dispatcher.batch.size")
+                .description("한 번에 대기열에서 꺼낸 메일 수")
+                .register(meterRegistry);
+
+        Gauge.builder("mail.dispatcher.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("mail.dispatcher.queue.oldest.age", queue, MailDispatcher::oldestAgeMillis)
+                .description("가장 오래 대기 중인 메일의 대기 시간(ms)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 메일 발송 요청
+     *
+     * @param message 발송할 메일
+     * @throws CustomException 대기열이 가득 찼으면 TOO_MANY_REQUESTS
+     */
+    public void dispatch(SimpleMailMessage message) {
+        dispatch(message, null);
+    }
+
+    /**
+     * 메일 발송 요청 (발송 결과 통지)
+     *
+     * @param message  발송할 메일
+     * @param callback 발송 완료 또는 최종 실패 시 발송 스레드에서 호출
+     * @throws CustomException 대기열이 가득 찼으면 TOO_MANY_REQUESTS
+     */
+    public void dispatch(SimpleMailMessage message, DeliveryCallback callback) {
+        if (!queue.offer(new MailTask(message, callback, System.nanoTime()))) {
+            rejectedCounter.increment();
+            log.warn("메일 발송 대기열 초과로 요청 거절 : {}", Arrays.toString(message.getTo()));
+
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    /**
+     * 대기열 남은 자리 수
+     */
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+
+        running = true;
+
+        for (int i = 1; i <= workers; i++) {
+            Thread thread = new Thread(new Worker(), "mail-dispatcher-" + i);
+            thread.setDaemon(true);
+            thread.start();
+
+            threads.add(thread);
+        }
+    }
+
+    /**
+     * 종료 시 남은 대기열을 발송한 뒤 스레드 종료
+     */
+    @Override
+    public synchronized void stop() {
+        running = false;
+
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                break;
+            }
+        }
+
+        threads.clear();
+
+        if (!queue.isEmpty()) {
+            log.warn("종료 시 발송하지 못한 메일 수 : {}", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static double oldestAgeMillis(BlockingQueue<MailTask> queue) {
+        MailTask oldest = queue.peek();
+
+        return oldest == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - oldest.enqueuedAt());
+    }
+
+    /**
+     * 발송 결과 통지
+     */
+    @FunctionalInterface
+    public interface DeliveryCallback {
+
+        /**
+         * @param sent 발송 성공 여부 (재시도 후 최종 실패면 false)
+         */
+        void onComplete(boolean sent);
+    }
+
+    /**
+     * 대기 중인 메일
+     *
+     * @param message    메일
+     * @param callback   발송 결과 통지 (없으면 null)
+     * @param enqueuedAt 대기열에 들어간 시각 (nanoTime)
+     */
+    private record MailTask(SimpleMailMessage message, DeliveryCallback callback, long enqueuedAt) {
+    }
+
+    /**
+     * 발송 스레드
+     * - 스레드마다 SMTP 연결 하나를 유지
+     */
+    private class Worker implements Runnable {
+
+        private final List<MailTask> batch = new ArrayList<>(batchSize);
+
+        private Transport transport;
+        private int sentOnConnection;
+        private long lastSentAt = System.nanoTime();
+
+        @Override
+        public void run() {
+            try {
+                while (running || !queue.isEmpty()) {
+                    MailTask first = queue.poll(1, TimeUnit.SECONDS);
+
+                    if (first == null) {
+                        closeIfIdle();
+                        continue;
+                    }
+
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    batchSummary.record(batch.size());
+
+                    for (MailTask task : batch) {
+                        queueLagTimer.record(System.nanoTime() - task.enqueuedAt(), TimeUnit.NANOSECONDS);
+                        complete(task, sendSafely(task.message()));
+                    }
+
+                    batch.clear();
+                    lastSentAt = System.nanoTime();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * 메일 1건 발송
+         * - 메시지 생성 오류 등 예상하지 못한 예외는 실패로 처리하고 다음 메일 발송 (발송 스레드 유지)
+         */
+        private boolean sendSafely(SimpleMailMessage message) throws InterruptedException {
+            try {
+                return send(message);
+            } catch (RuntimeException e) {
+                close();
+                failedCounter.increment();
+                log.error("[메일 발송 실패 - 예상하지 못한 오류] email: {}, error: {}", Arrays.toString(message.getTo()), e.getMessage(), e);
+
+                return false;
+            }
+        }
+
+        /**
+         * 메일 1건 발송
+         * - 연결 오류는 재연결 후 max-attempts 까지 재시도
+         * - 수신자 주소 오류(SendFailedException)는 재시도하지 않음
+         */
+        private boolean send(SimpleMailMessage message) throws InterruptedException {
+            for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+                long startedAt = System.nanoTime();
+
+                try {
+                    MimeMessage mimeMessage = toMimeMessage(message);
+
+                    connection().sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+                    sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    sentCounter.increment();
+
+                    if (++sentOnConnection >= maxMessagesPerConnection) {
+                        close();
+                    }
+
+                    return true;
+                } catch (SendFailedException e) {
+                    failedCounter.increment();
+                    log.error("[메일 발송 실패 - 수신자 오류] email: {}, error: {}", Arrays.toString(message.getTo()), e.getMessage());
+
+                    return false;
+                } catch (MessagingException e) {
+                    close();
+
+                    if (attempt == maxAttempts) {
+                        failedCounter.increment();
+                        log.error("[재시도 실패 - 이메일 전송 오류] email: {}, subject: {}, error: {}",
+                                Arrays.toString(message.getTo()), message.getSubject(), e.getMessage());
+
+                        return false;
+                    }
+
+                    log.warn("메일 발송 실패, 재시도 {}/{} : {}", attempt, maxAttempts, e.getMessage());
+                    Thread.sleep(retryBackoffMillis);
+                }
+            }
+
+            return false;
+        }
+
+        private void complete(MailTask task, boolean sent) {
+            if (task.callback() == null) {
+                return;
+            }
+
+            try {
+                task.callback().onComplete(sent);
+            } catch (RuntimeException e) {
+                log.error("메일 발송 결과 통지 실패 : {}", e.getMessage());
+            }
+        }
+
+        private MimeMessage toMimeMessage(SimpleMailMessage message) throws MessagingException {
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+
+            if (message.getSentDate() == null) {
+                mimeMessage.setSentDate(new Date());
+            }
+
+            message.copyTo(new MimeMailMessage(mimeMessage));
+            mimeMessage.saveChanges();
+
+            return mimeMessage;
+        }
+
+        private Transport connection() throws MessagingException {
+            if (transport != null && transport.isConnected()) {
+                return transport;
+            }
+
+            close();
+
+            Session session = mailSender.getSession();
+            String protocol = mailSender.getProtocol();
+
+            if (protocol == null) {
+                protocol = session.getProperty("mail.transport.protocol");
+            }
+
+            transport = session.getTransport(protocol != null ? protocol : JavaMailSenderImpl.DEFAULT_PROTOCOL);
+            transport.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+            connectionCounter.increment();
+
+            return transport;
+        }
+
+        private void closeIfIdle() {
+            if (transport != null && System.nanoTime() - lastSentAt > idleTimeoutNanos) {
+                close();
+            }
+        }
+
+        private void close() {
+            sentOnConnection = 0;
+
+            if (transport == null) {
+                return;
+            }
+
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패 : {}", e.getMessage());
+            }
+
+            transport = null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.outsta.sns.domain.member.email;
+
+import com.outsta.sns.domain.BaseTimeEntity;
+import com.outsta.sns.domain.enums.MailStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 메일 발송 대기열(Outbox) 엔티티
+ * - 회원가입, 비밀번호 초기화 트랜잭션 안에서 함께 저장하여 롤백 시 메일도 발송되지 않음
+ * - 발송 완료 시 삭제, 최대 시도 횟수를 넘기면 내용을 비우고 FAILED로 남김 (보관 기간이 지나면 삭제)
+ * - 내용에 임시 비밀번호 같은 민감 정보가 있으므로 발송하지 않을 메일의 내용은 보관하지 않음
+ * - availableAt 이전에는 다른 워커가 가져가지 않음 (발송 중 점유 또는 재시도 대기)
+ */
+@Entity
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_status_available_at", columnList = "status, available_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class MailOutbox extends BaseTimeEntity {
+
+    /** 메일 식별자 ID */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 수신 이메일 */
+    @Column(nullable = false, length = 50)
+    private String recipient;
+
+    /** 제목 */
+    @Column(nullable = false)
+    private String subject;
+
+    /** 내용 (FAILED 처리 시 비움) */
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    /** 발송 상태 (기본 PENDING) */
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailStatus status = MailStatus.PENDING;
+
+    /** 발송 시도 횟수 */
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    /** 발송 가능 시각 */
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    /**
+     * 발송을 위해 점유
+     * - 점유 시간 동안 다른 워커가 가져가지 않으며, 서버가 중단되면 점유 시간 이후 다시 발송
+     *
+     * @param leaseUntil 점유 만료 시각
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.availableAt = leaseUntil;
+    }
+
+    /**
+     * 발송 실패 처리
+     * - 최대 시도 횟수를 넘기면 내용을 비우고 FAILED, 아니면 retryAt 이후 재시도
+     */
+    public void fail(int maxAttempts, LocalDateTime retryAt) {
+        if (this.attempts >= maxAttempts) {
+            this.status = MailStatus.FAILED;
+            this.content = "";
+            return;
+        }
+
+        this.availableAt = retryAt;
+    }
+
+    /**
+     * 발송하지 못한 점유 해제 (시도 횟수 원복)
+     */
+    public void release(LocalDateTime now) {
+        this.attempts = Math.max(0, this.attempts - 1);
+        this.availableAt = now;
+    }
+}
@@ -0,0 +1,121 @@
+package com.outsta.sns.domain.member.email;
+
+import com.outsta.sns.common.error.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 메일 Outbox 전달기
+ * - 주기적으로 발송 가능한 메일을 chunk 단위로 점유하여 MailDispatcher 대기열에 전달
+ * - MailDispatcher 대기열 남은 자리만큼만 점유하여 대기열 초과 방지
+ * - 발송 결과는 모아두었다가 다음 주기에 한 번에 DB 반영 (발송 스레드에서 DB 접근하지 않음)
+ */
+@Slf4j
+@Component
+public class MailOutboxRelay {
+
+    private final MailOutboxService mailOutboxService;
+    private final MailDispatcher mailDispatcher;
+
+    /** 한 번에 점유할 최대 메일 수 */
+    private final int chunkSize;
+
+    private final Queue<Long> sentIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> failedIds = new ConcurrentLinkedQueue<>();
+
+    public MailOutboxRelay(MailOutboxService mailOutboxService,
+                           MailDispatcher mailDispatcher,
+                           @Value("${mail.outbox.chunk-size:100}") int chunkSize) {
+        this.mailOutboxService = mailOutboxService;
+        this.mailDispatcher = mailDispatcher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 발송 결과 반영 후 발송 가능한 메일 전달
+     * - 점유한 수가 chunk 크기와 같으면 남은 메일이 있다고 보고 계속 점유
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        flushResults();
+
+        while (true) {
+            int limit = Math.min(chunkSize, mailDispatcher.remainingCapacity());
+
+            if (limit <= 0) {
+                return;
+            }
+
+            List<MailOutbox> mails = mailOutboxService.claim(limit);
+
+            dispatch(mails);
+
+            if (mails.size() < limit) {
+                return;
+            }
+        }
+    }
+
+    private void dispatch(List<MailOutbox> mails) {
+        List<Long> unsentIds = new ArrayList<>();
+
+        for (MailOutbox mail : mails) {
+            Long id = mail.getId();
+
+            try {
+                mailDispatcher.dispatch(toMessage(mail), sent -> (sent ? sentIds : failedIds).add(id));
+            } catch (CustomException e) {
+                unsentIds.add(id);
+            }
+        }
+
+        if (!unsentIds.isEmpty()) {
+            mailOutboxService.release(unsentIds);
+        }
+    }
+
+    private void flushResults() {
+        List<Long> sent = drain(sentIds);
+        List<Long> failed = drain(failedIds);
+
+        if (sent.isEmpty() && failed.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailOutboxService.complete(sent, failed);
+        } catch (RuntimeException e) {
+            // 반영하지 못한 결과는 점유 시간이 지나면 다시 발송됨
+            log.error("메일 발송 결과 반영 실패 : sent={}, failed={}, error={}", sent.size(), failed.size(), e.getMessage());
+        }
+    }
+
+    private static List<Long> drain(Queue<Long> queue) {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+
+        while ((id = queue.poll()) != null) {
+            ids.add(id);
+        }
+
+        return ids;
+    }
+
+    private static SimpleMailMessage toMessage(MailOutbox mail) {
+        SimpleMailMessage message = new SimpleMailMessage();
+
+        message.setTo(mail.getRecipient());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getContent());
+
+        return message;
+    }
+}
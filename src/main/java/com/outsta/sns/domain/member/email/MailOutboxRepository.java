@@ -0,0 +1,35 @@
+package com.outsta.sns.domain.member.email;
+
+import com.outsta.sns.domain.enums.MailStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 메일 Outbox 엔티티에 대한 JPA 레포지토리
+ */
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    /**
+     * 발송 가능한 메일 조회 및 행 잠금
+     * - SKIP LOCKED : 다른 워커(노드)가 잠근 행은 건너뛰어 서로 기다리지 않고 다른 메일을 가져감
+     */
+    @Query(value = "SELECT * FROM mail_outbox WHERE status = 'PENDING' AND available_at <= :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MailOutbox> findClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /** 발송 완료된 메일 삭제 */
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    /** 마지막 변경 시각이 before 이전인 해당 상태의 메일 삭제 */
+    @Modifying
+    @Query("DELETE FROM MailOutbox m WHERE m.status = :status AND m.updatedAt < :before")
+    int deleteByStatusBefore(@Param("status") MailStatus status, @Param("before") LocalDateTime before);
+}
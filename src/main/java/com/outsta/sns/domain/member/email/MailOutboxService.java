@@ -0,0 +1,140 @@
+package com.outsta.sns.domain.member.email;
+
+import com.outsta.sns.domain.enums.MailStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 메일 Outbox 서비스
+ *
+ * <p>메일 저장(호출한 트랜잭션에 참여), 발송 대상 점유, 발송 결과 반영, 최종 실패 메일 정리 기능 제공</p>
+ */
+@Slf4j
+@Service
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    /** 최대 발송 시도 횟수 */
+    private final int maxAttempts;
+
+    /** 점유 시간 (이 시간 안에 발송 결과가 반영되지 않으면 다시 발송) */
+    private final Duration lease;
+
+    /** 실패 후 재시도 대기 시간 */
+    private final Duration retryBackoff;
+
+    /** FAILED 메일 보관 기간 */
+    private final Duration failedRetention;
+
+    public MailOutboxService(MailOutboxRepository mailOutboxRepository,
+                             @Value("${mail.outbox.max-attempts:5}") int maxAttempts,
+                             @Value("${mail.outbox.lease:5m}") Duration lease,
+                             @Value("${mail.outbox.retry-backoff:1m}") Duration retryBackoff,
+                             @Value("${mail.outbox.failed-retention:7d}") Duration failedRetention) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.failedRetention = failedRetention;
+    }
+
+    /**
+     * 메일 저장
+     * - 호출한 트랜잭션이 롤백되면 메일도 저장되지 않음
+     *
+     * @param recipient 수신 이메일
+     * @param subject   제목
+     * @param content   내용
+     */
+    @Transactional
+    public void save(String recipient, String subject, String content) {
+        MailOutbox mail = MailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .content(content)
+                .availableAt(LocalDateTime.now())
+                .build();
+
+        mailOutboxRepository.save(mail);
+    }
+
+    /**
+     * 발송할 메일 점유
+     * - FOR UPDATE SKIP LOCKED 로 조회하여 여러 노드가 같은 메일을 가져가지 않음
+     * - 트랜잭션 종료 시 행 잠금은 풀리고, 점유 시간 동안 availableAt 으로 다른 워커 접근 차단
+     *
+     * @param limit 최대 점유 수
+     * @return 점유한 메일 목록
+     */
+    @Transactional
+    public List<MailOutbox> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> mails = mailOutboxRepository.findClaimable(now, limit);
+
+        mails.forEach(mail -> mail.claim(now.plus(lease)));
+
+        return mails;
+    }
+
+    /**
+     * 발송 결과 반영
+     * - 발송 완료 메일은 한 번에 삭제
+     * - 실패 메일은 재시도 대기 또는 FAILED 처리 (FAILED 메일은 내용 삭제)
+     *
+     * @param sentIds   발송 완료 메일 ID 목록
+     * @param failedIds 발송 실패 메일 ID 목록
+     */
+    @Transactional
+    public void complete(Collection<Long> sentIds, Collection<Long> failedIds) {
+        if (!sentIds.isEmpty()) {
+            mailOutboxRepository.deleteAllByIds(sentIds);
+        }
+
+        if (!failedIds.isEmpty()) {
+            LocalDateTime retryAt = LocalDateTime.now().plus(retryBackoff);
+
+            mailOutboxRepository.findAllById(failedIds).forEach(mail -> {
+                mail.fail(maxAttempts, retryAt);
+
+                if (mail.getAttempts() >= maxAttempts) {
+                    log.error("[메일 발송 최종 실패] id: {}, email: {}, subject: {}", mail.getId(), mail.getRecipient(), mail.getSubject());
+                }
+            });
+        }
+    }
+
+    /**
+     * 발송 대기열에 넣지 못한 메일 점유 해제
+     *
+     * @param ids 메일 ID 목록
+     */
+    @Transactional
+    public void release(Collection<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+
+        mailOutboxRepository.findAllById(ids).forEach(mail -> mail.release(now));
+    }
+
+    /**
+     * 보관 기간이 지난 FAILED 메일 삭제
+     * - 여러 노드에서 동시에 실행되어도 같은 행을 지울 뿐이므로 별도 잠금 없음
+     */
+    @Scheduled(cron = "${mail.outbox.purge-cron:0 30 5 * * *}")
+    @Transactional
+    public void purgeFailed() {
+        int deleted = mailOutboxRepository.deleteByStatusBefore(MailStatus.FAILED, LocalDateTime.now().minus(failedRetention));
+
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 FAILED 메일 삭제 : {}건", deleted);
+        }
+    }
+}
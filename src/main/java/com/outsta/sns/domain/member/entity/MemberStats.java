@@ -0,0 +1,40 @@
+package com.outsta.sns.domain.member.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 회원 통계 엔티티
+ * - 팔로워 / 팔로잉 수를 회원별로 저장하여 COUNT(*) 없이 조회
+ * - 팔로우 추가 / 삭제와 같은 트랜잭션에서 UPDATE ... SET n = n + 1 로 증감
+ * - 누락, 불일치는 회원 통계 보정 배치(memberStatsRepairJob)에서 follow 테이블 기준으로 보정
+ */
+@Entity
+@Table(name = "member_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class MemberStats {
+
+    /** 회원 식별자 ID */
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    /** 회원 */
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    /** 팔로워 수 */
+    @Builder.Default
+    @Column(name = "follower_count", nullable = false)
+    private long followerCount = 0;
+
+    /** 팔로잉 수 */
+    @Builder.Default
+    @Column(name = "following_count", nullable = false)
+    private long followingCount = 0;
+}
@@ -1,9 +1,31 @@
 package com.outsta.sns.domain.member.repository;
 
+import com.outsta.sns.domain.block.entity.QBlock;
+import com.outsta.sns.domain.enums.Activation;
+import com.outsta.sns.domain.follow.entity.QFollow;
+import com.outsta.sns.domain.member.dto.response.util.MemberProfileViewDto;
+import com.outsta.sns.domain.member.dto.response.util.NicknameMatchDto;
+import com.outsta.sns.domain.member.entity.QMember;
+import com.outsta.sns.domain.member.entity.QMemberStats;
+import com.outsta.sns.domain.profile.entity.QProfileImage;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Coalesce;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * 회원 엔티티 조회용 커스텀 쿼리
  */
@@ -11,4 +33,231 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class MemberQueryRepository {
     private final JPAQueryFactory jpaQueryFactory;
-}
\ No newline at end of file
+    private final QMember member = QMember.member;
+    private final QMemberStats memberStats = QMemberStats.memberStats;
+    private final QProfileImage profileImage = QProfileImage.profileImage;
+
+    /**
+     * 회원 목록 중 활동 중(ACTIVE)인 회원의 닉네임 일괄 조회 (IN 쿼리 한 번)
+     *
+     * @param memberIds 회원 식별자 ID 목록
+     * @return 회원 식별자 ID -> 닉네임 (활동 중이 아닌 회원은 포함되지 않음)
+     */
+    public Map<Long, String> findActiveNicknames(Collection<Long> memberIds) {
+        Map<Long, String> nicknames = new HashMap<>();
+
+        for (Tuple row : jpaQueryFactory
+                .select(member.id, member.nickname)
+                .from(member)
+                .where(
+                        member.id.in(memberIds),
+                        member.activation.eq(Activation.ACTIVE)
+                )
+                .fetch()) {
+            nicknames.put(row.get(member.id), row.get(member.nickname));
+        }
+
+        return nicknames;
+    }
+
+    /**
+     * 활동 중(ACTIVE)인 회원의 상세 조회 화면 (쿼리 한 번)
+     * - 팔로워 / 팔로잉 수 : member_stats 외부 조인
+     * - 대표 이미지, 없으면 최신 이미지 : 회원의 대표 이미지 중 최대 ID, 없으면 전체 이미지 중 최대 ID 로 외부 조인
+     *   (IDENTITY 라 ID 가 클수록 최근에 저장된 이미지, (member_id, represent) 인덱스로 조회)
+     * - 조회하는 회원과의 차단 / 팔로우 여부 : 상관 서브쿼리 (비로그인이면 조회하지 않음)
+     *
+     * @param loginId  조회하는 회원의 식별자 ID (비로그인이면 null)
+     * @param memberId 조회할 회원의 식별자 ID
+     * @return 회원 상세 조회 화면, 없거나 활동 중이 아니면 빈 값
+     */
+    public Optional<MemberProfileViewDto> findActiveProfileView(Long loginId, Long memberId) {
+        QProfileImage represent = new QProfileImage("represent");
+        QProfileImage latest = new QProfileImage("latest");
+
+        Coalesce<Long> profileImageId = new Coalesce<>(Long.class,
+                JPAExpressions.select(represent.id.max())
+                        .from(represent)
+                        .where(represent.member.id.eq(member.id), represent.represent.isTrue()),
+                JPAExpressions.select(latest.id.max())
+                        .from(latest)
+                        .where(latest.member.id.eq(member.id)));
+
+        return Optional.ofNullable(jpaQueryFactory
+                .select(Projections.constructor(
+                        MemberProfileViewDto.class,
+                        member.id,
+                        member.name,
+                        member.nickname,
+                        member.birth,
+                        member.gender,
+                        member.visibility,
+                        loginId == null ? Expressions.FALSE : blockedWhoever(loginId),
+                        loginId == null ? Expressions.FALSE : followedBy(loginId),
+                        memberStats.followerCount,
+                        memberStats.followingCount,
+                        profileImage.id,
+                        profileImage.imageUrl,
+                        profileImage.originName,
+                        profileImage.fileName
+                ))
+                .from(member)
+                .leftJoin(memberStats).on(memberStats.memberId.eq(member.id))
+                .leftJoin(profileImage).on(profileImage.id.eq(profileImageId))
+                .where(
+                        member.id.eq(memberId),
+                        member.activation.eq(Activation.ACTIVE)
+                )
+                .fetchOne());
+    }
+
+    /**
+     * 조회하는 회원과 어느 쪽이든 차단 관계인지 여부 (방향별 EXISTS, 각각 차단 유니크 키 / blocked_id 인덱스 사용)
+     */
+    private BooleanExpression blockedWhoever(Long loginId) {
+        QBlock block = QBlock.block;
+        QBlock reverse = new QBlock("reverse");
+
+        return new CaseBuilder()
+                .when(JPAExpressions.selectOne()
+                        .from(block)
+                        .where(block.blocker.id.eq(loginId), block.blocked.id.eq(member.id))
+                        .exists()
+                        .or(JPAExpressions.selectOne()
+                                .from(reverse)
+                                .where(reverse.blocker.id.eq(member.id), reverse.blocked.id.eq(loginId))
+                                .exists()))
+                .then((Predicate) Expressions.TRUE)
+                .otherwise(Expressions.FALSE);
+    }
+
+    /**
+     * 조회하는 회원이 팔로우하는지 여부 (팔로우 유니크 키 사용)
+     */
+    private BooleanExpression followedBy(Long loginId) {
+        QFollow follow = QFollow.follow;
+
+        return new CaseBuilder()
+                .when(JPAExpressions.selectOne()
+                        .from(follow)
+                        .where(follow.follower.id.eq(loginId), follow.following.id.eq(member.id))
+                        .exists())
+                .then((Predicate) Expressions.TRUE)
+                .otherwise(Expressions.FALSE);
+    }
+
+    /**
+     * 전체 회원의 닉네임, 이메일 순회 (회원 상태와 관계없이, 유니크 제약과 같은 범위)
+     * - 식별자 ID 순으로 batchSize 개씩 읽는 키셋 페이징 (OFFSET 없음, 엔티티 대신 두 컬럼만 조회)
+     *
+     * @param batchSize 한 번에 읽을 행 수
+     * @param consumer  (닉네임, 이메일)
+     */
+    public void forEachNicknameAndEmail(int batchSize, NameConsumer consumer) {
+        long lastId = 0;
+
+        while (true) {
+            List<Tuple> rows = jpaQueryFactory
+                    .select(member.id, member.nickname, member.email)
+                    .from(member)
+                    .where(member.id.gt(lastId))
+                    .orderBy(member.id.asc())
+                    .limit(batchSize)
+                    .fetch();
+
+            for (Tuple row : rows) {
+                consumer.accept(row.get(member.nickname), row.get(member.email));
+            }
+
+            if (rows.size() < batchSize) {
+                return;
+            }
+
+            lastId = rows.get(rows.size() - 1).get(member.id);
+        }
+    }
+
+    /**
+     * 활동 중(ACTIVE)인 회원의 닉네임, 팔로워 수 순회 (검색 인덱스 적재용)
+     * - 식별자 ID 순으로 batchSize 개씩 읽는 키셋 페이징, 통계가 없는 회원은 팔로워 수 0
+     *
+     * @param batchSize 한 번에 읽을 행 수
+     * @param consumer  (회원 식별자 ID, 닉네임, 팔로워 수)
+     */
+    public void forEachActiveNickname(int batchSize, NicknameConsumer consumer) {
+        long lastId = 0;
+
+        while (true) {
+            List<Tuple> rows = jpaQueryFactory
+                    .select(member.id, member.nickname, memberStats.followerCount)
+                    .from(member)
+                    .leftJoin(memberStats).on(memberStats.memberId.eq(member.id))
+                    .where(
+                            member.id.gt(lastId),
+                            member.activation.eq(Activation.ACTIVE)
+                    )
+                    .orderBy(member.id.asc())
+                    .limit(batchSize)
+                    .fetch();
+
+            for (Tuple row : rows) {
+                Long followerCount = row.get(memberStats.followerCount);
+
+                consumer.accept(row.get(member.id), row.get(member.nickname), followerCount != null ? followerCount : 0);
+            }
+
+            if (rows.size() < batchSize) {
+                return;
+            }
+
+            lastId = rows.get(rows.size() - 1).get(member.id);
+        }
+    }
+
+    /**
+     * 닉네임 접두사로 활동 중(ACTIVE)인 회원 검색 (검색 인덱스가 준비되지 않았을 때 사용)
+     * - 팔로워 수 내림차순, 같으면 닉네임 오름차순
+     *
+     * @param prefix      닉네임 접두사 (대소문자 구분은 DB collation 을 따름)
+     * @param limit       최대 회원 수
+     * @param excludedIds 제외할 회원 식별자 ID
+     * @return 검색된 회원 (회원 식별자 ID, 닉네임, 팔로워 수)
+     */
+    public List<NicknameMatchDto> searchActiveByNicknamePrefix(String prefix, int limit, Collection<Long> excludedIds) {
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        NicknameMatchDto.class,
+                        member.id,
+                        member.nickname,
+                        memberStats.followerCount.coalesce(0L)
+                ))
+                .from(member)
+                .leftJoin(memberStats).on(memberStats.memberId.eq(member.id))
+                .where(
+                        member.nickname.startsWith(prefix),
+                        member.activation.eq(Activation.ACTIVE),
+                        excludedIds.isEmpty() ? null : member.id.notIn(excludedIds)
+                )
+                .orderBy(memberStats.followerCount.coalesce(0L).desc(), member.nickname.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 닉네임, 이메일 처리
+     */
+    @FunctionalInterface
+    public interface NameConsumer {
+
+        void accept(String nickname, String email);
+    }
+
+    /**
+     * 회원 식별자 ID, 닉네임, 팔로워 수 처리
+     */
+    @FunctionalInterface
+    public interface NicknameConsumer {
+
+        void accept(long memberId, String nickname, long followerCount);
+    }
+}
@@ -28,4 +28,12 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     /** 식별자 ID로 활성화된 회원 조회 */
     @Query("SELECT m FROM Member m WHERE m.id = :id AND m.activation = 'ACTIVE'")
     Optional<Member> findActiveMemberById(@Param("id") Long id);
+
+    /** 가장 작은 회원 식별자 ID (회원이 없으면 null) */
+    @Query("SELECT MIN(m.id) FROM Member m")
+    Long findMinId();
+
+    /** 가장 큰 회원 식별자 ID (회원이 없으면 null) */
+    @Query("SELECT MAX(m.id) FROM Member m")
+    Long findMaxId();
 }
\ No newline at end of file
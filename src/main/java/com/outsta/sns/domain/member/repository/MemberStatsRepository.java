@@ -0,0 +1,44 @@
+package com.outsta.sns.domain.member.repository;
+
+import com.outsta.sns.domain.member.entity.MemberStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회원 통계 엔티티에 대한 JPA 레포지토리
+ */
+public interface MemberStatsRepository extends JpaRepository<MemberStats, Long> {
+
+    /** 팔로워 수 증감 (행이 없으면 0 반환) */
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.followerCount = s.followerCount + :delta WHERE s.memberId = :memberId")
+    int addFollowerCount(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    /** 팔로잉 수 증감 (행이 없으면 0 반환) */
+    @Modifying
+    @Query("UPDATE MemberStats s SET s.followingCount = s.followingCount + :delta WHERE s.memberId = :memberId")
+    int addFollowingCount(@Param("memberId") Long memberId, @Param("delta") long delta);
+
+    /**
+     * 회원 통계 조회 및 행 잠금 (보정용)
+     * - 잠근 동안 팔로우 증감(UPDATE)은 대기하므로 이후 집계한 값으로 덮어써도 증감이 유실되지 않음
+     */
+    @Query(value = "SELECT * FROM member_stats WHERE member_id IN :memberIds ORDER BY member_id FOR UPDATE",
+            nativeQuery = true)
+    List<MemberStats> findAllForUpdate(@Param("memberIds") Collection<Long> memberIds);
+
+    /** 회원 통계 저장 (없으면 추가, 있으면 덮어쓰기) */
+    @Modifying
+    @Query(value = "INSERT INTO member_stats (member_id, follower_count, following_count) " +
+            "VALUES (:memberId, :followerCount, :followingCount) " +
+            "ON DUPLICATE KEY UPDATE follower_count = VALUES(follower_count), following_count = VALUES(following_count)",
+            nativeQuery = true)
+    int upsert(@Param("memberId") Long memberId,
+               @Param("followerCount") long followerCount,
+               @Param("followingCount") long followingCount);
+}
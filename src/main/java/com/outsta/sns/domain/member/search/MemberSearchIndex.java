@@ -0,0 +1,449 @@
+package com.outsta.sns.domain.member.search;
+
+import com.outsta.sns.domain.member.dto.response.util.NicknameMatchDto;
+import com.outsta.sns.domain.member.repository.MemberQueryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+/**
+ * 노드 로컬 회원 닉네임 검색 인덱스
+ * - 활동 중인 회원의 (회원 식별자 ID, 닉네임, 팔로워 수)를 NicknameIndex(정렬 + 앞부분 공유 압축)에 적재
+ * - 채널(member:search) 구독 후 DB 에서 전체 적재, 이후 가입 / 닉네임 변경 / 탈퇴 / 탈퇴 취소를
+ *   커밋 후 반영하고 Redis Pub/Sub 으로 다른 노드에 전파
+ * - 적재 후 변경은 압축 배열을 다시 만들지 않고 삭제 표시(BitSet)와 추가 목록(TreeMap)에 반영, 검색 시 함께 조회
+ * - 적재 중 도착한 변경은 모아 두었다가 적재가 끝나면 순서대로 반영
+ * - 주기적으로 다시 적재하여 추가 목록을 압축 배열로 합치고 팔로워 수(정렬 기준)를 갱신
+ * - 준비되지 않은 상태(적재 전/중, 구독 해제)에서는 DB 로 조회
+ * - member.search.enabled=false 이면 적재하지 않고 항상 DB 로 조회
+ */
+@Slf4j
+@Component
+public class MemberSearchIndex implements MessageListener, SubscriptionListener {
+
+    /** 검색 대상 변경 전파 채널 */
+    public static final String CHANNEL = "member:search";
+
+    /** 메시지 구분자 (노드 ID, 변경 종류, 회원 식별자 ID, 팔로워 수, 닉네임) */
+    private static final char SEPARATOR = '\n';
+
+    /** 추가 목록 키 구분자 (닉네임 키 뒤, 회원 식별자 ID 앞) */
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final Comparator<NicknameMatchDto> RANKING = Comparator
+            .comparingLong(NicknameMatchDto::followerCount).reversed()
+            .thenComparing(match -> NicknameIndex.key(match.nickname()))
+            .thenComparingLong(NicknameMatchDto::memberId);
+
+    private final MemberQueryRepository memberQueryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /** 사용 여부 (false 면 항상 DB 조회) */
+    private final boolean enabled;
+
+    /** 적재 실행기 (요청 스레드와 스케줄러를 막지 않도록) */
+    private final Executor loadExecutor;
+
+    /** 적재 시 한 번에 읽을 행 수 */
+    private final int loadBatchSize;
+
+    /** 자신이 보낸 메시지 구분용 노드 ID */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    /** 적재한 압축 인덱스, lock 으로 보호 */
+    private NicknameIndex index = NicknameIndex.EMPTY;
+
+    /** 적재 후 삭제된 항목 번호, lock 으로 보호 */
+    private BitSet removed = new BitSet();
+
+    /** 적재 후 추가된 항목 (닉네임 키 + 구분자 + 회원 식별자 ID -> 항목), lock 으로 보호 */
+    private final TreeMap<String, NicknameMatchDto> added = new TreeMap<>();
+
+    /** 적재 중 도착한 변경 (적재 중이 아니면 null), lock 으로 보호 */
+    private List<SearchEvent> pending;
+
+    /** 메모리에서 검색 가능 여부 */
+    private volatile boolean ready = false;
+
+    /** 변경 전파 채널 구독 여부 */
+    private volatile boolean subscribed = false;
+
+    private final Timer memorySearchTimer;
+    private final Counter databaseSearchCounter;
+
+    public MemberSearchIndex(MemberQueryRepository memberQueryRepository,
+                             RedisTemplate<String, String> redisTemplate,
+                             RedisMessageListenerContainer listenerContainer,
+                             MeterRegistry meterRegistry,
+                             @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor loadExecutor,
+                             @Value("${member.search.enabled:true}") boolean enabled,
+                             @Value("${member.search.load-batch-size:10000}") int loadBatchSize) {
+        this.memberQueryRepository = memberQueryRepository;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.loadExecutor = loadExecutor;
+        this.loadBatchSize = loadBatchSize;
+
+        this.memorySearchTimer = Timer.builder("member.search.index.latency")
+                .description("메모리 인덱스 검색 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.databaseSearchCounter = Counter.builder("member.search.index.fallbacks")
+                .description("인덱스가 준비되지 않아 DB 로 검색한 수")
+                .register(meterRegistry);
+
+        Gauge.builder("member.search.index.ready", this, search -> search.ready ? 1 : 0)
+                .description("메모리에서 검색 가능 여부")
+                .register(meterRegistry);
+        Gauge.builder("member.search.index.entries", this, MemberSearchIndex::entryCount)
+                .description("검색 인덱스 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("member.search.index.bytes", this, search -> search.index.memoryBytes())
+                .description("압축 인덱스 배열 메모리 (바이트)")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 닉네임 접두사 검색
+     * - 팔로워 수 내림차순, 같으면 닉네임 오름차순으로 상위 limit 명
+     *
+     * @param prefix   닉네임 접두사 (대소문자 구분 없음)
+     * @param limit    최대 회원 수
+     * @param excluded 제외할 회원 (차단 관계 등)
+     * @param fallback 메모리에서 검색할 수 없을 때 사용할 DB 조회
+     */
+    public List<NicknameMatchDto> search(String prefix, int limit, LongPredicate excluded,
+                                         Supplier<List<NicknameMatchDto>> fallback) {
+        if (ready) {
+            long startedAt = System.nanoTime();
+
+            lock.readLock().lock();
+
+            try {
+                if (ready) {
+                    return searchNow(NicknameIndex.key(prefix), limit, excluded);
+                }
+            } finally {
+                lock.readLock().unlock();
+                memorySearchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        databaseSearchCounter.increment();
+
+        return fallback.get();
+    }
+
+    /**
+     * 가입 / 탈퇴 취소 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void memberAdded(Long memberId, String nickname, long followerCount) {
+        afterCommit(new SearchEvent(true, memberId, followerCount, nickname));
+    }
+
+    /**
+     * 탈퇴 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void memberRemoved(Long memberId, String nickname) {
+        afterCommit(new SearchEvent(false, memberId, 0, nickname));
+    }
+
+    /**
+     * 닉네임 변경 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void nicknameChanged(Long memberId, String previousNickname, String nickname, long followerCount) {
+        memberRemoved(memberId, previousNickname);
+        memberAdded(memberId, nickname, followerCount);
+    }
+
+    /**
+     * 메모리에서 검색 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 주기적으로 다시 적재 (추가 목록을 압축 배열로 합치고 팔로워 수 갱신)
+     */
+    @Scheduled(cron = "${member.search.reload-cron:0 0 * * * *}")
+    public void scheduledReload() {
+        if (subscribed) {
+            reloadAsync();
+        }
+    }
+
+    /**
+     * DB 에서 전체 적재
+     * - 적재하는 동안 검색은 DB, 변경은 모아 두었다가 적재가 끝나면 순서대로 반영
+     */
+    void reload() {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            lock.writeLock().lock();
+
+            try {
+                ready = false;
+                pending = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long startedAt = System.nanoTime();
+            NicknameIndex.Builder builder = NicknameIndex.builder();
+
+            memberQueryRepository.forEachActiveNickname(loadBatchSize, builder::add);
+
+            NicknameIndex loaded = builder.build();
+
+            lock.writeLock().lock();
+
+            try {
+                List<SearchEvent> events = pending;
+                pending = null;
+                index = loaded;
+                removed = new BitSet();
+                added.clear();
+
+                for (SearchEvent event : events) {
+                    applyNow(event);
+                }
+
+                ready = subscribed;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("회원 검색 인덱스 적재 완료 : {}건, {} bytes, {}ms", loaded.size(), loaded.memoryBytes(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+
+            try {
+                pending = null;
+                ready = false;
+                index = NicknameIndex.EMPTY;
+                removed = new BitSet();
+                added.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.error("회원 검색 인덱스 적재 실패, DB 조회 사용 : {}", e.getMessage());
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    /**
+     * 다른 노드에서 전파된 변경 반영
+     * - 메시지 형식 : 노드 ID \n 변경 종류(+, -) \n 회원 식별자 ID \n 팔로워 수 \n 닉네임
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR), 5);
+
+        if (parts.length != 5 || parts[1].length() != 1) {
+            log.error("회원 검색 변경 메시지 형식 오류");
+            return;
+        }
+
+        if (parts[0].equals(nodeId)) {
+            return;
+        }
+
+        apply(new SearchEvent(parts[1].charAt(0) == '+', Long.parseLong(parts[2]), Long.parseLong(parts[3]), parts[4]));
+    }
+
+    /**
+     * 채널 구독(재구독 포함) 완료 시 전체 적재 (구독 전 변경은 전파받지 못했으므로)
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        subscribed = true;
+        reloadAsync();
+    }
+
+    /**
+     * 채널 구독 해제 시 다시 구독될 때까지 DB 조회
+     */
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        subscribed = false;
+        ready = false;
+    }
+
+    private void reloadAsync() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            loadExecutor.execute(this::reload);
+        } catch (RejectedExecutionException e) {
+            log.warn("회원 검색 인덱스 적재 요청 거절 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 압축 인덱스와 추가 목록에서 각각 상위 limit 명을 찾아 합침 (읽기 잠금 안에서 호출)
+     */
+    private List<NicknameMatchDto> searchNow(String prefixKey, int limit, LongPredicate excluded) {
+        NicknameIndex current = index;
+        BitSet currentRemoved = removed;
+        List<NicknameMatchDto> matches = new ArrayList<>(limit);
+
+        for (int position : current.search(prefixKey, limit,
+                i -> !currentRemoved.get(i) && !excluded.test(current.memberId(i)))) {
+            matches.add(new NicknameMatchDto(current.memberId(position), current.nickname(position),
+                    current.followerCount(position)));
+        }
+
+        if (added.isEmpty()) {
+            return matches;
+        }
+
+        for (NicknameMatchDto match : added.subMap(prefixKey, prefixKey + Character.MAX_VALUE).values()) {
+            if (!excluded.test(match.memberId())) {
+                matches.add(match);
+            }
+        }
+
+        matches.sort(RANKING);
+
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    /**
+     * 변경 반영 (적재 중이면 적재 후 반영하도록 보관, 준비되지 않은 상태면 무시)
+     */
+    private void apply(SearchEvent event) {
+        lock.writeLock().lock();
+
+        try {
+            if (pending != null) {
+                pending.add(event);
+            } else if (ready) {
+                applyNow(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 변경 즉시 반영 (쓰기 잠금 안에서 호출)
+     * - 같은 변경이 두 번 와도 결과가 같도록 (적재가 이미 읽은 변경이 다시 반영될 수 있음)
+     */
+    private void applyNow(SearchEvent event) {
+        String nicknameKey = NicknameIndex.key(event.nickname());
+        String addedKey = nicknameKey + KEY_SEPARATOR + event.memberId();
+        int position = index.indexOf(event.memberId(), nicknameKey);
+
+        if (event.added()) {
+            if ((position < 0 || removed.get(position)) && !added.containsKey(addedKey)) {
+                added.put(addedKey, new NicknameMatchDto(event.memberId(), event.nickname(), event.followerCount()));
+            }
+        } else {
+            added.remove(addedKey);
+
+            if (position >= 0) {
+                removed.set(position);
+            }
+        }
+    }
+
+    private void afterCommit(SearchEvent event) {
+        if (!enabled) {
+            return;
+        }
+
+        Runnable task = () -> {
+            apply(event);
+            publish(event);
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private void publish(SearchEvent event) {
+        String message = nodeId + SEPARATOR + (event.added() ? '+' : '-') + SEPARATOR
+                + event.memberId() + SEPARATOR + event.followerCount() + SEPARATOR + event.nickname();
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (RuntimeException e) {
+            // 다른 노드는 주기적으로 다시 적재할 때 반영
+            log.error("회원 검색 변경 전파 실패 : {}", e.getMessage());
+        }
+    }
+
+    private int entryCount() {
+        lock.readLock().lock();
+
+        try {
+            return index.size() - removed.cardinality() + added.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 대상 변경
+     *
+     * @param added         추가면 true, 삭제면 false
+     * @param memberId      회원 식별자 ID
+     * @param followerCount 팔로워 수 (추가일 때만 사용)
+     * @param nickname      닉네임
+     */
+    private record SearchEvent(boolean added, long memberId, long followerCount, String nickname) {
+    }
+}
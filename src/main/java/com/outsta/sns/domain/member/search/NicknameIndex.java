@@ -0,0 +1,408 @@
+package com.outsta.sns.domain.member.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.IntPredicate;
+
+/**
+ * 닉네임 접두사 인덱스 (정렬 배열 + 앞부분 공유 압축, front coding)
+ * - 닉네임을 소문자 기준 오름차순으로 정렬한 위치(index)를 항목 번호로 사용
+ * - 닉네임은 BLOCK_SIZE 개씩 묶어 블록 첫 항목만 전체를 저장하고, 나머지는 앞 항목과 같은 앞부분 길이 + 나머지 문자만 저장
+ *   (닉네임마다 String 객체 없이 char[] 하나에 이어 붙임)
+ * - 접두사 범위 : 블록 첫 항목으로 이진 탐색 후 블록 안에서 순차 복원
+ * - 상위 K 개 : 팔로워 수 최댓값 위치를 담은 세그먼트 트리로 범위 크기와 관계없이 O(K log n)
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 동시에 조회 가능
+ */
+public final class NicknameIndex {
+
+    /** 앞부분 공유 압축 블록 크기 */
+    private static final int BLOCK_SIZE = 16;
+
+    /** 앞 항목과 공유하는 길이의 최댓값 (byte 하나에 저장) */
+    private static final int MAX_SHARED = 0xFF;
+
+    public static final NicknameIndex EMPTY = builder().build();
+
+    /** 항목별 앞 항목과 다른 나머지 문자 (chars[suffixOffsets[i] ~ suffixOffsets[i + 1])) */
+    private final char[] chars;
+    private final int[] suffixOffsets;
+
+    /** 항목별 앞 항목과 공유하는 앞부분 길이 (블록 첫 항목은 0) */
+    private final byte[] shared;
+
+    private final long[] memberIds;
+    private final int[] followerCounts;
+
+    /** 가장 긴 닉네임 길이 (복원 버퍼 크기) */
+    private final int maxLength;
+
+    /** 세그먼트 트리 (tree[size + i] = i, 부모는 두 자식 중 팔로워 수가 많은 위치) */
+    private final int[] tree;
+
+    private NicknameIndex(char[] chars, int[] suffixOffsets, byte[] shared, long[] memberIds,
+                          int[] followerCounts, int maxLength) {
+        this.chars = chars;
+        this.suffixOffsets = suffixOffsets;
+        this.shared = shared;
+        this.memberIds = memberIds;
+        this.followerCounts = followerCounts;
+        this.maxLength = maxLength;
+        this.tree = buildTree();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 비교용 키 (문자마다 소문자, 길이 유지)
+     */
+    public static String key(String nickname) {
+        char[] key = nickname.toCharArray();
+
+        for (int i = 0; i < key.length; i++) {
+            key[i] = Character.toLowerCase(key[i]);
+        }
+
+        return new String(key);
+    }
+
+    /**
+     * 항목 수
+     */
+    public int size() {
+        return memberIds.length;
+    }
+
+    public long memberId(int index) {
+        return memberIds[index];
+    }
+
+    public int followerCount(int index) {
+        return followerCounts[index];
+    }
+
+    /**
+     * 항목의 닉네임 복원
+     */
+    public String nickname(int index) {
+        char[] buffer = new char[maxLength];
+
+        return new String(buffer, 0, decode(index, buffer));
+    }
+
+    /**
+     * 닉네임이 키로 시작하는 항목 중 팔로워 수 상위 limit 개
+     * - 팔로워 수 내림차순, 같으면 닉네임 오름차순
+     *
+     * @param prefixKey 접두사 키 (key() 로 변환한 값)
+     * @param limit     최대 항목 수
+     * @param accepted  결과에 포함할 항목 (false 면 건너뛰고 다음 항목 탐색)
+     * @return 항목 번호 (없으면 빈 배열)
+     */
+    public int[] search(String prefixKey, int limit, IntPredicate accepted) {
+        int from = firstAtLeast(prefixKey, 0);
+        int to = firstAtLeast(prefixKey, 1);
+
+        if (from >= to || limit <= 0) {
+            return new int[0];
+        }
+
+        int[] result = new int[Math.min(limit, to - from)];
+        int count = 0;
+
+        // 범위 [from, to) 와 그 범위의 최댓값 위치, 최댓값이 큰 범위부터 꺼내고 남은 왼쪽 / 오른쪽 범위를 다시 넣음
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(Comparator.comparingInt((int[] range) -> -followerCounts[range[2]])
+                .thenComparingInt(range -> range[2]));
+        ranges.add(new int[]{from, to, argMax(from, to)});
+
+        while (count < result.length && !ranges.isEmpty()) {
+            int[] range = ranges.poll();
+            int best = range[2];
+
+            if (accepted.test(best)) {
+                result[count++] = best;
+            }
+
+            if (range[0] < best) {
+                ranges.add(new int[]{range[0], best, argMax(range[0], best)});
+            }
+
+            if (best + 1 < range[1]) {
+                ranges.add(new int[]{best + 1, range[1], argMax(best + 1, range[1])});
+            }
+        }
+
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 회원의 항목 번호
+     *
+     * @param memberId    회원 식별자 ID
+     * @param nicknameKey 닉네임 키 (key() 로 변환한 값)
+     * @return 없으면 -1
+     */
+    public int indexOf(long memberId, String nicknameKey) {
+        int to = firstAtLeast(nicknameKey, 1);
+
+        for (int i = firstAtLeast(nicknameKey, 0); i < to; i++) {
+            if (memberIds[i] == memberId) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * 배열이 차지하는 메모리 (바이트, 근사값)
+     */
+    public long memoryBytes() {
+        return (long) chars.length * Character.BYTES
+                + (long) suffixOffsets.length * Integer.BYTES
+                + shared.length
+                + (long) memberIds.length * Long.BYTES
+                + (long) followerCounts.length * Integer.BYTES
+                + (long) tree.length * Integer.BYTES;
+    }
+
+    /**
+     * 접두사 비교 결과가 threshold 이상인 첫 항목 (없으면 size)
+     * - threshold 0 : 키로 시작하거나 더 뒤인 첫 항목, 1 : 키로 시작하는 항목보다 뒤인 첫 항목
+     * - 블록 첫 항목으로 이진 탐색 후 바로 앞 블록 안에서 순차 탐색
+     */
+    private int firstAtLeast(String prefixKey, int threshold) {
+        int blocks = (size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        char[] buffer = new char[maxLength];
+        int low = 0;
+        int high = blocks;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int head = mid * BLOCK_SIZE;
+            int length = suffixOffsets[head + 1] - suffixOffsets[head];
+
+            if (comparePrefix(chars, suffixOffsets[head], length, prefixKey) >= threshold) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        if (low == 0) {
+            return 0;
+        }
+
+        int start = (low - 1) * BLOCK_SIZE;
+        int end = Math.min(low * BLOCK_SIZE, size());
+        int length = 0;
+
+        for (int i = start; i < end; i++) {
+            length = append(i, buffer);
+
+            if (comparePrefix(buffer, 0, length, prefixKey) >= threshold) {
+                return i;
+            }
+        }
+
+        return end;
+    }
+
+    /**
+     * 항목의 닉네임을 버퍼에 복원
+     *
+     * @return 닉네임 길이
+     */
+    private int decode(int index, char[] buffer) {
+        int length = 0;
+
+        for (int i = index - index % BLOCK_SIZE; i <= index; i++) {
+            length = append(i, buffer);
+        }
+
+        return length;
+    }
+
+    /**
+     * 앞 항목이 복원된 버퍼에 항목의 나머지 문자를 이어 붙임
+     *
+     * @return 항목의 닉네임 길이
+     */
+    private int append(int index, char[] buffer) {
+        int prefixLength = shared[index] & MAX_SHARED;
+        int suffixLength = suffixOffsets[index + 1] - suffixOffsets[index];
+
+        System.arraycopy(chars, suffixOffsets[index], buffer, prefixLength, suffixLength);
+
+        return prefixLength + suffixLength;
+    }
+
+    /**
+     * 닉네임과 접두사 키 비교 (닉네임이 키로 시작하면 0)
+     */
+    private static int comparePrefix(char[] source, int offset, int length, String prefixKey) {
+        int common = Math.min(length, prefixKey.length());
+
+        for (int i = 0; i < common; i++) {
+            char c = Character.toLowerCase(source[offset + i]);
+            char p = prefixKey.charAt(i);
+
+            if (c != p) {
+                return c < p ? -1 : 1;
+            }
+        }
+
+        return length >= prefixKey.length() ? 0 : -1;
+    }
+
+    /**
+     * 범위 [from, to) 에서 팔로워 수가 가장 많은 위치 (같으면 앞 위치)
+     */
+    private int argMax(int from, int to) {
+        int n = size();
+        int best = -1;
+
+        for (int left = from + n, right = to + n; left < right; left >>>= 1, right >>>= 1) {
+            if ((left & 1) == 1) {
+                best = better(best, tree[left++]);
+            }
+
+            if ((right & 1) == 1) {
+                best = better(best, tree[--right]);
+            }
+        }
+
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+
+        if (b < 0) {
+            return a;
+        }
+
+        if (followerCounts[a] != followerCounts[b]) {
+            return followerCounts[a] > followerCounts[b] ? a : b;
+        }
+
+        return Math.min(a, b);
+    }
+
+    private int[] buildTree() {
+        int n = size();
+        int[] built = new int[n * 2];
+
+        for (int i = 0; i < n; i++) {
+            built[n + i] = i;
+        }
+
+        for (int i = n - 1; i > 0; i--) {
+            built[i] = better(built[i * 2], built[i * 2 + 1]);
+        }
+
+        return built;
+    }
+
+    /**
+     * 인덱스 생성기
+     * - 항목을 모은 뒤 한 번에 정렬하여 압축
+     */
+    public static final class Builder {
+
+        private final List<String> nicknames = new ArrayList<>();
+        private long[] memberIds = new long[1024];
+        private int[] followerCounts = new int[1024];
+
+        private Builder() {
+        }
+
+        /**
+         * @param memberId      회원 식별자 ID
+         * @param nickname      닉네임
+         * @param followerCount 팔로워 수
+         */
+        public Builder add(long memberId, String nickname, long followerCount) {
+            int size = nicknames.size();
+
+            if (size == memberIds.length) {
+                memberIds = Arrays.copyOf(memberIds, size * 2);
+                followerCounts = Arrays.copyOf(followerCounts, size * 2);
+            }
+
+            nicknames.add(nickname);
+            memberIds[size] = memberId;
+            followerCounts[size] = (int) Math.min(Math.max(followerCount, 0), Integer.MAX_VALUE);
+
+            return this;
+        }
+
+        public NicknameIndex build() {
+            int size = nicknames.size();
+            String[] keys = new String[size];
+            Integer[] order = new Integer[size];
+
+            for (int i = 0; i < size; i++) {
+                keys[i] = key(nicknames.get(i));
+                order[i] = i;
+            }
+
+            // 키 오름차순, 같으면 닉네임, 회원 식별자 ID 순
+            Arrays.sort(order, Comparator.<Integer, String>comparing(i -> keys[i])
+                    .thenComparing(nicknames::get)
+                    .thenComparingLong(i -> memberIds[i]));
+
+            int totalLength = 0;
+            int maxLength = 0;
+
+            for (String nickname : nicknames) {
+                totalLength += nickname.length();
+                maxLength = Math.max(maxLength, nickname.length());
+            }
+
+            char[] chars = new char[totalLength];
+            int[] suffixOffsets = new int[size + 1];
+            byte[] shared = new byte[size];
+            long[] sortedIds = new long[size];
+            int[] sortedCounts = new int[size];
+            int offset = 0;
+            String previous = "";
+
+            for (int i = 0; i < size; i++) {
+                String nickname = nicknames.get(order[i]);
+                int common = i % BLOCK_SIZE == 0 ? 0 : commonPrefix(previous, nickname);
+
+                suffixOffsets[i] = offset;
+                shared[i] = (byte) common;
+                nickname.getChars(common, nickname.length(), chars, offset);
+                offset += nickname.length() - common;
+
+                sortedIds[i] = memberIds[order[i]];
+                sortedCounts[i] = followerCounts[order[i]];
+                previous = nickname;
+            }
+
+            suffixOffsets[size] = offset;
+
+            return new NicknameIndex(Arrays.copyOf(chars, offset), suffixOffsets, shared, sortedIds, sortedCounts,
+                    maxLength);
+        }
+
+        private static int commonPrefix(String a, String b) {
+            int limit = Math.min(Math.min(a.length(), b.length()), MAX_SHARED);
+            int i = 0;
+
+            while (i < limit && a.charAt(i) == b.charAt(i)) {
+                i++;
+            }
+
+            return i;
+        }
+    }
+}
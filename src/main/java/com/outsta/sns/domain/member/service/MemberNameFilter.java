@@ -0,0 +1,311 @@
+package com.outsta.sns.domain.member.service;
+
+import com.outsta.sns.common.util.ScalableBloomFilter;
+import com.outsta.sns.domain.member.repository.MemberQueryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * 사용 중인 닉네임 / 이메일 노드 로컬 Bloom Filter
+ * - 중복 체크에서 "확실히 사용 가능"이면 DB 조회 생략, "사용 중일 수도 있음"일 때만 DB(유니크 인덱스) 조회
+ * - 채널(member:name) 구독 후 member 테이블 전체를 키셋 페이징으로 읽어 적재 (노드마다 따로 생성)
+ * - 회원 가입 / 닉네임 변경 시 커밋 전에 추가하고 Redis Pub/Sub 으로 다른 노드에 전파
+ *   (롤백되거나 이전 닉네임이 남으면 오탐만 늘어남)
+ * - Pub/Sub 은 전달을 보장하지 않으므로 주기적으로 전체 다시 적재 (그 사이 전파를 놓친 값은 누락될 수 있음)
+ * - 추가만 하는 구조라 재구독 / 주기 적재 시에도 같은 필터에 다시 적재하며, 적재 전이거나 구독 해제 상태에서는 항상 DB 조회
+ * - DB collation(대소문자 / 악센트 구분 없음)에 맞춰 정규화하여 저장 (ß / ss 등 알려진 확장 포함, collation 을 완전히 재현하지는 않음)
+ * - 누락되거나 정규화가 어긋난 값은 중복 체크를 통과하더라도 가입 / 변경 시 DB 유니크 제약에서 걸러짐
+ * - member.name-filter.enabled=false 이면 적재하지 않고 항상 DB 조회
+ */
+@Slf4j
+@Component
+public class MemberNameFilter implements MessageListener, SubscriptionListener {
+
+    /** 닉네임 / 이메일 추가 전파 채널 */
+    public static final String CHANNEL = "member:name";
+
+    /** 메시지 구분자 (종류, 값) */
+    private static final char SEPARATOR = '\n';
+
+    private static final char NICKNAME = 'N';
+    private static final char EMAIL = 'E';
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    /** 호환 분해로 풀리지 않는 확장 / 변형 문자 (collation 에서 같다고 보는 값으로, 소문자 기준) */
+    private static final Pattern EXPANSIONS = Pattern.compile("[ßæœøđðłþı]");
+
+    private static final Map<String, String> EXPANSION_VALUES = Map.of(
+            "ß", "ss",
+            "æ", "ae",
+            "œ", "oe",
+            "ø", "o",
+            "đ", "d",
+            "ð", "d",
+            "ł", "l",
+            "þ", "th",
+            "ı", "i");
+
+    private final MemberQueryRepository memberQueryRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /** 사용 여부 (false 면 항상 DB 조회) */
+    private final boolean enabled;
+
+    /** 적재 실행기 (구독 스레드를 막지 않도록) */
+    private final Executor loadExecutor;
+
+    /** 적재 시 한 번에 읽을 행 수 */
+    private final int loadBatchSize;
+
+    private final ScalableBloomFilter nicknames;
+    private final ScalableBloomFilter emails;
+
+    private final AtomicBoolean loading = new AtomicBoolean();
+
+    /** 필터에서 판단 가능 여부 */
+    private volatile boolean ready = false;
+
+    /** 전파 채널 구독 여부 */
+    private volatile boolean subscribed = false;
+
+    private final Counter negativeCounter;
+    private final Counter maybeCounter;
+
+    public MemberNameFilter(MemberQueryRepository memberQueryRepository,
+                            RedisTemplate<String, String> redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            MeterRegistry meterRegistry,
+                            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor loadExecutor,
+                            @Value("${member.name-filter.enabled:true}") boolean enabled,
+                            @Value("${member.name-filter.expected-insertions:100000}") long expectedInsertions,
+                            @Value("${member.name-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                            @Value("${member.name-filter.load-batch-size:10000}") int loadBatchSize) {
+        this.memberQueryRepository = memberQueryRepository;
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.loadExecutor = loadExecutor;
+        this.loadBatchSize = loadBatchSize;
+
+        this.nicknames = new ScalableBloomFilter(expectedInsertions, falsePositiveRate);
+        this.emails = new ScalableBloomFilter(expectedInsertions, falsePositiveRate);
+
+        this.negativeCounter = Counter.builder("member.name.filter")
+                .tag("result", "negative")
+                .description("필터에서 사용 가능이 확정된 중복 체크 수")
+                .register(meterRegistry);
+        this.maybeCounter = Counter.builder("member.name.filter")
+                .tag("result", "maybe")
+                .description("DB 조회가 필요했던 중복 체크 수")
+                .register(meterRegistry);
+
+        Gauge.builder("member.name.filter.ready", this, filter -> filter.ready ? 1 : 0)
+                .description("필터에서 판단 가능 여부")
+                .register(meterRegistry);
+        Gauge.builder("member.name.filter.bits", this, filter -> filter.nicknames.bitSize() + filter.emails.bitSize())
+                .description("닉네임 / 이메일 필터 전체 비트 수")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 닉네임 사용 여부
+     *
+     * @param nickname 닉네임
+     * @param fallback 사용 중일 수도 있을 때 사용할 DB 조회
+     */
+    public boolean existsNickname(String nickname, BooleanSupplier fallback) {
+        return exists(nicknames, nickname, fallback);
+    }
+
+    /**
+     * 이메일 사용 여부
+     *
+     * @param email    이메일
+     * @param fallback 사용 중일 수도 있을 때 사용할 DB 조회
+     */
+    public boolean existsEmail(String email, BooleanSupplier fallback) {
+        return exists(emails, email, fallback);
+    }
+
+    /**
+     * 회원 가입 반영 (커밋 전에 호출)
+     */
+    public void memberAdded(String nickname, String email) {
+        add(NICKNAME, nickname);
+        add(EMAIL, email);
+    }
+
+    /**
+     * 닉네임 변경 반영 (커밋 전에 호출)
+     */
+    public void nicknameChanged(String nickname) {
+        add(NICKNAME, nickname);
+    }
+
+    /**
+     * 필터에서 판단 가능 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 다른 노드에서 전파된 추가 반영
+     * - 메시지 형식 : 종류(N, E) \n 정규화된 값
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        if (body.length() < 2 || body.charAt(1) != SEPARATOR) {
+            log.error("닉네임 / 이메일 추가 메시지 형식 오류");
+            return;
+        }
+
+        String value = body.substring(2);
+
+        switch (body.charAt(0)) {
+            case NICKNAME -> nicknames.put(value);
+            case EMAIL -> emails.put(value);
+            default -> log.error("닉네임 / 이메일 추가 메시지 종류 오류 : {}", body.charAt(0));
+        }
+    }
+
+    /**
+     * 채널 구독(재구독 포함) 완료 시 전체 적재 (구독 전 추가는 전파받지 못했으므로)
+     */
+    @Override
+    public void onChannelSubscribed(byte[] channel, long count) {
+        subscribed = true;
+
+        if (!enabled) {
+            return;
+        }
+
+        loadAsync();
+    }
+
+    /**
+     * 채널 구독 해제 시 다시 적재될 때까지 DB 조회
+     */
+    @Override
+    public void onChannelUnsubscribed(byte[] channel, long count) {
+        subscribed = false;
+        ready = false;
+    }
+
+    /**
+     * 주기적으로 다시 적재 (전파를 놓친 추가 반영)
+     */
+    @Scheduled(cron = "${member.name-filter.reload-cron:0 30 * * * *}")
+    public void scheduledReload() {
+        if (enabled && subscribed) {
+            loadAsync();
+        }
+    }
+
+    private void loadAsync() {
+        try {
+            loadExecutor.execute(this::load);
+        } catch (RejectedExecutionException e) {
+            log.warn("닉네임 / 이메일 필터 적재 요청 거절 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * member 테이블 전체 적재
+     * - 첫 적재 / 재구독 시에는 적재가 끝날 때까지 DB 조회, 주기 적재 중에는 기존 필터로 계속 판단
+     * - 적재 중 추가는 필터에 바로 반영
+     */
+    void load() {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long startedAt = System.nanoTime();
+
+            memberQueryRepository.forEachNicknameAndEmail(loadBatchSize, (nickname, email) -> {
+                nicknames.put(normalize(nickname));
+                emails.put(normalize(email));
+            });
+
+            ready = subscribed;
+
+            log.info("닉네임 / 이메일 필터 적재 완료 : {}건, {}ms", nicknames.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        } catch (RuntimeException e) {
+            ready = false;
+            log.error("닉네임 / 이메일 필터 적재 실패, DB 조회 사용 : {}", e.getMessage());
+        } finally {
+            loading.set(false);
+        }
+    }
+
+    private boolean exists(ScalableBloomFilter filter, String value, BooleanSupplier fallback) {
+        if (ready && value != null && !filter.mightContain(normalize(value))) {
+            negativeCounter.increment();
+
+            return false;
+        }
+
+        maybeCounter.increment();
+
+        return fallback.getAsBoolean();
+    }
+
+    private void add(char type, String value) {
+        if (!enabled || value == null) {
+            return;
+        }
+
+        String normalized = normalize(value);
+
+        (type == NICKNAME ? nicknames : emails).put(normalized);
+
+        try {
+            redisTemplate.convertAndSend(CHANNEL, type + String.valueOf(SEPARATOR) + normalized);
+        } catch (RuntimeException e) {
+            // 전파받지 못한 노드는 DB 유니크 제약으로 가입 / 변경 시점에 다시 걸러짐
+            log.error("닉네임 / 이메일 추가 전파 실패 : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 비교용 정규화 (호환 분해 후 결합 문자 제거, 소문자, 확장 문자 치환, 뒤쪽 공백 제거)
+     */
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFKD);
+        String lowered = COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+
+        return EXPANSIONS.matcher(lowered)
+                .replaceAll(match -> EXPANSION_VALUES.get(match.group()))
+                .stripTrailing();
+    }
+}
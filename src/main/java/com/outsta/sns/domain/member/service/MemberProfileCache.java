@@ -0,0 +1,75 @@
+package com.outsta.sns.domain.member.service;
+
+import com.outsta.sns.domain.member.dto.response.util.MemberProfileDto;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * 회원별 상세 정보 캐시 (memberProfile)
+ * - 조회하는 회원과 관계없는 회원 정보만 L1 + Redis(L2) 에 저장 (바이너리 코덱)
+ * - 없거나 활동 중이 아닌 회원도 null 로 저장 (반복 조회 시 DB 조회 없음)
+ * - 팔로워 / 팔로잉 수는 FollowCountStore, 차단 / 공개 범위 판단은 AccessPolicy, 대표 이미지는 representImage 캐시에서
+ *   요청마다 조회하므로 팔로우 / 팔로우 취소 / 차단 / 프로필 이미지 변경으로는 삭제하지 않음
+ *   (캐시 미스 시에는 적재 쿼리에서 함께 조회한 값을 그 요청에만 사용)
+ * - 회원가입(미리 저장된 null 제거), 닉네임 / 공개 범위 변경, 탈퇴 / 탈퇴 취소 시
+ *   커밋 후 삭제 (커밋 전에 지우면 다른 요청이 이전 상태로 다시 적재)
+ * - 적중률은 캐시 공통 지표(cache.gets{cache=memberProfile, tier=l1|l2})
+ */
+@Component
+public class MemberProfileCache {
+
+    /** 캐시 이름 */
+    public static final String CACHE_NAME = "memberProfile";
+
+    private final CacheManager cacheManager;
+
+    public MemberProfileCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 활동 중인 회원의 상세 정보 조회 (캐시 미스 시 키별로 한 번만 적재)
+     * - 적재는 회원 상세 조회 화면 쿼리 한 번으로 하므로 호출하는 쪽에서 loader 전달
+     *
+     * @param memberId 회원 식별자 ID
+     * @param loader   캐시 미스 시 적재 (없거나 활동 중이 아니면 null)
+     * @return 회원 상세 정보, 없거나 활동 중이 아니면 null
+     */
+    public MemberProfileDto get(Long memberId, Supplier<MemberProfileDto> loader) {
+        return cache().get(memberId, loader::get);
+    }
+
+    /**
+     * 회원 정보 변경 반영 (트랜잭션 안이면 커밋 후, 롤백 시 삭제하지 않음)
+     *
+     * @param memberId 회원 식별자 ID
+     */
+    public void evict(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache().evict(memberId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache().evict(memberId);
+            }
+        });
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+
+        if (cache == null) {
+            throw new IllegalStateException("캐시 없음 : " + CACHE_NAME);
+        }
+
+        return cache;
+    }
+}
@@ -1,79 +1,169 @@
 package com.outsta.sns.domain.member.service;
 
+import com.outsta.sns.common.async.FanOutExecutor;
 import com.outsta.sns.common.error.CustomException;
 import com.outsta.sns.common.error.ErrorCode;
-import com.outsta.sns.domain.follow.dto.FollowerCountDto;
-import com.outsta.sns.domain.follow.dto.FollowingCountDto;
-import com.outsta.sns.domain.follow.service.FollowService;
+import com.outsta.sns.domain.block.dto.BlockSetDto;
+import com.outsta.sns.domain.block.service.BlockSetCache;
+import com.outsta.sns.domain.follow.dto.FollowCountDto;
+import com.outsta.sns.domain.follow.service.FollowCountStore;
 import com.outsta.sns.domain.member.access.AccessPolicy;
 import com.outsta.sns.domain.member.dto.response.MemberInfoResponse;
+import com.outsta.sns.domain.member.dto.response.MemberSearchResponse;
+import com.outsta.sns.domain.member.dto.response.util.MemberProfileDto;
+import com.outsta.sns.domain.member.dto.response.util.MemberProfileViewDto;
+import com.outsta.sns.domain.member.dto.response.util.NicknameMatchDto;
 import com.outsta.sns.domain.member.entity.Member;
+import com.outsta.sns.domain.member.repository.MemberQueryRepository;
 import com.outsta.sns.domain.member.repository.MemberRepository;
+import com.outsta.sns.domain.member.search.MemberSearchIndex;
 import com.outsta.sns.domain.profile.dto.response.RepresentImageDto;
 import com.outsta.sns.domain.profile.service.ProfileImageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 회원 조회 관련 서비스
  *
- * <p>회원 상세조회 기능</p>
+ * <p>회원 상세조회, 닉네임 검색 기능</p>
  */
 @Service
 @RequiredArgsConstructor
 public class MemberQueryService {
 
     private final MemberRepository memberRepository;
-    private final FollowService followService;
+    private final MemberProfileCache memberProfileCache;
+    private final FollowCountStore followCountStore;
     private final AccessPolicy accessPolicy;
     private final ProfileImageService profileImageService;
+    private final FanOutExecutor fanOutExecutor;
+    private final MemberQueryRepository memberQueryRepository;
+    private final MemberSearchIndex memberSearchIndex;
+    private final BlockSetCache blockSetCache;
+
+    /** 팔로워 / 팔로잉 수 조회 제한 시간 (초과 시 503) */
+    @Value("${member.info.counts-timeout:500ms}")
+    private Duration countsTimeout;
+
+    /** 대표 이미지 조회 제한 시간 (초과 시 이미지 없이 응답) */
+    @Value("${member.info.image-timeout:300ms}")
+    private Duration imageTimeout;
+
+    /** 닉네임 검색 최대 회원 수 */
+    @Value("${member.search.limit:10}")
+    private int searchLimit;
 
     /**
      * 자신의 상세 정보 조회
+     * - 팔로워 / 팔로잉 수와 대표 이미지는 동시에 조회 (각 조회가 트랜잭션을 열므로 여기서는 트랜잭션 없이 조회)
      *
      * @param loginId 로그인한 회원의 식별자 ID
      * @return 회원 정보 + 대표 프로필 이미지(없으면 최신 프로필 이미지) + 팔로워 / 팔로잉 수
      */
-    @Transactional(readOnly = true)
     public MemberInfoResponse getMyInfo(Long loginId) {
         Member member = memberRepository.findById(loginId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
 
-        return from(member);
+        return from(MemberProfileDto.from(member));
     }
 
     /**
-     * 자신의 상세 정보 조회
+     * 회원의 상세 정보 조회
+     * - 회원 정보는 회원별 캐시(MemberProfileCache)에서 조회
+     * - 캐시 적중 시 나와의 차단 / 팔로우 여부(AccessPolicy)와 팔로워 / 팔로잉 수(FollowCountStore),
+     *   대표 이미지(representImage 캐시)는 요청마다 조회 (수와 이미지는 내 정보 조회와 같은 방식으로 동시에 조회)
+     * - 캐시 미스 시 회원 정보 + 나와의 관계 + 수 + 대표 이미지를 쿼리 한 번으로 조회하고 회원 정보만 캐시에 저장
+     *   (회원 통계가 없을 때만 수를 FollowCountStore 에서 다시 조회)
+     * - 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회
      *
      * @param loginId  로그인한 회원의 식별자 ID
      * @param memberId 조회하려는 회원의 식별자 ID
      * @return 회원 정보 + 대표 프로필 이미지(없으면 최신 프로필 이미지) + 팔로워 / 팔로잉 수
      */
-    @Transactional(readOnly = true)
     public MemberInfoResponse getMemberInfo(Long loginId, Long memberId) {
-        Member member = memberRepository.findActiveMemberById(memberId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
+        AtomicReference<MemberProfileViewDto> loaded = new AtomicReference<>();
+
+        MemberProfileDto profile = memberProfileCache.get(memberId, () -> {
+            MemberProfileViewDto view = memberQueryRepository.findActiveProfileView(loginId, memberId).orElse(null);
+            loaded.set(view);
+
+            return view != null ? view.profile() : null;
+        });
+
+        if (profile == null) {
+            throw new CustomException(ErrorCode.NOT_FOUND_MEMBER);
+        }
+
+        MemberProfileViewDto view = loaded.get();
+
+        if (view == null) {
+            accessPolicy.checkVisibilityAndBlock(loginId, memberId, profile.visibility());
+
+            return from(profile);
+        }
+
+        accessPolicy.checkVisibilityAndBlock(view.visibility(), view.blockedWhoever(), view.followedByViewer());
 
-        accessPolicy.checkVisibilityAndBlock(loginId, memberId, member.getVisibility());
+        FollowCountDto followCount = view.followCount() != null ? view.followCount() : followCountStore.getCounts(memberId);
 
-        return from(member);
+        return toResponse(profile, followCount, view.representImage());
     }
 
-    private MemberInfoResponse from(Member member) {
-        FollowerCountDto followerCount = followService.getFollowerCount(member.getId());
-        FollowingCountDto followingCount = followService.getFollowingCount(member.getId());
-        RepresentImageDto representImage = profileImageService.getRepresentImage(member.getId());
+    /**
+     * 닉네임 접두사로 회원 검색
+     * - 노드 로컬 검색 인덱스(MemberSearchIndex)에서 팔로워 수 상위 회원 조회, 준비되지 않았으면 DB 조회
+     * - 로그인한 경우 어느 쪽이든 차단 관계인 회원 제외
+     *
+     * @param loginId 로그인한 회원의 식별자 ID (비로그인 시 null)
+     * @param prefix  닉네임 접두사 (대소문자 구분 없음)
+     * @return 검색된 회원 목록 (회원 식별자 ID, 닉네임), 팔로워 수 내림차순
+     */
+    public MemberSearchResponse searchMembers(Long loginId, String prefix) {
+        BlockSetDto blocked = loginId != null ? blockSetCache.get(loginId) : BlockSetDto.EMPTY;
+
+        List<NicknameMatchDto> matches = memberSearchIndex.search(prefix, searchLimit, blocked::contains,
+                () -> memberQueryRepository.searchActiveByNicknamePrefix(prefix, searchLimit,
+                        Arrays.stream(blocked.memberIds()).boxed().toList()));
+
+        return new MemberSearchResponse(matches.stream()
+                .map(match -> new MemberSearchResponse.SearchedMemberDto(match.memberId(), match.nickname()))
+                .toList());
+    }
+
+    /**
+     * 회원 정보 + 팔로워 / 팔로잉 수 + 대표 이미지
+     * - 수와 이미지는 서로 독립적이므로 동시에 조회 (응답 시간은 두 조회 중 긴 쪽)
+     * - 수는 다른 회원 조회와 같은 FollowCountStore 에서 조회 (기준 값은 회원 통계)
+     * - 수는 필수 (실패 시 요청 실패), 이미지는 실패하거나 제한 시간을 넘으면 이미지 없이 응답
+     */
+    private MemberInfoResponse from(MemberProfileDto profile) {
+        Long memberId = profile.id();
+
+        FanOutExecutor.Call<FollowCountDto> countsCall =
+                fanOutExecutor.submit("memberCounts", () -> followCountStore.getCounts(memberId), countsTimeout);
+        FanOutExecutor.Call<RepresentImageDto> imageCall =
+                fanOutExecutor.submit("representImage", () -> profileImageService.getRepresentImage(memberId), imageTimeout);
+
+        return toResponse(profile, countsCall.join(), imageCall.joinOrElse(null));
+    }
 
+    private static MemberInfoResponse toResponse(MemberProfileDto profile, FollowCountDto followCount,
+                                                 RepresentImageDto representImage) {
         return new MemberInfoResponse(
-                member.getId(),
-                member.getName(),
-                member.getNickname(),
-                member.getBirth(),
-                member.getGender().getCode(),
-                member.getGender().getValue(),
-                followerCount.count(),
-                followingCount.count(),
+                profile.id(),
+                profile.name(),
+                profile.nickname(),
+                profile.birth(),
+                profile.gender().getCode(),
+                profile.gender().getValue(),
+                followCount.followerCount(),
+                followCount.followingCount(),
                 representImage != null ? representImage.profileImageId() : null,
                 representImage != null ? representImage.imageUrl() : null,
                 representImage != null ? representImage.originName() : null,
@@ -6,6 +6,8 @@ import com.outsta.sns.domain.enums.Activation;
 import com.outsta.sns.domain.enums.Gender;
 import com.outsta.sns.domain.enums.Role;
 import com.outsta.sns.domain.enums.Visibility;
+import com.outsta.sns.domain.member.auth.LogoutAllEvent;
+import com.outsta.sns.domain.member.auth.SessionStore;
 import com.outsta.sns.domain.member.dto.request.*;
 import com.outsta.sns.domain.member.dto.response.CheckEmailResponse;
 import com.outsta.sns.domain.member.dto.response.CheckNicknameResponse;
@@ -13,7 +15,9 @@ import com.outsta.sns.domain.member.dto.response.MemberIdResponse;
 import com.outsta.sns.domain.member.email.EmailService;
 import com.outsta.sns.domain.member.entity.Member;
 import com.outsta.sns.domain.member.repository.MemberRepository;
+import com.outsta.sns.domain.member.search.MemberSearchIndex;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -36,6 +40,12 @@ public class MemberService {
     private final PasswordEncoder passwordEncoder;
     private final EmailService emailService;
     private final RedisTemplate<String, String> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SessionStore sessionStore;
+    private final MemberStatsService memberStatsService;
+    private final MemberProfileCache memberProfileCache;
+    private final MemberNameFilter memberNameFilter;
+    private final MemberSearchIndex memberSearchIndex;
 
     private static final String CHAR_POOL = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
     private static final int VALUE_LENGTH = 10;
@@ -44,7 +54,7 @@ public class MemberService {
     /**
      * 회원 가입
      * - 닉네임, 이메일 중복 체크
-     * - 정상 저장 시 이메일로 인증코드 전송
+     * - 정상 저장 시 닉네임 / 이메일 필터, 검색 인덱스에 추가, 회원 상세 정보 캐시 삭제, 이메일로 인증코드 전송
      *
      * @param request 회원가입 Request DTO (이메일, 닉네임, 비밀번호, 생년월일, 성별, 이름)
      * @throws CustomException 중복된 이메일, 닉네임 혹은 데이터 중복 오류 시 발생
@@ -69,7 +79,11 @@ public class MemberService {
                     .gender(Gender.valueOf(request.gender()))
                     .build();
 
-            memberRepository.save(member).getId();
+            memberRepository.save(member);
+            memberStatsService.create(member);
+            memberProfileCache.evict(member.getId());
+            memberNameFilter.memberAdded(member.getNickname(), member.getEmail());
+            memberSearchIndex.memberAdded(member.getId(), member.getNickname(), 0);
 
             String code = generateRandomValue();
             emailService.sendCode(request.email(), code);
@@ -87,25 +101,25 @@ public class MemberService {
 
     /**
      * 닉네임 중복 체크
+     * - 필터에서 사용 중이 아님이 확실하면 DB 조회 없이 응답
      *
      * @param nickname 닉네임
      * @return 중복되면 true, 아니면 false
      */
-    @Transactional(readOnly = true)
     public CheckNicknameResponse checkDuplicateNickname(String nickname) {
-        boolean exists = memberRepository.existsByNickname(nickname);
+        boolean exists = memberNameFilter.existsNickname(nickname, () -> memberRepository.existsByNickname(nickname));
 
         return new CheckNicknameResponse(exists);
     }
 
     /**
      * 이메일 중복 체크
+     * - 필터에서 사용 중이 아님이 확실하면 DB 조회 없이 응답
      * @param email 이메일
      * @return 중복되면 true, 아니면 false
      */
-    @Transactional(readOnly = true)
     public CheckEmailResponse checkDuplicateEmail(String email) {
-        boolean exists = memberRepository.existsByEmail(email);
+        boolean exists = memberNameFilter.existsEmail(email, () -> memberRepository.existsByEmail(email));
 
         return new CheckEmailResponse(exists);
     }
@@ -113,6 +127,7 @@ public class MemberService {
     /**
      * 닉네임 수정
      * - 닉네임 중복 체크
+     * - 회원 상세 정보 캐시 삭제, 닉네임 필터와 검색 인덱스에 반영
      * @param memberId 로그인한 회원 식별자 ID
      * @param request  변경하려고 하는 닉네임 Request DTO
      * @return 회원 식별자 ID를 포함한 Response
@@ -126,13 +141,20 @@ public class MemberService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
 
+        String previousNickname = member.getNickname();
+
         member.updateNickname(request.nickname());
+        memberProfileCache.evict(memberId);
+        memberNameFilter.nicknameChanged(request.nickname());
+        memberSearchIndex.nicknameChanged(memberId, previousNickname, request.nickname(),
+                memberStatsService.getCounts(memberId).followerCount());
 
         return new MemberIdResponse(memberId);
     }
 
     /**
      * 비밀번호 수정
+     * - 커밋 후 기존에 발급된 모든 토큰 폐기
      * @param memberId 로그인한 회원 식별자 ID
      * @param request  변경하려고 하는 비밀번호 Request DTO
      * @return 회원 식별자 ID를 포함한 Response
@@ -143,12 +165,15 @@ public class MemberService {
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
 
         member.updatePassword(passwordEncoder.encode(request.password()));
+        eventPublisher.publishEvent(new LogoutAllEvent(memberId));
 
         return new MemberIdResponse(memberId);
     }
 
     /**
      * 회원 탈퇴
+     * - 커밋 후 기존에 발급된 모든 토큰 폐기
+     * - 회원 상세 정보 캐시 삭제, 검색 인덱스에서 제외
      * @param memberId 로그인한 회원 식별자 ID
      */
     @Transactional
@@ -157,10 +182,14 @@ public class MemberService {
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
 
         member.deleteMember();
+        eventPublisher.publishEvent(new LogoutAllEvent(memberId));
+        memberProfileCache.evict(memberId);
+        memberSearchIndex.memberRemoved(memberId, member.getNickname());
     }
 
     /**
      * 프로필 정보 공개 범위 설정
+     * - 회원 상세 정보 캐시 삭제
      *
      * @param memberId 로그인한 회원 식별자 ID
      * @param request  프로필 정보 공개 범위
@@ -172,6 +201,7 @@ public class MemberService {
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_MEMBER));
 
         member.updatePrivacy(Visibility.valueOf(request.visibility()));
+        memberProfileCache.evict(memberId);
 
         return new MemberIdResponse(memberId);
     }
@@ -181,6 +211,7 @@ public class MemberService {
      * - 요청받은 이메일로 활성화된 회원 조회
      * - 해당 회원과 생년월일 및 이름 일치 여부 확인
      * - 일치할 시 임시 비밀번호 설정 및 해당 이메일로 임시 비밀번호 전송
+     * - 커밋 후 기존에 발급된 모든 토큰 폐기
      *
      * @param request 회원정보를 판단할 Request DTO (이메일, 이름, 생년월일)
      */
@@ -199,6 +230,7 @@ public class MemberService {
 
         String tempPassword = generateRandomValue();
         member.updatePassword(passwordEncoder.encode(tempPassword));
+        eventPublisher.publishEvent(new LogoutAllEvent(member.getId()));
 
         emailService.sendTempPassword(request.email(), tempPassword);
     }
@@ -207,6 +239,8 @@ public class MemberService {
      * 회원 탈퇴 취소 처리
      * - 이름 이메일 비밀번호 생년월일 모두 일치해야 취소 처리
      * - 회원 상태 활성화로 변경
+     * - 커밋 후 로그인 세션 스냅샷에 변경된 상태 반영
+     * - 회원 상세 정보 캐시 삭제, 검색 인덱스에 다시 추가
      *
      * @param request (이름, 이메일, 비밀번호, 생년월일)
      * @throws CustomException 이름, 이메일, 비밀번호, 생년월일 하나라도 틀릴 시 발생
@@ -233,16 +267,22 @@ public class MemberService {
         }
 
         member.cancelDeleteMember();
+        sessionStore.updateMember(member);
+        memberProfileCache.evict(member.getId());
+        memberSearchIndex.memberAdded(member.getId(), member.getNickname(),
+                memberStatsService.getCounts(member.getId()).followerCount());
     }
 
     /**
      * 인증 코드 확인 처리
      * - Redis에서 요청받은 이메일로 코드 확인
      * - 코드가 맞으면 Role 변경
+     * - 커밋 후 로그인 세션 스냅샷에 변경된 Role 반영
      *
      * @param request 인증코드 Request DTO (이메일, 인증코드)
      * @throws CustomException 인증코드가 없거나, 틀리거나, 회원이 없거나, Role이 Guest가 아니면 발생
      */
+    @Transactional
     public void checkCode(CodeCheckRequest request) {
         Member member = memberRepository.findByEmail(request.email())
                 .orElseThrow(() -> new CustomException(ErrorCode.INVALID_CODE));
@@ -259,6 +299,7 @@ public class MemberService {
         }
 
         member.updateRole();
+        sessionStore.updateMember(member);
     }
 
     /**
@@ -0,0 +1,127 @@
+package com.outsta.sns.domain.member.service;
+
+import com.outsta.sns.domain.follow.dto.FollowCountDto;
+import com.outsta.sns.domain.follow.repository.FollowQueryRepository;
+import com.outsta.sns.domain.member.entity.Member;
+import com.outsta.sns.domain.member.entity.MemberStats;
+import com.outsta.sns.domain.member.repository.MemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 통계(팔로워 / 팔로잉 수) 관련 서비스
+ *
+ * <p>통계 생성, 팔로우 추가 / 삭제 반영, 통계 조회</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberStatsService {
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final FollowQueryRepository followQueryRepository;
+
+    /**
+     * 회원 통계 생성 (회원가입 시)
+     *
+     * @param member 가입한 회원
+     */
+    @Transactional
+    public void create(Member member) {
+        memberStatsRepository.save(MemberStats.builder()
+                .member(member)
+                .build());
+    }
+
+    /**
+     * 팔로우 추가 반영 (호출한 트랜잭션 안에서 증가)
+     *
+     * @param followerId  팔로우한 회원 식별자 ID
+     * @param followingId 팔로우 대상 회원 식별자 ID
+     */
+    @Transactional
+    public void followAdded(Long followerId, Long followingId) {
+        apply(followerId, followingId, 1);
+    }
+
+    /**
+     * 팔로우 삭제 반영 (호출한 트랜잭션 안에서 감소)
+     *
+     * @param followerId  팔로우했던 회원 식별자 ID
+     * @param followingId 팔로우 대상이었던 회원 식별자 ID
+     */
+    @Transactional
+    public void followRemoved(Long followerId, Long followingId) {
+        apply(followerId, followingId, -1);
+    }
+
+    /**
+     * 회원의 팔로워 / 팔로잉 수 조회
+     * - 통계가 아직 없는 회원(보정 배치 실행 전 가입자)은 follow 테이블에서 집계
+     *
+     * @param memberId 회원 식별자 ID
+     * @return 팔로워 / 팔로잉 수
+     */
+    @Transactional(readOnly = true)
+    public FollowCountDto getCounts(Long memberId) {
+        return memberStatsRepository.findById(memberId)
+                .map(stats -> new FollowCountDto(stats.getFollowerCount(), stats.getFollowingCount()))
+                .orElseGet(() -> new FollowCountDto(
+                        followQueryRepository.getFollowerCount(memberId).count(),
+                        followQueryRepository.getFollowingCount(memberId).count()
+                ));
+    }
+
+    /**
+     * 여러 회원의 팔로워 / 팔로잉 수 조회
+     *
+     * @param memberIds 회원 식별자 ID 목록
+     * @return 회원 식별자 ID 별 팔로워 / 팔로잉 수
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, FollowCountDto> getCounts(Collection<Long> memberIds) {
+        Map<Long, FollowCountDto> counts = new HashMap<>();
+
+        for (MemberStats stats : memberStatsRepository.findAllById(memberIds)) {
+            counts.put(stats.getMemberId(), new FollowCountDto(stats.getFollowerCount(), stats.getFollowingCount()));
+        }
+
+        List<Long> missingIds = memberIds.stream()
+                .filter(memberId -> !counts.containsKey(memberId))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            Map<Long, Long> followerCounts = followQueryRepository.getFollowerCounts(missingIds);
+            Map<Long, Long> followingCounts = followQueryRepository.getFollowingCounts(missingIds);
+
+            for (Long memberId : missingIds) {
+                counts.put(memberId, new FollowCountDto(
+                        followerCounts.getOrDefault(memberId, 0L),
+                        followingCounts.getOrDefault(memberId, 0L)
+                ));
+            }
+        }
+
+        return counts;
+    }
+
+    /**
+     * 팔로우 관계 두 회원의 통계 증감
+     * - 맞팔로우 / 언팔로우가 동시에 일어나도 교착 상태가 생기지 않도록 식별자 ID 오름차순으로 갱신
+     * - 통계 행이 없는 회원은 건너뜀 (보정 배치에서 생성)
+     */
+    private void apply(Long followerId, Long followingId, long delta) {
+        if (followerId < followingId) {
+            memberStatsRepository.addFollowingCount(followerId, delta);
+            memberStatsRepository.addFollowerCount(followingId, delta);
+        } else {
+            memberStatsRepository.addFollowerCount(followingId, delta);
+            memberStatsRepository.addFollowingCount(followerId, delta);
+        }
+    }
+}
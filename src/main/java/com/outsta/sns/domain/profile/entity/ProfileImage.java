@@ -7,9 +7,13 @@ import lombok.*;
 
 /**
  * 프로필 이미지 엔티티
+ * - (member_id, represent) 인덱스 : 회원의 대표 이미지 조회, 회원 상세 조회(캐시 미스)의 대표 / 최신 이미지 ID 조회
  */
 @Entity
-@Table(name = "profile_image")
+@Table(
+        name = "profile_image",
+        indexes = @Index(name = "idx_profile_image_member_id_represent", columnList = "member_id, represent")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
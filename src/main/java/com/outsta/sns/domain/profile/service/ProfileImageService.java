@@ -145,11 +145,12 @@ public class ProfileImageService {
      * 대표 이미지 조회
      * - 없을 시 최신 이미지
      * - 프로필 이미지가 아예 없으면 null
+     * - 캐시 미스 시 키별로 한 번만 조회 (sync = true)
      *
      * @param memberId 회원 식별자 ID
      * @return 회원 대표 이미지 혹은 최신 이미지 혹은 null
      */
-    @Cacheable(value = "representImage", key = "#memberId")
+    @Cacheable(value = "representImage", key = "#memberId", sync = true)
     public RepresentImageDto getRepresentImage(Long memberId) {
         return profileImageRepository.findRepresentImageByMemberId(memberId)
                 .or(() -> profileImageRepository.findFirstByMemberIdOrderByCreatedAtDesc(memberId))
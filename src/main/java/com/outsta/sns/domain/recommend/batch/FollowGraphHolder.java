@@ -0,0 +1,68 @@
+package com.outsta.sns.domain.recommend.batch;
+
+import com.outsta.sns.domain.recommend.graph.FollowGraph;
+import com.outsta.sns.domain.recommend.repository.FollowGraphQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 배치에서 사용할 팔로우 그래프 보관
+ * - Job 시작 시 DB 에서 한 번 적재하여 모든 파티션이 같은 그래프를 공유
+ * - Job 종료 시 해제 (배치가 돌지 않는 동안 메모리를 차지하지 않음)
+ */
+@Slf4j
+@Component
+public class FollowGraphHolder implements JobExecutionListener {
+
+    private final FollowGraphQueryRepository followGraphQueryRepository;
+
+    /** 그래프 적재 시 한 번에 읽을 행 수 */
+    private final int loadBatchSize;
+
+    private volatile FollowGraph graph;
+
+    public FollowGraphHolder(FollowGraphQueryRepository followGraphQueryRepository,
+                             @Value("${recommend.load-batch-size:10000}") int loadBatchSize) {
+        this.followGraphQueryRepository = followGraphQueryRepository;
+        this.loadBatchSize = loadBatchSize;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        long startedAt = System.nanoTime();
+        FollowGraph.Builder builder = FollowGraph.builder();
+
+        followGraphQueryRepository.forEachActiveFollow(loadBatchSize, builder::addFollow);
+        followGraphQueryRepository.forEachBlock(loadBatchSize, builder::addBlock);
+
+        graph = builder.build();
+
+        log.info("팔로우 그래프 적재 완료 : 회원 {}명, 팔로우 {}건, {}ms", graph.size(), graph.followCount(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        graph = null;
+    }
+
+    /**
+     * 적재된 팔로우 그래프
+     *
+     * @throws IllegalStateException 추천 배치 실행 중이 아닌 경우
+     */
+    public FollowGraph graph() {
+        FollowGraph current = graph;
+
+        if (current == null) {
+            throw new IllegalStateException("팔로우 그래프가 적재되지 않았습니다.");
+        }
+
+        return current;
+    }
+}
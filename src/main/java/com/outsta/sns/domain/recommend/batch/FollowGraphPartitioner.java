@@ -0,0 +1,41 @@
+package com.outsta.sns.domain.recommend.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 팔로우 그래프 정점 번호 범위 분할기
+ * - 0 ~ 정점 수 - 1 을 gridSize 개의 연속 구간(fromIndex 이상 ~ toIndex 미만)으로 나눔
+ * - 정점이 없으면 파티션 없음
+ */
+@RequiredArgsConstructor
+public class FollowGraphPartitioner implements Partitioner {
+
+    static final String FROM_INDEX = "fromIndex";
+    static final String TO_INDEX = "toIndex";
+
+    private final FollowGraphHolder followGraphHolder;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int size = followGraphHolder.graph().size();
+        int rangeSize = (size + gridSize - 1) / gridSize;
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        int index = 0;
+
+        for (int from = 0; from < size; from += rangeSize) {
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(FROM_INDEX, from);
+            context.putInt(TO_INDEX, Math.min(from + rangeSize, size));
+
+            partitions.put("partition" + index++, context);
+        }
+
+        return partitions;
+    }
+}
@@ -0,0 +1,103 @@
+package com.outsta.sns.domain.recommend.batch;
+
+import com.outsta.sns.domain.recommend.dto.MemberRecommendation;
+import com.outsta.sns.domain.recommend.graph.FollowGraph;
+import com.outsta.sns.domain.recommend.service.RecommendationStore;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.batch.item.support.IteratorItemReader;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.stream.IntStream;
+
+/**
+ * 알 수도 있는 회원 추천 배치 설정
+ * - recommendationJob : 시작 시 팔로우 그래프를 메모리에 적재(FollowGraphHolder)하고,
+ *   정점 번호 범위를 grid-size 개로 나눠 파티션별로 동시에 실행
+ * - 파티션마다 회원의 친구의 친구 상위 top-k 명을 계산해 chunk-size 만큼씩 Redis 에 저장(RecommendationStore)
+ * - 청크에서 DB 를 쓰지 않으므로 청크 트랜잭션은 ResourcelessTransactionManager 사용
+ */
+@Configuration
+public class RecommendationJobConfig {
+
+    public static final String JOB_NAME = "recommendationJob";
+    private static final String STEP_NAME = "recommendationStep";
+
+    @Value("${recommend.grid-size:4}")
+    private int gridSize;
+
+    @Value("${recommend.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${recommend.top-k:30}")
+    private int topK;
+
+    @Bean
+    public Job recommendationJob(JobRepository jobRepository,
+                                 FollowGraphHolder followGraphHolder,
+                                 Step recommendationManagerStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .listener(followGraphHolder)
+                .start(recommendationManagerStep)
+                .build();
+    }
+
+    @Bean
+    public Step recommendationManagerStep(JobRepository jobRepository,
+                                          FollowGraphHolder followGraphHolder,
+                                          Step recommendationStep) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("recommendation-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
+        return new StepBuilder(STEP_NAME + ".manager", jobRepository)
+                .partitioner(STEP_NAME, new FollowGraphPartitioner(followGraphHolder))
+                .step(recommendationStep)
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step recommendationStep(JobRepository jobRepository,
+                                   IteratorItemReader<Integer> graphIndexReader,
+                                   ItemProcessor<Integer, MemberRecommendation> recommendationProcessor,
+                                   RecommendationStore recommendationStore) {
+        return new StepBuilder(STEP_NAME, jobRepository)
+                .<Integer, MemberRecommendation>chunk(chunkSize, new ResourcelessTransactionManager())
+                .reader(graphIndexReader)
+                .processor(recommendationProcessor)
+                .writer(chunk -> recommendationStore.saveAll(chunk.getItems()))
+                .build();
+    }
+
+    /**
+     * 파티션 범위의 정점 번호를 순서대로 읽는 Reader
+     */
+    @Bean
+    @StepScope
+    public IteratorItemReader<Integer> graphIndexReader(@Value("#{stepExecutionContext['fromIndex']}") Integer fromIndex,
+                                                        @Value("#{stepExecutionContext['toIndex']}") Integer toIndex) {
+        return new IteratorItemReader<>(IntStream.range(fromIndex, toIndex).iterator());
+    }
+
+    /**
+     * 정점의 추천 후보 계산 (파티션마다 점수 계산기 하나)
+     */
+    @Bean
+    @StepScope
+    public ItemProcessor<Integer, MemberRecommendation> recommendationProcessor(FollowGraphHolder followGraphHolder) {
+        FollowGraph graph = followGraphHolder.graph();
+        FollowGraph.Scorer scorer = graph.scorer();
+
+        return index -> new MemberRecommendation(graph.memberId(index), scorer.recommend(index, topK));
+    }
+}
@@ -0,0 +1,12 @@
+package com.outsta.sns.domain.recommend.dto;
+
+import java.util.List;
+
+/**
+ * 회원별 추천 결과 (배치 처리 단위)
+ *
+ * @param memberId   추천 받을 회원 식별자 ID
+ * @param candidates 추천 후보 (점수 내림차순, 없으면 빈 목록)
+ */
+public record MemberRecommendation(long memberId, List<RecommendationCandidate> candidates) {
+}
@@ -0,0 +1,10 @@
+package com.outsta.sns.domain.recommend.dto;
+
+/**
+ * 추천 후보
+ *
+ * @param memberId    추천 회원 식별자 ID
+ * @param mutualCount 내가 팔로우하는 회원 중 추천 회원을 팔로우하는 회원 수
+ */
+public record RecommendationCandidate(long memberId, int mutualCount) {
+}
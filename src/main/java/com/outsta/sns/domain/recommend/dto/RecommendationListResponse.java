@@ -0,0 +1,21 @@
+package com.outsta.sns.domain.recommend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 알 수도 있는 회원 목록 Response DTO
+ * - 회원 식별자 ID, 회원 닉네임, 함께 아는 회원 수
+ * - 함께 아는 회원 수 내림차순
+ */
+@Schema(description = "알 수도 있는 회원 목록 Response DTO")
+public record RecommendationListResponse(
+        @Schema(description = "추천 회원 목록") List<RecommendedMemberDto> recommendationList
+) {
+    public record RecommendedMemberDto(
+            @Schema(description = "회원 ID") Long memberId,
+            @Schema(description = "닉네임") String nickname,
+            @Schema(description = "내가 팔로우하는 회원 중 이 회원을 팔로우하는 회원 수") int mutualCount) {
+    }
+}
@@ -0,0 +1,338 @@
+package com.outsta.sns.domain.recommend.graph;
+
+import com.outsta.sns.domain.recommend.dto.RecommendationCandidate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 팔로우 그래프 (CSR, Compressed Sparse Row)
+ * - 회원 식별자 ID 를 오름차순 정렬한 배열의 위치(index)를 정점 번호로 사용
+ * - 정점 i 가 팔로우하는 정점 : follows[followOffsets[i] ~ followOffsets[i + 1])
+ * - 정점 i 와 어느 쪽이든 차단 관계인 정점 : blocks[blockOffsets[i] ~ blockOffsets[i + 1])
+ * - 간선마다 int 하나만 사용하고 간선 객체를 만들지 않음
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 동시에 조회 가능 (점수 계산 버퍼는 스레드마다 Scorer 로 분리)
+ */
+public final class FollowGraph {
+
+    /** 점수 계산에서 제외된 정점 표시 */
+    private static final int EXCLUDED = -1;
+
+    private final long[] memberIds;
+    private final int[] followOffsets;
+    private final int[] follows;
+    private final int[] blockOffsets;
+    private final int[] blocks;
+
+    private FollowGraph(long[] memberIds, int[] followOffsets, int[] follows, int[] blockOffsets, int[] blocks) {
+        this.memberIds = memberIds;
+        this.followOffsets = followOffsets;
+        this.follows = follows;
+        this.blockOffsets = blockOffsets;
+        this.blocks = blocks;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 정점(회원) 수
+     */
+    public int size() {
+        return memberIds.length;
+    }
+
+    /**
+     * 팔로우 간선 수
+     */
+    public int followCount() {
+        return follows.length;
+    }
+
+    /**
+     * 정점 번호의 회원 식별자 ID
+     */
+    public long memberId(int index) {
+        return memberIds[index];
+    }
+
+    /**
+     * 회원 식별자 ID 의 정점 번호
+     *
+     * @return 그래프에 없으면 -1
+     */
+    public int indexOf(long memberId) {
+        int index = Arrays.binarySearch(memberIds, memberId);
+
+        return index >= 0 ? index : -1;
+    }
+
+    /**
+     * 점수 계산기 생성 (스레드마다 하나씩 사용)
+     */
+    public Scorer scorer() {
+        return new Scorer();
+    }
+
+    /**
+     * 친구의 친구 점수 계산기
+     * - 정점 수 크기의 점수 배열을 재사용하고, 값을 바꾼 정점만 기록했다가 계산 후 되돌림
+     */
+    public final class Scorer {
+
+        private final int[] scores = new int[memberIds.length];
+        private int[] touched = new int[64];
+        private int touchedCount;
+
+        private Scorer() {
+        }
+
+        /**
+         * 알 수도 있는 회원 상위 limit 명
+         * - 내가 팔로우하는 회원이 팔로우하는 회원(2단계)을 후보로, 거쳐 온 회원 수를 점수로 사용
+         * - 나 자신, 이미 팔로우한 회원, 어느 쪽이든 차단 관계인 회원 제외
+         * - 점수 내림차순, 같으면 회원 식별자 ID 오름차순
+         *
+         * @param index 추천 받을 회원의 정점 번호
+         * @param limit 최대 후보 수
+         * @return 추천 후보 (없으면 빈 목록)
+         */
+        public List<RecommendationCandidate> recommend(int index, int limit) {
+            try {
+                exclude(index);
+
+                for (int e = followOffsets[index]; e < followOffsets[index + 1]; e++) {
+                    exclude(follows[e]);
+                }
+
+                for (int e = blockOffsets[index]; e < blockOffsets[index + 1]; e++) {
+                    exclude(blocks[e]);
+                }
+
+                for (int e = followOffsets[index]; e < followOffsets[index + 1]; e++) {
+                    int via = follows[e];
+
+                    for (int f = followOffsets[via]; f < followOffsets[via + 1]; f++) {
+                        int candidate = follows[f];
+                        int score = scores[candidate];
+
+                        if (score == EXCLUDED) {
+                            continue;
+                        }
+
+                        if (score == 0) {
+                            touch(candidate);
+                        }
+
+                        scores[candidate] = score + 1;
+                    }
+                }
+
+                return top(limit);
+            } finally {
+                reset();
+            }
+        }
+
+        /**
+         * 점수가 있는 정점 중 상위 limit 개 (크기 limit 의 최소 힙)
+         * - 점수를 상위 32비트, 정점 번호를 뒤집은 값을 하위 32비트에 담아 long 하나로 비교
+         */
+        private List<RecommendationCandidate> top(int limit) {
+            if (limit <= 0) {
+                return List.of();
+            }
+
+            PriorityQueue<Long> heap = new PriorityQueue<>(limit + 1);
+
+            for (int i = 0; i < touchedCount; i++) {
+                int candidate = touched[i];
+                int score = scores[candidate];
+
+                if (score > 0) {
+                    heap.add(((long) score << 32) | (Integer.MAX_VALUE - candidate));
+
+                    if (heap.size() > limit) {
+                        heap.poll();
+                    }
+                }
+            }
+
+            List<RecommendationCandidate> candidates = new ArrayList<>(heap.size());
+
+            while (!heap.isEmpty()) {
+                long packed = heap.poll();
+                int candidate = Integer.MAX_VALUE - (int) packed;
+
+                candidates.add(new RecommendationCandidate(memberIds[candidate], (int) (packed >>> 32)));
+            }
+
+            Collections.reverse(candidates);
+
+            return candidates;
+        }
+
+        private void exclude(int index) {
+            if (scores[index] == 0) {
+                touch(index);
+            }
+
+            scores[index] = EXCLUDED;
+        }
+
+        private void touch(int index) {
+            if (touchedCount == touched.length) {
+                touched = Arrays.copyOf(touched, touched.length * 2);
+            }
+
+            touched[touchedCount++] = index;
+        }
+
+        private void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0;
+            }
+
+            touchedCount = 0;
+        }
+    }
+
+    /**
+     * 그래프 생성기
+     * - 팔로우 / 차단 관계를 회원 식별자 ID 쌍으로 모은 뒤 한 번에 CSR 로 변환
+     * - 팔로우 관계에 나온 회원만 정점이 되며, 정점이 아닌 회원과의 차단 관계는 무시
+     */
+    public static final class Builder {
+
+        private long[] followFrom = new long[1024];
+        private long[] followTo = new long[1024];
+        private int followSize;
+
+        private long[] blockFrom = new long[64];
+        private long[] blockTo = new long[64];
+        private int blockSize;
+
+        private Builder() {
+        }
+
+        /**
+         * @param followerId  팔로우한 회원 식별자 ID
+         * @param followingId 팔로우 대상 회원 식별자 ID
+         */
+        public Builder addFollow(long followerId, long followingId) {
+            if (followSize == followFrom.length) {
+                followFrom = Arrays.copyOf(followFrom, followSize * 2);
+                followTo = Arrays.copyOf(followTo, followSize * 2);
+            }
+
+            followFrom[followSize] = followerId;
+            followTo[followSize] = followingId;
+            followSize++;
+
+            return this;
+        }
+
+        /**
+         * @param blockerId 차단한 회원 식별자 ID
+         * @param blockedId 차단 당한 회원 식별자 ID
+         */
+        public Builder addBlock(long blockerId, long blockedId) {
+            if (blockSize == blockFrom.length) {
+                blockFrom = Arrays.copyOf(blockFrom, blockSize * 2);
+                blockTo = Arrays.copyOf(blockTo, blockSize * 2);
+            }
+
+            blockFrom[blockSize] = blockerId;
+            blockTo[blockSize] = blockedId;
+            blockSize++;
+
+            return this;
+        }
+
+        public FollowGraph build() {
+            long[] memberIds = distinctSorted();
+
+            int[] from = new int[followSize];
+            int[] to = new int[followSize];
+
+            for (int i = 0; i < followSize; i++) {
+                from[i] = Arrays.binarySearch(memberIds, followFrom[i]);
+                to[i] = Arrays.binarySearch(memberIds, followTo[i]);
+            }
+
+            int[] followOffsets = new int[memberIds.length + 1];
+            int[] follows = toAdjacency(from, to, followSize, followOffsets);
+
+            // 차단은 방향과 관계없이 양쪽 정점에 모두 저장
+            int[] blockFromIndex = new int[blockSize * 2];
+            int[] blockToIndex = new int[blockSize * 2];
+            int blockEdges = 0;
+
+            for (int i = 0; i < blockSize; i++) {
+                int blocker = Arrays.binarySearch(memberIds, blockFrom[i]);
+                int blocked = Arrays.binarySearch(memberIds, blockTo[i]);
+
+                if (blocker < 0 || blocked < 0) {
+                    continue;
+                }
+
+                blockFromIndex[blockEdges] = blocker;
+                blockToIndex[blockEdges++] = blocked;
+                blockFromIndex[blockEdges] = blocked;
+                blockToIndex[blockEdges++] = blocker;
+            }
+
+            int[] blockOffsets = new int[memberIds.length + 1];
+            int[] blocks = toAdjacency(blockFromIndex, blockToIndex, blockEdges, blockOffsets);
+
+            return new FollowGraph(memberIds, followOffsets, follows, blockOffsets, blocks);
+        }
+
+        /**
+         * 팔로우 관계에 나온 회원 식별자 ID (중복 제거, 오름차순)
+         */
+        private long[] distinctSorted() {
+            long[] ids = new long[followSize * 2];
+
+            System.arraycopy(followFrom, 0, ids, 0, followSize);
+            System.arraycopy(followTo, 0, ids, followSize, followSize);
+            Arrays.sort(ids);
+
+            int distinct = 0;
+
+            for (int i = 0; i < ids.length; i++) {
+                if (i == 0 || ids[i] != ids[i - 1]) {
+                    ids[distinct++] = ids[i];
+                }
+            }
+
+            return Arrays.copyOf(ids, distinct);
+        }
+
+        /**
+         * 간선 목록을 CSR 인접 배열로 변환 (offsets 채움, 시작 정점별 개수 세기 -> 누적 합 -> 배치)
+         */
+        private static int[] toAdjacency(int[] from, int[] to, int size, int[] offsets) {
+            for (int i = 0; i < size; i++) {
+                offsets[from[i] + 1]++;
+            }
+
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] += offsets[i - 1];
+            }
+
+            int[] adjacency = new int[size];
+            int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+
+            for (int i = 0; i < size; i++) {
+                adjacency[next[from[i]]++] = to[i];
+            }
+
+            return adjacency;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.outsta.sns.domain.recommend.repository;
+
+import com.outsta.sns.domain.block.entity.QBlock;
+import com.outsta.sns.domain.enums.Activation;
+import com.outsta.sns.domain.follow.entity.QFollow;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 팔로우 그래프 적재용 조회 쿼리
+ * - 식별자 ID 순으로 batchSize 개씩 읽는 키셋 페이징 (OFFSET 없음, 엔티티 대신 ID 만 조회)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FollowGraphQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final QFollow follow = QFollow.follow;
+    private final QBlock block = QBlock.block;
+
+    /**
+     * 양쪽 모두 활동 중(ACTIVE)인 팔로우 관계 전체 순회
+     *
+     * @param batchSize 한 번에 읽을 행 수
+     * @param consumer  (팔로우한 회원 식별자 ID, 팔로우 대상 회원 식별자 ID)
+     */
+    public void forEachActiveFollow(int batchSize, EdgeConsumer consumer) {
+        forEachFollow(batchSize, true, consumer);
+    }
+
+    /**
+     * 팔로우 관계 전체 순회 (회원 상태와 관계없이)
+     *
+     * @param batchSize 한 번에 읽을 행 수
+     * @param consumer  (팔로우한 회원 식별자 ID, 팔로우 대상 회원 식별자 ID)
+     */
+    public void forEachFollow(int batchSize, EdgeConsumer consumer) {
+        forEachFollow(batchSize, false, consumer);
+    }
+
+    private void forEachFollow(int batchSize, boolean activeOnly, EdgeConsumer consumer) {
+        long lastId = 0;
+
+        while (true) {
+            List<Tuple> rows = jpaQueryFactory
+                    .select(follow.id, follow.follower.id, follow.following.id)
+                    .from(follow)
+                    .where(
+                            follow.id.gt(lastId),
+                            activeOnly ? follow.follower.activation.eq(Activation.ACTIVE) : null,
+                            activeOnly ? follow.following.activation.eq(Activation.ACTIVE) : null
+                    )
+                    .orderBy(follow.id.asc())
+                    .limit(batchSize)
+                    .fetch();
+
+            for (Tuple row : rows) {
+                consumer.accept(row.get(follow.follower.id), row.get(follow.following.id));
+            }
+
+            if (rows.size() < batchSize) {
+                return;
+            }
+
+            lastId = rows.get(rows.size() - 1).get(follow.id);
+        }
+    }
+
+    /**
+     * 차단 관계 전체 순회
+     *
+     * @param batchSize 한 번에 읽을 행 수
+     * @param consumer  (차단한 회원 식별자 ID, 차단 당한 회원 식별자 ID)
+     */
+    public void forEachBlock(int batchSize, EdgeConsumer consumer) {
+        long lastId = 0;
+
+        while (true) {
+            List<Tuple> rows = jpaQueryFactory
+                    .select(block.id, block.blocker.id, block.blocked.id)
+                    .from(block)
+                    .where(block.id.gt(lastId))
+                    .orderBy(block.id.asc())
+                    .limit(batchSize)
+                    .fetch();
+
+            for (Tuple row : rows) {
+                consumer.accept(row.get(block.blocker.id), row.get(block.blocked.id));
+            }
+
+            if (rows.size() < batchSize) {
+                return;
+            }
+
+            lastId = rows.get(rows.size() - 1).get(block.id);
+        }
+    }
+
+    /**
+     * 회원 식별자 ID 쌍 처리
+     */
+    @FunctionalInterface
+    public interface EdgeConsumer {
+
+        void accept(long fromId, long toId);
+    }
+}
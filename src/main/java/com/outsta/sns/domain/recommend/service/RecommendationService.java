@@ -0,0 +1,67 @@
+package com.outsta.sns.domain.recommend.service;
+
+import com.outsta.sns.domain.block.repository.BlockQueryRepository;
+import com.outsta.sns.domain.follow.repository.FollowQueryRepository;
+import com.outsta.sns.domain.member.repository.MemberQueryRepository;
+import com.outsta.sns.domain.recommend.dto.RecommendationCandidate;
+import com.outsta.sns.domain.recommend.dto.RecommendationListResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 알 수도 있는 회원 추천 서비스
+ *
+ * <p>배치(RecommendationJobConfig)가 미리 계산해 둔 추천 결과 조회</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendationService {
+
+    private final RecommendationStore recommendationStore;
+    private final FollowQueryRepository followQueryRepository;
+    private final BlockQueryRepository blockQueryRepository;
+    private final MemberQueryRepository memberQueryRepository;
+
+    /**
+     * 내 추천 회원 목록 조회
+     * - 배치 이후 팔로우했거나, 차단 관계가 생겼거나, 활동 중이 아니게 된 회원은 제외
+     * - 관계와 닉네임은 목록 전체를 IN 쿼리 한 번씩으로 조회
+     *
+     * @param loginId 현재 로그인한 회원의 식별자 ID
+     * @return 추천 회원 목록 (회원 식별자 ID, 닉네임, 함께 아는 회원 수), 계산된 결과가 없으면 빈 목록
+     */
+    public RecommendationListResponse getMyRecommendations(Long loginId) {
+        List<RecommendationCandidate> candidates = recommendationStore.find(loginId);
+
+        if (candidates.isEmpty()) {
+            return new RecommendationListResponse(List.of());
+        }
+
+        List<Long> memberIds = candidates.stream().map(RecommendationCandidate::memberId).toList();
+
+        Set<Long> followingIds = followQueryRepository.findFollowingIdsIn(loginId, memberIds);
+        Set<Long> blockedIds = blockQueryRepository.findBlockedWhoeverIdsIn(loginId, memberIds);
+        Map<Long, String> nicknames = memberQueryRepository.findActiveNicknames(memberIds);
+
+        List<RecommendationListResponse.RecommendedMemberDto> recommendationList = new ArrayList<>(candidates.size());
+
+        for (RecommendationCandidate candidate : candidates) {
+            Long memberId = candidate.memberId();
+            String nickname = nicknames.get(memberId);
+
+            if (nickname == null || followingIds.contains(memberId) || blockedIds.contains(memberId)) {
+                continue;
+            }
+
+            recommendationList.add(new RecommendationListResponse.RecommendedMemberDto(
+                    memberId, nickname, candidate.mutualCount()));
+        }
+
+        return new RecommendationListResponse(recommendationList);
+    }
+}
@@ -0,0 +1,106 @@
+package com.outsta.sns.domain.recommend.service;
+
+import com.outsta.sns.domain.recommend.dto.MemberRecommendation;
+import com.outsta.sns.domain.recommend.dto.RecommendationCandidate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 회원별 추천 결과 저장소
+ * - Redis String(recommend:{memberId})에 "회원ID:점수,회원ID:점수" 형식으로 점수 내림차순 저장
+ * - 한 번의 SET 으로 통째로 교체하므로 조회 중에 일부만 바뀐 목록이 보이지 않음
+ * - 배치가 멈춰도 오래된 추천이 남지 않도록 유지 시간(ttl) 후 만료
+ */
+@Component
+public class RecommendationStore {
+
+    /** 회원별 추천 결과 키 접두사 */
+    public static final String KEY_PREFIX = "recommend:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /** 저장 유지 시간 (배치 주기보다 길게) */
+    private final Duration ttl;
+
+    public RecommendationStore(RedisTemplate<String, String> redisTemplate,
+                               @Value("${recommend.ttl:2d}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 추천 결과 일괄 저장 (파이프라인 한 번)
+     * - 후보가 없는 회원은 이전 결과 삭제
+     *
+     * @param recommendations 회원별 추천 결과
+     */
+    public void saveAll(Collection<? extends MemberRecommendation> recommendations) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+
+                for (MemberRecommendation recommendation : recommendations) {
+                    String key = KEY_PREFIX + recommendation.memberId();
+
+                    if (recommendation.candidates().isEmpty()) {
+                        redis.delete(key);
+                    } else {
+                        redis.opsForValue().set(key, encode(recommendation.candidates()), ttl);
+                    }
+                }
+
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 저장된 추천 결과 조회
+     *
+     * @param memberId 회원 식별자 ID
+     * @return 추천 후보 (점수 내림차순, 없으면 빈 목록)
+     */
+    public List<RecommendationCandidate> find(Long memberId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+
+        return value == null || value.isEmpty() ? List.of() : decode(value);
+    }
+
+    static String encode(List<RecommendationCandidate> candidates) {
+        StringBuilder builder = new StringBuilder(candidates.size() * 12);
+
+        for (RecommendationCandidate candidate : candidates) {
+            if (!builder.isEmpty()) {
+                builder.append(',');
+            }
+
+            builder.append(candidate.memberId()).append(':').append(candidate.mutualCount());
+        }
+
+        return builder.toString();
+    }
+
+    static List<RecommendationCandidate> decode(String value) {
+        List<RecommendationCandidate> candidates = new ArrayList<>();
+
+        for (String entry : value.split(",")) {
+            int separator = entry.indexOf(':');
+
+            candidates.add(new RecommendationCandidate(
+                    Long.parseLong(entry, 0, separator, 10),
+                    Integer.parseInt(entry, separator + 1, entry.length(), 10)));
+        }
+
+        return candidates;
+    }
+}
@@ -0,0 +1,139 @@
+package com.outsta.sns.common.async;
+
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FanOutExecutor fanOutExecutor = new FanOutExecutor(meterRegistry, false, 4, 10);
+
+    @AfterEach
+    void tearDown() {
+        fanOutExecutor.destroy();
+    }
+
+    @Test
+    void 독립적인_조회는_동시에_실행() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        FanOutExecutor.Call<String> first = fanOutExecutor.submit("first", () -> awaitBoth(bothStarted, "a"), Duration.ofSeconds(5));
+        FanOutExecutor.Call<String> second = fanOutExecutor.submit("second", () -> awaitBoth(bothStarted, "b"), Duration.ofSeconds(5));
+
+        assertThat(first.join()).isEqualTo("a");
+        assertThat(second.join()).isEqualTo("b");
+        assertThat(meterRegistry.get("fan-out.calls").tags("name", "first", "outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 선택_조회가_제한_시간을_넘으면_대체_값() {
+        FanOutExecutor.Call<String> call = fanOutExecutor.submit("slow", () -> sleep(2_000, "late"), Duration.ofMillis(50));
+
+        assertThat(call.joinOrElse("fallback")).isEqualTo("fallback");
+        assertThat(meterRegistry.get("fan-out.calls").tags("name", "slow", "outcome", "timeout").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void 필수_조회가_제한_시간을_넘으면_503() {
+        FanOutExecutor.Call<String> call = fanOutExecutor.submit("slow", () -> sleep(2_000, "late"), Duration.ofMillis(50));
+
+        assertThatThrownBy(call::join)
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> {
+                    CustomException exception = (CustomException) ex;
+
+                    assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.LOOKUP_TIMEOUT);
+                });
+    }
+
+    @Test
+    void 제한_시간을_넘긴_조회도_인터럽트하지_않고_끝까지_실행() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(1);
+        AtomicBoolean interrupted = new AtomicBoolean();
+
+        FanOutExecutor.Call<String> call = fanOutExecutor.submit("slow", () -> {
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                interrupted.set(true);
+            }
+
+            finished.countDown();
+
+            return "late";
+        }, Duration.ofMillis(50));
+
+        assertThat(call.joinOrElse("fallback")).isEqualTo("fallback");
+        assertThat(finished.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(interrupted).isFalse();
+    }
+
+    @Test
+    void 조회에서_발생한_예외는_그대로_전달() {
+        FanOutExecutor.Call<String> call = fanOutExecutor.submit("missing", () -> {
+            throw new CustomException(ErrorCode.NOT_FOUND_MEMBER);
+        }, Duration.ofSeconds(1));
+
+        assertThatThrownBy(call::join)
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> {
+                    CustomException exception = (CustomException) ex;
+
+                    assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND_MEMBER);
+                });
+        assertThat(call.joinOrElse("fallback")).isEqualTo("fallback");
+    }
+
+    @Test
+    void 트랜잭션_안에서는_호출한_스레드에서_실행() {
+        Thread caller = Thread.currentThread();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        try {
+            FanOutExecutor.Call<Thread> call = fanOutExecutor.submit("inline", Thread::currentThread, Duration.ofSeconds(1));
+
+            assertThat(call.join()).isSameAs(caller);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private static String awaitBoth(CountDownLatch bothStarted, String value) {
+        bothStarted.countDown();
+
+        try {
+            // 순차 실행이면 다른 조회가 시작되지 않아 대기 시간 초과
+            if (!bothStarted.await(2, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("동시에 실행되지 않음");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return value;
+    }
+
+    private static String sleep(long millis, String value) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,145 @@
+package com.outsta.sns.common.config.cache;
+
+import com.outsta.sns.domain.block.dto.BlockSetDto;
+import com.outsta.sns.domain.enums.Gender;
+import com.outsta.sns.domain.enums.Visibility;
+import com.outsta.sns.domain.member.dto.response.util.MemberProfileDto;
+import com.outsta.sns.domain.profile.dto.response.RepresentImageDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryCacheSerializerTest {
+
+    @Test
+    void 대표_이미지_직렬화_후_복원() {
+        BinaryCacheSerializer<RepresentImageDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.REPRESENT_IMAGE, 512);
+        RepresentImageDto value = new RepresentImageDto(300L, "/a.png", "a.png", "b.png");
+
+        byte[] bytes = serializer.serialize(value);
+
+        // 헤더 1 + id 2 + (길이 1 + 문자열) * 3
+        assertThat(bytes).hasSize(1 + 2 + 7 + 6 + 6);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void 대표_이미지_null_필드_포함_직렬화_후_복원() {
+        BinaryCacheSerializer<RepresentImageDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.REPRESENT_IMAGE, 512);
+        RepresentImageDto value = new RepresentImageDto(10L, "/images/프로필.png", null, "");
+
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+    }
+
+    @Test
+    void null_값은_NullValue로_복원() {
+        BinaryCacheSerializer<RepresentImageDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.REPRESENT_IMAGE, 512);
+
+        assertThat(serializer.deserialize(serializer.serialize(NullValue.INSTANCE))).isEqualTo(NullValue.INSTANCE);
+    }
+
+    @Test
+    void 조기_갱신_정보_포함_값_직렬화_후_복원() {
+        BinaryCacheSerializer<RepresentImageDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.REPRESENT_IMAGE, 512);
+        CachedValue value = new CachedValue(new RepresentImageDto(300L, "/a.png", "a.png", "b.png"), 12, 1_750_000_000_000L);
+        CachedValue nullValue = new CachedValue(null, 3, 1_750_000_000_000L);
+
+        assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+        assertThat(serializer.deserialize(serializer.serialize(nullValue))).isEqualTo(nullValue);
+    }
+
+    @Test
+    void 조기_갱신_정보_포함_값_압축_후_복원() {
+        BinaryCacheSerializer<RepresentImageDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.REPRESENT_IMAGE, 64);
+        String url = "/images/" + "a".repeat(1000) + ".png";
+        CachedValue value = new CachedValue(new RepresentImageDto(1L, url, url, url), 12, 1_750_000_000_000L);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0] & 0x80).isNotZero();
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void 압축_기준_크기_이상이면_압축() {
+        BinaryCacheSerializer<RepresentImageDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.REPRESENT_IMAGE, 64);
+        String url = "/images/" + "a".repeat(1000) + ".png";
+        RepresentImageDto value = new RepresentImageDto(1L, url, url, url);
+
+        byte[] bytes = serializer.serialize(value);
+
+        assertThat(bytes[0] & 0x80).isNotZero();
+        assertThat(bytes.length).isLessThan(url.length());
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    void 이전_JSON_형식_값은_캐시_미스() {
+        BinaryCacheSerializer<RepresentImageDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.REPRESENT_IMAGE, 512);
+        byte[] json = new GenericJackson2JsonRedisSerializer().serialize(new RepresentImageDto(300L, "/a.png", "a.png", "b.png"));
+
+        assertThat(serializer.deserialize(json)).isNull();
+    }
+
+    @Test
+    void 차단_관계_집합_직렬화_후_복원() {
+        BinaryCacheSerializer<BlockSetDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.BLOCK_SET, 512);
+        BlockSetDto value = BlockSetDto.of(List.of(1_000_003L, 7L, 1_000_000L, 7L));
+
+        byte[] bytes = serializer.serialize(value);
+
+        // 헤더 1 + 개수 1 + 차이(7, 999993, 3) 1 + 3 + 1
+        assertThat(bytes).hasSize(1 + 1 + 1 + 3 + 1);
+        assertThat(((BlockSetDto) serializer.deserialize(bytes)).memberIds()).containsExactly(7L, 1_000_000L, 1_000_003L);
+        assertThat(((BlockSetDto) serializer.deserialize(serializer.serialize(BlockSetDto.EMPTY))).size()).isZero();
+    }
+
+    @Test
+    void 회원_상세_정보_직렬화_후_복원() {
+        BinaryCacheSerializer<MemberProfileDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.MEMBER_PROFILE, 512);
+        MemberProfileDto profile = new MemberProfileDto(7L, "홍길동", "tester", LocalDate.of(1995, 3, 1),
+                Gender.MALE, Visibility.FOLLOWER_ONLY);
+        MemberProfileDto beforeEpoch = new MemberProfileDto(8L, "김철수", "faker", LocalDate.of(1969, 12, 31),
+                Gender.FEMALE, Visibility.PUBLIC);
+
+        assertThat(serializer.deserialize(serializer.serialize(profile))).isEqualTo(profile);
+        assertThat(serializer.deserialize(serializer.serialize(beforeEpoch))).isEqualTo(beforeEpoch);
+    }
+
+    @Test
+    void 대표_이미지가_포함된_이전_버전_회원_상세_정보는_이미지를_무시하고_복원() {
+        BinaryCacheSerializer<MemberProfileDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.MEMBER_PROFILE, 512);
+        long epochDay = LocalDate.of(1995, 3, 1).toEpochDay();
+
+        BinaryCacheSerializer.Writer writer = new BinaryCacheSerializer.Writer();
+        writer.writeByte(1);
+        writer.writeNullableLong(7L);
+        writer.writeString("홍길동");
+        writer.writeString("tester");
+        writer.writeVarLong(epochDay << 1);
+        writer.writeString(Gender.MALE.name());
+        writer.writeString(Visibility.PUBLIC.name());
+        writer.writeNullableLong(300L);
+        writer.writeString("/a.png");
+        writer.writeString("a.png");
+        writer.writeString("b.png");
+
+        assertThat(serializer.deserialize(writer.toByteArray())).isEqualTo(new MemberProfileDto(7L, "홍길동", "tester",
+                LocalDate.of(1995, 3, 1), Gender.MALE, Visibility.PUBLIC));
+    }
+
+    @Test
+    void 다른_타입_값_직렬화_시_예외() {
+        BinaryCacheSerializer<RepresentImageDto> serializer = new BinaryCacheSerializer<>(CacheValueCodecs.REPRESENT_IMAGE, 512);
+
+        assertThatThrownBy(() -> serializer.serialize("300"))
+                .isInstanceOf(SerializationException.class);
+    }
+}
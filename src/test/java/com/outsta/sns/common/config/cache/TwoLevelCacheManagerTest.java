@@ -0,0 +1,126 @@
+package com.outsta.sns.common.config.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        LocalCacheProperties properties = new LocalCacheProperties(null,
+                Map.of("followerCount", new LocalCacheProperties.Spec(100L, null)));
+
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, listenerContainer, properties,
+                new CacheLoadProperties(null, null, null, null), meterRegistry, Runnable::run);
+        cacheManager.onChannelSubscribed(TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+    }
+
+    @Test
+    void L2에서_조회한_값은_L1에서_다시_조회() {
+        Cache remote = remoteCacheManager.getCache("followerCount");
+        Cache cache = cacheManager.getCache("followerCount");
+
+        remote.put(1L, "value");
+
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+
+        // L2에서 지워져도 L1 적중
+        remote.evict(1L);
+
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+        assertThat(meterRegistry.get("cache.gets").tags("cache", "followerCount", "tier", "l1", "result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 삭제_시_L1_L2_삭제_및_다른_노드에_전파() {
+        Cache cache = cacheManager.getCache("followerCount");
+
+        cache.put(1L, "value");
+        cache.evict(1L);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(remoteCacheManager.getCache("followerCount").get(1L)).isNull();
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.CHANNEL), message.capture());
+
+        assertThat(message.getValue()).endsWith("\nfollowerCount\n1");
+    }
+
+    @Test
+    void 다른_노드의_삭제_메시지_수신_시_L1만_삭제() {
+        Cache remote = remoteCacheManager.getCache("followerCount");
+        Cache cache = cacheManager.getCache("followerCount");
+
+        cache.put(1L, "old");
+        remote.put(1L, "new");
+
+        cacheManager.onMessage(message("other-node\nfollowerCount\n1"), null);
+
+        assertThat(cache.get(1L).get()).isEqualTo("new");
+    }
+
+    @Test
+    void 다른_노드의_전체_삭제_메시지_수신_시_L1_전체_삭제() {
+        Cache remote = remoteCacheManager.getCache("followerCount");
+        Cache cache = cacheManager.getCache("followerCount");
+
+        cache.put(1L, "old");
+        cache.put(2L, "old");
+        remote.clear();
+
+        cacheManager.onMessage(message("other-node\nfollowerCount"), null);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+    }
+
+    @Test
+    void 구독_전에는_L1을_사용하지_않음() {
+        cacheManager.onChannelUnsubscribed(TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8), 0);
+
+        Cache remote = remoteCacheManager.getCache("followerCount");
+        Cache cache = cacheManager.getCache("followerCount");
+
+        remote.put(1L, "value");
+        cache.get(1L);
+        remote.evict(1L);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
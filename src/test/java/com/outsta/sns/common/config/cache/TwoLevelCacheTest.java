@@ -0,0 +1,184 @@
+package com.outsta.sns.common.config.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ConcurrentMapCacheManager remoteCacheManager = new ConcurrentMapCacheManager();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Cache remote;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheLoadProperties loadProperties = new CacheLoadProperties(Duration.ofSeconds(5), Duration.ofMillis(500),
+                Duration.ofMillis(10), 1.0);
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, listenerContainer,
+                new LocalCacheProperties(null, Map.of()), loadProperties, new SimpleMeterRegistry(), Runnable::run);
+        cacheManager.onChannelSubscribed(TwoLevelCacheManager.CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+        remote = remoteCacheManager.getCache("representImage");
+        cache = cacheManager.getCache("representImage");
+    }
+
+    @Test
+    void 같은_키_동시_조회_시_원본_적재는_한_번() throws Exception {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("cache-lease:representImage:1"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> results = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+
+                return cache.get(1L, () -> slowLoad("value"));
+            }));
+        }
+
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get()).isEqualTo("value");
+        }
+
+        executor.shutdown();
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get(1L).get()).isEqualTo("value");
+    }
+
+    @Test
+    void 다른_노드가_리스를_가지고_있으면_L2_적재를_기다림() throws Exception {
+        leaseAcquired(false);
+
+        Thread otherNode = new Thread(() -> {
+            sleep(100);
+            remote.put(1L, new CachedValue("other", 5, 0));
+        });
+        otherNode.start();
+
+        String value = cache.get(1L, () -> slowLoad("mine"));
+        otherNode.join();
+
+        assertThat(value).isEqualTo("other");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void 리스_대기_시간을_넘기면_직접_적재() {
+        leaseAcquired(false);
+
+        String value = cache.get(1L, () -> slowLoad("mine"));
+
+        assertThat(value).isEqualTo("mine");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void 만료가_임박한_값은_기존_값을_반환하고_조기_갱신() {
+        leaseAcquired(true);
+        remote.put(1L, new CachedValue("old", 1_000, System.currentTimeMillis() + 10));
+
+        String value = cache.get(1L, () -> slowLoad("new"));
+
+        assertThat(value).isEqualTo("old");
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get(1L).get()).isEqualTo("new");
+    }
+
+    @Test
+    void 만료까지_여유가_있으면_조기_갱신하지_않음() {
+        remote.put(1L, new CachedValue("old", 1, System.currentTimeMillis() + Duration.ofMinutes(30).toMillis()));
+
+        String value = cache.get(1L, () -> slowLoad("new"));
+
+        assertThat(value).isEqualTo("old");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void 리스는_획득마다_다른_토큰으로_저장하고_자신의_토큰으로만_해제() {
+        leaseAcquired(true);
+
+        cache.get(1L, () -> slowLoad("first"));
+        cache.evict(1L);
+        cache.get(1L, () -> slowLoad("second"));
+
+        ArgumentCaptor<String> tokens = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations, times(2)).setIfAbsent(eq("cache-lease:representImage:1"), tokens.capture(), any(Duration.class));
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("cache-lease:representImage:1")),
+                eq(tokens.getAllValues().get(0)));
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("cache-lease:representImage:1")),
+                eq(tokens.getAllValues().get(1)));
+
+        assertThat(tokens.getAllValues().get(0)).isNotEqualTo(tokens.getAllValues().get(1));
+    }
+
+    private void leaseAcquired(boolean acquired) {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(acquired);
+    }
+
+    private String slowLoad(String value) {
+        loads.incrementAndGet();
+        sleep(50);
+
+        return value;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.outsta.sns.common.config.security;
+
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void 전용_풀에서_해싱_및_비교_성공() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder passwordEncoder =
+                new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, Duration.ofSeconds(5), meterRegistry);
+
+        String encoded = passwordEncoder.encode("password");
+
+        assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("other", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.encoder").tag("operation", "matches").timer().count()).isEqualTo(2);
+
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void 대기열이_가득_차면_429_반환() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofSeconds(5), meterRegistry);
+
+        // 1개는 실행 중, 1개는 대기열
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+
+        while (meterRegistry.get("password.encoder.queue.size").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        assertThatThrownBy(() -> passwordEncoder.encode("third"))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS));
+
+        release.countDown();
+
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+        assertThat(meterRegistry.get("password.encoder.rejected").counter().count()).isEqualTo(1.0);
+
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void 최대_해싱_시간을_넘기면_작업_취소_및_429_반환() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder passwordEncoder =
+                new BoundedPasswordEncoder(blockingEncoder, 1, 1, Duration.ofMillis(50), meterRegistry);
+
+        assertThatThrownBy(() -> passwordEncoder.encode("password"))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS));
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("password.encoder.timeout").counter().count()).isEqualTo(1.0);
+
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void 기준_해싱_시간으로_목표_시간을_넘지_않는_strength_계산() {
+        long baseNanos = TimeUnit.MILLISECONDS.toNanos(10);
+
+        assertThat(BCryptWorkFactorCalibrator.strengthFor(TimeUnit.MILLISECONDS.toNanos(5), baseNanos, 14)).isEqualTo(10);
+        assertThat(BCryptWorkFactorCalibrator.strengthFor(TimeUnit.MILLISECONDS.toNanos(45), baseNanos, 14)).isEqualTo(12);
+        assertThat(BCryptWorkFactorCalibrator.strengthFor(TimeUnit.SECONDS.toNanos(60), baseNanos, 14)).isEqualTo(14);
+    }
+}
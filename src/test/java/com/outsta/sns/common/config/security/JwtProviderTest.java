@@ -3,10 +3,24 @@ package com.outsta.sns.common.config.security;
 import com.outsta.sns.common.error.CustomException;
 import com.outsta.sns.common.error.ErrorCode;
 import com.outsta.sns.domain.enums.Role;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -135,4 +149,143 @@ class JwtProviderTest {
 
         assertThat(hashToken).hasSize(64);
     }
-}
\ No newline at end of file
+
+    @Test
+    void 토큰_해쉬는_SHA256_16진수_소문자와_동일() throws Exception {
+        String accessToken = jwtProvider.generateAccessToken(new JwtPayload(1L, "test@test.com", Role.GUEST.getCode()));
+
+        byte[] expected = MessageDigest.getInstance("SHA-256").digest(accessToken.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(jwtProvider.tokenHashBytes(accessToken)).isEqualTo(expected);
+        assertThat(jwtProvider.tokenToHash(accessToken)).isEqualTo(HexFormat.of().formatHex(expected));
+    }
+
+    @Test
+    void 서명이_변조된_토큰_파싱할_시_401_반환() {
+        String accessToken = jwtProvider.generateAccessToken(new JwtPayload(1L, "test@test.com", Role.GUEST.getCode()));
+        String otherToken = jwtProvider.generateAccessToken(new JwtPayload(2L, "test@test.com", Role.ADMIN.getCode()));
+
+        // 다른 토큰의 payload에 기존 서명을 붙임
+        String[] parts = accessToken.split("\\.");
+        String forged = parts[0] + "." + otherToken.split("\\.")[1] + "." + parts[2];
+
+        assertThatThrownBy(() -> jwtProvider.parseAccessToken(forged))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+    }
+
+    @Test
+    void 다른_서명키로_발급된_토큰_파싱할_시_401_반환() {
+        JwtProvider otherJwtProvider = new JwtProvider(
+                "fdsaoifjdoaifjajrui3ej2091j390fdj09wafj0pdas", 1000 * 60 * 1L, 1000 * 60 * 60L);
+
+        String accessToken = otherJwtProvider.generateAccessToken(new JwtPayload(1L, "test@test.com", Role.GUEST.getCode()));
+
+        assertThatThrownBy(() -> jwtProvider.parseAccessToken(accessToken))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+    }
+
+    @Test
+    void 표준_헤더가_아닌_토큰도_동일하게_파싱() {
+        String secretKey = "sdapifjpi324jpifqhidpashf803h280i1fhidshaf80h340281q";
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+        String accessToken = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .setSubject("3")
+                .claim("role", Role.GUEST.getCode())
+                .claim("email", "test@test.com")
+                .claim("tags", List.of("a", "b"))
+                .setExpiration(expiration)
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey)), SignatureAlgorithm.HS256)
+                .compact();
+
+        VerifiedToken verifiedToken = jwtProvider.verifyAccessToken(accessToken);
+
+        assertThat(verifiedToken.payload().getId()).isEqualTo(3L);
+        assertThat(verifiedToken.payload().getEmail()).isEqualTo("test@test.com");
+        assertThat(verifiedToken.payload().getRole()).isEqualTo(Role.GUEST.getCode());
+        assertThat(verifiedToken.expiresAt()).isEqualTo(expiration.getTime() / 1000 * 1000);
+    }
+
+    @Test
+    void 토큰_세대_클레임_파싱_성공() {
+        String accessToken = jwtProvider.generateAccessToken(new JwtPayload(1L, "test@test.com", Role.GUEST.getCode(), 7L));
+
+        assertThat(jwtProvider.parseAccessToken(accessToken).getEpoch()).isEqualTo(7L);
+    }
+
+    @Test
+    void 토큰_세대_클레임이_없는_토큰은_0_세대() {
+        String secretKey = "sdapifjpi324jpifqhidpashf803h280i1fhidshaf80h340281q";
+
+        String accessToken = Jwts.builder()
+                .setSubject("1")
+                .claim("role", Role.GUEST.getCode())
+                .claim("email", "test@test.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(jwtProvider.parseAccessToken(accessToken).getEpoch()).isZero();
+    }
+
+    @Test
+    void 세션_ID_클레임_파싱_성공() {
+        JwtPayload jwtPayload = new JwtPayload(1L, "test@test.com", Role.GUEST.getCode());
+        jwtPayload.setSessionId("session-1");
+
+        String accessToken = jwtProvider.generateAccessToken(jwtPayload);
+        String refreshToken = jwtProvider.generateRefreshToken(jwtPayload);
+
+        assertThat(jwtProvider.parseAccessToken(accessToken).getSessionId()).isEqualTo("session-1");
+        assertThat(jwtProvider.parseRefreshTokenClaims(refreshToken))
+                .isEqualTo(new RefreshTokenClaims(1L, "session-1"));
+    }
+
+    @Test
+    void 세션_ID_없이_발급된_리프레시_토큰은_세션_ID_null() {
+        String refreshToken = jwtProvider.generateRefreshToken(new JwtPayload(1L, null, null));
+
+        assertThat(jwtProvider.parseRefreshTokenClaims(refreshToken).sessionId()).isNull();
+    }
+
+    @Test
+    void 사용_시작_전인_토큰_파싱할_시_401_반환() {
+        String secretKey = "sdapifjpi324jpifqhidpashf803h280i1fhidshaf80h340281q";
+
+        String accessToken = Jwts.builder()
+                .setSubject("1")
+                .claim("role", Role.GUEST.getCode())
+                .claim("email", "test@test.com")
+                .setNotBefore(new Date(System.currentTimeMillis() + 60_000))
+                .setExpiration(new Date(System.currentTimeMillis() + 120_000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(accessToken).startsWith(Hs256TokenVerifier.STANDARD_HEADER + ".");
+        assertThatThrownBy(() -> jwtProvider.parseAccessToken(accessToken))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+    }
+
+    @Test
+    void 풀_크기보다_많은_동시_검증도_모두_성공() throws Exception {
+        String secretKey = "sdapifjpi324jpifqhidpashf803h280i1fhidshaf80h340281q";
+        Hs256TokenVerifier verifier = new Hs256TokenVerifier(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(secretKey)), 1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<VerifiedToken>> futures = new ArrayList<>();
+
+            for (long id = 1; id <= 100; id++) {
+                String accessToken = jwtProvider.generateAccessToken(new JwtPayload(id, "test@test.com", Role.GUEST.getCode()));
+                futures.add(executor.submit(() -> verifier.verify(accessToken, System.currentTimeMillis())));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                assertThat(futures.get(i).get().payload().getId()).isEqualTo(i + 1L);
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.outsta.sns.common.config.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoutePolicyRegistryTest {
+
+    private final RoutePolicyRegistry routePolicyRegistry = new RoutePolicyRegistry();
+
+    @Test
+    void 등록된_리터럴_경로는_메서드까지_일치해야_적용() {
+        assertThat(routePolicyRegistry.resolve("POST", "/api/auth/login")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(routePolicyRegistry.resolve("POST", "/api/auth/reissue")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(routePolicyRegistry.resolve("GET", "/api/auth/login")).isEqualTo(RouteAccess.AUTHENTICATED);
+        assertThat(routePolicyRegistry.resolve("POST", "/api/auth/logout")).isEqualTo(RouteAccess.AUTHENTICATED);
+    }
+
+    @Test
+    void 리터럴_세그먼트가_변수_세그먼트보다_우선() {
+        assertThat(routePolicyRegistry.resolve("GET", "/api/members/check-email")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(routePolicyRegistry.resolve("PATCH", "/api/members/me")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(routePolicyRegistry.resolve("DELETE", "/api/members/me")).isEqualTo(RouteAccess.AUTHENTICATED);
+    }
+
+    @Test
+    void 리터럴_경로에_메서드가_없으면_변수_경로로_탐색() {
+        assertThat(routePolicyRegistry.resolve("GET", "/api/members/1")).isEqualTo(RouteAccess.OPTIONAL);
+        assertThat(routePolicyRegistry.resolve("GET", "/api/members/search")).isEqualTo(RouteAccess.OPTIONAL);
+        assertThat(routePolicyRegistry.resolve("GET", "/api/members/me")).isEqualTo(RouteAccess.OPTIONAL);
+        assertThat(routePolicyRegistry.resolve("GET", "/api/members/1/follower")).isEqualTo(RouteAccess.OPTIONAL);
+        assertThat(routePolicyRegistry.resolve("POST", "/api/members/1/follow")).isEqualTo(RouteAccess.AUTHENTICATED);
+    }
+
+    @Test
+    void 와일드카드_경로는_하위_경로_전체와_자기_자신에_일치() {
+        assertThat(routePolicyRegistry.resolve("GET", "/v3/api-docs")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(routePolicyRegistry.resolve("GET", "/v3/api-docs/swagger-config")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(routePolicyRegistry.resolve("GET", "/swagger-ui/index.html")).isEqualTo(RouteAccess.PUBLIC);
+        assertThat(routePolicyRegistry.resolve("GET", "/swagger-ui.html")).isEqualTo(RouteAccess.PUBLIC);
+    }
+
+    @Test
+    void 등록되지_않은_경로는_인증_필수() {
+        assertThat(routePolicyRegistry.resolve("GET", "/api/block")).isEqualTo(RouteAccess.AUTHENTICATED);
+        assertThat(routePolicyRegistry.resolve("GET", "/api/members/")).isEqualTo(RouteAccess.AUTHENTICATED);
+        assertThat(routePolicyRegistry.resolve("GET", "/")).isEqualTo(RouteAccess.AUTHENTICATED);
+        assertThat(routePolicyRegistry.resolve("GET", "")).isEqualTo(RouteAccess.AUTHENTICATED);
+    }
+
+    @Test
+    void 같은_경로에_다른_정책_등록_시_예외_발생() {
+        List<RoutePolicy> routes = List.of(
+                RoutePolicy.publicRoute(HttpMethod.GET, "/api/members/{memberId}"),
+                RoutePolicy.optionalRoute(HttpMethod.GET, "/api/members/{id}")
+        );
+
+        assertThatThrownBy(() -> new RoutePolicyRegistry(routes))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 지원하지_않는_패턴_등록_시_예외_발생() {
+        List<RoutePolicy> routes = List.of(RoutePolicy.publicRoute(HttpMethod.GET, "/api/**/members"));
+
+        assertThatThrownBy(() -> new RoutePolicyRegistry(routes))
+                .isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,77 @@
+package com.outsta.sns.common.config.security;
+
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import com.outsta.sns.domain.enums.Role;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private JwtProvider jwtProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        String secretKey = "sdapifjpi324jpifqhidpashf803h280i1fhidshaf80h340281q";
+
+        jwtProvider = new JwtProvider(secretKey, 1000 * 60 * 1L, 1000 * 60 * 60L);
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(jwtProvider, 100, meterRegistry);
+    }
+
+    @Test
+    void 같은_토큰_두번_조회시_두번째는_캐시_히트() {
+        String accessToken = jwtProvider.generateAccessToken(new JwtPayload(1L, "test@test.com", Role.GUEST.getCode()));
+        String hashToken = jwtProvider.tokenToHash(accessToken);
+
+        VerifiedToken first = verifiedTokenCache.get(hashToken, accessToken);
+        VerifiedToken second = verifiedTokenCache.get(hashToken, accessToken);
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.payload().getId()).isEqualTo(1L);
+        assertThat(second.payload().getEmail()).isEqualTo("test@test.com");
+        assertThat(second.payload().getRole()).isEqualTo(Role.GUEST.getCode());
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtVerifiedToken").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "jwtVerifiedToken").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void 유효하지_않은_토큰은_캐시하지_않고_예외_발생() {
+        String invalidToken = "jwt.invalid.token";
+        String hashToken = jwtProvider.tokenToHash(invalidToken);
+
+        assertThatThrownBy(() -> verifiedTokenCache.get(hashToken, invalidToken))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+
+        assertThatThrownBy(() -> verifiedTokenCache.get(hashToken, invalidToken))
+                .isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void 만료된_토큰은_캐시에서_제거되고_만료_예외_발생() throws InterruptedException {
+        JwtProvider shortJwtProvider = new JwtProvider(
+                "fdsaoifjdoaifjajrui3ej2091j390fdj09wafj0pdas", 2000L, 2000L);
+        VerifiedTokenCache shortCache = new VerifiedTokenCache(shortJwtProvider, 100, meterRegistry);
+
+        String accessToken = shortJwtProvider.generateAccessToken(new JwtPayload(1L, "test@test.com", Role.GUEST.getCode()));
+        String hashToken = shortJwtProvider.tokenToHash(accessToken);
+
+        shortCache.get(hashToken, accessToken);
+
+        Thread.sleep(2100);
+
+        assertThatThrownBy(() -> shortCache.get(hashToken, accessToken))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode()).isEqualTo(ErrorCode.EXPIRED_TOKEN));
+    }
+}
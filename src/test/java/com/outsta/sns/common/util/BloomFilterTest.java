@@ -0,0 +1,47 @@
+package com.outsta.sns.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    void 추가한_값은_항상_포함_가능성_true() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.001);
+
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("token-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(bloomFilter.mightContain("token-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void 추가하지_않은_값의_오탐률은_설정값_근처() {
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("token-" + i);
+        }
+
+        int falsePositive = 0;
+
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain("other-" + i)) {
+                falsePositive++;
+            }
+        }
+
+        assertThat(falsePositive / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void 빈_필터는_항상_false() {
+        BloomFilter bloomFilter = new BloomFilter(100, 0.01);
+
+        assertThat(bloomFilter.mightContain("token")).isFalse();
+    }
+}
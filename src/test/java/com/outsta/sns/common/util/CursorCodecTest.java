@@ -0,0 +1,35 @@
+package com.outsta.sns.common.util;
+
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorCodecTest {
+
+    @Test
+    void 식별자_ID_변환_후_복원() {
+        String cursor = CursorCodec.encode(1_234_567L);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(CursorCodec.decode(cursor)).isEqualTo(1_234_567L);
+    }
+
+    @Test
+    void 커서가_없으면_null() {
+        assertThat(CursorCodec.decode(null)).isNull();
+        assertThat(CursorCodec.decode(" ")).isNull();
+    }
+
+    @Test
+    void 형식이_잘못된_커서는_400_반환() {
+        assertThatThrownBy(() -> CursorCodec.decode("not-a-cursor!"))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
+        assertThatThrownBy(() -> CursorCodec.decode("AAAA"))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
+    }
+}
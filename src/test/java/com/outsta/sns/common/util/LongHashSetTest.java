@@ -0,0 +1,71 @@
+package com.outsta.sns.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongHashSetTest {
+
+    @Test
+    void 추가_포함_삭제() {
+        LongHashSet set = new LongHashSet();
+
+        assertThat(set.add(1L << 32 | 2)).isTrue();
+        assertThat(set.add(1L << 32 | 2)).isFalse();
+        assertThat(set.contains(1L << 32 | 2)).isTrue();
+        assertThat(set.contains(2L << 32 | 1)).isFalse();
+
+        assertThat(set.remove(1L << 32 | 2)).isTrue();
+        assertThat(set.remove(1L << 32 | 2)).isFalse();
+        assertThat(set.contains(1L << 32 | 2)).isFalse();
+        assertThat(set.size()).isZero();
+    }
+
+    @Test
+    void 확장과_삭제를_반복해도_HashSet_과_같은_결과() {
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextInt(5_000) + 1;
+
+            if (random.nextBoolean()) {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+
+        for (long value = 1; value <= 5_000; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+
+    @Test
+    void 예상_원소_수만큼_넣어도_테이블_크기_유지() {
+        LongHashSet set = new LongHashSet(1_000);
+        long before = set.memoryBytes();
+
+        for (long value = 1; value <= 1_000; value++) {
+            set.add(value);
+        }
+
+        assertThat(set.memoryBytes()).isEqualTo(before).isEqualTo(LongHashSet.memoryBytesFor(1_000));
+    }
+
+    @Test
+    void 영은_저장할_수_없음() {
+        LongHashSet set = new LongHashSet();
+
+        assertThatThrownBy(() -> set.add(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(set.contains(0)).isFalse();
+    }
+}
@@ -0,0 +1,54 @@
+package com.outsta.sns.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScalableBloomFilterTest {
+
+    @Test
+    void 첫_단계보다_많이_추가해도_추가한_값은_항상_true() {
+        ScalableBloomFilter bloomFilter = new ScalableBloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 20_000; i++) {
+            bloomFilter.put("nickname-" + i);
+        }
+
+        assertThat(bloomFilter.stageCount()).isGreaterThan(1);
+
+        for (int i = 0; i < 20_000; i++) {
+            assertThat(bloomFilter.mightContain("nickname-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void 단계가_늘어나도_오탐률은_설정값_근처() {
+        ScalableBloomFilter bloomFilter = new ScalableBloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 20_000; i++) {
+            bloomFilter.put("nickname-" + i);
+        }
+
+        int falsePositive = 0;
+
+        for (int i = 0; i < 100_000; i++) {
+            if (bloomFilter.mightContain("other-" + i)) {
+                falsePositive++;
+            }
+        }
+
+        assertThat(falsePositive / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void 같은_값을_반복_추가해도_단계가_늘어나지_않음() {
+        ScalableBloomFilter bloomFilter = new ScalableBloomFilter(10, 0.01);
+
+        for (int i = 0; i < 1_000; i++) {
+            bloomFilter.put("nickname");
+        }
+
+        assertThat(bloomFilter.stageCount()).isEqualTo(1);
+        assertThat(bloomFilter.size()).isEqualTo(1);
+    }
+}
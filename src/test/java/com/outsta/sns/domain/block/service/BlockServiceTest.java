@@ -6,6 +6,7 @@ import com.outsta.sns.config.support.ServiceTestSupport;
 import com.outsta.sns.domain.block.dto.BlockListResponse;
 import com.outsta.sns.domain.block.entity.Block;
 import com.outsta.sns.domain.block.repository.BlockRepository;
+import com.outsta.sns.domain.follow.repository.FollowRepository;
 import com.outsta.sns.domain.member.entity.Member;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,6 +26,9 @@ class BlockServiceTest extends ServiceTestSupport {
     @Autowired
     private BlockRepository blockRepository;
 
+    @Autowired
+    private FollowRepository followRepository;
+
     @Nested
     class 회원_차단_테스트 {
 
@@ -42,6 +46,20 @@ class BlockServiceTest extends ServiceTestSupport {
             assertThat(block.getBlocked().getId()).isEqualTo(faker.getId());
         }
 
+        @Test
+        void 차단_시_서로의_팔로우_관계_삭제() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+
+            testDataFactory.createFollow(tester, faker);
+            testDataFactory.createFollow(faker, tester);
+
+            blockService.blockMember(tester.getId(), faker.getId());
+
+            assertThat(followRepository.findByLoginIdAndMemberId(tester.getId(), faker.getId())).isEmpty();
+            assertThat(followRepository.findByLoginIdAndMemberId(faker.getId(), tester.getId())).isEmpty();
+        }
+
         @Test
         void 자기_자신_차단_시도_시_400_반환() {
             Member tester = testDataFactory.createTester();
@@ -160,8 +178,8 @@ class BlockServiceTest extends ServiceTestSupport {
             assertThat(blockList.blockedList())
                     .containsAnyElementsOf(
                             List.of(
-                                    new BlockListResponse.BlockMemberDto(faker.getId(), faker.getNickname()),
-                                    new BlockListResponse.BlockMemberDto(dancer.getId(), dancer.getNickname())
+                                    new BlockListResponse.BlockMemberDto(faker.getId(), faker.getNickname(), false, false, true),
+                                    new BlockListResponse.BlockMemberDto(dancer.getId(), dancer.getNickname(), false, false, true)
                             )
                     );
         }
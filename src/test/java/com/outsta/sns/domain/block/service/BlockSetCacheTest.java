@@ -0,0 +1,61 @@
+package com.outsta.sns.domain.block.service;
+
+import com.outsta.sns.domain.block.repository.BlockQueryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BlockSetCacheTest {
+
+    @Mock
+    private BlockQueryRepository blockQueryRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BlockSetCache blockSetCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        blockSetCache = new BlockSetCache(blockQueryRepository, new ConcurrentMapCacheManager(), meterRegistry);
+    }
+
+    @Test
+    void 양방향_차단_여부를_한_번_적재한_집합에서_조회() {
+        when(blockQueryRepository.findBlockedWhoeverIds(1L)).thenReturn(List.of(30L, 2L, 30L));
+
+        assertThat(blockSetCache.isBlockedWhoever(1L, 2L)).isTrue();
+        assertThat(blockSetCache.isBlockedWhoever(1L, 30L)).isTrue();
+        assertThat(blockSetCache.isBlockedWhoever(1L, 4L)).isFalse();
+        assertThat(blockSetCache.get(1L).memberIds()).containsExactly(2L, 30L);
+
+        verify(blockQueryRepository, times(1)).findBlockedWhoeverIds(1L);
+        assertThat(meterRegistry.get("block.set.size").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("block.set.size").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void 차단_변경_시_양쪽_회원의_집합_다시_적재() {
+        when(blockQueryRepository.findBlockedWhoeverIds(1L)).thenReturn(List.of()).thenReturn(List.of(2L));
+        when(blockQueryRepository.findBlockedWhoeverIds(2L)).thenReturn(List.of()).thenReturn(List.of(1L));
+
+        assertThat(blockSetCache.isBlockedWhoever(1L, 2L)).isFalse();
+        assertThat(blockSetCache.isBlockedWhoever(2L, 1L)).isFalse();
+
+        blockSetCache.blockChanged(1L, 2L);
+
+        assertThat(blockSetCache.isBlockedWhoever(1L, 2L)).isTrue();
+        assertThat(blockSetCache.isBlockedWhoever(2L, 1L)).isTrue();
+    }
+}
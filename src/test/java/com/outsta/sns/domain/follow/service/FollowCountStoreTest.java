@@ -0,0 +1,77 @@
+package com.outsta.sns.domain.follow.service;
+
+import com.outsta.sns.domain.follow.dto.FollowCountDto;
+import com.outsta.sns.domain.member.service.MemberStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FollowCountStoreTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private MemberStatsService memberStatsService;
+
+    private FollowCountStore followCountStore;
+
+    @BeforeEach
+    void setUp() {
+        followCountStore = new FollowCountStore(redisTemplate, memberStatsService, Duration.ofHours(1));
+    }
+
+    @Test
+    void 저장된_값이_없으면_회원_통계에서_읽어_유지_시간과_함께_저장() {
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(anyString(), anyList())).thenReturn(Arrays.asList(null, null));
+        when(memberStatsService.getCounts(1L)).thenReturn(new FollowCountDto(3, 2));
+
+        assertThat(followCountStore.getCounts(1L)).isEqualTo(new FollowCountDto(3, 2));
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(FollowCountStore.KEY_PREFIX + 1L)),
+                eq("3"), eq("2"), eq(String.valueOf(Duration.ofHours(1).toMillis())));
+    }
+
+    @Test
+    void 보정된_회원의_저장_값은_커밋_후_삭제() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            followCountStore.evict(List.of(1L, 2L));
+
+            verify(redisTemplate, never()).delete(anyList());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(redisTemplate).delete(List.of(FollowCountStore.KEY_PREFIX + 1L, FollowCountStore.KEY_PREFIX + 2L));
+    }
+}
@@ -4,6 +4,7 @@ import com.outsta.sns.common.error.CustomException;
 import com.outsta.sns.common.error.ErrorCode;
 import com.outsta.sns.config.support.ServiceTestSupport;
 import com.outsta.sns.domain.enums.Visibility;
+import com.outsta.sns.domain.follow.dto.FollowCountDto;
 import com.outsta.sns.domain.follow.dto.FollowerListResponse;
 import com.outsta.sns.domain.follow.dto.FollowingListResponse;
 import com.outsta.sns.domain.follow.entity.Follow;
@@ -27,6 +28,9 @@ class FollowServiceTest extends ServiceTestSupport {
     @Autowired
     private FollowRepository followRepository;
 
+    @Autowired
+    private FollowCountStore followCountStore;
+
     @Nested
     class 팔로우_테스트 {
 
@@ -170,18 +174,56 @@ class FollowServiceTest extends ServiceTestSupport {
             testDataFactory.createFollow(faker, tester);
             testDataFactory.createFollow(dancer, tester);
 
-            FollowerListResponse myFollowerList = followService.getMyFollowerList(tester.getId());
+            FollowerListResponse myFollowerList = followService.getMyFollowerList(tester.getId(), null, null);
 
             assertThat(myFollowerList.followerList().size()).isEqualTo(2);
             assertThat(myFollowerList.followerList())
                     .containsAnyElementsOf(
                             List.of(
-                                    new FollowerListResponse.FollowerMemberDto(faker.getId(), faker.getNickname()),
-                                    new FollowerListResponse.FollowerMemberDto(faker.getId(), faker.getNickname())
+                                    new FollowerListResponse.FollowerMemberDto(faker.getId(), faker.getNickname(), false, true, false),
+                                    new FollowerListResponse.FollowerMemberDto(faker.getId(), faker.getNickname(), false, true, false)
                             )
                     );
         }
 
+        @Test
+        void 팔로워_목록_최근_팔로우_순_커서_페이징() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+            Member dancer = testDataFactory.createDancer();
+            Member guest = testDataFactory.createGuest();
+
+            testDataFactory.createFollow(faker, tester);
+            testDataFactory.createFollow(dancer, tester);
+            testDataFactory.createFollow(guest, tester);
+
+            FollowerListResponse firstPage = followService.getMyFollowerList(tester.getId(), null, 2);
+            FollowerListResponse lastPage = followService.getMyFollowerList(tester.getId(), firstPage.nextCursor(), 2);
+
+            assertThat(firstPage.followerList())
+                    .extracting(FollowerListResponse.FollowerMemberDto::memberId)
+                    .containsExactly(guest.getId(), dancer.getId());
+            assertThat(firstPage.nextCursor()).isNotNull();
+            assertThat(lastPage.followerList())
+                    .extracting(FollowerListResponse.FollowerMemberDto::memberId)
+                    .containsExactly(faker.getId());
+            assertThat(lastPage.nextCursor()).isNull();
+        }
+
+        @Test
+        void 잘못된_커서로_조회_시_400_반환() {
+            Member tester = testDataFactory.createTester();
+
+            assertThatThrownBy(() -> followService.getMyFollowerList(tester.getId(), "not-a-cursor", 2))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> {
+                        CustomException exception = (CustomException) ex;
+
+                        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR);
+                        assertThat(exception.getErrorCode().getHttpStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+                    });
+        }
+
         @Test
         void 회원의_팔로워_목록_정상_조회() {
             Member tester = testDataFactory.createTester();
@@ -191,18 +233,40 @@ class FollowServiceTest extends ServiceTestSupport {
             testDataFactory.createFollow(faker, tester);
             testDataFactory.createFollow(dancer, tester);
 
-            FollowerListResponse followerList = followService.getFollowerList(dancer.getId(), tester.getId());
+            FollowerListResponse followerList = followService.getFollowerList(dancer.getId(), tester.getId(), null, null);
 
             assertThat(followerList.followerList().size()).isEqualTo(2);
             assertThat(followerList.followerList())
                     .containsAnyElementsOf(
                             List.of(
-                                    new FollowerListResponse.FollowerMemberDto(faker.getId(), faker.getNickname()),
-                                    new FollowerListResponse.FollowerMemberDto(faker.getId(), faker.getNickname())
+                                    new FollowerListResponse.FollowerMemberDto(faker.getId(), faker.getNickname(), false, false, false),
+                                    new FollowerListResponse.FollowerMemberDto(faker.getId(), faker.getNickname(), false, false, false)
                             )
                     );
         }
 
+        @Test
+        void 팔로워_목록에_나와의_관계_표시() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+            Member dancer = testDataFactory.createDancer();
+            Member guest = testDataFactory.createGuest();
+
+            testDataFactory.createFollow(faker, tester);
+            testDataFactory.createFollow(guest, tester);
+            testDataFactory.createFollow(dancer, faker);
+            testDataFactory.createFollow(faker, dancer);
+            testDataFactory.createBlock(dancer, guest);
+
+            FollowerListResponse followerList = followService.getFollowerList(dancer.getId(), tester.getId(), null, null);
+
+            assertThat(followerList.followerList())
+                    .containsExactly(
+                            new FollowerListResponse.FollowerMemberDto(guest.getId(), guest.getNickname(), false, false, true),
+                            new FollowerListResponse.FollowerMemberDto(faker.getId(), faker.getNickname(), true, true, false)
+                    );
+        }
+
         @Test
         void 회원의_정보_공개_범위가_PRIVATE인_경우_403_반환() {
             Member tester = testDataFactory.createTester();
@@ -214,7 +278,7 @@ class FollowServiceTest extends ServiceTestSupport {
 
             tester.updatePrivacy(Visibility.PRIVATE);
 
-            assertThatThrownBy(() -> followService.getFollowerList(faker.getId(), tester.getId()))
+            assertThatThrownBy(() -> followService.getFollowerList(faker.getId(), tester.getId(), null, null))
                     .isInstanceOf(CustomException.class)
                     .satisfies(ex -> {
                         CustomException exception = (CustomException) ex;
@@ -234,7 +298,7 @@ class FollowServiceTest extends ServiceTestSupport {
 
             tester.updatePrivacy(Visibility.FOLLOWER_ONLY);
 
-            assertThatThrownBy(() -> followService.getFollowerList(faker.getId(), tester.getId()))
+            assertThatThrownBy(() -> followService.getFollowerList(faker.getId(), tester.getId(), null, null))
                     .isInstanceOf(CustomException.class)
                     .satisfies(ex -> {
                         CustomException exception = (CustomException) ex;
@@ -253,7 +317,7 @@ class FollowServiceTest extends ServiceTestSupport {
             testDataFactory.createFollow(dancer, tester);
             testDataFactory.createBlock(faker, tester);
 
-            assertThatThrownBy(() -> followService.getFollowerList(faker.getId(), tester.getId()))
+            assertThatThrownBy(() -> followService.getFollowerList(faker.getId(), tester.getId(), null, null))
                     .isInstanceOf(CustomException.class)
                     .satisfies(ex -> {
                         CustomException exception = (CustomException) ex;
@@ -277,18 +341,39 @@ class FollowServiceTest extends ServiceTestSupport {
             testDataFactory.createFollow(tester, faker);
             testDataFactory.createFollow(tester, dancer);
 
-            FollowingListResponse myFollowingList = followService.getMyFollowingList(tester.getId());
+            FollowingListResponse myFollowingList = followService.getMyFollowingList(tester.getId(), null, null);
 
             assertThat(myFollowingList.followingList().size()).isEqualTo(2);
             assertThat(myFollowingList.followingList())
                     .containsAnyElementsOf(
                             List.of(
-                                    new FollowingListResponse.FollowingMemberDto(faker.getId(), faker.getNickname()),
-                                    new FollowingListResponse.FollowingMemberDto(faker.getId(), faker.getNickname())
+                                    new FollowingListResponse.FollowingMemberDto(faker.getId(), faker.getNickname(), true, false, false),
+                                    new FollowingListResponse.FollowingMemberDto(faker.getId(), faker.getNickname(), true, false, false)
                             )
                     );
         }
 
+        @Test
+        void 팔로잉_목록_최근_팔로우_순_커서_페이징() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+            Member dancer = testDataFactory.createDancer();
+
+            testDataFactory.createFollow(tester, faker);
+            testDataFactory.createFollow(tester, dancer);
+
+            FollowingListResponse firstPage = followService.getMyFollowingList(tester.getId(), null, 1);
+            FollowingListResponse lastPage = followService.getMyFollowingList(tester.getId(), firstPage.nextCursor(), 1);
+
+            assertThat(firstPage.followingList())
+                    .extracting(FollowingListResponse.FollowingMemberDto::memberId)
+                    .containsExactly(dancer.getId());
+            assertThat(lastPage.followingList())
+                    .extracting(FollowingListResponse.FollowingMemberDto::memberId)
+                    .containsExactly(faker.getId());
+            assertThat(lastPage.nextCursor()).isNull();
+        }
+
         @Test
         void 회원의_팔로잉_목록_정상_조회() {
             Member tester = testDataFactory.createTester();
@@ -298,14 +383,14 @@ class FollowServiceTest extends ServiceTestSupport {
             testDataFactory.createFollow(tester, faker);
             testDataFactory.createFollow(tester, dancer);
 
-            FollowingListResponse followingList = followService.getFollowingList(dancer.getId(), tester.getId());
+            FollowingListResponse followingList = followService.getFollowingList(dancer.getId(), tester.getId(), null, null);
 
             assertThat(followingList.followingList().size()).isEqualTo(2);
             assertThat(followingList.followingList())
                     .containsAnyElementsOf(
                             List.of(
-                                    new FollowingListResponse.FollowingMemberDto(faker.getId(), faker.getNickname()),
-                                    new FollowingListResponse.FollowingMemberDto(faker.getId(), faker.getNickname())
+                                    new FollowingListResponse.FollowingMemberDto(faker.getId(), faker.getNickname(), false, false, false),
+                                    new FollowingListResponse.FollowingMemberDto(faker.getId(), faker.getNickname(), false, false, false)
                             )
                     );
         }
@@ -321,7 +406,7 @@ class FollowServiceTest extends ServiceTestSupport {
 
             tester.updatePrivacy(Visibility.PRIVATE);
 
-            assertThatThrownBy(() -> followService.getFollowingList(faker.getId(), tester.getId()))
+            assertThatThrownBy(() -> followService.getFollowingList(faker.getId(), tester.getId(), null, null))
                     .isInstanceOf(CustomException.class)
                     .satisfies(ex -> {
                         CustomException exception = (CustomException) ex;
@@ -341,7 +426,7 @@ class FollowServiceTest extends ServiceTestSupport {
 
             tester.updatePrivacy(Visibility.FOLLOWER_ONLY);
 
-            assertThatThrownBy(() -> followService.getFollowingList(faker.getId(), tester.getId()))
+            assertThatThrownBy(() -> followService.getFollowingList(faker.getId(), tester.getId(), null, null))
                     .isInstanceOf(CustomException.class)
                     .satisfies(ex -> {
                         CustomException exception = (CustomException) ex;
@@ -360,7 +445,7 @@ class FollowServiceTest extends ServiceTestSupport {
             testDataFactory.createFollow(tester, dancer);
             testDataFactory.createBlock(tester, faker);
 
-            assertThatThrownBy(() -> followService.getFollowingList(faker.getId(), tester.getId()))
+            assertThatThrownBy(() -> followService.getFollowingList(faker.getId(), tester.getId(), null, null))
                     .isInstanceOf(CustomException.class)
                     .satisfies(ex -> {
                         CustomException exception = (CustomException) ex;
@@ -370,4 +455,26 @@ class FollowServiceTest extends ServiceTestSupport {
                     });
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class 팔로우_수_조회_테스트 {
+
+        @Test
+        void 저장된_값이_없으면_DB_집계로_채운_뒤_조회() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+            Member dancer = testDataFactory.createDancer();
+
+            testDataFactory.createFollow(faker, tester);
+            testDataFactory.createFollow(dancer, tester);
+            testDataFactory.createFollow(tester, faker);
+
+            assertThat(followCountStore.find(tester.getId())).isNull();
+
+            FollowCountDto counts = followCountStore.getCounts(tester.getId());
+
+            assertThat(counts).isEqualTo(new FollowCountDto(2, 1));
+            assertThat(followCountStore.find(tester.getId())).isEqualTo(new FollowCountDto(2, 1));
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.outsta.sns.domain.member.access;
+
+import com.outsta.sns.domain.block.repository.BlockRepository;
+import com.outsta.sns.domain.follow.repository.FollowRepository;
+import com.outsta.sns.domain.recommend.repository.FollowGraphQueryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SocialGraphIndexTest {
+
+    @Mock
+    private FollowGraphQueryRepository followGraphQueryRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private BlockRepository blockRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SocialGraphIndex createIndex(boolean enabled, DataSize memoryBudget) {
+        return new SocialGraphIndex(followGraphQueryRepository, followRepository, blockRepository, redisTemplate,
+                listenerContainer, new SimpleMeterRegistry(), Runnable::run, enabled, memoryBudget, 100);
+    }
+
+    /**
+     * 팔로우 1 -> 2, 차단 3 -> 1 적재
+     */
+    private void givenEdges() {
+        doAnswer(invocation -> {
+            invocation.<FollowGraphQueryRepository.EdgeConsumer>getArgument(1).accept(1, 2);
+            return null;
+        }).when(followGraphQueryRepository).forEachFollow(anyInt(), any());
+        doAnswer(invocation -> {
+            invocation.<FollowGraphQueryRepository.EdgeConsumer>getArgument(1).accept(3, 1);
+            return null;
+        }).when(followGraphQueryRepository).forEachBlock(anyInt(), any());
+    }
+
+    @Test
+    void 적재_전에는_SQL_로_조회() {
+        SocialGraphIndex index = createIndex(true, DataSize.ofMegabytes(1));
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.isFollowing(1L, 2L, () -> true)).isTrue();
+        assertThat(index.isBlockedWhoever(1L, 3L, () -> false)).isFalse();
+    }
+
+    @Test
+    void 구독_후_적재되면_메모리에서_조회() {
+        givenEdges();
+        SocialGraphIndex index = createIndex(true, DataSize.ofMegabytes(1));
+
+        index.onChannelSubscribed(new byte[0], 1);
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.isFollowing(1L, 2L, () -> false)).isTrue();
+        assertThat(index.isFollowing(2L, 1L, () -> true)).isFalse();
+        assertThat(index.isBlockedWhoever(1L, 3L, () -> false)).isTrue();
+        assertThat(index.isBlockedWhoever(3L, 1L, () -> false)).isTrue();
+    }
+
+    @Test
+    void 변경_반영_후_다른_노드로_전파() {
+        givenEdges();
+        SocialGraphIndex index = createIndex(true, DataSize.ofMegabytes(1));
+        index.onChannelSubscribed(new byte[0], 1);
+
+        index.followAdded(2L, 1L);
+        index.followRemoved(1L, 2L);
+        index.blockRemoved(3L, 1L);
+
+        assertThat(index.isFollowing(2L, 1L, () -> false)).isTrue();
+        assertThat(index.isFollowing(1L, 2L, () -> true)).isFalse();
+        assertThat(index.isBlockedWhoever(1L, 3L, () -> true)).isFalse();
+        verify(redisTemplate, times(3)).convertAndSend(eq(SocialGraphIndex.CHANNEL), any(String.class));
+    }
+
+    @Test
+    void 다른_노드의_변경은_반영하고_잘못된_메시지는_무시() {
+        givenEdges();
+        SocialGraphIndex index = createIndex(true, DataSize.ofMegabytes(1));
+        index.onChannelSubscribed(new byte[0], 1);
+
+        index.onMessage(message("other-node\nF+\n5\n6"), null);
+        index.onMessage(message("other-node\nB-\n3\n1"), null);
+        index.onMessage(message("broken"), null);
+
+        assertThat(index.isFollowing(5L, 6L, () -> false)).isTrue();
+        assertThat(index.isBlockedWhoever(1L, 3L, () -> true)).isFalse();
+    }
+
+    @Test
+    void 적재_중_도착한_변경은_적재_후_반영() {
+        SocialGraphIndex index = createIndex(true, DataSize.ofMegabytes(1));
+        doAnswer(invocation -> {
+            invocation.<FollowGraphQueryRepository.EdgeConsumer>getArgument(1).accept(1, 2);
+            index.onMessage(message("other-node\nF-\n1\n2"), null);
+            index.onMessage(message("other-node\nF+\n7\n8"), null);
+            return null;
+        }).when(followGraphQueryRepository).forEachFollow(anyInt(), any());
+
+        index.onChannelSubscribed(new byte[0], 1);
+
+        assertThat(index.isFollowing(1L, 2L, () -> true)).isFalse();
+        assertThat(index.isFollowing(7L, 8L, () -> false)).isTrue();
+    }
+
+    @Test
+    void 메모리_한도를_넘으면_SQL_로_조회() {
+        doAnswer(invocation -> {
+            FollowGraphQueryRepository.EdgeConsumer consumer = invocation.getArgument(1);
+
+            for (long id = 1; id <= 1_000; id++) {
+                consumer.accept(id, id + 1);
+            }
+
+            return null;
+        }).when(followGraphQueryRepository).forEachFollow(anyInt(), any());
+        SocialGraphIndex index = createIndex(true, DataSize.ofKilobytes(4));
+
+        index.onChannelSubscribed(new byte[0], 1);
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.isFollowing(1L, 2L, () -> false)).isFalse();
+    }
+
+    @Test
+    void 관계_수가_두_번_연속_다르면_다시_적재() {
+        givenEdges();
+        SocialGraphIndex index = createIndex(true, DataSize.ofMegabytes(1));
+        index.onChannelSubscribed(new byte[0], 1);
+        when(followRepository.count()).thenReturn(2L);
+        when(blockRepository.count()).thenReturn(1L);
+
+        index.checkConsistency();
+        verify(followGraphQueryRepository, times(1)).forEachFollow(anyInt(), any());
+
+        index.checkConsistency();
+        verify(followGraphQueryRepository, times(2)).forEachFollow(anyInt(), any());
+    }
+
+    @Test
+    void 사용하지_않으면_적재하지_않음() {
+        SocialGraphIndex index = createIndex(false, DataSize.ofMegabytes(1));
+
+        index.onChannelSubscribed(new byte[0], 1);
+        index.checkConsistency();
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.isFollowing(1L, 2L, () -> true)).isTrue();
+        verify(followGraphQueryRepository, times(0)).forEachFollow(anyInt(), any());
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(SocialGraphIndex.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
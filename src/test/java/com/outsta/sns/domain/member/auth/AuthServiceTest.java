@@ -2,6 +2,8 @@ package com.outsta.sns.domain.member.auth;
 
 import com.outsta.sns.common.config.security.JwtPayload;
 import com.outsta.sns.common.config.security.JwtProvider;
+import com.outsta.sns.common.config.security.RefreshTokenClaims;
+import com.outsta.sns.common.config.security.TokenEpochStore;
 import com.outsta.sns.common.error.CustomException;
 import com.outsta.sns.common.error.ErrorCode;
 import com.outsta.sns.config.DBContainerExtension;
@@ -41,6 +43,12 @@ class AuthServiceTest extends ServiceTestSupport {
     @Autowired
     private JwtProvider jwtProvider;
 
+    @Autowired
+    private TokenEpochStore tokenEpochStore;
+
+    @Autowired
+    private SessionStore sessionStore;
+
     @Nested
     class 로그인_테스트 {
 
@@ -55,9 +63,49 @@ class AuthServiceTest extends ServiceTestSupport {
             assertThat(tokenDto.accessToken()).isNotNull();
             assertThat(tokenDto.refreshToken()).isNotNull();
 
-            String storedRefreshToken = redisTemplate.opsForValue().get("refresh:" + tester.getId());
+            RefreshTokenClaims claims = jwtProvider.parseRefreshTokenClaims(tokenDto.refreshToken());
+            SessionSnapshot session = sessionStore.find(tester.getId(), claims.sessionId());
+
+            assertThat(session).isNotNull();
+            assertThat(session.refreshTokenHash()).isEqualTo(jwtProvider.tokenToHash(tokenDto.refreshToken()));
+            assertThat(session.email()).isEqualTo(tester.getEmail());
+            assertThat(session.role()).isEqualTo(tester.getRole().getCode());
+        }
+
+        @Test
+        void 여러_기기에서_로그인_시_세션이_각각_저장() {
+            Member tester = testDataFactory.createTester();
+
+            TokenDto first = authService.login(new LoginRequest(tester.getEmail(), "password"));
+            TokenDto second = authService.login(new LoginRequest(tester.getEmail(), "password"));
+
+            String firstSessionId = jwtProvider.parseRefreshTokenClaims(first.refreshToken()).sessionId();
+            String secondSessionId = jwtProvider.parseRefreshTokenClaims(second.refreshToken()).sessionId();
+
+            assertThat(firstSessionId).isNotEqualTo(secondSessionId);
+            assertThat(sessionStore.find(tester.getId(), firstSessionId)).isNotNull();
+            assertThat(sessionStore.find(tester.getId(), secondSessionId)).isNotNull();
+        }
+
+        @Test
+        void 최대_세션_수_초과_시_만료된_세션과_가장_오래된_세션_제거() {
+            Member tester = testDataFactory.createTester();
+            long now = System.currentTimeMillis();
+
+            sessionStore.save(tester.getId(), "expired", SessionSnapshot.of(tester, "hash", now - 2000, now - 1000));
+
+            for (int i = 0; i < 10; i++) {
+                sessionStore.save(tester.getId(), "session-" + i, SessionSnapshot.of(tester, "hash", now + i, now + 60_000));
+            }
+
+            assertThat(sessionStore.find(tester.getId(), "expired")).isNull();
+            assertThat(sessionStore.find(tester.getId(), "session-0")).isNotNull();
 
-            assertThat(storedRefreshToken).isEqualTo(tokenDto.refreshToken());
+            sessionStore.save(tester.getId(), "session-10", SessionSnapshot.of(tester, "hash", now + 10, now + 60_000));
+
+            assertThat(sessionStore.find(tester.getId(), "session-0")).isNull();
+            assertThat(sessionStore.find(tester.getId(), "session-1")).isNotNull();
+            assertThat(sessionStore.find(tester.getId(), "session-10")).isNotNull();
         }
 
         @Test
@@ -93,6 +141,58 @@ class AuthServiceTest extends ServiceTestSupport {
 
             String result = redisTemplate.opsForValue().get(hashToken);
             assertThat(result).isEqualTo("logout");
+
+            Double recentScore = redisTemplate.opsForZSet().score("logout:recent", hashToken);
+            assertThat(recentScore).isNotNull();
+        }
+
+        @Test
+        void 로그아웃_시_해당_기기_세션만_제거() {
+            Member tester = testDataFactory.createTester();
+
+            TokenDto first = authService.login(new LoginRequest(tester.getEmail(), "password"));
+            TokenDto second = authService.login(new LoginRequest(tester.getEmail(), "password"));
+
+            authService.logout(first.accessToken());
+
+            String firstSessionId = jwtProvider.parseRefreshTokenClaims(first.refreshToken()).sessionId();
+            String secondSessionId = jwtProvider.parseRefreshTokenClaims(second.refreshToken()).sessionId();
+
+            assertThat(sessionStore.find(tester.getId(), firstSessionId)).isNull();
+            assertThat(sessionStore.find(tester.getId(), secondSessionId)).isNotNull();
+        }
+
+        @Test
+        void 모든_기기_로그아웃_시_기존_토큰_폐기_및_리프레시_토큰_삭제() {
+            Member tester = testDataFactory.createTester();
+
+            TokenDto tokenDto = authService.login(new LoginRequest(tester.getEmail(), "password"));
+            JwtPayload jwtPayload = jwtProvider.parseAccessToken(tokenDto.accessToken());
+
+            authService.logoutAll(tester.getId());
+
+            assertThat(tokenEpochStore.isRevoked(tester.getId(), jwtPayload.getEpoch())).isTrue();
+            assertThatThrownBy(() -> authService.reIssueToken(tokenDto.refreshToken()))
+                    .isInstanceOf(CustomException.class);
+
+            TokenDto newTokenDto = authService.login(new LoginRequest(tester.getEmail(), "password"));
+            JwtPayload newJwtPayload = jwtProvider.parseAccessToken(newTokenDto.accessToken());
+
+            assertThat(tokenEpochStore.isRevoked(tester.getId(), newJwtPayload.getEpoch())).isFalse();
+        }
+
+        @Test
+        void 모든_기기_로그아웃_이벤트_수신_시_기존_토큰_폐기() {
+            Member tester = testDataFactory.createTester();
+
+            TokenDto tokenDto = authService.login(new LoginRequest(tester.getEmail(), "password"));
+            JwtPayload jwtPayload = jwtProvider.parseAccessToken(tokenDto.accessToken());
+
+            authService.onLogoutAll(new LogoutAllEvent(tester.getId()));
+
+            assertThat(tokenEpochStore.isRevoked(tester.getId(), jwtPayload.getEpoch())).isTrue();
+            assertThatThrownBy(() -> authService.reIssueToken(tokenDto.refreshToken()))
+                    .isInstanceOf(CustomException.class);
         }
     }
 
@@ -114,6 +214,35 @@ class AuthServiceTest extends ServiceTestSupport {
             assertThat(tokenDto.accessToken()).isNotNull();
         }
 
+        @Test
+        void 세션으로_토큰_재발급_성공_시_세션_정보로_토큰_발급() {
+            Member tester = testDataFactory.createTester();
+
+            TokenDto loginTokenDto = authService.login(new LoginRequest(tester.getEmail(), "password"));
+
+            TokenDto tokenDto = authService.reIssueToken(loginTokenDto.refreshToken());
+            JwtPayload jwtPayload = jwtProvider.parseAccessToken(tokenDto.accessToken());
+
+            assertThat(jwtPayload.getId()).isEqualTo(tester.getId());
+            assertThat(jwtPayload.getEmail()).isEqualTo(tester.getEmail());
+            assertThat(jwtPayload.getRole()).isEqualTo(tester.getRole().getCode());
+            assertThat(jwtPayload.getSessionId())
+                    .isEqualTo(jwtProvider.parseRefreshTokenClaims(loginTokenDto.refreshToken()).sessionId());
+        }
+
+        @Test
+        void 로그아웃된_세션으로_재발급_시_401_반환() {
+            Member tester = testDataFactory.createTester();
+
+            TokenDto loginTokenDto = authService.login(new LoginRequest(tester.getEmail(), "password"));
+
+            authService.logout(loginTokenDto.accessToken());
+
+            assertThatThrownBy(() -> authService.reIssueToken(loginTokenDto.refreshToken()))
+                    .isInstanceOf(CustomException.class)
+                    .satisfies(ex -> assertThat(((CustomException) ex).getErrorCode()).isEqualTo(ErrorCode.INVALID_TOKEN));
+        }
+
         @Test
         void 유효하지_않은_토큰일_시_401_반환() {
             assertThatThrownBy(() -> authService.reIssueToken("invalid.refresh.token"))
@@ -0,0 +1,66 @@
+package com.outsta.sns.domain.member.batch;
+
+import com.outsta.sns.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberIdRangePartitionerTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    private MemberIdRangePartitioner partitioner;
+
+    @BeforeEach
+    void setUp() {
+        partitioner = new MemberIdRangePartitioner(memberRepository);
+    }
+
+    @Test
+    void 회원_ID_범위를_겹치지_않는_구간으로_분할() {
+        when(memberRepository.findMinId()).thenReturn(1L);
+        when(memberRepository.findMaxId()).thenReturn(10L);
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        assertThat(partitions).hasSize(4);
+        assertThat(range(partitions.get("partition0"))).containsExactly(1L, 3L);
+        assertThat(range(partitions.get("partition1"))).containsExactly(4L, 6L);
+        assertThat(range(partitions.get("partition2"))).containsExactly(7L, 9L);
+        assertThat(range(partitions.get("partition3"))).containsExactly(10L, 10L);
+    }
+
+    @Test
+    void 회원_수가_파티션_수보다_적으면_회원_수만큼_분할() {
+        when(memberRepository.findMinId()).thenReturn(5L);
+        when(memberRepository.findMaxId()).thenReturn(6L);
+
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+
+        assertThat(partitions).hasSize(2);
+        assertThat(range(partitions.get("partition0"))).containsExactly(5L, 5L);
+        assertThat(range(partitions.get("partition1"))).containsExactly(6L, 6L);
+    }
+
+    @Test
+    void 회원이_없으면_파티션_없음() {
+        when(memberRepository.findMinId()).thenReturn(null);
+        when(memberRepository.findMaxId()).thenReturn(null);
+
+        assertThat(partitioner.partition(4)).isEmpty();
+    }
+
+    private long[] range(ExecutionContext context) {
+        return new long[]{context.getLong(MemberIdRangePartitioner.MIN_ID), context.getLong(MemberIdRangePartitioner.MAX_ID)};
+    }
+}
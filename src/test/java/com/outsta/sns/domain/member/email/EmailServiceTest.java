@@ -8,8 +8,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 
 import static org.mockito.Mockito.*;
 
@@ -17,7 +15,7 @@ import static org.mockito.Mockito.*;
 class EmailServiceTest {
 
     @Mock
-    private JavaMailSender javaMailSender;
+    private MailOutboxService mailOutboxService;
 
     @Mock
     private RedisTemplate<String, String> redisTemplate;
@@ -30,21 +28,18 @@ class EmailServiceTest {
 
     @Test
     void 인증번호_전송_성공() {
-        doNothing().when(javaMailSender).send(any(SimpleMailMessage.class));
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
         emailService.sendCode("test@test.com", "1234123412");
 
-        verify(javaMailSender, times(1)).send(any(SimpleMailMessage.class));
+        verify(mailOutboxService, times(1)).save(eq("test@test.com"), anyString(), contains("1234123412"));
     }
 
     @Test
     void 임시_비밀번호_전송_성공() {
-        doNothing().when(javaMailSender).send(any(SimpleMailMessage.class));
-
         emailService.sendTempPassword("test@test.com", "1234123412");
 
-        verify(javaMailSender, times(1)).send(any(SimpleMailMessage.class));
+        verify(mailOutboxService, times(1)).save(eq("test@test.com"), anyString(), contains("1234123412"));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.outsta.sns.domain.member.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 여러_메일을_재사용한_SMTP_연결로_발송() throws Exception {
+        MailDispatcher mailDispatcher = mailDispatcher(2, 100, 100);
+        mailDispatcher.start();
+
+        for (int i = 0; i < 50; i++) {
+            mailDispatcher.dispatch(message("user" + i + "@test.com", "제목 " + i));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 50)).isTrue();
+        mailDispatcher.stop();
+
+        MimeMessage received = greenMail.getReceivedMessagesForDomain("user7@test.com")[0];
+
+        assertThat(received.getSubject()).isEqualTo("제목 7");
+        assertThat(meterRegistry.get("mail.dispatcher.sent").counter().count()).isEqualTo(50);
+        assertThat(meterRegistry.get("mail.dispatcher.queue.lag").timer().count()).isEqualTo(50);
+        assertThat(meterRegistry.get("mail.dispatcher.connections").counter().count()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void 연결당_최대_발송_수에_도달하면_재연결() {
+        MailDispatcher mailDispatcher = mailDispatcher(1, 100, 5);
+        mailDispatcher.start();
+
+        for (int i = 0; i < 12; i++) {
+            mailDispatcher.dispatch(message("user@test.com", "제목 " + i));
+        }
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 12)).isTrue();
+        mailDispatcher.stop();
+
+        assertThat(meterRegistry.get("mail.dispatcher.connections").counter().count()).isEqualTo(3);
+    }
+
+    @Test
+    void 메시지_생성_중_예외가_발생해도_다음_메일_발송() {
+        AtomicBoolean failed = new AtomicBoolean();
+
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl() {
+            @Override
+            public MimeMessage createMimeMessage() {
+                if (failed.compareAndSet(false, true)) {
+                    throw new IllegalStateException("메시지 생성 실패");
+                }
+
+                return super.createMimeMessage();
+            }
+        };
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        MailDispatcher mailDispatcher = new MailDispatcher(mailSender, meterRegistry, 1, 100, 20, 3,
+                Duration.ofMillis(10), Duration.ofSeconds(30), 100);
+        List<Boolean> results = new CopyOnWriteArrayList<>();
+
+        mailDispatcher.dispatch(message("a@test.com", "제목 1"), results::add);
+        mailDispatcher.dispatch(message("b@test.com", "제목 2"), results::add);
+        mailDispatcher.start();
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        mailDispatcher.stop();
+
+        assertThat(results).containsExactly(false, true);
+        assertThat(greenMail.getReceivedMessagesForDomain("b@test.com")).hasSize(1);
+        assertThat(meterRegistry.get("mail.dispatcher.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.dispatcher.sent").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 대기열이_가득_차면_429_반환() {
+        MailDispatcher mailDispatcher = mailDispatcher(1, 2, 100);
+
+        mailDispatcher.dispatch(message("a@test.com", "제목"));
+        mailDispatcher.dispatch(message("b@test.com", "제목"));
+
+        assertThatThrownBy(() -> mailDispatcher.dispatch(message("c@test.com", "제목")))
+                .isInstanceOf(CustomException.class)
+                .satisfies(ex -> {
+                    CustomException exception = (CustomException) ex;
+
+                    assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+                });
+        assertThat(meterRegistry.get("mail.dispatcher.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.dispatcher.queue.size").gauge().value()).isEqualTo(2);
+    }
+
+    private MailDispatcher mailDispatcher(int workers, int queueCapacity, int maxMessagesPerConnection) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        return new MailDispatcher(mailSender, meterRegistry, workers, queueCapacity, 20, 3,
+                Duration.ofMillis(10), Duration.ofSeconds(30), maxMessagesPerConnection);
+    }
+
+    private SimpleMailMessage message(String to, String subject) {
+        SimpleMailMessage message = new SimpleMailMessage();
+
+        message.setFrom("noreply@outsta.com");
+        message.setTo(to);
+        message.setSubject(subject);
+        message.setText("내용");
+
+        return message;
+    }
+}
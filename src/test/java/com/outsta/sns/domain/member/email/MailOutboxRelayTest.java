@@ -0,0 +1,91 @@
+package com.outsta.sns.domain.member.email;
+
+import com.outsta.sns.common.error.CustomException;
+import com.outsta.sns.common.error.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.SimpleMailMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxRelayTest {
+
+    @Mock
+    private MailOutboxService mailOutboxService;
+
+    @Mock
+    private MailDispatcher mailDispatcher;
+
+    private MailOutboxRelay mailOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxRelay = new MailOutboxRelay(mailOutboxService, mailDispatcher, 10);
+    }
+
+    @Test
+    void 점유한_메일을_발송하고_결과를_다음_주기에_반영() {
+        MailOutbox sent = mail(1L);
+        MailOutbox failed = mail(2L);
+
+        when(mailDispatcher.remainingCapacity()).thenReturn(100);
+        when(mailOutboxService.claim(10)).thenReturn(List.of(sent, failed)).thenReturn(List.of());
+
+        mailOutboxRelay.relay();
+
+        ArgumentCaptor<MailDispatcher.DeliveryCallback> callbacks = ArgumentCaptor.forClass(MailDispatcher.DeliveryCallback.class);
+        verify(mailDispatcher, times(2)).dispatch(any(SimpleMailMessage.class), callbacks.capture());
+
+        callbacks.getAllValues().get(0).onComplete(true);
+        callbacks.getAllValues().get(1).onComplete(false);
+
+        mailOutboxRelay.relay();
+
+        verify(mailOutboxService).complete(List.of(1L), List.of(2L));
+    }
+
+    @Test
+    void 발송_대기열이_가득_차면_점유하지_않음() {
+        when(mailDispatcher.remainingCapacity()).thenReturn(0);
+
+        mailOutboxRelay.relay();
+
+        verify(mailOutboxService, never()).claim(anyInt());
+    }
+
+    @Test
+    void 발송_대기열에_넣지_못한_메일은_점유_해제() {
+        MailOutbox mail = mail(1L);
+
+        when(mailDispatcher.remainingCapacity()).thenReturn(1);
+        when(mailOutboxService.claim(1)).thenReturn(List.of(mail)).thenReturn(List.of());
+        doThrow(new CustomException(ErrorCode.TOO_MANY_REQUESTS))
+                .when(mailDispatcher).dispatch(any(SimpleMailMessage.class), any());
+
+        mailOutboxRelay.relay();
+
+        verify(mailOutboxService).release(List.of(1L));
+    }
+
+    private MailOutbox mail(Long id) {
+        MailOutbox mail = spy(MailOutbox.builder()
+                .recipient("test@test.com")
+                .subject("제목")
+                .content("내용")
+                .availableAt(LocalDateTime.now())
+                .build());
+
+        lenient().when(mail.getId()).thenReturn(id);
+
+        return mail;
+    }
+}
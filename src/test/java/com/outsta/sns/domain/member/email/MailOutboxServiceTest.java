@@ -0,0 +1,118 @@
+package com.outsta.sns.domain.member.email;
+
+import com.outsta.sns.config.support.ServiceTestSupport;
+import com.outsta.sns.domain.enums.MailStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailOutboxServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private MailOutboxService mailOutboxService;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    @Test
+    void 저장한_메일_점유_후_다시_점유되지_않음() {
+        mailOutboxService.save("test@test.com", "제목", "내용");
+
+        List<MailOutbox> claimed = mailOutboxService.claim(10);
+
+        assertThat(claimed).hasSize(1);
+        assertThat(claimed.get(0).getAttempts()).isEqualTo(1);
+        assertThat(mailOutboxService.claim(10)).isEmpty();
+    }
+
+    @Test
+    void 발송_완료된_메일은_삭제() {
+        mailOutboxService.save("test@test.com", "제목", "내용");
+        Long id = mailOutboxService.claim(10).get(0).getId();
+
+        mailOutboxService.complete(List.of(id), List.of());
+
+        assertThat(mailOutboxRepository.findById(id)).isEmpty();
+    }
+
+    @Test
+    void 재시도_가능한_실패_메일은_재시도_대기() {
+        mailOutboxService.save("test@test.com", "제목", "내용");
+        Long id = mailOutboxService.claim(10).get(0).getId();
+
+        mailOutboxService.complete(List.of(), List.of(id));
+
+        MailOutbox mail = mailOutboxRepository.findById(id).orElseThrow();
+
+        assertThat(mail.getStatus()).isEqualTo(MailStatus.PENDING);
+        assertThat(mail.getAvailableAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘긴_메일은_FAILED() {
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.builder()
+                .recipient("test@test.com")
+                .subject("제목")
+                .content("내용")
+                .attempts(5)
+                .availableAt(LocalDateTime.now())
+                .build());
+
+        mailOutboxService.complete(List.of(), List.of(mail.getId()));
+
+        assertThat(mailOutboxRepository.findById(mail.getId()).orElseThrow().getStatus()).isEqualTo(MailStatus.FAILED);
+    }
+
+    @Test
+    void FAILED_메일은_임시_비밀번호를_보관하지_않음() {
+        MailOutbox mail = mailOutboxRepository.save(MailOutbox.builder()
+                .recipient("test@test.com")
+                .subject("OUTSTA 임시 비밀번호")
+                .content("임시 비밀번호 : aB3dE5gH7j")
+                .attempts(5)
+                .availableAt(LocalDateTime.now())
+                .build());
+
+        mailOutboxService.complete(List.of(), List.of(mail.getId()));
+
+        MailOutbox failed = mailOutboxRepository.findById(mail.getId()).orElseThrow();
+
+        assertThat(failed.getStatus()).isEqualTo(MailStatus.FAILED);
+        assertThat(failed.getContent()).doesNotContain("aB3dE5gH7j");
+    }
+
+    @Test
+    void 보관_기간이_지난_FAILED_메일만_삭제() {
+        MailOutbox pending = mailOutboxRepository.save(MailOutbox.builder()
+                .recipient("test@test.com")
+                .subject("제목")
+                .content("내용")
+                .availableAt(LocalDateTime.now())
+                .build());
+        MailOutbox failed = mailOutboxRepository.saveAndFlush(MailOutbox.builder()
+                .recipient("test@test.com")
+                .subject("제목")
+                .content("")
+                .status(MailStatus.FAILED)
+                .availableAt(LocalDateTime.now())
+                .build());
+
+        assertThat(mailOutboxRepository.deleteByStatusBefore(MailStatus.FAILED, LocalDateTime.now().plusSeconds(1))).isEqualTo(1);
+        assertThat(mailOutboxRepository.findById(pending.getId())).isPresent();
+        assertThat(mailOutboxRepository.existsById(failed.getId())).isFalse();
+    }
+
+    @Test
+    void 대기열에_넣지_못한_메일은_점유_해제() {
+        mailOutboxService.save("test@test.com", "제목", "내용");
+        Long id = mailOutboxService.claim(10).get(0).getId();
+
+        mailOutboxService.release(List.of(id));
+
+        assertThat(mailOutboxService.claim(10)).extracting(MailOutbox::getId).containsExactly(id);
+    }
+}
@@ -0,0 +1,142 @@
+package com.outsta.sns.domain.member.search;
+
+import com.outsta.sns.domain.member.dto.response.util.NicknameMatchDto;
+import com.outsta.sns.domain.member.repository.MemberQueryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MemberSearchIndexTest {
+
+    private static final List<NicknameMatchDto> FALLBACK = List.of(new NicknameMatchDto(99, "db", 0));
+
+    @Mock
+    private MemberQueryRepository memberQueryRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private MemberSearchIndex createIndex(boolean enabled) {
+        return new MemberSearchIndex(memberQueryRepository, redisTemplate, listenerContainer,
+                new SimpleMeterRegistry(), Runnable::run, enabled, 100);
+    }
+
+    /**
+     * 회원 (1, tester, 10), (2, tester2, 20), (3, faker, 30) 적재
+     */
+    private MemberSearchIndex loadedIndex() {
+        doAnswer(invocation -> {
+            MemberQueryRepository.NicknameConsumer consumer = invocation.getArgument(1);
+            consumer.accept(1, "tester", 10);
+            consumer.accept(2, "tester2", 20);
+            consumer.accept(3, "faker", 30);
+            return null;
+        }).when(memberQueryRepository).forEachActiveNickname(anyInt(), any());
+
+        MemberSearchIndex index = createIndex(true);
+        index.onChannelSubscribed(new byte[0], 1);
+
+        return index;
+    }
+
+    private static List<Long> memberIds(List<NicknameMatchDto> matches) {
+        return matches.stream().map(NicknameMatchDto::memberId).toList();
+    }
+
+    @Test
+    void 적재_전에는_DB_로_검색() {
+        MemberSearchIndex index = createIndex(true);
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.search("test", 10, id -> false, () -> FALLBACK)).isEqualTo(FALLBACK);
+    }
+
+    @Test
+    void 적재_후_팔로워_수_순으로_검색() {
+        MemberSearchIndex index = loadedIndex();
+
+        assertThat(index.isReady()).isTrue();
+        assertThat(memberIds(index.search("TEST", 10, id -> false, () -> FALLBACK))).containsExactly(2L, 1L);
+        assertThat(memberIds(index.search("test", 10, id -> id == 2, () -> FALLBACK))).containsExactly(1L);
+    }
+
+    @Test
+    void 가입_닉네임_변경_탈퇴_반영_후_전파() {
+        MemberSearchIndex index = loadedIndex();
+
+        index.memberAdded(4L, "tester3", 15);
+        index.nicknameChanged(2L, "tester2", "faker2", 20);
+        index.memberRemoved(1L, "tester");
+
+        assertThat(memberIds(index.search("test", 10, id -> false, () -> FALLBACK))).containsExactly(4L);
+        assertThat(memberIds(index.search("fake", 10, id -> false, () -> FALLBACK))).containsExactly(3L, 2L);
+        verify(redisTemplate, times(4)).convertAndSend(eq(MemberSearchIndex.CHANNEL), any(String.class));
+    }
+
+    @Test
+    void 같은_변경이_다시_와도_중복되지_않음() {
+        MemberSearchIndex index = loadedIndex();
+
+        index.memberAdded(1L, "tester", 10);
+        index.memberAdded(4L, "tester3", 15);
+        index.memberAdded(4L, "tester3", 15);
+
+        assertThat(memberIds(index.search("test", 10, id -> false, () -> FALLBACK))).containsExactly(2L, 4L, 1L);
+    }
+
+    @Test
+    void 다른_노드에서_전파된_변경_반영() {
+        MemberSearchIndex index = loadedIndex();
+
+        index.onMessage(new DefaultMessage(new byte[0],
+                "other-node\n+\n5\n40\ntester\nline".getBytes(StandardCharsets.UTF_8)), null);
+        index.onMessage(new DefaultMessage(new byte[0],
+                "other-node\n-\n3\n0\nfaker".getBytes(StandardCharsets.UTF_8)), null);
+
+        List<NicknameMatchDto> matches = index.search("test", 10, id -> false, () -> FALLBACK);
+
+        assertThat(memberIds(matches)).containsExactly(5L, 2L, 1L);
+        assertThat(matches.get(0).nickname()).isEqualTo("tester\nline");
+        assertThat(index.search("fake", 10, id -> false, () -> FALLBACK)).isEmpty();
+    }
+
+    @Test
+    void 구독_해제_시_DB_로_검색() {
+        MemberSearchIndex index = loadedIndex();
+
+        index.onChannelUnsubscribed(new byte[0], 0);
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.search("test", 10, id -> false, () -> FALLBACK)).isEqualTo(FALLBACK);
+    }
+
+    @Test
+    void 비활성화면_적재하지_않음() {
+        MemberSearchIndex index = createIndex(false);
+
+        index.onChannelSubscribed(new byte[0], 1);
+
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.search("test", 10, id -> false, () -> FALLBACK)).isEqualTo(FALLBACK);
+    }
+}
@@ -0,0 +1,128 @@
+package com.outsta.sns.domain.member.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameIndexTest {
+
+    @Test
+    void 접두사로_시작하는_닉네임만_팔로워_수_순으로_조회() {
+        NicknameIndex index = NicknameIndex.builder()
+                .add(1, "apple", 10)
+                .add(2, "Apricot", 30)
+                .add(3, "banana", 50)
+                .add(4, "ap", 20)
+                .add(5, "application", 30)
+                .build();
+
+        assertThat(memberIds(index, "ap", 10)).containsExactly(5L, 2L, 4L, 1L);
+        assertThat(memberIds(index, "AP", 2)).containsExactly(5L, 2L);
+        assertThat(memberIds(index, "app", 10)).containsExactly(5L, 1L);
+        assertThat(memberIds(index, "c", 10)).isEmpty();
+    }
+
+    @Test
+    void 압축된_닉네임을_그대로_복원() {
+        NicknameIndex.Builder builder = NicknameIndex.builder();
+        List<String> nicknames = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            String nickname = "테스터" + i;
+
+            nicknames.add(nickname);
+            builder.add(i + 1, nickname, i);
+        }
+
+        NicknameIndex index = builder.build();
+
+        for (int i = 0; i < index.size(); i++) {
+            assertThat(nicknames.get((int) index.memberId(i) - 1)).isEqualTo(index.nickname(i));
+        }
+    }
+
+    @Test
+    void 제외한_항목은_건너뛰고_다음_순위_조회() {
+        NicknameIndex index = NicknameIndex.builder()
+                .add(1, "tester1", 10)
+                .add(2, "tester2", 20)
+                .add(3, "tester3", 30)
+                .build();
+
+        int[] positions = index.search("tester", 2, i -> index.memberId(i) != 3);
+
+        assertThat(positions).hasSize(2);
+        assertThat(index.memberId(positions[0])).isEqualTo(2L);
+        assertThat(index.memberId(positions[1])).isEqualTo(1L);
+    }
+
+    @Test
+    void 회원_항목_번호_조회() {
+        NicknameIndex index = NicknameIndex.builder()
+                .add(1, "tester", 0)
+                .add(2, "tester2", 0)
+                .build();
+
+        assertThat(index.memberId(index.indexOf(2, "tester2"))).isEqualTo(2L);
+        assertThat(index.indexOf(1, "tester2")).isEqualTo(-1);
+        assertThat(index.indexOf(3, "faker")).isEqualTo(-1);
+    }
+
+    @Test
+    void 무작위_닉네임_검색_결과가_전체_탐색과_일치() {
+        Random random = new Random(42);
+        NicknameIndex.Builder builder = NicknameIndex.builder();
+        List<long[]> entries = new ArrayList<>();
+        List<String> nicknames = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder nickname = new StringBuilder();
+
+            for (int c = 0, length = 2 + random.nextInt(6); c < length; c++) {
+                nickname.append((char) ('a' + random.nextInt(4)));
+            }
+
+            int followerCount = random.nextInt(100);
+
+            builder.add(i + 1, nickname.toString(), followerCount);
+            entries.add(new long[]{i + 1, followerCount});
+            nicknames.add(nickname.toString());
+        }
+
+        NicknameIndex index = builder.build();
+
+        for (String prefix : List.of("a", "ab", "abc", "dd", "cab", "bbbb")) {
+            List<Integer> expected = new ArrayList<>();
+
+            for (int i = 0; i < nicknames.size(); i++) {
+                if (nicknames.get(i).startsWith(prefix)) {
+                    expected.add(i);
+                }
+            }
+
+            expected.sort(Comparator.<Integer>comparingLong(i -> -entries.get(i)[1])
+                    .thenComparing(nicknames::get)
+                    .thenComparingLong(i -> entries.get(i)[0]));
+
+            assertThat(memberIds(index, prefix, 10)).containsExactlyElementsOf(expected.stream()
+                    .limit(10)
+                    .map(i -> entries.get(i)[0])
+                    .toList());
+        }
+    }
+
+    private static List<Long> memberIds(NicknameIndex index, String prefix, int limit) {
+        List<Long> memberIds = new ArrayList<>();
+
+        for (int position : index.search(NicknameIndex.key(prefix), limit, i -> true)) {
+            memberIds.add(index.memberId(position));
+        }
+
+        return memberIds;
+    }
+}
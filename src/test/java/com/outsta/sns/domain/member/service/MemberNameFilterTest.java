@@ -0,0 +1,162 @@
+package com.outsta.sns.domain.member.service;
+
+import com.outsta.sns.domain.member.repository.MemberQueryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MemberNameFilterTest {
+
+    @Mock
+    private MemberQueryRepository memberQueryRepository;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private MemberNameFilter createFilter(boolean enabled) {
+        return new MemberNameFilter(memberQueryRepository, redisTemplate, listenerContainer,
+                new SimpleMeterRegistry(), Runnable::run, enabled, 100, 0.01, 100);
+    }
+
+    /**
+     * 회원 (tester, test@test.com) 적재
+     */
+    private MemberNameFilter loadedFilter() {
+        doAnswer(invocation -> {
+            invocation.<MemberQueryRepository.NameConsumer>getArgument(1).accept("tester", "test@test.com");
+            return null;
+        }).when(memberQueryRepository).forEachNicknameAndEmail(anyInt(), any());
+
+        MemberNameFilter filter = createFilter(true);
+        filter.onChannelSubscribed(new byte[0], 1);
+
+        return filter;
+    }
+
+    @Test
+    void 적재_전에는_DB_로_조회() {
+        MemberNameFilter filter = createFilter(true);
+
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.existsNickname("other", () -> true)).isTrue();
+    }
+
+    @Test
+    void 적재_후_없는_값은_DB_조회_없이_사용_가능() {
+        MemberNameFilter filter = loadedFilter();
+
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.existsNickname("other", () -> true)).isFalse();
+        assertThat(filter.existsEmail("other@test.com", () -> true)).isFalse();
+    }
+
+    @Test
+    void 적재_후_있는_값은_DB_로_확인() {
+        MemberNameFilter filter = loadedFilter();
+
+        assertThat(filter.existsNickname("tester", () -> true)).isTrue();
+        assertThat(filter.existsNickname("TESTER", () -> true)).isTrue();
+        assertThat(filter.existsEmail("test@test.com", () -> false)).isFalse();
+    }
+
+    @Test
+    void 가입한_회원은_필터에_추가하고_전파() {
+        MemberNameFilter filter = loadedFilter();
+
+        filter.memberAdded("newbie", "New@Test.com");
+
+        assertThat(filter.existsNickname("newbie", () -> true)).isTrue();
+        assertThat(filter.existsEmail("new@test.com", () -> true)).isTrue();
+        verify(redisTemplate).convertAndSend(eq(MemberNameFilter.CHANNEL), eq("N\nnewbie"));
+        verify(redisTemplate).convertAndSend(eq(MemberNameFilter.CHANNEL), eq("E\nnew@test.com"));
+    }
+
+    @Test
+    void 다른_노드에서_전파된_닉네임_반영() {
+        MemberNameFilter filter = loadedFilter();
+
+        filter.onMessage(new DefaultMessage(new byte[0], "N\nchanged".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(filter.existsNickname("changed", () -> true)).isTrue();
+    }
+
+    @Test
+    void 구독_해제_시_DB_로_조회() {
+        MemberNameFilter filter = loadedFilter();
+
+        filter.onChannelUnsubscribed(new byte[0], 0);
+
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.existsNickname("other", () -> true)).isTrue();
+    }
+
+    @Test
+    void 주기_적재_시_전파를_놓친_값_반영() {
+        MemberNameFilter filter = loadedFilter();
+
+        doAnswer(invocation -> {
+            MemberQueryRepository.NameConsumer consumer = invocation.getArgument(1);
+            consumer.accept("tester", "test@test.com");
+            consumer.accept("missed", "missed@test.com");
+            return null;
+        }).when(memberQueryRepository).forEachNicknameAndEmail(anyInt(), any());
+
+        filter.scheduledReload();
+
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.existsNickname("missed", () -> true)).isTrue();
+        assertThat(filter.existsEmail("missed@test.com", () -> true)).isTrue();
+    }
+
+    @Test
+    void 구독_해제_상태에서는_주기_적재하지_않음() {
+        MemberNameFilter filter = loadedFilter();
+        filter.onChannelUnsubscribed(new byte[0], 0);
+
+        filter.scheduledReload();
+
+        assertThat(filter.isReady()).isFalse();
+        verify(memberQueryRepository, times(1)).forEachNicknameAndEmail(anyInt(), any());
+    }
+
+    @Test
+    void 비활성화면_적재하지_않음() {
+        MemberNameFilter filter = createFilter(false);
+
+        filter.onChannelSubscribed(new byte[0], 1);
+
+        assertThat(filter.isReady()).isFalse();
+        assertThat(filter.existsNickname("other", () -> true)).isTrue();
+    }
+
+    @Test
+    void 대소문자와_악센트_구분_없이_정규화() {
+        assertThat(MemberNameFilter.normalize("Café ")).isEqualTo("cafe");
+    }
+
+    @Test
+    void collation_에서_같은_확장_문자_정규화() {
+        assertThat(MemberNameFilter.normalize("Straße")).isEqualTo(MemberNameFilter.normalize("strasse"));
+        assertThat(MemberNameFilter.normalize("Æsir")).isEqualTo("aesir");
+        assertThat(MemberNameFilter.normalize("Œuvre")).isEqualTo("oeuvre");
+    }
+}
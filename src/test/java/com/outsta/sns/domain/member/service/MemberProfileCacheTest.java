@@ -0,0 +1,98 @@
+package com.outsta.sns.domain.member.service;
+
+import com.outsta.sns.domain.enums.Gender;
+import com.outsta.sns.domain.enums.Visibility;
+import com.outsta.sns.domain.member.dto.response.util.MemberProfileDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MemberProfileCacheTest {
+
+    @Mock
+    private Supplier<MemberProfileDto> loader;
+
+    private MemberProfileCache memberProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        memberProfileCache = new MemberProfileCache(new ConcurrentMapCacheManager());
+    }
+
+    @Test
+    void 한_번_적재한_상세_정보를_재사용() {
+        MemberProfileDto profile = profile("tester");
+        when(loader.get()).thenReturn(profile);
+
+        assertThat(memberProfileCache.get(1L, loader)).isEqualTo(profile);
+        assertThat(memberProfileCache.get(1L, loader)).isEqualTo(profile);
+
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    void 없는_회원도_캐시하여_반복_조회하지_않음() {
+        when(loader.get()).thenReturn(null);
+
+        assertThat(memberProfileCache.get(2L, loader)).isNull();
+        assertThat(memberProfileCache.get(2L, loader)).isNull();
+
+        verify(loader, times(1)).get();
+    }
+
+    @Test
+    void 삭제_후_다시_적재() {
+        when(loader.get())
+                .thenReturn(profile("tester"))
+                .thenReturn(profile("renamed"));
+
+        assertThat(memberProfileCache.get(1L, loader).nickname()).isEqualTo("tester");
+
+        memberProfileCache.evict(1L);
+
+        assertThat(memberProfileCache.get(1L, loader).nickname()).isEqualTo("renamed");
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋_후_삭제() {
+        when(loader.get())
+                .thenReturn(profile("tester"))
+                .thenReturn(profile("renamed"));
+
+        assertThat(memberProfileCache.get(1L, loader).nickname()).isEqualTo("tester");
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            memberProfileCache.evict(1L);
+
+            // 커밋 전에는 이전 값 유지
+            assertThat(memberProfileCache.get(1L, loader).nickname()).isEqualTo("tester");
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(memberProfileCache.get(1L, loader).nickname()).isEqualTo("renamed");
+    }
+
+    private static MemberProfileDto profile(String nickname) {
+        return new MemberProfileDto(1L, "홍길동", nickname, LocalDate.of(1995, 3, 1),
+                Gender.MALE, Visibility.PUBLIC);
+    }
+}
@@ -5,6 +5,7 @@ import com.outsta.sns.common.error.ErrorCode;
 import com.outsta.sns.config.support.ServiceTestSupport;
 import com.outsta.sns.domain.enums.Visibility;
 import com.outsta.sns.domain.member.dto.response.MemberInfoResponse;
+import com.outsta.sns.domain.member.dto.response.MemberSearchResponse;
 import com.outsta.sns.domain.member.entity.Member;
 import com.outsta.sns.domain.profile.entity.ProfileImage;
 import org.junit.jupiter.api.Nested;
@@ -62,6 +63,27 @@ class MemberQueryServiceTest extends ServiceTestSupport {
             assertThat(memberInfo.nickname()).isEqualTo(tester.getNickname());
         }
 
+        @Test
+        void 회원_정보_상세_조회_대표_이미지_우선_없으면_최신_이미지() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+            Member dancer = testDataFactory.createDancer();
+
+            ProfileImage represent = testDataFactory.createProfileImage(tester, 1, true);
+            testDataFactory.createProfileImage(tester, 2, false);
+
+            testDataFactory.createProfileImage(faker, 1, false);
+            ProfileImage latest = testDataFactory.createProfileImage(faker, 2, false);
+
+            MemberInfoResponse testerInfo = memberQueryService.getMemberInfo(dancer.getId(), tester.getId());
+            MemberInfoResponse fakerInfo = memberQueryService.getMemberInfo(null, faker.getId());
+
+            assertThat(testerInfo.profileImageId()).isEqualTo(represent.getId());
+            assertThat(testerInfo.imageUrl()).isEqualTo(represent.getImageUrl());
+            assertThat(fakerInfo.profileImageId()).isEqualTo(latest.getId());
+            assertThat(fakerInfo.fileName()).isEqualTo(latest.getFileName());
+        }
+
         @Test
         void 회원이_없는_경우_400_반환() {
             Member tester = testDataFactory.createTester();
@@ -166,4 +188,32 @@ class MemberQueryServiceTest extends ServiceTestSupport {
                     });
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class 회원_검색_테스트 {
+
+        @Test
+        void 닉네임_접두사로_검색_정상() {
+            Member tester = testDataFactory.createTester();
+            testDataFactory.createFaker();
+
+            MemberSearchResponse response = memberQueryService.searchMembers(null, "테스");
+
+            assertThat(response.memberList())
+                    .extracting(MemberSearchResponse.SearchedMemberDto::memberId)
+                    .containsExactly(tester.getId());
+        }
+
+        @Test
+        void 차단_관계인_회원_제외() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+
+            testDataFactory.createBlock(faker, tester);
+
+            MemberSearchResponse response = memberQueryService.searchMembers(tester.getId(), "페이");
+
+            assertThat(response.memberList()).isEmpty();
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.outsta.sns.domain.member.service;
 
+import com.outsta.sns.common.config.security.TokenEpochStore;
 import com.outsta.sns.common.error.CustomException;
 import com.outsta.sns.common.error.ErrorCode;
 import com.outsta.sns.config.support.ServiceTestSupport;
 import com.outsta.sns.domain.enums.Activation;
 import com.outsta.sns.domain.enums.Role;
 import com.outsta.sns.domain.enums.Visibility;
+import com.outsta.sns.domain.member.auth.LogoutAllEvent;
+import com.outsta.sns.domain.member.auth.SessionSnapshot;
+import com.outsta.sns.domain.member.auth.SessionStore;
 import com.outsta.sns.domain.member.dto.request.*;
 import com.outsta.sns.domain.member.dto.response.CheckEmailResponse;
 import com.outsta.sns.domain.member.dto.response.CheckNicknameResponse;
@@ -19,6 +23,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -28,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+@RecordApplicationEvents
 class MemberServiceTest extends ServiceTestSupport {
 
     @Autowired
@@ -39,6 +46,15 @@ class MemberServiceTest extends ServiceTestSupport {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private TokenEpochStore tokenEpochStore;
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
     @MockBean
     private EmailService emailService;
 
@@ -217,6 +233,20 @@ class MemberServiceTest extends ServiceTestSupport {
             assertThat(passwordEncoder.matches(request.password(), findMember.getPassword())).isTrue();
         }
 
+        @Test
+        void 비밀번호_변경_시_기존_토큰_폐기() {
+            Member member = testDataFactory.createTester();
+
+            long epoch = tokenEpochStore.currentEpoch(member.getId());
+
+            memberService.updatePassword(member.getId(), new PasswordUpdateRequest("changePassword"));
+
+            // 토큰 폐기는 커밋 후 처리
+            assertThat(tokenEpochStore.isRevoked(member.getId(), epoch)).isFalse();
+            assertThat(applicationEvents.stream(LogoutAllEvent.class))
+                    .containsExactly(new LogoutAllEvent(member.getId()));
+        }
+
         @Test
         void 로그인된_id로_회원이_없을_시_404_반환() {
             Member tester = testDataFactory.createTester();
@@ -497,6 +527,23 @@ class MemberServiceTest extends ServiceTestSupport {
             assertThat(findMember.getRole()).isEqualTo(Role.MEMBER);
         }
 
+        @Test
+        void 인증_코드_확인_시_세션_스냅샷은_커밋_후_반영() {
+            Member guest = testDataFactory.createGuest();
+            long now = System.currentTimeMillis();
+            sessionStore.save(guest.getId(), "session", SessionSnapshot.of(guest, "hash", now, now + 60_000));
+
+            String redisKey = "CODE:" + guest.getEmail();
+            String redisValue = "a1b2c3d4e5";
+
+            redisTemplate.opsForValue().set(redisKey, redisValue, Duration.ofMinutes(5));
+
+            memberService.checkCode(new CodeCheckRequest(guest.getEmail(), redisValue));
+
+            // 테스트 트랜잭션은 커밋되지 않으므로 스냅샷은 그대로
+            assertThat(sessionStore.find(guest.getId(), "session").role()).isEqualTo(Role.GUEST.getCode());
+        }
+
         @Test
         void 등록된_회원이_없을_시_401_반환() {
             Member guest = testDataFactory.createGuest();
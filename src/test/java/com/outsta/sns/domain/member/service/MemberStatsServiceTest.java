@@ -0,0 +1,107 @@
+package com.outsta.sns.domain.member.service;
+
+import com.outsta.sns.config.support.ServiceTestSupport;
+import com.outsta.sns.domain.follow.dto.FollowCountDto;
+import com.outsta.sns.domain.follow.service.FollowService;
+import com.outsta.sns.domain.member.batch.MemberStatsRepairWriter;
+import com.outsta.sns.domain.member.entity.Member;
+import com.outsta.sns.domain.member.repository.MemberStatsRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberStatsServiceTest extends ServiceTestSupport {
+
+    @Autowired
+    private MemberStatsService memberStatsService;
+
+    @Autowired
+    private MemberStatsRepository memberStatsRepository;
+
+    @Autowired
+    private MemberStatsRepairWriter memberStatsRepairWriter;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Nested
+    class 팔로우_반영_테스트 {
+
+        @Test
+        void 팔로우_시_같은_트랜잭션에서_팔로워_팔로잉_수_증가() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+
+            memberStatsService.create(tester);
+            memberStatsService.create(faker);
+
+            followService.follow(tester.getId(), faker.getId());
+            entityManager.clear();
+
+            assertThat(memberStatsService.getCounts(tester.getId())).isEqualTo(new FollowCountDto(0, 1));
+            assertThat(memberStatsService.getCounts(faker.getId())).isEqualTo(new FollowCountDto(1, 0));
+        }
+
+        @Test
+        void 팔로우_취소_시_팔로워_팔로잉_수_감소() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+
+            memberStatsService.create(tester);
+            memberStatsService.create(faker);
+
+            followService.follow(faker.getId(), tester.getId());
+            followService.cancelFollow(faker.getId(), tester.getId());
+            entityManager.clear();
+
+            assertThat(memberStatsService.getCounts(tester.getId())).isEqualTo(new FollowCountDto(0, 0));
+            assertThat(memberStatsService.getCounts(faker.getId())).isEqualTo(new FollowCountDto(0, 0));
+        }
+    }
+
+    @Nested
+    class 통계_조회_테스트 {
+
+        @Test
+        void 통계가_없으면_follow_테이블에서_집계() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+            Member dancer = testDataFactory.createDancer();
+
+            testDataFactory.createFollow(faker, tester);
+            testDataFactory.createFollow(dancer, tester);
+
+            assertThat(memberStatsRepository.findById(tester.getId())).isEmpty();
+            assertThat(memberStatsService.getCounts(tester.getId())).isEqualTo(new FollowCountDto(2, 0));
+        }
+    }
+
+    @Nested
+    class 통계_보정_테스트 {
+
+        @Test
+        void 통계가_다르거나_없으면_follow_테이블_기준으로_보정() {
+            Member tester = testDataFactory.createTester();
+            Member faker = testDataFactory.createFaker();
+
+            memberStatsService.create(tester);
+            testDataFactory.createFollow(faker, tester);
+            testDataFactory.createFollow(tester, faker);
+
+            memberStatsRepairWriter.write(Chunk.of(tester.getId(), faker.getId()));
+            entityManager.clear();
+
+            assertThat(memberStatsRepository.findById(tester.getId()).orElseThrow().getFollowerCount()).isEqualTo(1);
+            assertThat(memberStatsRepository.findById(tester.getId()).orElseThrow().getFollowingCount()).isEqualTo(1);
+            assertThat(memberStatsRepository.findById(faker.getId())).isPresent();
+            assertThat(memberStatsService.getCounts(faker.getId())).isEqualTo(new FollowCountDto(1, 1));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.outsta.sns.domain.recommend.graph;
+
+import com.outsta.sns.domain.recommend.dto.RecommendationCandidate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowGraphTest {
+
+    @Test
+    void 함께_아는_회원_수_순으로_친구의_친구_추천() {
+        // 1 -> 2, 3, 4 / 2, 3, 4 -> 10 / 2, 3 -> 20 / 4 -> 30
+        FollowGraph graph = FollowGraph.builder()
+                .addFollow(1, 2).addFollow(1, 3).addFollow(1, 4)
+                .addFollow(2, 10).addFollow(3, 10).addFollow(4, 10)
+                .addFollow(2, 20).addFollow(3, 20)
+                .addFollow(4, 30)
+                .build();
+
+        List<RecommendationCandidate> candidates = graph.scorer().recommend(graph.indexOf(1), 10);
+
+        assertThat(candidates).containsExactly(
+                new RecommendationCandidate(10, 3),
+                new RecommendationCandidate(20, 2),
+                new RecommendationCandidate(30, 1)
+        );
+    }
+
+    @Test
+    void 자기_자신과_이미_팔로우한_회원_제외() {
+        // 1 -> 2, 3 / 2 -> 1, 3, 4
+        FollowGraph graph = FollowGraph.builder()
+                .addFollow(1, 2).addFollow(1, 3)
+                .addFollow(2, 1).addFollow(2, 3).addFollow(2, 4)
+                .build();
+
+        List<RecommendationCandidate> candidates = graph.scorer().recommend(graph.indexOf(1), 10);
+
+        assertThat(candidates).containsExactly(new RecommendationCandidate(4, 1));
+    }
+
+    @Test
+    void 어느_쪽이든_차단_관계인_회원_제외() {
+        // 1 -> 2 / 2 -> 3, 4, 5 / 1 이 3 차단, 4 가 1 차단
+        FollowGraph graph = FollowGraph.builder()
+                .addFollow(1, 2)
+                .addFollow(2, 3).addFollow(2, 4).addFollow(2, 5)
+                .addBlock(1, 3)
+                .addBlock(4, 1)
+                .build();
+
+        List<RecommendationCandidate> candidates = graph.scorer().recommend(graph.indexOf(1), 10);
+
+        assertThat(candidates).containsExactly(new RecommendationCandidate(5, 1));
+    }
+
+    @Test
+    void 점수가_같으면_회원_ID_오름차순으로_상위_limit_명() {
+        // 1 -> 2 / 2 -> 7, 5, 6, 3
+        FollowGraph graph = FollowGraph.builder()
+                .addFollow(1, 2)
+                .addFollow(2, 7).addFollow(2, 5).addFollow(2, 6).addFollow(2, 3)
+                .build();
+
+        List<RecommendationCandidate> candidates = graph.scorer().recommend(graph.indexOf(1), 2);
+
+        assertThat(candidates).extracting(RecommendationCandidate::memberId).containsExactly(3L, 5L);
+    }
+
+    @Test
+    void 점수_계산기를_재사용해도_이전_계산이_남지_않음() {
+        // 1 -> 2 / 3 -> 2 / 2 -> 4
+        FollowGraph graph = FollowGraph.builder()
+                .addFollow(1, 2).addFollow(3, 2)
+                .addFollow(2, 4)
+                .build();
+        FollowGraph.Scorer scorer = graph.scorer();
+
+        List<RecommendationCandidate> first = scorer.recommend(graph.indexOf(1), 10);
+        List<RecommendationCandidate> second = scorer.recommend(graph.indexOf(3), 10);
+        List<RecommendationCandidate> none = scorer.recommend(graph.indexOf(4), 10);
+
+        assertThat(first).containsExactly(new RecommendationCandidate(4, 1));
+        assertThat(second).containsExactly(new RecommendationCandidate(4, 1));
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    void 팔로우_관계에_나온_회원만_정점으로_적재() {
+        FollowGraph graph = FollowGraph.builder()
+                .addFollow(30, 10).addFollow(20, 10)
+                .addBlock(10, 99)
+                .build();
+
+        assertThat(graph.size()).isEqualTo(3);
+        assertThat(graph.followCount()).isEqualTo(2);
+        assertThat(graph.memberId(0)).isEqualTo(10);
+        assertThat(graph.indexOf(30)).isEqualTo(2);
+        assertThat(graph.indexOf(99)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.outsta.sns.domain.recommend.service;
+
+import com.outsta.sns.domain.block.repository.BlockQueryRepository;
+import com.outsta.sns.domain.follow.repository.FollowQueryRepository;
+import com.outsta.sns.domain.member.repository.MemberQueryRepository;
+import com.outsta.sns.domain.recommend.dto.RecommendationCandidate;
+import com.outsta.sns.domain.recommend.dto.RecommendationListResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationServiceTest {
+
+    @Mock
+    private RecommendationStore recommendationStore;
+
+    @Mock
+    private FollowQueryRepository followQueryRepository;
+
+    @Mock
+    private BlockQueryRepository blockQueryRepository;
+
+    @Mock
+    private MemberQueryRepository memberQueryRepository;
+
+    private RecommendationService recommendationService;
+
+    @BeforeEach
+    void setUp() {
+        recommendationService = new RecommendationService(recommendationStore, followQueryRepository,
+                blockQueryRepository, memberQueryRepository);
+    }
+
+    @Test
+    void 배치_이후_팔로우_차단_비활성화된_회원_제외() {
+        when(recommendationStore.find(1L)).thenReturn(List.of(
+                new RecommendationCandidate(10, 5),
+                new RecommendationCandidate(20, 4),
+                new RecommendationCandidate(30, 3),
+                new RecommendationCandidate(40, 2),
+                new RecommendationCandidate(50, 1)
+        ));
+        when(followQueryRepository.findFollowingIdsIn(1L, List.of(10L, 20L, 30L, 40L, 50L))).thenReturn(Set.of(20L));
+        when(blockQueryRepository.findBlockedWhoeverIdsIn(1L, List.of(10L, 20L, 30L, 40L, 50L))).thenReturn(Set.of(30L));
+        when(memberQueryRepository.findActiveNicknames(anyCollection()))
+                .thenReturn(Map.of(10L, "faker", 20L, "dancer", 30L, "guest", 50L, "tester"));
+
+        RecommendationListResponse response = recommendationService.getMyRecommendations(1L);
+
+        assertThat(response.recommendationList()).containsExactly(
+                new RecommendationListResponse.RecommendedMemberDto(10L, "faker", 5),
+                new RecommendationListResponse.RecommendedMemberDto(50L, "tester", 1)
+        );
+    }
+
+    @Test
+    void 계산된_추천이_없으면_조회_없이_빈_목록() {
+        when(recommendationStore.find(1L)).thenReturn(List.of());
+
+        RecommendationListResponse response = recommendationService.getMyRecommendations(1L);
+
+        assertThat(response.recommendationList()).isEmpty();
+        verifyNoInteractions(followQueryRepository, blockQueryRepository, memberQueryRepository);
+    }
+}
@@ -0,0 +1,24 @@
+package com.outsta.sns.domain.recommend.service;
+
+import com.outsta.sns.domain.recommend.dto.RecommendationCandidate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationStoreTest {
+
+    @Test
+    void 추천_후보_인코딩_후_디코딩하면_순서와_점수_유지() {
+        List<RecommendationCandidate> candidates = List.of(
+                new RecommendationCandidate(10, 3),
+                new RecommendationCandidate(123456789012L, 1)
+        );
+
+        String encoded = RecommendationStore.encode(candidates);
+
+        assertThat(encoded).isEqualTo("10:3,123456789012:1");
+        assertThat(RecommendationStore.decode(encoded)).isEqualTo(candidates);
+    }
+}